@@ -337,7 +337,8 @@ public class Properties {
 		OBJECTS_INSTANTIATIONS,
 		STATEMENTS_COUNTER,
 		STATEMENTS_COVERED,
-		LOOP_COUNTER
+		LOOP_COUNTER,
+		LOOP_ITERATIONS
 	}
 
 	public enum PerformanceCombinationStrategy {
@@ -453,6 +454,21 @@ public class Properties {
 	@Parameter(key = "dse_solver", group = "DSE", description = "Specify which constraint solver to use. Note: external solver will need to be installed and cofigured separately")
 	public static SolverType DSE_SOLVER = SolverType.EVOSUITE_SOLVER;
 
+	@Parameter(key = "dse_solver_parallel_restarts", group = "DSE", description = "Number of randomised restarts of the EvoSuite solver run in parallel on a fork-join pool. With 1 the search is sequential and deterministic")
+	public static int DSE_SOLVER_PARALLEL_RESTARTS = 1;
+
+	@Parameter(key = "dse_selective_instrumentation", group = "DSE", description = "Only instrument for concolic execution the methods that can handle values derived from test inputs, according to a static taint analysis over the call graph")
+	public static boolean DSE_SELECTIVE_INSTRUMENTATION = false;
+
+	@Parameter(key = "dse_hybrid_scheduler", group = "DSE", description = "In MOSA-based algorithms, apply DSE to the goals on which the evolutionary search stagnates, instead of applying it at fixed probabilities")
+	public static boolean DSE_HYBRID_SCHEDULER = false;
+
+	@Parameter(key = "dse_stagnation_threshold", group = "DSE", description = "Number of generations without improvement of the best fitness value of a goal after which the hybrid scheduler routes it to DSE")
+	public static int DSE_STAGNATION_THRESHOLD = 10;
+
+	@Parameter(key = "dse_scheduler_max_goals", group = "DSE", description = "Maximum number of goals the hybrid scheduler routes to DSE in a single generation")
+	public static int DSE_SCHEDULER_MAX_GOALS = 3;
+
 	@Parameter(key = "z3_path", group = "DSE", description = "Indicates the path to the Z3 solver")
 	public static String Z3_PATH = null;
 
@@ -604,6 +620,10 @@ public class Properties {
 	@IntValue(min = 1)
 	public static int POPULATION = 50;
 
+	@Parameter(key = "initial_population_threads", group = "Search Algorithm", description = "Number of threads building the random initial population of MOSA and DynaMOSA. Each individual is seeded on its own and built on its own copy of the test cluster, so the population does not depend on this number, as long as it is greater than 1. A single thread builds the population as before")
+	@IntValue(min = 1)
+	public static int INITIAL_POPULATION_THREADS = 1;
+
 	public enum PopulationLimit {
 		INDIVIDUALS, TESTS, STATEMENTS;
 	}
@@ -713,6 +733,10 @@ public class Properties {
 	@IntValue(min = 0)
 	public static int GLOBAL_TIMEOUT = 120;
 
+	@Parameter(key = "plateau_timeout", group = "Search Algorithm", description = "Stop the search if no new goal has been covered in this many seconds. 0 means no limit")
+	@IntValue(min = 0)
+	public static int PLATEAU_TIMEOUT = 0;
+
 	@Parameter(key = "minimization_timeout", group = "Search Algorithm", description = "Seconds allowed for minimization at the end")
 	@IntValue(min = 0)
 	public static int MINIMIZATION_TIMEOUT = 60;
@@ -810,6 +834,9 @@ public class Properties {
 	@Parameter(key = "ctg_min_time_per_job", group = "Continuous Test Generation", description = "How many minutes each class under test should have at least")
 	public static int CTG_MIN_TIME_PER_JOB = 1;
 
+	@Parameter(key = "ctg_plateau_timeout", group = "Continuous Test Generation", description = "Stop a job if it has not covered any new goal in this many seconds, so its left budget can be used by the next jobs. 0 means no limit")
+	public static int CTG_PLATEAU_TIMEOUT = 0;
+
 	@Parameter(key = "ctg_dir", group = "Continuous Test Generation", description = "Where generated files will be stored")
 	public static String CTG_DIR = ".evosuite";
 
@@ -849,6 +876,9 @@ public class Properties {
 	@Parameter(key = "ctg_project_info", group = "Continuous Test Generation", description = "XML file which stores stats about all CTG executions")
 	public static String CTG_PROJECT_INFO = "project_info.xml";
 
+	@Parameter(key = "ctg_method_fingerprints", group = "Continuous Test Generation", description = "File which stores the bytecode fingerprints of the methods of each CUT, used to find what changed since the previous CTG run")
+	public static String CTG_METHOD_FINGERPRINTS = "method_fingerprints.txt";
+
 	@Parameter(key = "ctg_history_file", group = "Continuous Test Generation", description = "File with the list of new(A)/modified(M)/deleted(D) files")
 	public static String CTG_HISTORY_FILE = null;
 
@@ -1129,7 +1159,9 @@ public class Properties {
 	public static boolean SERIALIZE_GA = false;
 
 	public enum StatisticsBackend {
-		NONE, CONSOLE, CSV, HTML, DEBUG;
+		NONE, CONSOLE, CSV, HTML, DEBUG,
+		/** Compressed row groups appended to a single file, see ColumnarStatisticsBackend */
+		COLUMNAR;
 	}
 
 	@Parameter(key = "statistics_backend", group = "Output", description = "Which backend to use to collect data")
@@ -1141,6 +1173,13 @@ public class Properties {
     @Parameter(key = "timeline_interpolation", group = "Output", description = "Interpolate timeline values")
     public static boolean TIMELINE_INTERPOLATION = true;
 
+	@Parameter(key = "metrics_port", group = "Output", description = "If set, the master serves live metrics of the running search on this local port, in Prometheus text format at /metrics. 0 means any free port")
+	public static Integer METRICS_PORT = null;
+
+	@Parameter(key = "metrics_interval", group = "Output", description = "Time interval in milliseconds between two updates of the live metrics sent by the clients")
+	@LongValue(min = 1)
+	public static long METRICS_INTERVAL = 1000;
+
     public enum OutputGranularity {
 		MERGED, TESTCASE
 	}
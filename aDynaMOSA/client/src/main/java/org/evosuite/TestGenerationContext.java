@@ -55,6 +55,7 @@ import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.TestCluster;
 import org.evosuite.setup.TestClusterGenerator;
 import org.evosuite.symbolic.DSEStats;
+import org.evosuite.symbolic.instrument.ConcolicTaintAnalysis;
 import org.evosuite.testcarver.extraction.CarvingManager;
 import org.evosuite.testcase.execution.ExecutionTracer;
 import org.evosuite.testcase.execution.TestCaseExecutor;
@@ -193,6 +194,7 @@ public class TestGenerationContext {
 		TestCluster.reset();
 		CastClassManager.getInstance().clear();
 		ConcreteClassAnalyzer.getInstance().clear();
+		ConcolicTaintAnalysis.reset();
 		// This counts the current level of recursion during test generation
 		org.evosuite.testcase.TestFactory.getInstance().reset();
 
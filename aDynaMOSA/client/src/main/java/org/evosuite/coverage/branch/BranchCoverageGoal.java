@@ -243,8 +243,7 @@ public class BranchCoverageGoal implements Serializable, Comparable<BranchCovera
 	 */
 	public ControlFlowDistance getDistance(ExecutionResult result) {
 
-		ControlFlowDistance r = ControlFlowDistanceCalculator.getDistance(result, branch, value,
-				className, methodName);
+		ControlFlowDistance r = ControlFlowDistanceCalculator.getDistance(result, this);
 		return r;
 	}
 
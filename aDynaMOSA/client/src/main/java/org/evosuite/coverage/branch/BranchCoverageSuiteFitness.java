@@ -84,6 +84,12 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
 	
 	// Total coverage value, used by Regression
 	public double totalCovered = 0.0;	
+
+	/**
+	 * Incremented whenever the set of goals changes, which invalidates the
+	 * contributions of the tests computed so far
+	 */
+	private transient int goalsVersion = 0;
 	
 	/**
 	 * <p>
@@ -125,6 +131,7 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
 	 * Initialize the set of known coverage goals
 	 */
 	protected void determineCoverageGoals(boolean updateArchive) {
+		goalsVersion++;
 		List<BranchCoverageTestFitness> goals = new BranchCoverageFactory().getCoverageGoals();
 		for (BranchCoverageTestFitness goal : goals) {
 			// Skip instrumented branches - we only want real branches
@@ -305,16 +312,89 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
 			test.setLastExecutionResult(result);
 			test.setChanged(false);
 
-			handleBranchlessMethods(test, result, callCount);
-			handlePredicateCount(result, predicateCount);
-			handleTrueDistances(test, result, trueDistance);
-			handleFalseDistances(test, result, falseDistance);
+			TestContribution contribution = result.getFitnessContribution(this, TestContribution.class);
+			if (contribution == null || contribution.goalsVersion != goalsVersion) {
+				contribution = new TestContribution(goalsVersion);
+				handleBranchlessMethods(test, result, contribution.callCount);
+				handlePredicateCount(result, contribution.predicateCount);
+				handleTrueDistances(test, result, contribution.trueDistance);
+				handleFalseDistances(test, result, contribution.falseDistance);
+				result.setFitnessContribution(this, contribution);
+			} else {
+				replayCoveredGoals(test, contribution);
+			}
+			contribution.mergeInto(predicateCount, callCount, trueDistance, falseDistance);
 
 			// In case there were exceptions in a constructor
 			handleConstructorExceptions(test, result, callCount);
 		}
 		return hasTimeoutOrTestException;
 	}
+
+	/**
+	 * Same updates of the covered goals and of the archive as done by the handlers
+	 * when the contribution of the test was computed
+	 */
+	private void replayCoveredGoals(TestChromosome test, TestContribution contribution) {
+		for (String method : contribution.callCount.keySet()) {
+			TestFitnessFunction goal = branchlessMethodCoverageMap.get(method);
+			if (goal != null) {
+				test.getTestCase().addCoveredGoal(goal);
+				toRemoveRootBranches.add(method);
+				if (Properties.TEST_ARCHIVE) {
+					Archive.getArchiveInstance().updateArchive(goal, test, 0.0);
+				}
+			}
+		}
+		replayCoveredBranches(test, contribution.trueDistance, branchCoverageTrueMap, toRemoveBranchesT);
+		replayCoveredBranches(test, contribution.falseDistance, branchCoverageFalseMap, toRemoveBranchesF);
+	}
+
+	private void replayCoveredBranches(TestChromosome test, Map<Integer, Double> distances,
+	        Map<Integer, TestFitnessFunction> goals, Set<Integer> toRemove) {
+		for (Entry<Integer, Double> entry : distances.entrySet()) {
+			TestFitnessFunction goal = goals.get(entry.getKey());
+			assert goal != null;
+			if (Double.compare(entry.getValue(), 0.0) == 0) {
+				test.getTestCase().addCoveredGoal(goal);
+				toRemove.add(entry.getKey());
+			}
+			if (Properties.TEST_ARCHIVE) {
+				Archive.getArchiveInstance().updateArchive(goal, test, entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Statistics of the trace of a single test, restricted to the goals that were
+	 * not removed yet. They are stored with the execution result, so tests that did
+	 * not change since the last evaluation (or clones of them) are not analyzed again.
+	 * Must not be modified once stored
+	 */
+	private static final class TestContribution {
+
+		private final int goalsVersion;
+		private final Map<Integer, Integer> predicateCount = new LinkedHashMap<Integer, Integer>();
+		private final Map<String, Integer> callCount = new LinkedHashMap<String, Integer>();
+		private final Map<Integer, Double> trueDistance = new LinkedHashMap<Integer, Double>();
+		private final Map<Integer, Double> falseDistance = new LinkedHashMap<Integer, Double>();
+
+		private TestContribution(int goalsVersion) {
+			this.goalsVersion = goalsVersion;
+		}
+
+		private void mergeInto(Map<Integer, Integer> suitePredicateCount, Map<String, Integer> suiteCallCount,
+		        Map<Integer, Double> suiteTrueDistance, Map<Integer, Double> suiteFalseDistance) {
+			for (Entry<Integer, Integer> entry : predicateCount.entrySet())
+				suitePredicateCount.merge(entry.getKey(), entry.getValue(), Integer::sum);
+			for (Entry<String, Integer> entry : callCount.entrySet())
+				suiteCallCount.merge(entry.getKey(), entry.getValue(), Integer::sum);
+			for (Entry<Integer, Double> entry : trueDistance.entrySet())
+				suiteTrueDistance.merge(entry.getKey(), entry.getValue(), Math::min);
+			for (Entry<Integer, Double> entry : falseDistance.entrySet())
+				suiteFalseDistance.merge(entry.getKey(), entry.getValue(), Math::min);
+		}
+	}
 	
 	@Override
 	public boolean updateCoveredGoals() {
@@ -364,6 +444,9 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
 			}
 		}
 		
+		if (!toRemoveRootBranches.isEmpty() || !toRemoveBranchesF.isEmpty() || !toRemoveBranchesT.isEmpty()) {
+			goalsVersion++;
+		}
 		toRemoveRootBranches.clear();
 		toRemoveBranchesF.clear();
 		toRemoveBranchesT.clear();
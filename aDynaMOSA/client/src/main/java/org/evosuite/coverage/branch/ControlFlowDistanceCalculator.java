@@ -19,15 +19,21 @@
  */
 package org.evosuite.coverage.branch;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.evosuite.coverage.ControlFlowDistance;
 import org.evosuite.coverage.TestCoverageGoal;
 import org.evosuite.graphs.cfg.BytecodeInstruction;
 import org.evosuite.graphs.cfg.ControlDependency;
 import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.execution.BranchDistanceIndex.CallDistances;
 import org.evosuite.testcase.execution.ExecutionResult;
-import org.evosuite.testcase.execution.MethodCall;
 import org.evosuite.testcase.statements.ConstructorStatement;
 import org.objectweb.asm.Type;
 import org.slf4j.Logger;
@@ -135,6 +141,93 @@ public class ControlFlowDistanceCalculator {
 		return nonRootDistance;
 	}
 
+	/**
+	 * Calculates the ControlFlowDistances of all the given goals from the same
+	 * ExecutionResult. All goals are evaluated against the same index of the
+	 * trace, and the distances are stored with the result: goals already
+	 * evaluated on it, e.g. by another fitness function or through
+	 * {@link BranchCoverageGoal#getDistance(ExecutionResult)}, are not
+	 * evaluated again. The result is the same as calling
+	 * {@link #getDistance(ExecutionResult, Branch, boolean, String, String)}
+	 * for each goal.
+	 * 
+	 * @param result
+	 *            a {@link org.evosuite.testcase.execution.ExecutionResult} object.
+	 * @param goals
+	 *            the goals to compute the distances of
+	 * @return the distance of each goal, in the iteration order of the given goals
+	 */
+	public static Map<BranchCoverageGoal, ControlFlowDistance> getDistances(ExecutionResult result,
+	        Collection<BranchCoverageGoal> goals) {
+		if (result == null || goals == null)
+			throw new IllegalArgumentException("null given");
+
+		DistanceCache cache = getDistanceCache(result);
+		Map<BranchCoverageGoal, ControlFlowDistance> distances = new LinkedHashMap<BranchCoverageGoal, ControlFlowDistance>();
+		for (BranchCoverageGoal goal : goals)
+			distances.put(goal, getDistance(result, goal, cache));
+		return distances;
+	}
+
+	/**
+	 * Same as {@link #getDistance(ExecutionResult, Branch, boolean, String, String)}
+	 * for the branch of the given goal, but the distance is stored with the result
+	 * and only computed on the first call for that goal
+	 * 
+	 * @param result
+	 *            a {@link org.evosuite.testcase.execution.ExecutionResult} object.
+	 * @param goal
+	 *            a {@link org.evosuite.coverage.branch.BranchCoverageGoal} object.
+	 * @return a copy of the stored distance, which the caller may modify
+	 */
+	public static ControlFlowDistance getDistance(ExecutionResult result, BranchCoverageGoal goal) {
+		if (result == null || goal == null)
+			throw new IllegalArgumentException("null given");
+		return getDistance(result, goal, getDistanceCache(result));
+	}
+
+	private static ControlFlowDistance getDistance(ExecutionResult result, BranchCoverageGoal goal,
+	        DistanceCache cache) {
+		ControlFlowDistance distance = cache.get(goal);
+		if (distance == null) {
+			distance = getDistance(result, goal.getBranch(), goal.getValue(), goal.getClassName(),
+			                       goal.getMethodName());
+			cache.put(goal, distance);
+		}
+		return new ControlFlowDistance(distance.getApproachLevel(), distance.getBranchDistance());
+	}
+
+	private static DistanceCache getDistanceCache(ExecutionResult result) {
+		synchronized (result) {
+			DistanceCache cache = result.getFitnessContribution(ControlFlowDistanceCalculator.class,
+			                                                    DistanceCache.class);
+			if (cache == null) {
+				cache = new DistanceCache();
+				result.setFitnessContribution(ControlFlowDistanceCalculator.class, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * Distances already computed on one execution, by goal, so that equal goals
+	 * created by different fitness functions share their distance. Distances are
+	 * only added, never changed, so the cache can be shared with the clones of
+	 * the result
+	 */
+	private static final class DistanceCache {
+
+		private final Map<BranchCoverageGoal, ControlFlowDistance> distances = new HashMap<BranchCoverageGoal, ControlFlowDistance>();
+
+		synchronized ControlFlowDistance get(BranchCoverageGoal goal) {
+			return distances.get(goal);
+		}
+
+		synchronized void put(BranchCoverageGoal goal, ControlFlowDistance distance) {
+			distances.put(goal, distance);
+		}
+	}
+
 	private static ControlFlowDistance getTimeoutDistance(ExecutionResult result,
 	        Branch branch) {
 
@@ -216,25 +309,19 @@ public class ControlFlowDistanceCalculator {
 		r.setApproachLevel(branch.getInstruction().getActualCFG().getDiameter() + 1);
 
 		// Minimal distance between target node and path
-		for (MethodCall call : result.getTrace().getMethodCalls()) {
-			if (call.className.equals(className) && call.methodName.equals(methodName)) {
-				ControlFlowDistance d2;
-				Set<Branch> handled = new HashSet<Branch>();
-				//				result.intermediateDistances = new HashMap<Branch,ControlFlowDistance>();
-				d2 = getNonRootDistance(result, call, branch, value, className,
-				                        methodName, handled);
-				if (d2.compareTo(r) < 0) {
-					r = d2;
-				}
+		for (CallDistances call : result.getBranchDistanceIndex().getCalls(className, methodName)) {
+			Set<Branch> handled = new HashSet<Branch>();
+			ControlFlowDistance d2 = getNonRootDistance(call, branch, value, handled);
+			if (d2.compareTo(r) < 0) {
+				r = d2;
 			}
 		}
 
 		return r;
 	}
 
-	private static ControlFlowDistance getNonRootDistance(ExecutionResult result,
-	        MethodCall call, Branch branch, boolean value, String className,
-	        String methodName, Set<Branch> handled) {
+	private static ControlFlowDistance getNonRootDistance(CallDistances call, Branch branch,
+	        boolean value, Set<Branch> handled) {
 
 		if (branch == null)
 			throw new IllegalStateException(
@@ -242,20 +329,11 @@ public class ControlFlowDistanceCalculator {
 		if (call == null)
 			throw new IllegalArgumentException("null given");
 
-		//		ControlFlowDistance r = result.intermediateDistances.get(branch);
-
 		if (handled.contains(branch)) {
-			//			if(r== null)
 			return worstPossibleDistanceForMethod(branch);
-			//			else {
-			//				return r;
-			//			}
 		}
 		handled.add(branch);
 
-		List<Double> trueDistances = call.trueDistanceTrace;
-		List<Double> falseDistances = call.falseDistanceTrace;
-
 		// IDEA:
 		// if this goal's branch is traced in the given path, return the
 		// true_/false_distance, depending on this.value
@@ -263,51 +341,31 @@ public class ControlFlowDistanceCalculator {
 		// and return 1 + minimum of the branch coverage goal distance over all
 		// such branches taking as value the branchExpressionValue
 
-		Set<Integer> branchTracePositions = determineBranchTracePositions(call, branch);
-
-		if (!branchTracePositions.isEmpty()) {
+		if (call.isTraced(branch.getActualBranchId())) {
 
 			// branch was traced in given path
-			ControlFlowDistance r = new ControlFlowDistance(0, Double.MAX_VALUE);
-
-			for (Integer branchTracePosition : branchTracePositions)
-				if (value)
-					r.setBranchDistance(Math.min(r.getBranchDistance(),
-					                             trueDistances.get(branchTracePosition)));
-				else
-					r.setBranchDistance(Math.min(r.getBranchDistance(),
-					                             falseDistances.get(branchTracePosition)));
+			ControlFlowDistance r = new ControlFlowDistance(0, call.getDistance(branch.getActualBranchId(), value));
 
 			if (r.getBranchDistance() == Double.MAX_VALUE)
 				throw new IllegalStateException("should be impossible");
 
-			//			result.intermediateDistances.put(branch, r);
 			return r;
 		}
 
-		ControlFlowDistance controlDependenceDistance = getControlDependenceDistancesFor(result,
-		                                                                                 call,
+		ControlFlowDistance controlDependenceDistance = getControlDependenceDistancesFor(call,
 		                                                                                 branch.getInstruction(),
-		                                                                                 className,
-		                                                                                 methodName,
 		                                                                                 handled);
 
 		controlDependenceDistance.increaseApproachLevel();
 
-		//		result.intermediateDistances.put(branch, controlDependenceDistance);
-
 		return controlDependenceDistance;
 	}
 
 	private static ControlFlowDistance getControlDependenceDistancesFor(
-	        ExecutionResult result, MethodCall call, BytecodeInstruction instruction,
-	        String className, String methodName, Set<Branch> handled) {
+	        CallDistances call, BytecodeInstruction instruction, Set<Branch> handled) {
 
-		Set<ControlFlowDistance> cdDistances = getDistancesForControlDependentBranchesOf(result,
-		                                                                                 call,
+		Set<ControlFlowDistance> cdDistances = getDistancesForControlDependentBranchesOf(call,
 		                                                                                 instruction,
-		                                                                                 className,
-		                                                                                 methodName,
 		                                                                                 handled);
 
 		if (cdDistances == null)
@@ -323,8 +381,7 @@ public class ControlFlowDistanceCalculator {
 	 * @param handled
 	 */
 	private static Set<ControlFlowDistance> getDistancesForControlDependentBranchesOf(
-	        ExecutionResult result, MethodCall call, BytecodeInstruction instruction,
-	        String className, String methodName, Set<Branch> handled) {
+	        CallDistances call, BytecodeInstruction instruction, Set<Branch> handled) {
 
 		Set<ControlFlowDistance> r = new HashSet<ControlFlowDistance>();
 		Set<ControlDependency> nextToLookAt = instruction.getControlDependencies();
@@ -334,10 +391,8 @@ public class ControlFlowDistanceCalculator {
 				continue; // avoid loops
 
 			boolean nextValue = next.getBranchExpressionValue();
-			ControlFlowDistance nextDistance = getNonRootDistance(result, call,
-			                                                      next.getBranch(),
-			                                                      nextValue, className,
-			                                                      methodName, handled);
+			ControlFlowDistance nextDistance = getNonRootDistance(call, next.getBranch(),
+			                                                      nextValue, handled);
 			assert (nextDistance != null);
 			r.add(nextDistance);
 		}
@@ -355,17 +410,4 @@ public class ControlFlowDistanceCalculator {
 		return r;
 	}
 
-	private static Set<Integer> determineBranchTracePositions(MethodCall call,
-	        Branch branch) {
-
-		Set<Integer> r = new HashSet<Integer>();
-		List<Integer> path = call.branchTrace;
-		for (int pos = 0; pos < path.size(); pos++) {
-			if (path.get(pos) == branch.getActualBranchId()) { //.getActualBranchId()); {
-				r.add(pos);
-			}
-		}
-		return r;
-	}
-
 }
@@ -21,7 +21,6 @@ package org.evosuite.coverage.dataflow;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +30,7 @@ import java.util.Set;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.graphs.GraphPool;
 import org.evosuite.graphs.cfg.BytecodeInstruction;
+import org.evosuite.testcase.execution.DefUseTrace;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.ExecutionTrace;
 import org.evosuite.testcase.execution.MethodCall;
@@ -486,46 +486,46 @@ public abstract class DefUseExecutionTraceAnalyzer {
 
 		Set<DefUseCoverageTestFitness> r = new HashSet<DefUseCoverageTestFitness>();
 
-		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedDefs = result.getTrace().getDefinitionData();
-		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedUses = result.getTrace().getUseData();
+		Map<Integer, Set<Integer>> coveredPairs = getCoveredPairs(result.getTrace().getDefUseTrace());
+		for (Map.Entry<Integer, Set<Integer>> pairs : coveredPairs.entrySet()) {
+			for (Integer use : pairs.getValue()) {
+				DefUseCoverageTestFitness currentGoal = DefUseCoverageFactory.retrieveGoal(pairs.getKey(), use);
+				if (currentGoal != null)
+					r.add(currentGoal);
+			}
+		}
 
-		for (String goalVariable : passedDefs.keySet()) {
-			if (passedUses.get(goalVariable) == null)
-				continue;
-			for (Integer objectId : passedDefs.get(goalVariable).keySet()) {
-				if (passedUses.get(goalVariable).get(objectId) == null)
-					continue;
+		return r;
+	}
 
-				// DONE sort use map too, merge to one big trace => way better
-				// performance
-				Map<Integer, Integer> currentDefMap = passedDefs.get(goalVariable).get(objectId);
-				Map<Integer, Integer> currentUseMap = passedUses.get(goalVariable).get(objectId);
-
-				List<Integer> duCounterTrace = new ArrayList<Integer>(
-				        currentDefMap.keySet());
-				duCounterTrace.addAll(currentUseMap.keySet());
-				//				System.out.println(duCounterTrace.size()); oO for ncs.Bessj these can be up to 50k entries big
-				Collections.sort(duCounterTrace);
-				int traceLength = duCounterTrace.size();
-				Integer[] sortedDefDUTrace = duCounterTrace.toArray(new Integer[traceLength]);
-
-				int activeDef = -1;
-				for (int i = 0; i < traceLength; i++) {
-					int currentDUCounter = sortedDefDUTrace[i];
-
-					if (currentDefMap.containsKey(currentDUCounter)) {
-						activeDef = currentDefMap.get(currentDUCounter);
-					} else if (activeDef != -1) {
-						int currentUse = currentUseMap.get(currentDUCounter);
-						DefUseCoverageTestFitness currentGoal = DefUseCoverageFactory.retrieveGoal(activeDef,
-						                                                                           currentUse);
-						if (currentGoal != null)
-							r.add(currentGoal);
-					}
+	/**
+	 * Collects, for each definition, the uses it was the active definition for
+	 * on the same object. The log is ordered by duCounter, so a single pass over
+	 * it sees every use right after the definitions that were active for it.
+	 * 
+	 * @param duTrace
+	 *            the definitions and uses passed during an execution
+	 * @return defId -&gt; ids of the uses reached by that definition
+	 */
+	public static Map<Integer, Set<Integer>> getCoveredPairs(DefUseTrace duTrace) {
+		Map<Integer, Set<Integer>> r = new HashMap<Integer, Set<Integer>>();
+		Map<Long, Integer> activeDefs = new HashMap<Long, Integer>();
+		for (int i = 0; i < duTrace.size(); i++) {
+			long key = ((long) duTrace.getVariable(i) << 32) | (duTrace.getObjectId(i) & 0xFFFFFFFFL);
+			if (duTrace.isDefinition(i)) {
+				activeDefs.put(key, duTrace.getDefUseId(i));
+			} else {
+				Integer activeDef = activeDefs.get(key);
+				if (activeDef == null)
+					continue;
+				Set<Integer> uses = r.get(activeDef);
+				if (uses == null) {
+					uses = new HashSet<Integer>();
+					r.put(activeDef, uses);
 				}
+				uses.add(duTrace.getDefUseId(i));
 			}
 		}
-
 		return r;
 	}
 
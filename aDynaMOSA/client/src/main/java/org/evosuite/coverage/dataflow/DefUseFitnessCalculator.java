@@ -305,8 +305,7 @@ public class DefUseFitnessCalculator {
 			return 0.0;
 		// check ExecutionTrace.passedDefinitions first, because calculating
 		// BranchTestFitness takes time
-		if (hasEntriesForId(result.getTrace().getPassedDefinitions(goalDefinition.getVariableName()),
-		                    goalDefinition.getDefId()))
+		if (result.getTrace().getDefUseTrace().hasDefinition(goalDefinition.getDefId()))
 			return 0.0;
 
 		// return calculated fitness
@@ -332,8 +331,7 @@ public class DefUseFitnessCalculator {
 
 		// check ExecutionTrace.passedUses first, because calculating
 		// BranchTestFitness takes time
-		if (hasEntriesForId(result.getTrace().getPassedUses(goalUse.getVariableName()),
-		                    goalUse.getUseId()))
+		if (result.getTrace().getDefUseTrace().hasUse(goalUse.getUseId()))
 			return 0.0;
 
 		// return calculated fitness
@@ -131,7 +131,7 @@ public class LineCoverageSuiteFitness extends TestSuiteFitnessFunction {
 			for (Integer goalID : this.lineGoals.keySet()) {
 				TestFitnessFunction goal = this.lineGoals.get(goalID);
 
-				double fit = goal.getFitness(test, result); // archive is updated by the TestFitnessFunction class
+				double fit = getGoalFitness(goal, test, result); // archive is updated by the TestFitnessFunction class
 
 				if (fit == 0.0) {
 					coveredLines.add(goalID); // helper to count the number of covered goals
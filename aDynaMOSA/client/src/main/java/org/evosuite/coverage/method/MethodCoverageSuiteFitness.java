@@ -145,7 +145,7 @@ public class MethodCoverageSuiteFitness extends TestSuiteFitnessFunction {
 			for (String methodName : this.methodCoverageMap.keySet()) {
 				TestFitnessFunction goal = this.methodCoverageMap.get(methodName);
 
-				double fit = goal.getFitness(test, result); // archive is updated by the TestFitnessFunction class
+				double fit = getGoalFitness(goal, test, result); // archive is updated by the TestFitnessFunction class
 
 				if (fit == 0.0) {
 					calledMethods.add(methodName); // helper to count the number of covered goals
@@ -121,7 +121,7 @@ public class WeakMutationSuiteFitness extends MutationSuiteFitness {
 						mutant_distance.put(mutantID, Math.min(mutant_distance.get(mutantID), fit));
 					}
 				} else {
-					fit = goal.getFitness(test, result); // archive is updated by the TestFitnessFunction class
+					fit = getGoalFitness(goal, test, result); // archive is updated by the TestFitnessFunction class
 				}
 
 				if (fit == 0.0) {
@@ -72,6 +72,11 @@ public abstract class Archive<F extends TestFitnessFunction, T extends TestChrom
    */
   protected boolean hasBeenUpdated = false;
 
+  /**
+   * Incremented every time the number of non-covered targets of any method changes
+   */
+  private int nonCoveredTargetsVersion = 0;
+
   /**
    * Register a target.
    * 
@@ -107,7 +112,9 @@ public abstract class Archive<F extends TestFitnessFunction, T extends TestChrom
     if (!this.nonCoveredTargetsOfEachMethod.containsKey(targetMethod)) {
       this.nonCoveredTargetsOfEachMethod.put(targetMethod, new LinkedHashSet<F>());
     }
-    this.nonCoveredTargetsOfEachMethod.get(targetMethod).add(target);
+    if (this.nonCoveredTargetsOfEachMethod.get(targetMethod).add(target)) {
+      this.nonCoveredTargetsVersion++;
+    }
   }
 
   /**
@@ -121,6 +128,7 @@ public abstract class Archive<F extends TestFitnessFunction, T extends TestChrom
       if (this.nonCoveredTargetsOfEachMethod.get(targetMethod).contains(target)) {
         // target has been covered, therefore we can remove it from the list of non-covered
         this.nonCoveredTargetsOfEachMethod.get(targetMethod).remove(target);
+        this.nonCoveredTargetsVersion++;
       }
 
       if (this.nonCoveredTargetsOfEachMethod.get(targetMethod).isEmpty()) {
@@ -505,6 +513,16 @@ public abstract class Archive<F extends TestFitnessFunction, T extends TestChrom
     return this.nonCoveredTargetsOfEachMethod.get(methodFullName).size();
   }
 
+  /**
+   * Returns a counter that changes every time {@link #getNumOfRemainingTargets(String)} might
+   * return a different value for any method, so that callers can cache values derived from it.
+   * 
+   * @return
+   */
+  public int getNonCoveredTargetsVersion() {
+    return this.nonCoveredTargetsVersion;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -515,6 +533,7 @@ public abstract class Archive<F extends TestFitnessFunction, T extends TestChrom
    */
   public void reset() {
     this.nonCoveredTargetsOfEachMethod.clear();
+    this.nonCoveredTargetsVersion++;
   }
 
   /**
@@ -30,7 +30,7 @@ import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
+import java.util.Iterator;
 
 public class ArchiveTestChromosomeFactory implements ChromosomeFactory<TestChromosome> {
 
@@ -41,22 +41,23 @@ public class ArchiveTestChromosomeFactory implements ChromosomeFactory<TestChrom
   private ChromosomeFactory<TestChromosome> defaultFactory = new RandomLengthTestFactory();
 
   /**
-   * Serialized tests read from disk, eg from previous runs in CTG
+   * Serialized tests read from disk, eg from previous runs in CTG.
+   * Each of them is only decoded when it is handed out
    */
-  private List<TestChromosome> seededTests;
+  private Iterator<TestChromosome> seededTests;
 
   public ArchiveTestChromosomeFactory() {
     if (Properties.CTG_SEEDS_FILE_IN != null) {
       //This does happen in CTG
-      seededTests = TestSuiteSerialization.loadTests(Properties.CTG_SEEDS_FILE_IN);
-      LoggingUtils.getEvoLogger().info("* Loaded {} tests from {}", seededTests.size(), Properties.CTG_SEEDS_FILE_IN);
+      seededTests = TestSuiteSerialization.streamTests(Properties.CTG_SEEDS_FILE_IN);
+      LoggingUtils.getEvoLogger().info("* Loading tests from {}", Properties.CTG_SEEDS_FILE_IN);
     }
   }
 
   @Override
   public TestChromosome getChromosome() {
 
-    if (seededTests != null && !seededTests.isEmpty()) {
+    if (seededTests != null && seededTests.hasNext()) {
       /*
               Ideally, we should populate the archive directly when EvoSuite starts.
               But might be bit tricky based on current archive implementation (which needs executed tests).
@@ -64,10 +65,7 @@ public class ArchiveTestChromosomeFactory implements ChromosomeFactory<TestChrom
               However, this is done just once per test, as anyway those will end up
               in archive.
        */
-      TestChromosome
-          test =
-          seededTests
-              .remove(seededTests.size() - 1); //pull out one element, 'last' just for efficiency
+      TestChromosome test = seededTests.next();
       test.getTestCase().removeAssertions(); // no assertions are used during search
       return test;
     }
@@ -29,6 +29,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.evosuite.ProgressMonitor;
 import org.evosuite.Properties;
 import org.evosuite.Properties.SelectionFunction;
@@ -40,15 +45,21 @@ import org.evosuite.ga.ConstructionFailedException;
 import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.archive.CoverageArchive;
 import org.evosuite.ga.comparators.DominanceComparator;
+import org.evosuite.ga.localsearch.LocalSearchBudget;
 import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
 import org.evosuite.ga.metaheuristics.SearchListener;
 import org.evosuite.ga.operators.ranking.FastNonDominatedSorting;
 import org.evosuite.ga.operators.ranking.RankBasedPreferenceSorting;
 import org.evosuite.ga.operators.ranking.RankingFunction;
+import org.evosuite.seeding.CastClassManager;
+import org.evosuite.setup.TestCluster;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTracer;
+import org.evosuite.testcase.factories.RandomLengthTestFactory;
+import org.evosuite.testcase.localsearch.DSETestCaseLocalSearch;
 import org.evosuite.testcase.secondaryobjectives.TestCaseSecondaryObjective;
 import org.evosuite.testcase.statements.ArrayStatement;
 import org.evosuite.testcase.statements.ConstructorStatement;
@@ -86,6 +97,9 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 	/** Selected ranking strategy **/
 	protected RankingFunction<T> ranking;
 
+	/** Routes the goals on which the search stagnates to DSE, null if the hybrid search is disabled */
+	protected final HybridSearchScheduler<T> hybridScheduler;
+
 	/**
 	 * Constructor.
 	 *
@@ -103,6 +117,8 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 
 		this.budgetMonitor = new BudgetConsumptionMonitor();
 
+		this.hybridScheduler = Properties.DSE_HYBRID_SCHEDULER ? new HybridSearchScheduler<T>() : null;
+
 		// set the secondary objectives of test cases (useful when MOSA compares two test
 		// cases to, for example, update the archive)
 		TestCaseSecondaryObjective.setSecondaryObjectives();
@@ -348,6 +364,108 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 		this.notifyIteration();
 	}
 
+	/**
+	 * With {@link Properties#INITIAL_POPULATION_THREADS} greater than 1, builds
+	 * the individuals on that many threads. The individual in slot i draws its
+	 * random values from a stream of its own, seeded with a value taken from
+	 * the shared stream plus i, and from its own copy of the test cluster and
+	 * cast classes, which are filled lazily while building tests. The
+	 * population is therefore the same whatever the number of threads and
+	 * their scheduling. With a single thread the individuals are built one
+	 * after the other from the shared stream and cluster as before, so the
+	 * population differs from the one built on several threads for the same
+	 * seed.
+	 *
+	 * <p>
+	 * Only the construction is parallel: the individuals are evaluated one
+	 * after the other by {@link #calculateFitness()}, as the execution of a
+	 * test relies on process-wide state (e.g., the execution tracer).
+	 */
+	@Override
+	protected void generateRandomPopulation(int populationSize) {
+		int threads = Math.min(Properties.INITIAL_POPULATION_THREADS, populationSize);
+		// other factories keep state of their own that is not thread-safe
+		if (threads <= 1 || !(this.chromosomeFactory instanceof RandomLengthTestFactory)) {
+			super.generateRandomPopulation(populationSize);
+			return;
+		}
+		logger.debug("Creating random population on {} threads", threads);
+		long baseSeed = Randomness.nextLong();
+
+		// nothing must be traced while building tests, which cannot be
+		// switched off and on again by each thread
+		boolean tracerEnabled = ExecutionTracer.isEnabled();
+		if (tracerEnabled)
+			ExecutionTracer.disable();
+
+		ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "InitialPopulation");
+			thread.setDaemon(true);
+			return thread;
+		});
+		TestCluster cluster = TestCluster.getInstance();
+		CastClassManager castClasses = CastClassManager.getInstance();
+		try {
+			List<Future<T>> slots = new ArrayList<Future<T>>(populationSize);
+			for (int i = 0; i < populationSize; i++) {
+				final long seed = baseSeed + i;
+				final TestCluster clusterView = cluster.createView();
+				final CastClassManager castClassesView = castClasses.createView();
+				slots.add(workers.submit(() -> this.createIndividual(seed, clusterView, castClassesView)));
+			}
+			for (Future<T> slot : slots) {
+				T individual = slot.get();
+				for (FitnessFunction<?> fitnessFunction : this.fitnessFunctions) {
+					individual.addFitness(fitnessFunction);
+				}
+				this.population.add(individual);
+				if (this.isFinished())
+					break;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			// tests being built still use the shared state, wait for them
+			workers.shutdownNow();
+			awaitTermination(workers);
+			if (tracerEnabled)
+				ExecutionTracer.enable();
+		}
+		logger.debug("Created " + this.population.size() + " individuals");
+	}
+
+	private T createIndividual(long seed, TestCluster cluster, CastClassManager castClasses) {
+		Randomness.setThreadSeed(seed);
+		TestCluster.setThreadView(cluster);
+		CastClassManager.setThreadView(castClasses);
+		try {
+			return this.chromosomeFactory.getChromosome();
+		} finally {
+			CastClassManager.clearThreadView();
+			TestCluster.clearThreadView();
+			Randomness.clearThreadSeed();
+		}
+	}
+
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
 	/**
 	 * Returns the goals that have been covered by the test cases stored in the archive.
 	 *
@@ -396,6 +514,15 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 		return CoverageArchive.getArchiveInstance().getNumberOfUncoveredTargets();
 	}
 
+	/**
+	 * Returns the goals the search is currently targeting. By default, these are all the uncovered goals.
+	 *
+	 * @return
+	 */
+	protected Set<FitnessFunction<T>> getCurrentGoals() {
+		return this.getUncoveredGoals();
+	}
+
 	/**
 	 * Returns the total number of goals, i.e., number of covered goals + number of uncovered goals.
 	 *
@@ -429,6 +556,70 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 		return suite;
 	}
 
+	/**
+	 * Runs one generation of the search. If the hybrid scheduler is enabled, the goals on which
+	 * the search is stagnating are then handed over to DSE.
+	 */
+	protected void evolveAndSchedule() {
+		if (this.hybridScheduler == null) {
+			this.evolve();
+			return;
+		}
+
+		int coveredGoals = this.getNumberOfCoveredGoals();
+		long startTime = System.currentTimeMillis();
+		this.evolve();
+		this.hybridScheduler.reportEvolution(System.currentTimeMillis() - startTime,
+				this.getNumberOfCoveredGoals() - coveredGoals);
+
+		this.updateStagnation();
+		for (FitnessFunction<T> goal : this.hybridScheduler.selectGoalsForDSE()) {
+			if (this.isFinished())
+				break;
+			// a previous application of DSE might have covered the goal as a side effect
+			if (this.getCurrentGoals().contains(goal))
+				this.applyDSE(goal);
+		}
+	}
+
+	/**
+	 * Feeds the hybrid scheduler with the best fitness values reached for the current goals.
+	 */
+	protected void updateStagnation() {
+		this.hybridScheduler.updateStagnation(this.getCurrentGoals(), this.population);
+	}
+
+	/**
+	 * Applies DSE to a copy of the individual of the population that is closest to cover the goal.
+	 * The copy joins the population if DSE improves its fitness value for the goal.
+	 *
+	 * @param goal a goal routed to DSE by the hybrid scheduler
+	 */
+	@SuppressWarnings("unchecked")
+	private void applyDSE(FitnessFunction<T> goal) {
+		T closest = this.hybridScheduler.getClosestIndividual(goal, this.population);
+		if (closest == null)
+			return;
+
+		T test = (T) closest.clone();
+		GoalLocalSearchObjective<T> objective = new GoalLocalSearchObjective<T>(goal,
+				closest.getFitnessValues().get(goal), this::calculateFitness,
+				ff -> this.getCoveredGoals().contains(ff));
+
+		int coveredGoals = this.getNumberOfCoveredGoals();
+		long startTime = System.currentTimeMillis();
+		LocalSearchBudget.getInstance().localSearchStarted();
+		boolean improved = new DSETestCaseLocalSearch().doSearch((TestChromosome) test, objective);
+		this.hybridScheduler.reportDSE(goal, improved, System.currentTimeMillis() - startTime,
+				this.getNumberOfCoveredGoals() - coveredGoals);
+
+		logger.debug("DSE on goal {} improved = {}", goal, improved);
+		if (improved) {
+			test.updateAge(this.currentIteration);
+			this.population.add(test);
+		}
+	}
+
 	///// ----------------------
 
 	/**
@@ -455,6 +646,16 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 		}
 	}
 
+	/**
+	 * Reports the statistics of the hybrid scheduler, if enabled, before notifying the search listeners.
+	 */
+	@Override
+	protected void notifySearchFinished() {
+		if (this.hybridScheduler != null)
+			this.hybridScheduler.trackStatistics();
+		super.notifySearchFinished();
+	}
+
 	/**
 	 * Notify all search listeners but ProgressMonitor of a mutation.
 	 *
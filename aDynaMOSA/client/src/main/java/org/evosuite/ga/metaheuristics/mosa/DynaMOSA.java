@@ -35,6 +35,7 @@ import org.evosuite.performance.indicator.IndicatorsFactory;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testsuite.TestSuiteChromosome;
 import org.evosuite.testsuite.TestSuiteFitnessFunction;
+import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +62,9 @@ public class DynaMOSA<T extends Chromosome> extends MOSA<T> {
 	/* the list of performance indicators */
 	protected List<AbstractIndicator> indicators;
 
+	/** For parallel runs: the solutions already sent to the neighbouring client */
+	private final Set<T> emigratedSolutions = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+
 	/**
 	 * Constructor based on the abstract class {@link AbstractMOSA}.
 	 * 
@@ -81,6 +85,9 @@ public class DynaMOSA<T extends Chromosome> extends MOSA<T> {
 		union.addAll(this.population);
 		union.addAll(offspringPopulation);
 
+		// for parallel runs: integrate possible immigrants
+		union.addAll(this.integrateImmigrants());
+
 		// Ranking the union
 		logger.debug("Union Size = {}", union.size());
 
@@ -125,6 +132,9 @@ public class DynaMOSA<T extends Chromosome> extends MOSA<T> {
 			remain = 0;
 		}
 
+		// for parallel runs: collect best k individuals and new solutions for migration
+		this.emigrate();
+
 		this.currentIteration++;
 		//logger.debug("N. fronts = {}", ranking.getNumberOfSubfronts());
 		//logger.debug("1* front size = {}", ranking.getSubfront(0).size());
@@ -162,12 +172,17 @@ public class DynaMOSA<T extends Chromosome> extends MOSA<T> {
 			this.distance.fastEpsilonDominanceAssignment(this.rankingFunction.getSubfront(i), this.goalsManager.getCurrentGoals());
 		}
 
+		Listener<Set<? extends Chromosome>> listener = this.startMigration();
+
 		// next generations
 		while (!isFinished() && this.goalsManager.getUncoveredGoals().size() > 0) {
-			this.evolve();
+			this.evolveAndSchedule();
 			this.notifyIteration();
 		}
 
+		// for parallel runs: merge the archives of all the clients
+		this.finishMigration(listener);
+
 		/* -------------------------- calculate the performance indicators to save them ---------------------------*/
 		Set<T> archive = goalsManager.getArchive();
 		computePerformanceMetrics(archive);
@@ -176,6 +191,41 @@ public class DynaMOSA<T extends Chromosome> extends MOSA<T> {
 		this.notifySearchFinished();
 	}
 
+	/**
+	 * For parallel runs: evaluates the individuals received from the neighbouring client
+	 * on the goals of this client. This updates the archive, hence the goals they cover
+	 * are removed from the current goals, and the goals depending on them become current.
+	 *
+	 * @return the evaluated immigrants, to be ranked with the rest of the population
+	 */
+	protected List<T> integrateImmigrants() {
+		List<T> immigrants = new ArrayList<T>();
+		for (T immigrant : this.pollImmigrants()) {
+			if (this.isFinished()) {
+				break;
+			}
+			immigrant.updateAge(this.currentIteration);
+			this.calculateFitness(immigrant);
+			immigrants.add(immigrant);
+		}
+		return immigrants;
+	}
+
+	/**
+	 * The solutions added to the archive since the last migration, so that the
+	 * neighbouring client can stop targeting the goals they cover
+	 */
+	@Override
+	protected Set<T> getAdditionalEmigrants() {
+		Set<T> newSolutions = new LinkedHashSet<T>();
+		for (T solution : this.getSolutions()) {
+			if (this.emigratedSolutions.add(solution)) {
+				newSolutions.add(solution);
+			}
+		}
+		return newSolutions;
+	}
+
 	protected void computePerformanceMetrics(Set<T> tests) {
 		tests.stream().forEach(t ->
 				indicators.stream().forEach(i -> i.getIndicatorValue(t)));
@@ -219,6 +269,14 @@ public class DynaMOSA<T extends Chromosome> extends MOSA<T> {
 		return this.goalsManager.getUncoveredGoals();
 	}
 
+	/** 
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Set<FitnessFunction<T>> getCurrentGoals() {
+		return this.goalsManager.getCurrentGoals();
+	}
+
 	/** 
 	 * {@inheritDoc}
 	 */
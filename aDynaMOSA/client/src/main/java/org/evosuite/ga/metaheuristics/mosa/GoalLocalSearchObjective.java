@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.localsearch.LocalSearchObjective;
+import org.evosuite.testcase.TestChromosome;
+
+/**
+ * Local search objective used when a MOSA-based search hands a single goal over to DSE.
+ * The candidate tests are evaluated by the search itself, so that the goal manager and
+ * the archive are updated with whatever the local search covers on the way.
+ */
+class GoalLocalSearchObjective<T extends Chromosome> implements LocalSearchObjective<TestChromosome> {
+
+	private final FitnessFunction<T> goal;
+
+	/** Evaluates a test through the goal manager of the search */
+	private final Consumer<T> evaluator;
+
+	/** Tells whether a goal has been covered */
+	private final Predicate<FitnessFunction<T>> isCovered;
+
+	private final double initialFitness;
+
+	private final List<FitnessFunction<? extends Chromosome>> fitnessFunctions = new ArrayList<>();
+
+	GoalLocalSearchObjective(FitnessFunction<T> goal, double initialFitness, Consumer<T> evaluator,
+			Predicate<FitnessFunction<T>> isCovered) {
+		this.goal = goal;
+		this.initialFitness = initialFitness;
+		this.evaluator = evaluator;
+		this.isCovered = isCovered;
+		this.fitnessFunctions.add(goal);
+	}
+
+	@Override
+	public boolean isDone() {
+		return this.isCovered.test(this.goal);
+	}
+
+	@Override
+	public boolean isMaximizationObjective() {
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean hasImproved(TestChromosome chromosome) {
+		this.evaluator.accept((T) chromosome);
+		Double fitness = chromosome.getFitnessValues().get(this.goal);
+		return this.isDone() || (fitness != null && fitness < this.initialFitness);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean hasNotWorsened(TestChromosome chromosome) {
+		this.evaluator.accept((T) chromosome);
+		Double fitness = chromosome.getFitnessValues().get(this.goal);
+		return this.isDone() || (fitness != null && fitness <= this.initialFitness);
+	}
+
+	@Override
+	public int hasChanged(TestChromosome chromosome) {
+		throw new UnsupportedOperationException("Not implemented for single goal objective");
+	}
+
+	@Override
+	public void addFitnessFunction(FitnessFunction<? extends Chromosome> fitness) {
+		throw new UnsupportedOperationException("The goal of the objective cannot be changed");
+	}
+
+	@Override
+	public List<FitnessFunction<? extends Chromosome>> getFitnessFunctions() {
+		return this.fitnessFunctions;
+	}
+}
@@ -0,0 +1,270 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.evosuite.Properties;
+import org.evosuite.coverage.branch.Branch;
+import org.evosuite.coverage.branch.BranchCoverageTestFitness;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.graphs.cfg.BytecodeInstruction;
+import org.evosuite.rmi.ClientServices;
+import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.utils.LoggingUtils;
+import org.objectweb.asm.Opcodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides, generation by generation, which goals of a MOSA-based search should be handed over to DSE.
+ *
+ * <p>For each current goal the scheduler keeps the best fitness value reached so far (the same history
+ * kept by {@link org.evosuite.ga.metaheuristics.mosa.structural.adaptive.AdaptiveGoalManager}) and counts
+ * the generations since it last improved. Goals that stagnate for {@link Properties#DSE_STAGNATION_THRESHOLD}
+ * generations and whose predicate can be handled by the constraint solvers are routed to DSE, all the
+ * other goals are left to evolution. A goal on which DSE fails has its threshold doubled, and DSE is
+ * only used while it covers goals at least as fast as the evolutionary search does, or when the latter
+ * has not covered anything for a while.
+ */
+public class HybridSearchScheduler<T extends Chromosome> implements Serializable {
+
+	private static final long serialVersionUID = -3427416331186352395L;
+
+	private static final Logger logger = LoggerFactory.getLogger(HybridSearchScheduler.class);
+
+	/** Best fitness value reached so far for each goal that is not covered yet */
+	private final Map<FitnessFunction<T>, Double> bestValues = new LinkedHashMap<>();
+
+	/** Number of generations since the best value of a goal last improved */
+	private final Map<FitnessFunction<T>, Integer> stagnation = new LinkedHashMap<>();
+
+	/** Stagnation thresholds of the goals on which DSE already failed */
+	private final Map<FitnessFunction<T>, Integer> thresholds = new LinkedHashMap<>();
+
+	private long evolutionTime = 0L;
+	private int evolutionCoveredGoals = 0;
+	private int generationsWithoutCoverage = 0;
+
+	private long dseTime = 0L;
+	private int dseCoveredGoals = 0;
+	private int dseApplications = 0;
+
+	/**
+	 * Updates the best-value history with the fitness values of the current population.
+	 * Goals that are no longer among the current ones (e.g., because they have been
+	 * covered) are dropped from the history.
+	 *
+	 * @param currentGoals the goals currently targeted by the search
+	 * @param population the population after the last generation
+	 */
+	public void updateStagnation(Collection<FitnessFunction<T>> currentGoals, List<T> population) {
+		Map<FitnessFunction<T>, Double> currentValues = new LinkedHashMap<>();
+		for (FitnessFunction<T> goal : currentGoals) {
+			T closest = this.getClosestIndividual(goal, population);
+			if (closest != null)
+				currentValues.put(goal, closest.getFitnessValues().get(goal));
+		}
+		this.updateStagnation(currentValues);
+	}
+
+	/**
+	 * Updates the best-value history with the best fitness values reached so far for the current
+	 * goals, e.g., the ones kept by an
+	 * {@link org.evosuite.ga.metaheuristics.mosa.structural.adaptive.AdaptiveGoalManager}.
+	 * Goals that are not in the map are dropped from the history.
+	 *
+	 * @param currentValues the best fitness value of each current goal
+	 */
+	public void updateStagnation(Map<FitnessFunction<T>, Double> currentValues) {
+		this.bestValues.keySet().retainAll(currentValues.keySet());
+		this.stagnation.keySet().retainAll(currentValues.keySet());
+		this.thresholds.keySet().retainAll(currentValues.keySet());
+
+		for (Map.Entry<FitnessFunction<T>, Double> entry : currentValues.entrySet()) {
+			FitnessFunction<T> goal = entry.getKey();
+			Double best = this.bestValues.get(goal);
+			if (best == null || entry.getValue() < best) {
+				this.bestValues.put(goal, entry.getValue());
+				this.stagnation.put(goal, 0);
+			} else {
+				this.stagnation.put(goal, this.stagnation.get(goal) + 1);
+			}
+		}
+	}
+
+	/**
+	 * Returns the goals that should be handed over to DSE in the current generation, the most
+	 * stagnating first. The list is empty if DSE is not worth applying at the moment.
+	 *
+	 * @return a list of goals
+	 */
+	public List<FitnessFunction<T>> selectGoalsForDSE() {
+		List<FitnessFunction<T>> goals = new ArrayList<>();
+		if (!this.isDSEWorthApplying())
+			return goals;
+
+		for (Map.Entry<FitnessFunction<T>, Integer> entry : this.stagnation.entrySet()) {
+			FitnessFunction<T> goal = entry.getKey();
+			if (entry.getValue() >= this.getThreshold(goal) && this.isSolverFriendly(goal))
+				goals.add(goal);
+		}
+		// stable sort, so ties keep the deterministic insertion order
+		goals.sort((g1, g2) -> Integer.compare(this.stagnation.get(g2), this.stagnation.get(g1)));
+		if (goals.size() > Properties.DSE_SCHEDULER_MAX_GOALS)
+			goals = new ArrayList<>(goals.subList(0, Properties.DSE_SCHEDULER_MAX_GOALS));
+
+		logger.debug("Goals routed to DSE: {}", goals);
+		return goals;
+	}
+
+	/**
+	 * Returns the individual of the population with the lowest fitness value for the goal,
+	 * or {@code null} if no individual has been evaluated on it.
+	 *
+	 * @param goal a goal
+	 * @param population the current population
+	 * @return an individual of the population
+	 */
+	public T getClosestIndividual(FitnessFunction<T> goal, List<T> population) {
+		T closest = null;
+		double closestValue = Double.MAX_VALUE;
+		for (T individual : population) {
+			Double value = individual.getFitnessValues().get(goal);
+			if (value != null && value < closestValue) {
+				closest = individual;
+				closestValue = value;
+			}
+		}
+		return closest;
+	}
+
+	/**
+	 * Returns true if the goal is a predicate that the constraint solvers can reason about, i.e.,
+	 * a branch comparing primitive values (strings are compared through the boolean result of their
+	 * methods). Reference comparisons and other kinds of goals are left to evolution.
+	 *
+	 * @param goal a goal
+	 * @return true if DSE can be applied to the goal
+	 */
+	protected boolean isSolverFriendly(FitnessFunction<T> goal) {
+		if (!(goal instanceof BranchCoverageTestFitness))
+			return false;
+
+		Branch branch = ((BranchCoverageTestFitness) goal).getBranch();
+		if (branch == null) // root branch of a method, there is no predicate to solve
+			return false;
+
+		BytecodeInstruction instruction = branch.getInstruction();
+		if (instruction.isIfNull())
+			return false;
+		int opcode = instruction.getASMNode().getOpcode();
+		return opcode != Opcodes.IF_ACMPEQ && opcode != Opcodes.IF_ACMPNE;
+	}
+
+	/**
+	 * Records the outcome of one generation of the evolutionary search.
+	 *
+	 * @param millis time spent in the generation
+	 * @param coveredGoals number of goals covered during the generation
+	 */
+	public void reportEvolution(long millis, int coveredGoals) {
+		this.evolutionTime += millis;
+		this.evolutionCoveredGoals += coveredGoals;
+		if (coveredGoals > 0)
+			this.generationsWithoutCoverage = 0;
+		else
+			this.generationsWithoutCoverage++;
+	}
+
+	/**
+	 * Records the outcome of DSE on a goal. If DSE could not improve the goal, the scheduler
+	 * waits twice as long before routing it to DSE again.
+	 *
+	 * @param goal the goal that was routed to DSE
+	 * @param improved true if DSE produced a test improving the fitness value of the goal
+	 * @param millis time spent in DSE
+	 * @param coveredGoals number of goals covered by DSE
+	 */
+	public void reportDSE(FitnessFunction<T> goal, boolean improved, long millis, int coveredGoals) {
+		this.dseTime += millis;
+		this.dseCoveredGoals += coveredGoals;
+		this.dseApplications++;
+
+		this.stagnation.put(goal, 0);
+		if (!improved)
+			this.thresholds.put(goal, this.getThreshold(goal) * 2);
+	}
+
+	/**
+	 * Returns the number of goals covered per second by the evolutionary search
+	 */
+	public double getEvolutionCoverageRate() {
+		return rate(this.evolutionCoveredGoals, this.evolutionTime);
+	}
+
+	/**
+	 * Returns the number of goals covered per second by DSE
+	 */
+	public double getDSECoverageRate() {
+		return rate(this.dseCoveredGoals, this.dseTime);
+	}
+
+	public int getStagnation(FitnessFunction<T> goal) {
+		Integer generations = this.stagnation.get(goal);
+		return generations == null ? 0 : generations;
+	}
+
+	/**
+	 * Logs the coverage gained by each engine and sends it to the master as output variables
+	 */
+	public void trackStatistics() {
+		LoggingUtils.getEvoLogger().info("* Hybrid search: evolution covered {} goals in {} ms ({} goals/s)",
+				this.evolutionCoveredGoals, this.evolutionTime, this.getEvolutionCoverageRate());
+		LoggingUtils.getEvoLogger().info("* Hybrid search: DSE was applied {} times and covered {} goals in {} ms ({} goals/s)",
+				this.dseApplications, this.dseCoveredGoals, this.dseTime, this.getDSECoverageRate());
+
+		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.HybridGACoveredGoals, this.evolutionCoveredGoals);
+		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.HybridGATime, this.evolutionTime);
+		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.HybridDSECoveredGoals, this.dseCoveredGoals);
+		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.HybridDSETime, this.dseTime);
+	}
+
+	private boolean isDSEWorthApplying() {
+		if (this.dseApplications == 0 || this.generationsWithoutCoverage >= Properties.DSE_STAGNATION_THRESHOLD)
+			return true;
+		return this.getDSECoverageRate() >= this.getEvolutionCoverageRate();
+	}
+
+	private int getThreshold(FitnessFunction<T> goal) {
+		Integer threshold = this.thresholds.get(goal);
+		return threshold == null ? Properties.DSE_STAGNATION_THRESHOLD : threshold;
+	}
+
+	private static double rate(int coveredGoals, long millis) {
+		return millis == 0 ? 0.0 : coveredGoals * 1000.0 / millis;
+	}
+}
@@ -63,6 +63,14 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 
 	private SelectionFunction<T> emigrantsSelection;
 
+	/** For parallel runs: individuals sent to and taken from the neighbouring client */
+	private int numberOfEmigrants = 0;
+
+	private int numberOfImmigrants = 0;
+
+	/** For parallel runs: solutions of the other clients merged by {@link ClientProcess#DEFAULT_CLIENT_NAME} */
+	private int numberOfCollectedSolutions = 0;
+
 	/** Crowding distance measure to use */
 	protected CrowdingDistance<T> distance = new CrowdingDistance<>();
 
@@ -100,9 +108,7 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		union.addAll(offspringPopulation);
 
 		// for parallel runs: integrate possible immigrants
-		if (Properties.NUM_PARALLEL_CLIENTS > 1 && !immigrants.isEmpty()) {
-			union.addAll(immigrants.poll());
-		}
+		union.addAll(this.pollImmigrants());
 
 		Set<FitnessFunction<T>> uncoveredGoals = this.getUncoveredGoals();
 
@@ -147,14 +153,129 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		}
 
 		// for parallel runs: collect best k individuals for migration
+		this.emigrate();
+
+		this.currentIteration++;
+	}
+
+	/**
+	 * For parallel runs: registers a listener collecting the individuals sent by the
+	 * neighbouring client.
+	 *
+	 * @return the listener, or null if the search is not run in parallel
+	 */
+	protected Listener<Set<? extends Chromosome>> startMigration() {
+		if (Properties.NUM_PARALLEL_CLIENTS <= 1) {
+			return null;
+		}
+		Listener<Set<? extends Chromosome>> listener = new Listener<Set<? extends Chromosome>>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public void receiveEvent(Set<? extends Chromosome> event) {
+				immigrants.add(new LinkedList<T>((Set<? extends T>) event));
+			}
+		};
+		ClientServices.getInstance().getClientNode().addListener(listener);
+		return listener;
+	}
+
+	/**
+	 * For parallel runs: returns the oldest group of individuals received from the
+	 * neighbouring client that was not integrated yet.
+	 *
+	 * @return an empty list if there is none
+	 */
+	protected List<T> pollImmigrants() {
+		if (Properties.NUM_PARALLEL_CLIENTS > 1) {
+			List<T> group = immigrants.poll();
+			if (group != null) {
+				this.numberOfImmigrants += group.size();
+				return group;
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * For parallel runs: every {@link Properties#MIGRANTS_ITERATION_FREQUENCY} iterations,
+	 * sends the best k individuals of the population, plus the ones returned by
+	 * {@link #getAdditionalEmigrants()}, to the neighbouring client.
+	 */
+	protected void emigrate() {
 		if (Properties.NUM_PARALLEL_CLIENTS > 1 && Properties.MIGRANTS_ITERATION_FREQUENCY > 0) {
 			if ((currentIteration + 1) % Properties.MIGRANTS_ITERATION_FREQUENCY == 0 && !this.population.isEmpty()) {
 				HashSet<T> emigrants = new HashSet<>(emigrantsSelection.select(population, Properties.MIGRANTS_COMMUNICATION_RATE));
+				emigrants.addAll(this.getAdditionalEmigrants());
+				this.numberOfEmigrants += emigrants.size();
 				ClientServices.getInstance().getClientNode().emigrate(emigrants);
 			}
 		}
+	}
 
-		this.currentIteration++;
+	/**
+	 * Individuals to migrate besides the best ones of the population
+	 *
+	 * @return none by default
+	 */
+	protected Set<T> getAdditionalEmigrants() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * For parallel runs: unregisters the listener, then collects the solutions of all the
+	 * clients in {@link ClientProcess#DEFAULT_CLIENT_NAME}, which evaluates them so that they
+	 * are merged with its own solutions.
+	 *
+	 * @param listener returned by {@link #startMigration()}
+	 */
+	@SuppressWarnings("unchecked")
+	protected void finishMigration(Listener<Set<? extends Chromosome>> listener) {
+		if (Properties.NUM_PARALLEL_CLIENTS <= 1) {
+			return;
+		}
+		ClientServices.getInstance().getClientNode().deleteListener(listener);
+
+		if (ClientProcess.DEFAULT_CLIENT_NAME.equals(ClientProcess.getIdentifier())) {
+			//collect all end result test cases
+			Set<Set<? extends Chromosome>> collectedSolutions = ClientServices.getInstance()
+				.getClientNode().getBestSolutions();
+
+			logger.debug(ClientProcess.DEFAULT_CLIENT_NAME + ": Received " + collectedSolutions.size() + " solution sets");
+			for (Set<? extends Chromosome> solution : collectedSolutions) {
+				for (Chromosome t : solution) {
+					this.calculateFitness((T) t);
+					this.numberOfCollectedSolutions++;
+				}
+			}
+		} else {
+			//send end result test cases to Client-0
+			Set<T> solutionsSet = new HashSet<T>(getSolutions());
+			logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending " + solutionsSet.size()
+										+ " solutions to " + ClientProcess.DEFAULT_CLIENT_NAME);
+			ClientServices.getInstance().getClientNode().sendBestSolution(solutionsSet);
+		}
+	}
+
+	/**
+	 * @return the number of individuals sent to the neighbouring client
+	 */
+	public int getNumberOfEmigrants() {
+		return this.numberOfEmigrants;
+	}
+
+	/**
+	 * @return the number of individuals taken from the neighbouring client
+	 */
+	public int getNumberOfImmigrants() {
+		return this.numberOfImmigrants;
+	}
+
+	/**
+	 * @return the number of solutions of the other clients evaluated at the end of the
+	 *         search, always 0 if this is not {@link ClientProcess#DEFAULT_CLIENT_NAME}
+	 */
+	public int getNumberOfCollectedSolutions() {
+		return this.numberOfCollectedSolutions;
 	}
 
 	/**
@@ -178,45 +299,15 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 			this.distance.fastEpsilonDominanceAssignment(ranking.getSubfront(i), this.getUncoveredGoals());
 		}
 
-		Listener<Set<? extends Chromosome>> listener = null;
-		if (Properties.NUM_PARALLEL_CLIENTS > 1) {
-			listener = new Listener<Set<? extends Chromosome>>() {
-				@Override
-				public void receiveEvent(Set<? extends Chromosome> event) {
-					immigrants.add(new LinkedList<T>((Set<? extends T>) event));
-				}
-			};
-			ClientServices.getInstance().getClientNode().addListener(listener);
-		}
+		Listener<Set<? extends Chromosome>> listener = this.startMigration();
 
 		// TODO add here dynamic stopping condition
 		while (!this.isFinished() && this.getNumberOfUncoveredGoals() > 0) {
-			this.evolve();
+			this.evolveAndSchedule();
 			this.notifyIteration();
 		}
 
-		if (Properties.NUM_PARALLEL_CLIENTS > 1) {
-			ClientServices.getInstance().getClientNode().deleteListener(listener);
-
-			if (ClientProcess.DEFAULT_CLIENT_NAME.equals(ClientProcess.getIdentifier())) {
-				//collect all end result test cases
-				Set<Set<? extends Chromosome>> collectedSolutions = ClientServices.getInstance()
-					.getClientNode().getBestSolutions();
-
-				logger.debug(ClientProcess.DEFAULT_CLIENT_NAME + ": Received " + collectedSolutions.size() + " solution sets");
-				for (Set<? extends Chromosome> solution : collectedSolutions) {
-					for (Chromosome t : solution) {
-						this.calculateFitness((T) t);
-					}
-				}
-			} else {
-				//send end result test cases to Client-0
-				Set<T> solutionsSet = new HashSet<T>(getSolutions());
-				logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending " + solutionsSet.size()
-											+ " solutions to " + ClientProcess.DEFAULT_CLIENT_NAME);
-				ClientServices.getInstance().getClientNode().sendBestSolution(solutionsSet);
-			}
-		}
+		this.finishMigration(listener);
 
 		// storing the time needed to reach the maximum coverage
 		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Time2MaxCoverage,
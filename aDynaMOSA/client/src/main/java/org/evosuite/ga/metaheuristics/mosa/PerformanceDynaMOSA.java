@@ -13,6 +13,7 @@ import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testsuite.TestSuiteChromosome;
 import org.evosuite.testsuite.TestSuiteFitnessFunction;
+import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,6 +94,9 @@ public class PerformanceDynaMOSA<T extends Chromosome> extends DynaMOSA<T> {
         union.addAll(this.population);
         union.addAll(offspringPopulation);
 
+        // for parallel runs: integrate possible immigrants
+        union.addAll(this.integrateImmigrants());
+
         // Ranking the union
         logger.debug("Union Size = {}", union.size());
 
@@ -140,6 +144,9 @@ public class PerformanceDynaMOSA<T extends Chromosome> extends DynaMOSA<T> {
 
         }
 
+        // for parallel runs: collect best k individuals and new solutions for migration
+        this.emigrate();
+
         this.currentIteration++;
         //logger.debug("N. fronts = {}", ranking.getNumberOfSubfronts());
         //logger.debug("1* front size = {}", ranking.getSubfront(0).size());
@@ -185,12 +192,17 @@ public class PerformanceDynaMOSA<T extends Chromosome> extends DynaMOSA<T> {
                 goalsManager.updateBestValue(f, t.getFitness(f));
         last_heuristic = Heuristics.PERFORMANCE;
 
+        Listener<Set<? extends Chromosome>> listener = this.startMigration();
+
         // next generations
         while (!isFinished() && this.goalsManager.getUncoveredGoals().size() > 0) {
-            this.evolve();
+            this.evolveAndSchedule();
             this.notifyIteration();
         }
 
+        // for parallel runs: merge the archives of all the clients
+        this.finishMigration(listener);
+
         /* -------------------------- calculate the performance indicators to save them ---------------------------*/
         Set<T> archive = goalsManager.getArchive();
         computePerformanceMetrics(archive);
@@ -222,6 +234,28 @@ public class PerformanceDynaMOSA<T extends Chromosome> extends DynaMOSA<T> {
         return this.goalsManager.getUncoveredGoals();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Set<FitnessFunction<T>> getCurrentGoals() {
+        return this.goalsManager.getCurrentGoals();
+    }
+
+    /**
+     * Feeds the hybrid scheduler with the best-value history kept by the {@link AdaptiveGoalManager}.
+     */
+    @Override
+    protected void updateStagnation() {
+        Map<FitnessFunction<T>, Double> bestValues = new LinkedHashMap<>();
+        for (FitnessFunction<T> goal : this.goalsManager.getCurrentGoals()) {
+            Double value = this.goalsManager.getBestValues().get(goal);
+            if (value != null)
+                bestValues.put(goal, value);
+        }
+        this.hybridScheduler.updateStagnation(bestValues);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -12,7 +12,7 @@ public class CFGUtils {
 
 	public static Set<BasicBlock> lookForParent(BasicBlock block, ActualControlFlowGraph acfg, Set<BasicBlock> visitedBlock){
 		Set<BasicBlock> realParent = new HashSet<BasicBlock>();
-		Set<BasicBlock> parents = acfg.getParents(block);
+		Set<BasicBlock> parents = acfg.getParentsView(block);
 		if (parents.size() == 0){
 			realParent.add(block);
 			return realParent;
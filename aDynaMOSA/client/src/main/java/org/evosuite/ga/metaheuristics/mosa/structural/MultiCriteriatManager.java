@@ -352,14 +352,26 @@ public class MultiCriteriatManager<T extends Chromosome> extends StructuralGoalM
 
 
 
+	/**
+	 * Executes the test, unless it was not changed since its last execution
+	 * (the cached result is cleared whenever the test is changed)
+	 */
+	public void runTest(T c) {
+		TestChromosome tch = (TestChromosome) c;
+		if (tch.getLastExecutionResult() == null) {
+			// run the test
+			TestCase test = tch.getTestCase();
+			ExecutionResult result = TestCaseExecutor.runTest(test);
+			tch.setLastExecutionResult(result);
+			c.setChanged(false);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public void calculateFitness(T c) {
-		// run the test
-		TestCase test = ((TestChromosome) c).getTestCase();
-		ExecutionResult result = TestCaseExecutor.runTest(test);
-		((TestChromosome) c).setLastExecutionResult(result);
-		c.setChanged(false);
+		this.runTest(c);
+		ExecutionResult result = ((TestChromosome) c).getLastExecutionResult();
 
 		if (result.hasTimeout() || result.hasTestException()){
 			for (FitnessFunction<T> f : currentGoals)
@@ -63,7 +63,7 @@ public class StatementFitnessGraph<T extends Chromosome, V extends FitnessFuncti
 
 				// derive from ActualControlFlowGraph
 				ActualControlFlowGraph acfg = branchFitness.getBranch().getInstruction().getActualCFG();
-				Set<BasicBlock> bbs = acfg.getParents(stmt.getGoalInstruction().getBasicBlock());
+				Set<BasicBlock> bbs = acfg.getParentsView(stmt.getGoalInstruction().getBasicBlock());
 				for (BasicBlock bb : bbs){
 					if (bb.equals(stmt.getGoalInstruction().getBasicBlock()))
 						continue;
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.stoppingconditions;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.archive.Archive;
+import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stop the search when no new goal has been covered, nor the best fitness
+ * value has improved, for {@link Properties#PLATEAU_TIMEOUT} seconds.
+ * Progress is measured on the archive when one is used, otherwise on the
+ * fitness of the best individual.
+ */
+public class CoveragePlateauStoppingCondition extends StoppingConditionImpl {
+
+	private static final long serialVersionUID = 3120453851391326785L;
+
+	private final static Logger logger = LoggerFactory.getLogger(CoveragePlateauStoppingCondition.class);
+
+	/** Time at which the search made progress for the last time */
+	private long lastImprovement = 0L;
+
+	/** Number of goals covered in the archive at the last check */
+	private int lastCovered = 0;
+
+	/** Best fitness value observed so far */
+	private double lastFitness = Double.NaN;
+
+	/** {@inheritDoc} */
+	@Override
+	public void searchStarted(GeneticAlgorithm<?> algorithm) {
+		reset();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Check whether the search has made any progress since the last iteration
+	 */
+	@Override
+	public void iteration(GeneticAlgorithm<?> algorithm) {
+		boolean improved = false;
+
+		if (Properties.TEST_ARCHIVE) {
+			int covered = Archive.getArchiveInstance().getNumberOfCoveredTargets();
+			if (covered > lastCovered) {
+				lastCovered = covered;
+				improved = true;
+			}
+		}
+
+		double fitness = algorithm.getBestIndividual().getFitness();
+		boolean maximize = !algorithm.getFitnessFunctions().isEmpty()
+				&& algorithm.getFitnessFunction().isMaximizationFunction();
+		if (Double.isNaN(lastFitness) || (maximize ? fitness > lastFitness : fitness < lastFitness)) {
+			lastFitness = fitness;
+			improved = true;
+		}
+
+		if (improved) {
+			lastImprovement = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Returns true if there was no progress in the last
+	 * {@link Properties#PLATEAU_TIMEOUT} seconds
+	 */
+	@Override
+	public boolean isFinished() {
+		if (Properties.PLATEAU_TIMEOUT <= 0) {
+			return false;
+		}
+		if (getCurrentValue() >= Properties.PLATEAU_TIMEOUT) {
+			logger.info("No new goal covered in the last {} seconds", Properties.PLATEAU_TIMEOUT);
+			return true;
+		}
+		return false;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void reset() {
+		lastImprovement = System.currentTimeMillis();
+		lastCovered = 0;
+		lastFitness = Double.NaN;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void setLimit(long limit) {
+		// Do nothing, the limit is read from Properties.PLATEAU_TIMEOUT
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getLimit() {
+		return Properties.PLATEAU_TIMEOUT;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Returns the seconds since the search made progress for the last time
+	 */
+	@Override
+	public long getCurrentValue() {
+		return (System.currentTimeMillis() - lastImprovement) / 1000;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void forceCurrentValue(long value) {
+		lastImprovement = System.currentTimeMillis() - value * 1000;
+	}
+
+}
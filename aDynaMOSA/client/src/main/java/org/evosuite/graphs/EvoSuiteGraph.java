@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Queue;
@@ -76,6 +77,9 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 	protected DirectedGraph<V, E> graph;
 	protected Class<E> edgeClass;
 
+	/** Array-based copy of the graph used by read-only queries, dropped on any modification */
+	private volatile GraphSnapshot<V> snapshot = null;
+
 	// for .dot functionality
 	// TODO need jgrapht-0.8.3
 	ComponentAttributeProvider<V> vertexAttributeProvider = null;
@@ -186,6 +190,9 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 		//TODO check why in project 57_hft-bomberman class client.gui.StartFrame this happens
 		//	throw new IllegalArgumentException(
 		//			"node not contained in this graph");
+		GraphSnapshot<V> frozen = snapshot;
+		if (frozen != null)
+			return new LinkedHashSet<V>(frozen.getChildren(node));
 		// TODO hash set? can't be sure V implements hash correctly
 		Set<V> r = new LinkedHashSet<V>();
 		for (E e : outgoingEdgesOf(node))
@@ -209,6 +216,9 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 		if (!containsVertex(node)) // should this just return null?
 			throw new IllegalArgumentException(
 					"node not contained in this graph");
+		GraphSnapshot<V> frozen = snapshot;
+		if (frozen != null)
+			return new LinkedHashSet<V>(frozen.getParents(node));
 		// TODO hash set? can't be sure V implements hash correctly
 		Set<V> r = new LinkedHashSet<V>();
 		for (E e : incomingEdgesOf(node))
@@ -222,6 +232,40 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 		return r;
 	}
 
+	/**
+	 * Read-only variant of {@link #getChildren(Object)}: once the graph is
+	 * frozen this returns a shared immutable view, without copying.
+	 *
+	 * @param node a V object.
+	 * @return an unmodifiable {@link java.util.Set} object.
+	 */
+	public Set<V> getChildrenView(V node) {
+		GraphSnapshot<V> frozen = snapshot;
+		if (frozen != null && frozen.containsVertex(node))
+			return frozen.getChildren(node);
+		Set<V> r = getChildren(node);
+		return r == null ? null : Collections.unmodifiableSet(r);
+	}
+
+	/**
+	 * Read-only variant of {@link #getParents(Object)}: once the graph is
+	 * frozen this returns a shared immutable view, without copying.
+	 *
+	 * @param node a V object.
+	 * @return an unmodifiable {@link java.util.Set} object, or null if the
+	 *         node is not contained in the graph.
+	 */
+	public Set<V> getParentsView(V node) {
+		GraphSnapshot<V> frozen = snapshot;
+		if (frozen != null && frozen.containsVertex(node))
+			return frozen.getParents(node);
+		if (!containsVertex(node)) {
+			LoggingUtils.getEvoLogger().warn("getParentsView call requests a node not contained in the current graph. Node: "+node);
+			return null;
+		}
+		return Collections.unmodifiableSet(getParents(node));
+	}
+
 	/**
 	 * <p>vertexSet</p>
 	 *
@@ -313,9 +357,21 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 	 * @return a boolean.
 	 */
 	protected boolean addVertex(V v) {
+		snapshot = null;
 		return graph.addVertex(v);
 	}
 
+	/**
+	 * <p>removeVertex</p>
+	 *
+	 * @param v a V object.
+	 * @return a boolean.
+	 */
+	protected boolean removeVertex(V v) {
+		snapshot = null;
+		return graph.removeVertex(v);
+	}
+
 	/**
 	 * <p>addEdge</p>
 	 *
@@ -324,7 +380,7 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 	 * @return a E object.
 	 */
 	protected E addEdge(V src, V target) {
-
+		snapshot = null;
 		return graph.addEdge(src, target);
 	}
 
@@ -337,7 +393,7 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 	 * @return a boolean.
 	 */
 	protected boolean addEdge(V src, V target, E e) {
-
+		snapshot = null;
 		return graph.addEdge(src, target, e);
 	}
 
@@ -418,6 +474,7 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 					"edge and node must be present in this graph");
 
 		V edgeSource = graph.getEdgeSource(edge);
+		snapshot = null;
 		if (!graph.removeEdge(edge))
 			return false;
 		if (!addEdge(edgeSource, node, edge))
@@ -441,6 +498,7 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 					"edge and node must be present in this graph");
 
 		V edgeTarget = graph.getEdgeTarget(edge);
+		snapshot = null;
 		if (!graph.removeEdge(edge))
 			return false;
 		if (!addEdge(node, edgeTarget, edge))
@@ -449,6 +507,34 @@ public abstract class EvoSuiteGraph<V, E extends DefaultEdge> {
 		return true;
 	}
 
+	// frozen representation
+
+	/**
+	 * Builds, if not done yet, an array-based snapshot of this graph for the
+	 * read-only queries issued during the search. Supposed to be called once
+	 * the graph is complete; any later modification of the graph drops the
+	 * snapshot, so it never gets stale.
+	 *
+	 * @return a {@link org.evosuite.graphs.GraphSnapshot} object.
+	 */
+	public GraphSnapshot<V> freeze() {
+		GraphSnapshot<V> frozen = snapshot;
+		if (frozen == null) {
+			frozen = new GraphSnapshot<V>(graph);
+			snapshot = frozen;
+		}
+		return frozen;
+	}
+
+	/**
+	 * <p>isFrozen</p>
+	 *
+	 * @return true if the graph has an up to date snapshot
+	 */
+	public boolean isFrozen() {
+		return snapshot != null;
+	}
+
 	// different counts
 
 	/**
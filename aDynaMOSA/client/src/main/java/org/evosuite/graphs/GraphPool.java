@@ -249,6 +249,7 @@ public class GraphPool {
 	private void createAndRegisterControlDependence(ActualControlFlowGraph cfg) {
 
 		ControlDependenceGraph cd = new ControlDependenceGraph(cfg);
+		cd.freeze();
 
 		String className = cd.getClassName();
 		String methodName = cd.getMethodName();
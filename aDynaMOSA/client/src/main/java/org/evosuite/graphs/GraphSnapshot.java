@@ -0,0 +1,475 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.graphs;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jgrapht.DirectedGraph;
+
+/**
+ * Frozen, array-based copy of an {@link EvoSuiteGraph}, built once the graph is
+ * complete (see {@link EvoSuiteGraph#freeze()}) and used by the read-only
+ * queries issued during the search.
+ *
+ * Adjacency is stored in compressed sparse row form: the children of the
+ * vertex with index i are the vertices whose indices are stored in
+ * children[childOffsets[i]] ... children[childOffsets[i + 1] - 1], in the same
+ * order as in the original graph, and likewise for the parents. Children and
+ * parents are exposed as immutable views over those arrays, and the vertices
+ * lying on a cycle are computed once when the snapshot is built. The immediate
+ * dominators and the loop headers are only computed on the first query that
+ * needs them.
+ *
+ * @param <V> the type of the vertices
+ */
+public final class GraphSnapshot<V> {
+
+	private static final int NONE = -1;
+
+	/** Vertices by index, in the iteration order of the original graph */
+	private final List<V> vertices;
+
+	/** Index of each vertex */
+	private final Map<V, Integer> indices;
+
+	private final int[] childOffsets;
+	private final int[] children;
+	private final int[] parentOffsets;
+	private final int[] parents;
+
+	/** Immutable children and parents of each vertex, as views over the arrays above */
+	private final List<Set<V>> childViews;
+	private final List<Set<V>> parentViews;
+
+	/** Whether each vertex can reach itself through at least one edge */
+	private final boolean[] onCycle;
+
+	/** Immediate dominator of each vertex, NONE for entry points and unreachable vertices */
+	private volatile int[] immediateDominators;
+
+	/** Whether each vertex is the target of a back edge, i.e., an edge from a vertex it dominates */
+	private volatile boolean[] loopHeaders;
+
+	private final int edgeCount;
+
+	<E> GraphSnapshot(DirectedGraph<V, E> graph) {
+		int n = graph.vertexSet().size();
+		List<V> vertexList = new ArrayList<V>(n);
+		indices = new HashMap<V, Integer>(n * 2);
+		for (V v : graph.vertexSet()) {
+			indices.put(v, vertexList.size());
+			vertexList.add(v);
+		}
+		vertices = Collections.unmodifiableList(vertexList);
+		edgeCount = graph.edgeSet().size();
+
+		childOffsets = new int[n + 1];
+		children = new int[edgeCount];
+		parentOffsets = new int[n + 1];
+		parents = new int[edgeCount];
+		int c = 0;
+		int p = 0;
+		for (int i = 0; i < n; i++) {
+			V v = vertices.get(i);
+			childOffsets[i] = c;
+			for (E e : graph.outgoingEdgesOf(v))
+				children[c++] = indices.get(graph.getEdgeTarget(e));
+			parentOffsets[i] = p;
+			for (E e : graph.incomingEdgesOf(v))
+				parents[p++] = indices.get(graph.getEdgeSource(e));
+		}
+		childOffsets[n] = c;
+		parentOffsets[n] = p;
+
+		List<Set<V>> childViewList = new ArrayList<Set<V>>(n);
+		List<Set<V>> parentViewList = new ArrayList<Set<V>>(n);
+		for (int i = 0; i < n; i++) {
+			childViewList.add(new AdjacencyView(children, childOffsets[i], childOffsets[i + 1]));
+			parentViewList.add(new AdjacencyView(parents, parentOffsets[i], parentOffsets[i + 1]));
+		}
+		childViews = Collections.unmodifiableList(childViewList);
+		parentViews = Collections.unmodifiableList(parentViewList);
+
+		onCycle = computeCycles();
+	}
+
+	// queries
+
+	public int vertexCount() {
+		return vertices.size();
+	}
+
+	public int edgeCount() {
+		return edgeCount;
+	}
+
+	public boolean containsVertex(V v) {
+		return indices.containsKey(v);
+	}
+
+	/**
+	 * Returns the vertices of the graph, in the iteration order of the original graph
+	 */
+	public List<V> getVertices() {
+		return vertices;
+	}
+
+	/**
+	 * Returns an immutable view of the children of the given vertex
+	 */
+	public Set<V> getChildren(V v) {
+		return childViews.get(indexOf(v));
+	}
+
+	/**
+	 * Returns an immutable view of the parents of the given vertex
+	 */
+	public Set<V> getParents(V v) {
+		return parentViews.get(indexOf(v));
+	}
+
+	public int outDegreeOf(V v) {
+		int i = indexOf(v);
+		return childOffsets[i + 1] - childOffsets[i];
+	}
+
+	public int inDegreeOf(V v) {
+		int i = indexOf(v);
+		return parentOffsets[i + 1] - parentOffsets[i];
+	}
+
+	/**
+	 * Returns true if there is a path of at least one edge from the given vertex back to itself
+	 */
+	public boolean isOnCycle(V v) {
+		return onCycle[indexOf(v)];
+	}
+
+	/**
+	 * Returns the immediate dominator of the given vertex, or null if the vertex
+	 * is an entry point of the graph or cannot be reached from any entry point
+	 */
+	public V getImmediateDominator(V v) {
+		int idom = getImmediateDominators()[indexOf(v)];
+		return idom == NONE ? null : vertices.get(idom);
+	}
+
+	/**
+	 * Returns true if every path from an entry point to the second vertex goes
+	 * through the first one. Every vertex dominates itself.
+	 */
+	public boolean dominates(V dominator, V v) {
+		return dominates(indexOf(dominator), indexOf(v));
+	}
+
+	/**
+	 * Returns true if the given vertex is the header of a natural loop, i.e., the
+	 * target of an edge coming from a vertex it dominates
+	 */
+	public boolean isLoopHeader(V v) {
+		return getLoopHeaders()[indexOf(v)];
+	}
+
+	private int indexOf(V v) {
+		Integer i = indices.get(v);
+		if (i == null)
+			throw new IllegalArgumentException("vertex not contained in this graph: " + v);
+		return i;
+	}
+
+	// precomputations
+
+	private int[] getImmediateDominators() {
+		int[] idom = immediateDominators;
+		if (idom == null) {
+			synchronized (this) {
+				idom = immediateDominators;
+				if (idom == null) {
+					idom = computeImmediateDominators();
+					immediateDominators = idom;
+				}
+			}
+		}
+		return idom;
+	}
+
+	private boolean[] getLoopHeaders() {
+		boolean[] headers = loopHeaders;
+		if (headers == null) {
+			synchronized (this) {
+				headers = loopHeaders;
+				if (headers == null) {
+					headers = computeLoopHeaders();
+					loopHeaders = headers;
+				}
+			}
+		}
+		return headers;
+	}
+
+	/**
+	 * Tarjan's strongly connected components, without recursion as CFGs of
+	 * large methods can be deep
+	 */
+	private boolean[] computeCycles() {
+		int n = vertices.size();
+		boolean[] cycle = new boolean[n];
+		int[] index = new int[n];
+		int[] lowLink = new int[n];
+		boolean[] onStack = new boolean[n];
+		Arrays.fill(index, NONE);
+		int[] stack = new int[n];
+		int stackSize = 0;
+		int[] callStack = new int[n];
+		int[] nextChild = new int[n];
+		int counter = 0;
+
+		for (int root = 0; root < n; root++) {
+			if (index[root] != NONE)
+				continue;
+			int depth = 0;
+			callStack[depth++] = root;
+			index[root] = lowLink[root] = counter++;
+			stack[stackSize++] = root;
+			onStack[root] = true;
+			nextChild[root] = childOffsets[root];
+
+			while (depth > 0) {
+				int v = callStack[depth - 1];
+				if (nextChild[v] < childOffsets[v + 1]) {
+					int w = children[nextChild[v]++];
+					if (w == v) {
+						cycle[v] = true;
+					} else if (index[w] == NONE) {
+						index[w] = lowLink[w] = counter++;
+						stack[stackSize++] = w;
+						onStack[w] = true;
+						nextChild[w] = childOffsets[w];
+						callStack[depth++] = w;
+					} else if (onStack[w]) {
+						lowLink[v] = Math.min(lowLink[v], index[w]);
+					}
+					continue;
+				}
+
+				depth--;
+				if (depth > 0) {
+					int caller = callStack[depth - 1];
+					lowLink[caller] = Math.min(lowLink[caller], lowLink[v]);
+				}
+				if (lowLink[v] == index[v]) {
+					int size = 0;
+					int first = stackSize;
+					int w;
+					do {
+						w = stack[--stackSize];
+						onStack[w] = false;
+						size++;
+					} while (w != v);
+					if (size > 1) {
+						for (int k = stackSize; k < first; k++)
+							cycle[stack[k]] = true;
+					}
+				}
+			}
+		}
+		return cycle;
+	}
+
+	/**
+	 * Iterative dominator algorithm of Cooper, Harvey and Kennedy over the
+	 * reverse post-order of a depth first visit from the entry points (the
+	 * vertices without parents, or the first vertex if there is none)
+	 */
+	private int[] computeImmediateDominators() {
+		int n = vertices.size();
+		int[] idom = new int[n];
+		Arrays.fill(idom, NONE);
+		if (n == 0)
+			return idom;
+
+		List<Integer> entries = new ArrayList<Integer>();
+		boolean[] isEntry = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			if (parentOffsets[i] == parentOffsets[i + 1]) {
+				entries.add(i);
+				isEntry[i] = true;
+			}
+		}
+		if (entries.isEmpty()) {
+			entries.add(0);
+			isEntry[0] = true;
+		}
+
+		// post-order numbering; the virtual root joining the entry points gets number n
+		int[] postOrder = new int[n];
+		Arrays.fill(postOrder, NONE);
+		int[] order = new int[n]; // vertices by post-order number
+		int visited = 0;
+		boolean[] seen = new boolean[n];
+		int[] callStack = new int[n];
+		int[] nextChild = new int[n];
+		for (int entry : entries) {
+			if (seen[entry])
+				continue;
+			int depth = 0;
+			callStack[depth++] = entry;
+			seen[entry] = true;
+			nextChild[entry] = childOffsets[entry];
+			while (depth > 0) {
+				int v = callStack[depth - 1];
+				if (nextChild[v] < childOffsets[v + 1]) {
+					int w = children[nextChild[v]++];
+					if (!seen[w]) {
+						seen[w] = true;
+						nextChild[w] = childOffsets[w];
+						callStack[depth++] = w;
+					}
+				} else {
+					depth--;
+					postOrder[v] = visited;
+					order[visited++] = v;
+				}
+			}
+		}
+
+		final int root = n;
+		int[] dom = new int[n + 1]; // by vertex index, root at n
+		Arrays.fill(dom, NONE);
+		dom[root] = root;
+		for (int entry : entries)
+			dom[entry] = root;
+
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int k = visited - 1; k >= 0; k--) {
+				int v = order[k];
+				if (isEntry[v])
+					continue;
+				int newIdom = NONE;
+				for (int j = parentOffsets[v]; j < parentOffsets[v + 1]; j++) {
+					int p = parents[j];
+					if (dom[p] == NONE)
+						continue;
+					newIdom = newIdom == NONE ? p : intersect(p, newIdom, dom, postOrder, root);
+				}
+				if (newIdom != NONE && dom[v] != newIdom) {
+					dom[v] = newIdom;
+					changed = true;
+				}
+			}
+		}
+
+		for (int i = 0; i < n; i++)
+			idom[i] = dom[i] == root ? NONE : dom[i];
+		return idom;
+	}
+
+	private static int intersect(int a, int b, int[] dom, int[] postOrder, int root) {
+		while (a != b) {
+			while (a != root && (b == root || postOrder[a] < postOrder[b]))
+				a = dom[a];
+			while (b != root && (a == root || postOrder[b] < postOrder[a]))
+				b = dom[b];
+		}
+		return a;
+	}
+
+	private boolean[] computeLoopHeaders() {
+		int n = vertices.size();
+		boolean[] headers = new boolean[n];
+		for (int v = 0; v < n; v++) {
+			for (int j = childOffsets[v]; j < childOffsets[v + 1]; j++) {
+				int h = children[j];
+				if (dominates(h, v))
+					headers[h] = true;
+			}
+		}
+		return headers;
+	}
+
+	private boolean dominates(int d, int v) {
+		int[] idom = getImmediateDominators();
+		for (int i = v; i != NONE; i = idom[i]) {
+			if (i == d)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Immutable set over a slice of one of the adjacency arrays
+	 */
+	private final class AdjacencyView extends AbstractSet<V> {
+
+		private final int[] adjacency;
+		private final int from;
+		private final int to;
+
+		private AdjacencyView(int[] adjacency, int from, int to) {
+			this.adjacency = adjacency;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			return new Iterator<V>() {
+				private int next = from;
+
+				@Override
+				public boolean hasNext() {
+					return next < to;
+				}
+
+				@Override
+				public V next() {
+					if (next >= to)
+						throw new NoSuchElementException();
+					return vertices.get(adjacency[next++]);
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return to - from;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			for (int i = from; i < to; i++) {
+				if (vertices.get(adjacency[i]).equals(o))
+					return true;
+			}
+			return false;
+		}
+	}
+}
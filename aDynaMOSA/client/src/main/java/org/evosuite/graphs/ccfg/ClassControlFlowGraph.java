@@ -421,7 +421,7 @@ public class ClassControlFlowGraph extends EvoSuiteGraph<CCFGNode, CCFGEdge> {
 		// redirect edges from the original CodeNode to the new nodes
 		CCFGNode origCallNode = tempMap.get(cfg).get(call);
 		if (!redirectEdges(origCallNode, callNode, returnNode)
-				|| !graph.removeVertex(origCallNode))
+				|| !removeVertex(origCallNode))
 			throw new IllegalStateException(
 					"internal error while connecting cfgs during CCFG construction");
 	}
@@ -483,7 +483,7 @@ public class ControlDependenceGraph extends EvoSuiteGraph<BasicBlock, ControlFlo
 		addVertices(cfg);
 
 		for (BasicBlock b : vertexSet())
-			if (b.isExitBlock() && !graph.removeVertex(b)) // TODO refactor
+			if (b.isExitBlock() && !removeVertex(b)) // TODO refactor
 				throw new IllegalStateException("internal error building up CDG");
 
 	}
@@ -156,7 +156,8 @@ public abstract class ControlFlowGraph<V> extends
 	public abstract boolean containsInstruction(BytecodeInstruction instruction);
 
 	/**
-	 * Computes the diameter of this CFG and the mutation distances
+	 * Computes the diameter of this CFG and the mutation distances, and
+	 * freezes the graph for the read-only queries issued during the search
 	 *
 	 * Since both takes some time this is not automatically done on each CFG
 	 *
@@ -166,6 +167,7 @@ public abstract class ControlFlowGraph<V> extends
 	 */
 	public void finalise() {
 		computeDiameter();
+		freeze();
 		// TODO: call this!
 		// and sanity check with a flag whenever a call
 		// to this method is assumed to have been made
@@ -410,7 +410,7 @@ public class RawControlFlowGraph extends ControlFlowGraph<BytecodeInstruction> {
 
 			for (BytecodeInstruction instruction : candidates) {
 				if (outDegreeOf(instruction) == 0) {
-					if (graph.removeVertex(instruction)) {
+					if (removeVertex(instruction)) {
 						removed++;
 						BytecodeInstructionPool.getInstance(classLoader).forgetInstruction(instruction);
 					}
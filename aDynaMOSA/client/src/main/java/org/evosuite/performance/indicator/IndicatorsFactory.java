@@ -39,6 +39,8 @@ public class IndicatorsFactory {
                 return new CoveredStatementsCounter();
             case LOOP_COUNTER:
                 return new LoopCounter();
+            case LOOP_ITERATIONS:
+                return new LoopIterationsCounter();
             case TEST_LENGTH:
                 return new TestLength();
         }
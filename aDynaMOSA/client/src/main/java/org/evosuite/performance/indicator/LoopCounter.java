@@ -51,7 +51,7 @@ public class LoopCounter extends AbstractIndicator {
         for (Branch b : loopBranches) {
             ActualControlFlowGraph CFG = b.getInstruction().getActualCFG();
             for (Branch b2 : loopBranches) {
-                for (BasicBlock parent : CFG.getParents(b.getInstruction().getBasicBlock())) {
+                for (BasicBlock parent : CFG.getParentsView(b.getInstruction().getBasicBlock())) {
                     if (parent.equals(b2.getInstruction().getBasicBlock())) {
                         toRemove.add(b);
                         break;
@@ -101,32 +101,13 @@ public class LoopCounter extends AbstractIndicator {
     /**
      * This method determines whether there is a loop in the CFG with starting point <code>startNode</code>.
      * A loop exists if there exists a path in the CFG that start with <code>startNode</code> and following the
-     * child node we meet again  <code>startNode</code>. In the case such loop exists, this method return  the last node
-     * in the loop (i.e., the one would lead back to the starting point <code>startNode</code>.
+     * child node we meet again  <code>startNode</code>.
      *
-     * @return null if there is no loop startig with startNode;
-     * otherwise it return the last block in the loop (the one just before startNode)
+     * @return true if the basic block of the branch lies on a cycle of its CFG
      */
     protected boolean hasLoop(Branch branch) {
-        Queue<BasicBlock> queue = new LinkedList<>(); //
-        Set<BasicBlock> visited = new HashSet<>();
-
         ActualControlFlowGraph CFG = branch.getInstruction().getActualCFG();
-
-        queue.add(branch.getInstruction().getBasicBlock());
-
-        while (!queue.isEmpty()) {
-            BasicBlock node = queue.poll();
-            visited.add(node);
-            for (BasicBlock child : CFG.getChildren(node)) {
-                if (child.equals(branch.getInstruction().getBasicBlock()))
-                    return true;
-                else if (!visited.contains(child)) {
-                    queue.add(child);
-                }
-            }
-        }
-
-        return false;
+        // the frozen CFG already knows which blocks belong to a strongly connected component
+        return CFG.freeze().isOnCycle(branch.getInstruction().getBasicBlock());
     }
 }
@@ -0,0 +1,41 @@
+package org.evosuite.performance.indicator;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.performance.AbstractIndicator;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testsuite.TestSuiteChromosome;
+
+/**
+ * This class implements a dynamic performance indicator;
+ * It measures the number of loop iterations executed by a test case, as
+ * recorded by the runtime loop counters during its last execution.
+ * Unlike {@link LoopCounter}, it does not need to estimate the loops from
+ * the branch frequencies.
+ */
+public class LoopIterationsCounter extends AbstractIndicator {
+
+    private static String INDICATOR = LoopIterationsCounter.class.getName();
+
+    @Override
+    public double getIndicatorValue(Chromosome test) {
+        if (test instanceof TestSuiteChromosome)
+            throw new IllegalArgumentException("This indicator work at test case level");
+
+        // if the test has already its indicator values, we don't need to re-compute them
+        if (test.getIndicatorValues().keySet().contains(INDICATOR))
+            return test.getIndicatorValue(INDICATOR);
+
+        TestChromosome chromosome = (TestChromosome) test;
+        ExecutionResult result = chromosome.getLastExecutionResult();
+        double iterations = result == null ? 0.0 : result.getTotalLoopIterations();
+
+        test.setIndicatorValues(this.getIndicatorId(), iterations);
+        return iterations;
+    }
+
+    @Override
+    public String getIndicatorId() {
+        return INDICATOR;
+    }
+}
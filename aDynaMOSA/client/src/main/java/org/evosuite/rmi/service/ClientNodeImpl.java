@@ -26,8 +26,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -55,6 +57,7 @@ import org.evosuite.runtime.sandbox.PermissionStatistics;
 import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.ChromosomeSummary;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
@@ -67,6 +70,13 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 
 	private static Logger logger = LoggerFactory.getLogger(ClientNodeImpl.class);
 
+	/**
+	 * How long (in ms) the statistics thread waits after the first output variable
+	 * of a burst, so that all the variables tracked in the meantime are sent to
+	 * the master in a single call
+	 */
+	private static final long STATISTICS_BATCH_WINDOW = 100;
+
 	/**
 	 * The current state/phase in which this client process is (eg, search or assertion generation)
 	 */
@@ -102,6 +112,12 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 
 	private final BlockingQueue<OutputVariable> outputVariableQueue = new LinkedBlockingQueue<OutputVariable>();
 
+	/**
+	 * Held while output variables are drained from the queue and sent, so that
+	 * a flush cannot overtake a batch that is still being sent
+	 */
+	private final Object outputVariableSendLock = new Object();
+
 	private Collection<Set<? extends Chromosome>> bestSolutions;
 	
 	private Thread statisticsThread; 
@@ -272,10 +288,39 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 		}
 	}
 
+	@Override
+	public void updateStatistics(ChromosomeSummary summary) {
+		logger.info("Sending summary of current best individual to master process");
+
+		try {
+			masterNode.evosuite_collectStatistics(clientRmiIdentifier, summary);
+		} catch (RemoteException e) {
+			logger.error("Cannot inform master of change of state", e);
+		}
+	}
+
+	@Override
+	public void updateMetrics(Map<String, Double> metrics) {
+		logger.debug("Sending live metrics to master process");
+
+		try {
+			masterNode.evosuite_collectMetrics(clientRmiIdentifier, metrics);
+		} catch (RemoteException e) {
+			logger.error("Cannot send live metrics to master", e);
+		}
+	}
+
 	@Override
 	public void flushStatisticsForClassChange() {
 		logger.info("Flushing output variables to master process");
 
+		/*
+		 * the master writes the statistics of the current class on flush, so the
+		 * pending batch must be there before, otherwise it would be attributed
+		 * to the next class
+		 */
+		sendPendingOutputVariables();
+
 		try {
 			masterNode.evosuite_flushStatisticsForClassChange(clientRmiIdentifier);
 		} catch (RemoteException e) {
@@ -303,6 +348,9 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 		 * on a queue, and have a privileged thread doing the RMI connection to master
 		 */
 		outputVariableQueue.offer(new OutputVariable(variable, value));
+		synchronized (outputVariableQueue) {
+			outputVariableQueue.notifyAll();
+		}
 	}
 
     @Override
@@ -350,23 +398,18 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 	public void stop(){
 		if(statisticsThread!=null){
 			statisticsThread.interrupt();
-			List<OutputVariable> vars = new ArrayList<OutputVariable>();
-			outputVariableQueue.drainTo(vars);
-			for(OutputVariable ov : vars) {
-				try {
-					masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
-				} catch (RemoteException e) {
-					logger.error("Error when exporting statistics: "+ov.variable+"="+ov.value, e);
-					break;
-				}
-			}
-
+			/*
+			 * the thread sends what is queued before terminating, wait for it
+			 * and then send anything tracked in the meantime
+			 */
 			try {
 				statisticsThread.join(3000);
 			} catch (InterruptedException e) {
 				logger.error("Failed to stop statisticsThread in time");
 			}
 			statisticsThread = null;
+
+			sendPendingOutputVariables();
 		}
 
 		changeState(ClientState.FINISHED);
@@ -384,14 +427,23 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 				@Override
 				public void run() {
 					while (!this.isInterrupted()) {
-						OutputVariable ov = null;
 						try {
-							ov = outputVariableQueue.take(); //this is blocking
-							masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
+							synchronized (outputVariableQueue) {
+								while (outputVariableQueue.isEmpty()) {
+									outputVariableQueue.wait(); //this is blocking
+								}
+							}
+							/*
+							 * variables are typically tracked in bursts, eg at the end of the
+							 * search, so wait a bit and send all of them in one RMI call.
+							 * They stay in the queue meanwhile, so that a flush can send them
+							 */
+							Thread.sleep(STATISTICS_BATCH_WINDOW);
 						} catch (InterruptedException e) {
+							sendPendingOutputVariables();
 							break;
-						} catch (RemoteException e) {
-							logger.error("Error when exporting statistics: "+ov.variable+"="+ov.value, e);
+						}
+						if (!sendPendingOutputVariables()) {
 							break;
 						}
 					}
@@ -408,6 +460,44 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 		return true;
 	}
 
+	/**
+	 * Drain all queued output variables and send them to the master.
+	 * Returns only once they have been sent, also if the statistics thread
+	 * was sending a batch at the same time.
+	 * 
+	 * @return false if the master could not be reached
+	 */
+	protected boolean sendPendingOutputVariables() {
+		synchronized (outputVariableSendLock) {
+			List<OutputVariable> vars = new ArrayList<OutputVariable>();
+			outputVariableQueue.drainTo(vars);
+			return sendOutputVariables(vars);
+		}
+	}
+
+	/**
+	 * Send the given output variables to the master in a single call.
+	 * Only the latest value of a variable tracked several times is sent.
+	 * 
+	 * @return false if the master could not be reached
+	 */
+	private boolean sendOutputVariables(List<OutputVariable> vars) {
+		if (vars.isEmpty()) {
+			return true;
+		}
+		Map<RuntimeVariable, Object> variables = new LinkedHashMap<RuntimeVariable, Object>();
+		for (OutputVariable ov : vars) {
+			variables.put(ov.variable, ov.value);
+		}
+		try {
+			masterNode.evosuite_collectStatistics(clientRmiIdentifier, variables);
+			return true;
+		} catch (RemoteException e) {
+			logger.error("Error when exporting statistics: " + variables, e);
+			return false;
+		}
+	}
+
 	public String getClientRmiIdentifier() {
 		return clientRmiIdentifier;
 	}
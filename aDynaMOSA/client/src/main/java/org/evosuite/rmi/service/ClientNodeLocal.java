@@ -20,10 +20,12 @@
 package org.evosuite.rmi.service;
 
 import org.evosuite.ga.Chromosome;
+import org.evosuite.statistics.ChromosomeSummary;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.utils.Listenable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -45,6 +47,18 @@ public interface ClientNodeLocal extends Listenable<Set<? extends Chromosome>> {
 
 	public void updateStatistics(Chromosome individual);
 
+	/**
+	 * Send a compact summary of the current best individual, instead of
+	 * the individual itself
+	 */
+	public void updateStatistics(ChromosomeSummary summary);
+
+	/**
+	 * Send the current values of the live metrics of the search,
+	 * see {@link org.evosuite.statistics.SearchMetrics}
+	 */
+	public void updateMetrics(Map<String, Double> metrics);
+
 	public void flushStatisticsForClassChange();
 
 	public void updateProperty(String propertyName, Object value);
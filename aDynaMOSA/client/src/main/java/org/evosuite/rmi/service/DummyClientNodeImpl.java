@@ -21,8 +21,10 @@ package org.evosuite.rmi.service;
 
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
+import java.util.Map;
 
 import org.evosuite.ga.Chromosome;
+import org.evosuite.statistics.ChromosomeSummary;
 import org.evosuite.statistics.RuntimeVariable;
 
 public class DummyClientNodeImpl extends ClientNodeImpl {
@@ -61,6 +63,16 @@ public class DummyClientNodeImpl extends ClientNodeImpl {
 		
 	}
 
+	@Override
+	public void updateStatistics(ChromosomeSummary summary) {
+
+	}
+
+	@Override
+	public void updateMetrics(Map<String, Double> metrics) {
+
+	}
+
 	@Override
 	public void trackOutputVariable(RuntimeVariable name, Object value) {
 		// TODO Auto-generated method stub
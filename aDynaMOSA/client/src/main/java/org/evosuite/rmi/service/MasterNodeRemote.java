@@ -22,11 +22,13 @@ package org.evosuite.rmi.service;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.evosuite.Properties.NoSuchParameterException;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.result.TestGenerationResult;
+import org.evosuite.statistics.ChromosomeSummary;
 import org.evosuite.statistics.RuntimeVariable;
 
 /**
@@ -49,8 +51,22 @@ public interface MasterNodeRemote extends Remote {
 	
 	public void evosuite_collectStatistics(String clientRmiIdentifier, Chromosome individual) throws RemoteException;
 
+	public void evosuite_collectStatistics(String clientRmiIdentifier, ChromosomeSummary summary) throws RemoteException;
+
 	public void evosuite_collectStatistics(String clientRmiIdentifier, RuntimeVariable variable, Object value) throws RemoteException;
 
+	/**
+	 * Send several output variables in a single call. If a variable was tracked
+	 * more than once, only its latest value is expected to be in the map
+	 */
+	public void evosuite_collectStatistics(String clientRmiIdentifier, Map<RuntimeVariable, Object> variables) throws RemoteException;
+
+	/**
+	 * Send the current values of the live metrics of a client. Each call
+	 * replaces the values previously sent by the same client
+	 */
+	public void evosuite_collectMetrics(String clientRmiIdentifier, Map<String, Double> metrics) throws RemoteException;
+
 	public void evosuite_collectTestGenerationResult(String clientRmiIdentifier, List<TestGenerationResult> results) throws RemoteException;
 
 	public void evosuite_flushStatisticsForClassChange(String clientRmiIdentifier) throws RemoteException;
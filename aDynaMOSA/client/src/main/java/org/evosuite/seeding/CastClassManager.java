@@ -45,10 +45,17 @@ import org.slf4j.LoggerFactory;
 
 import com.googlecode.gentyref.GenericTypeReflector;
 
+/**
+ * Classes to use where a generic type or Object is needed. Selecting a class
+ * can add new ones, so threads building tests next to the search thread use a
+ * view of their own, see {@link #setThreadView(CastClassManager)}.
+ */
 public class CastClassManager {
 
 	private static CastClassManager instance = new CastClassManager();
 
+	private static final ThreadLocal<CastClassManager> threadView = new ThreadLocal<>();
+
 	private static final Logger logger = LoggerFactory.getLogger(CastClassManager.class);
 
 	private final Map<GenericClass, Integer> classMap = new LinkedHashMap<GenericClass, Integer>();
@@ -92,6 +99,10 @@ public class CastClassManager {
 		initDefaultClasses();
 	}
 
+	private CastClassManager(CastClassManager manager) {
+		classMap.putAll(manager.classMap);
+	}
+
 	private void initDefaultClasses() {
 		classMap.put(new GenericClass(Object.class), 0);
 		classMap.put(new GenericClass(String.class), 1);
@@ -99,9 +110,32 @@ public class CastClassManager {
 	}
 
 	public static CastClassManager getInstance() {
+		CastClassManager view = threadView.get();
+		if (view != null)
+			return view;
 		return instance;
 	}
 
+	/**
+	 * @return a copy of the cast classes, to be changed independently of
+	 *         these
+	 */
+	public CastClassManager createView() {
+		return new CastClassManager(this);
+	}
+
+	/**
+	 * Make {@link #getInstance()} return the given view on the current thread,
+	 * until {@link #clearThreadView()} is called
+	 */
+	public static void setThreadView(CastClassManager view) {
+		threadView.set(view);
+	}
+
+	public static void clearThreadView() {
+		threadView.remove();
+	}
+
 	public void addCastClass(String className, int depth) {
 		try {
 			Class<?> clazz = TestGenerationContext.getInstance().getClassLoaderForSUT().loadClass(className);
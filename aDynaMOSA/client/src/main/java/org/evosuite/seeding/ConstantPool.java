@@ -91,8 +91,9 @@ public interface ConstantPool {
 	 * 
 	 * @param object
 	 *            a {@link java.lang.Object} object.
+	 * @return false if the value was not kept or was already in the pool
 	 */
-	public void add(Object object);
+	public boolean add(Object object);
 	
 	public String toString();
 }
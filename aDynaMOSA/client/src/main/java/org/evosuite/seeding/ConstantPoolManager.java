@@ -22,6 +22,8 @@
  */
 package org.evosuite.seeding;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.evosuite.Properties;
 import org.evosuite.utils.Randomness;
 
@@ -36,6 +38,15 @@ public class ConstantPoolManager {
 	private ConstantPool[] pools;
 	private double[] probabilities;
 
+	/** Number of constants reported by the SUT at runtime, which can come from any thread */
+	private final AtomicLong dynamicConstants = new AtomicLong();
+
+	/** Number of those constants that the dynamic pool already had */
+	private final AtomicLong dynamicPoolHits = new AtomicLong();
+
+	/** Number of those constants that the dynamic pool does not keep, e.g., too long strings */
+	private final AtomicLong rejectedDynamicConstants = new AtomicLong();
+
 	/*
 	 * We treat it in a special way, for now, just for making experiments
 	 * easier to run
@@ -56,16 +67,21 @@ public class ConstantPoolManager {
 		}
 
 		initDefaultProbabilities();
+		dynamicConstants.set(0);
+		dynamicPoolHits.set(0);
+		rejectedDynamicConstants.set(0);
 	}
 
 	private void initDefaultProbabilities() {
 		probabilities = new double[pools.length];
+		// a dynamic pool of size 0 stays empty, so it cannot provide constants
+		double dynamicPool = Properties.DYNAMIC_POOL_SIZE > 0 ? Properties.DYNAMIC_POOL : 0d;
 //		double p = 1d / probabilities.length;
-		double p = (1d - Properties.DYNAMIC_POOL) / (probabilities.length - 1);
+		double p = (1d - dynamicPool) / (probabilities.length - 1);
 		for (int i = 0; i < probabilities.length; i++) {
 			probabilities[i] = p;
 		}
-		probabilities[DYNAMIC_POOL_INDEX] = Properties.DYNAMIC_POOL;
+		probabilities[DYNAMIC_POOL_INDEX] = dynamicPool;
 		normalizeProbabilities();
 	}
 
@@ -99,7 +115,12 @@ public class ConstantPoolManager {
 	}
 
 	public void addDynamicConstant(Object value) {
-		pools[DYNAMIC_POOL_INDEX].add(value);
+		dynamicConstants.incrementAndGet();
+		if (!DynamicConstantPool.isKept(value)) {
+			rejectedDynamicConstants.incrementAndGet();
+		} else if (!pools[DYNAMIC_POOL_INDEX].add(value)) {
+			dynamicPoolHits.incrementAndGet();
+		}
 	}
 
 	public ConstantPool getConstantPool() {
@@ -121,6 +142,30 @@ public class ConstantPoolManager {
 		return pools[DYNAMIC_POOL_INDEX];
 	}
 
+	/**
+	 * @return the number of constants observed at runtime since the last reset
+	 */
+	public long getNumberOfDynamicConstants() {
+		return dynamicConstants.get();
+	}
+
+	/**
+	 * @return the number of constants observed at runtime since the last reset that the
+	 *         dynamic pool does not keep
+	 */
+	public long getNumberOfRejectedDynamicConstants() {
+		return rejectedDynamicConstants.get();
+	}
+
+	/**
+	 * @return the fraction of the constants kept by the dynamic pool since the last reset
+	 *         that were already in it, 0 if there were none
+	 */
+	public double getDynamicPoolHitRate() {
+		long constants = dynamicConstants.get() - rejectedDynamicConstants.get();
+		return constants <= 0 ? 0d : (double) dynamicPoolHits.get() / constants;
+	}
+
 	public void reset() {
 		init();
 	}
@@ -110,61 +110,56 @@ public class DynamicConstantPool implements ConstantPool {
 	 * @see org.evosuite.primitives.ConstantPool#add(java.lang.Object)
 	 */
 	@Override
-	public void add(Object object) {
+	public boolean add(Object object) {
+		if (!isKept(object))
+			return false;
+
+		if (object instanceof String) {
+			return stringPool.restrictedAdd((String) object);
+		} else if (object instanceof Type) {
+			return typePool.restrictedAdd((Type) object);
+		} else if (object instanceof Integer) {
+			return intPool.restrictedAdd((Integer) object);
+		} else if (object instanceof Long) {
+			return longPool.restrictedAdd((Long) object);
+		} else if (object instanceof Float) {
+			return floatPool.restrictedAdd((Float) object);
+		} else {
+			return doublePool.restrictedAdd((Double) object);
+		}
+	}
+
+	/**
+	 * Whether a dynamic pool keeps the given value at all, i.e., whether adding
+	 * it can change the pool
+	 * 
+	 * @param object
+	 *            a value observed at runtime
+	 * @return false for null, values of unsupported types, too long strings and,
+	 *         if the pool is restricted, too large numbers
+	 */
+	public static boolean isKept(Object object) {
 		// We don't add null because this is explicitly handled in the TestFactory
 		if (object == null)
-			return;
+			return false;
 
 		if (object instanceof String) {
 			String string = (String) object;
-			if(string.length() > Properties.MAX_STRING)
-				return;
 			// String literals are constrained to 65535 bytes 
 			// as they are stored in the constant pool
-			if (string.length() > 65535)
-				return;
-			stringPool.restrictedAdd(string);
+			return string.length() <= Properties.MAX_STRING && string.length() <= 65535;
 		} else if (object instanceof Type) {
-			typePool.restrictedAdd((Type) object);
-		}
-
-		else if (object instanceof Integer) {
-			if (Properties.RESTRICT_POOL) {
-				int val = (Integer) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					intPool.restrictedAdd((Integer) object);
-				}
-			} else {
-				intPool.restrictedAdd((Integer) object);
-			}
+			return true;
+		} else if (object instanceof Integer) {
+			return !Properties.RESTRICT_POOL || Math.abs((Integer) object) < Properties.MAX_INT;
 		} else if (object instanceof Long) {
-			if (Properties.RESTRICT_POOL) {
-				long val = (Long) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					longPool.restrictedAdd((Long) object);
-				}
-			} else {
-				longPool.restrictedAdd((Long) object);
-			}
+			return !Properties.RESTRICT_POOL || Math.abs((Long) object) < Properties.MAX_INT;
 		} else if (object instanceof Float) {
-			if (Properties.RESTRICT_POOL) {
-				float val = (Float) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					floatPool.restrictedAdd((Float) object);
-				}
-			} else {
-				floatPool.restrictedAdd((Float) object);
-			}
+			return !Properties.RESTRICT_POOL || Math.abs((Float) object) < Properties.MAX_INT;
 		} else if (object instanceof Double) {
-			if (Properties.RESTRICT_POOL) {
-				double val = (Double) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					doublePool.restrictedAdd((Double) object);
-				}
-			} else {
-				doublePool.restrictedAdd((Double) object);
-			}
+			return !Properties.RESTRICT_POOL || Math.abs((Double) object) < Properties.MAX_INT;
 		}
+		return false;
 	}
 
 	@Override
@@ -106,60 +106,22 @@ public class DynamicConstantVariableProbabilityPool implements ConstantPool {
      * @see org.evosuite.primitives.ConstantPool#add(java.lang.Object)
      */
     @Override
-    public void add(Object object) {
-        // We don't add null because this is explicitly handled in the TestFactory
-        if (object == null)
-            return;
+    public boolean add(Object object) {
+        if (!DynamicConstantPool.isKept(object))
+            return false;
 
         if (object instanceof String) {
-            String string = (String) object;
-            if(string.length() > Properties.MAX_STRING)
-                return;
-            // String literals are constrained to 65535 bytes
-            // as they are stored in the constant pool
-            if (string.length() > 65535)
-                return;
-            stringPool.restrictedAdd(string);
+            return stringPool.restrictedAdd((String) object);
         } else if (object instanceof Type) {
-            typePool.restrictedAdd((Type) object);
-        }
-
-        else if (object instanceof Integer) {
-            if (Properties.RESTRICT_POOL) {
-                int val = (Integer) object;
-                if (Math.abs(val) < Properties.MAX_INT) {
-                    intPool.restrictedAdd((Integer) object);
-                }
-            } else {
-                intPool.restrictedAdd((Integer) object);
-            }
+            return typePool.restrictedAdd((Type) object);
+        } else if (object instanceof Integer) {
+            return intPool.restrictedAdd((Integer) object);
         } else if (object instanceof Long) {
-            if (Properties.RESTRICT_POOL) {
-                long val = (Long) object;
-                if (Math.abs(val) < Properties.MAX_INT) {
-                    longPool.restrictedAdd((Long) object);
-                }
-            } else {
-                longPool.restrictedAdd((Long) object);
-            }
+            return longPool.restrictedAdd((Long) object);
         } else if (object instanceof Float) {
-            if (Properties.RESTRICT_POOL) {
-                float val = (Float) object;
-                if (Math.abs(val) < Properties.MAX_INT) {
-                    floatPool.restrictedAdd((Float) object);
-                }
-            } else {
-                floatPool.restrictedAdd((Float) object);
-            }
-        } else if (object instanceof Double) {
-            if (Properties.RESTRICT_POOL) {
-                double val = (Double) object;
-                if (Math.abs(val) < Properties.MAX_INT) {
-                    doublePool.restrictedAdd((Double) object);
-                }
-            } else {
-                doublePool.restrictedAdd((Double) object);
-            }
+            return floatPool.restrictedAdd((Float) object);
+        } else {
+            return doublePool.restrictedAdd((Double) object);
         }
     }
 
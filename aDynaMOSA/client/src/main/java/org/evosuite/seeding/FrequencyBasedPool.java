@@ -35,12 +35,18 @@ public class FrequencyBasedPool<T> {
 
     private int numConstants = 0;
 
-    public void addConstant(T value) {
+    /**
+     * @return false if the value was already in the pool
+     */
+    public boolean addConstant(T value) {
         numConstants++;
-        if (!constants.containsKey(value))
+        if (!constants.containsKey(value)) {
             constants.put(value, 1);
-        else
+            return true;
+        } else {
             constants.put(value, constants.get(value) + 1);
+            return false;
+        }
     }
 
     public void removeConstant(T value) {
@@ -38,10 +38,11 @@ public class FrequencyBasedRandomAccessQueue<T> implements RandomAccessQueue<T>
      * @see org.evosuite.primitives.RandomAccessQueue#restrictedAdd(java.lang.Object)
      */
     @Override
-    public void restrictedAdd(T value) {
-        values.addConstant(value);
+    public boolean restrictedAdd(T value) {
+        boolean added = values.addConstant(value);
         queue.add(value);
         reduceSize();
+        return added;
     }
 
     private void reduceSize() {
@@ -154,67 +154,68 @@ public class StaticConstantPool implements ConstantPool {
 	 *            a {@link java.lang.Object} object.
 	 */
 	@Override
-	public void add(Object object) {
+	public boolean add(Object object) {
 		// We don't add null because this is explicitly handled in the TestFactory
 		if (object == null)
-			return;
+			return false;
 
 		if (object instanceof String) {
 			String string = (String) object;
 			if(string.length() > Properties.MAX_STRING)
-				return;
+				return false;
 			// String literals are constrained to 65535 bytes 
 			// as they are stored in the constant pool
 			if (string.length() > 65535)
-				return;
-			stringPool.add(string);
+				return false;
+			return stringPool.add(string);
 		} else if (object instanceof Type) {
 			while (((Type) object).getSort() == Type.ARRAY) {
 				object = ((Type) object).getElementType();
 			}
-			typePool.add((Type) object);
+			return typePool.add((Type) object);
 		}
 
 		else if (object instanceof Integer) {
 			if (Properties.RESTRICT_POOL) {
 				int val = (Integer) object;
 				if (Math.abs(val) < Properties.MAX_INT) {
-					intPool.add((Integer) object);
+					return intPool.add((Integer) object);
 				}
 			} else {
-				intPool.add((Integer) object);
+				return intPool.add((Integer) object);
 			}
 		} else if (object instanceof Long) {
 			if (Properties.RESTRICT_POOL) {
 				long val = (Long) object;
 				if (Math.abs(val) < Properties.MAX_INT) {
-					longPool.add((Long) object);
+					return longPool.add((Long) object);
 				}
 			} else {
-				longPool.add((Long) object);
+				return longPool.add((Long) object);
 			}
 		} else if (object instanceof Float) {
 			if (Properties.RESTRICT_POOL) {
 				float val = (Float) object;
 				if (Math.abs(val) < Properties.MAX_INT) {
-					floatPool.add((Float) object);
+					return floatPool.add((Float) object);
 				}
 			} else {
-				floatPool.add((Float) object);
+				return floatPool.add((Float) object);
 			}
 		} else if (object instanceof Double) {
 			if (Properties.RESTRICT_POOL) {
 				double val = (Double) object;
 				if (Math.abs(val) < Properties.MAX_INT) {
-					doublePool.add((Double) object);
+					return doublePool.add((Double) object);
 				}
 			} else {
-				doublePool.add((Double) object);
+				return doublePool.add((Double) object);
 			}
 		} else {
 			LoggingUtils.getEvoLogger().info("Constant of unknown type: "
 			                                         + object.getClass());
 		}
+		return false;
 	}
 
 }
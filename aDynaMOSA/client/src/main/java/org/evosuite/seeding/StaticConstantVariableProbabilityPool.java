@@ -145,67 +145,68 @@ public class StaticConstantVariableProbabilityPool implements ConstantPool {
      *            a {@link java.lang.Object} object.
      */
     @Override
-    public void add(Object object) {
+    public boolean add(Object object) {
         // We don't add null because this is explicitly handled in the TestFactory
         if (object == null)
-            return;
+            return false;
 
         if (object instanceof String) {
             String string = (String) object;
             if(string.length() > Properties.MAX_STRING)
-                return;
+                return false;
             // String literals are constrained to 65535 bytes
             // as they are stored in the constant pool
             if (string.length() > 65535)
-                return;
-            stringPool.addConstant(string);
+                return false;
+            return stringPool.addConstant(string);
         } else if (object instanceof Type) {
             while (((Type) object).getSort() == Type.ARRAY) {
                 object = ((Type) object).getElementType();
             }
-            typePool.addConstant((Type) object);
+            return typePool.addConstant((Type) object);
         }
 
         else if (object instanceof Integer) {
             if (Properties.RESTRICT_POOL) {
                 int val = (Integer) object;
                 if (Math.abs(val) < Properties.MAX_INT) {
-                    intPool.addConstant((Integer) object);
+                    return intPool.addConstant((Integer) object);
                 }
             } else {
-                intPool.addConstant((Integer) object);
+                return intPool.addConstant((Integer) object);
             }
         } else if (object instanceof Long) {
             if (Properties.RESTRICT_POOL) {
                 long val = (Long) object;
                 if (Math.abs(val) < Properties.MAX_INT) {
-                    longPool.addConstant((Long) object);
+                    return longPool.addConstant((Long) object);
                 }
             } else {
-                longPool.addConstant((Long) object);
+                return longPool.addConstant((Long) object);
             }
         } else if (object instanceof Float) {
             if (Properties.RESTRICT_POOL) {
                 float val = (Float) object;
                 if (Math.abs(val) < Properties.MAX_INT) {
-                    floatPool.addConstant((Float) object);
+                    return floatPool.addConstant((Float) object);
                 }
             } else {
-                floatPool.addConstant((Float) object);
+                return floatPool.addConstant((Float) object);
             }
         } else if (object instanceof Double) {
             if (Properties.RESTRICT_POOL) {
                 double val = (Double) object;
                 if (Math.abs(val) < Properties.MAX_INT) {
-                    doublePool.addConstant((Double) object);
+                    return doublePool.addConstant((Double) object);
                 }
             } else {
-                doublePool.addConstant((Double) object);
+                return doublePool.addConstant((Double) object);
             }
         } else {
             LoggingUtils.getEvoLogger().info("Constant of unknown type: "
                     + object.getClass());
         }
+        return false;
     }
 
 }
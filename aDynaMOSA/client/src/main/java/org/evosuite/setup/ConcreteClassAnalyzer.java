@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConcreteClassAnalyzer {
 
@@ -47,7 +48,8 @@ public class ConcreteClassAnalyzer {
     }
 
 
-    private Map<Class<?>, Set<Class<?>>> cache = new LinkedHashMap<>();
+    // concurrent, as tests can be built on several threads; a value might be computed twice
+    private Map<Class<?>, Set<Class<?>>> cache = new ConcurrentHashMap<>();
 
     public void clear() {
         cache.clear();
@@ -55,8 +57,9 @@ public class ConcreteClassAnalyzer {
 
     public Set<Class<?>> getConcreteClasses(Class<?> clazz,
                                             InheritanceTree inheritanceTree) {
-        if(cache.containsKey(clazz))
-            return cache.get(clazz);
+        Set<Class<?>> cached = cache.get(clazz);
+        if(cached != null)
+            return cached;
 
         Set<Class<?>> classes = getConcreteClassesImpl(clazz, inheritanceTree);
         cache.put(clazz, classes);
@@ -24,6 +24,7 @@ package org.evosuite.setup;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.evosuite.classpath.ResourceList;
 import org.evosuite.utils.LoggingUtils;
@@ -42,7 +43,8 @@ public class InheritanceTree {
 
     private static Logger logger = LoggerFactory.getLogger(InheritanceTree.class);
 
-	private final Map<String, Set<String>> subclassCache = new LinkedHashMap<String, Set<String>>();
+	// concurrent, as tests can be built on several threads
+	private final Map<String, Set<String>> subclassCache = new ConcurrentHashMap<String, Set<String>>();
 
 	private  Set<String> interfacesSet = new LinkedHashSet<>();
 	private  Set<String> abstractClassesSet = new LinkedHashSet<>();
@@ -137,8 +139,9 @@ public class InheritanceTree {
 	public Set<String> getSubclasses(String className) {
 		String classNameWithDots = ResourceList.getClassNameFromResourcePath(className);
 
-		if (subclassCache.containsKey(classNameWithDots))
-			return subclassCache.get(classNameWithDots);
+		Set<String> cached = subclassCache.get(classNameWithDots);
+		if (cached != null)
+			return cached;
 
 		if (!inheritanceGraph.containsVertex(classNameWithDots)) {
             LoggingUtils.logWarnAtMostOnce(logger, "Class not in inheritance graph: " + classNameWithDots);
@@ -46,11 +46,17 @@ import org.evosuite.utils.generic.GenericAccessibleObject;
 import org.evosuite.utils.generic.GenericClass;
 import org.evosuite.utils.generic.GenericConstructor;
 import org.evosuite.utils.generic.GenericMethod;
+import org.evosuite.utils.generic.GenericTypeCache;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Generators and modifiers are cached when first requested, so looking them
+ * up changes the cluster. Threads building tests next to the search thread
+ * (e.g., for the initial population) therefore work on a view of their own,
+ * see {@link #setThreadView(TestCluster)}.
+ *
  * @author Gordon Fraser
  *
  */
@@ -62,12 +68,29 @@ public class TestCluster {
 	/** Singleton instance */
 	private static TestCluster instance = null;
 
+	/** View of the cluster used by the current thread instead of the singleton */
+	private static final ThreadLocal<TestCluster> threadView = new ThreadLocal<>();
+
 	/** Set of all classes already analyzed */
 	@Deprecated
-	private final static Set<Class<?>> analyzedClasses = new LinkedHashSet<>();
+	private final Set<Class<?>> analyzedClasses;
 
 	/** UUT methods we want to cover when testing */
-	private final static Set<GenericAccessibleObject<?>> testMethods = new LinkedHashSet<>();
+	private final Set<GenericAccessibleObject<?>> testMethods;
+
+	/**
+	 * Test calls in the order used for selection (ie sorted by remaining goals if
+	 * {@link Properties#SORT_CALLS} is on), with and without constructors.
+	 * They are only rebuilt when the test calls or the goals left in the archive change,
+	 * see {@link #updateCandidateTestCalls()}
+	 */
+	private final List<GenericAccessibleObject<?>> candidateTestCalls = new ArrayList<>();
+	private final List<GenericAccessibleObject<?>> candidateNonConstructorTestCalls = new ArrayList<>();
+
+	private boolean candidateTestCallsValid = false;
+	private boolean candidateTestCallsSorted = false;
+	private Archive<?, ?> candidateTestCallsArchive = null;
+	private int candidateTestCallsArchiveVersion = 0;
 
 	/**
 	 * Methods used to modify and set the environment of the UUT
@@ -75,13 +98,13 @@ public class TestCluster {
 	private final Set<GenericAccessibleObject<?>> environmentMethods;
 
 	/** Static information about how to generate types */
-	private final static Map<GenericClass, Set<GenericAccessibleObject<?>>> generators = new LinkedHashMap<>();
+	private final Map<GenericClass, Set<GenericAccessibleObject<?>>> generators;
 
 	/** Cached information about how to generate types */
-	private final static Map<GenericClass, Set<GenericAccessibleObject<?>>> generatorCache = new LinkedHashMap<>();
+	private final Map<GenericClass, Set<GenericAccessibleObject<?>>> generatorCache;
 
 	/** Static information about how to modify types */
-	private final static Map<GenericClass, Set<GenericAccessibleObject<?>>> modifiers = new LinkedHashMap<>();
+	private final Map<GenericClass, Set<GenericAccessibleObject<?>>> modifiers;
 
 	private static InheritanceTree inheritanceTree = null;
 
@@ -92,14 +115,50 @@ public class TestCluster {
     protected TestCluster(){
         environmentAugmenter = new EnvironmentTestClusterAugmenter(this);
 		environmentMethods = new LinkedHashSet<>();
+		analyzedClasses = new LinkedHashSet<>();
+		testMethods = new LinkedHashSet<>();
+		generators = new LinkedHashMap<>();
+		generatorCache = new LinkedHashMap<>();
+		modifiers = new LinkedHashMap<>();
     }
 
+	/**
+	 * Copy of the given cluster, sharing the calls but none of the
+	 * collections, so that either can be changed without affecting the other
+	 */
+	private TestCluster(TestCluster cluster) {
+		environmentAugmenter = new EnvironmentTestClusterAugmenter(this);
+		environmentMethods = new LinkedHashSet<>(cluster.environmentMethods);
+		analyzedClasses = new LinkedHashSet<>(cluster.analyzedClasses);
+		testMethods = new LinkedHashSet<>(cluster.testMethods);
+		generators = copyCalls(cluster.generators);
+		generatorCache = copyCalls(cluster.generatorCache);
+		modifiers = copyCalls(cluster.modifiers);
+	}
+
+	private static Map<GenericClass, Set<GenericAccessibleObject<?>>> copyCalls(
+	        Map<GenericClass, Set<GenericAccessibleObject<?>>> calls) {
+		Map<GenericClass, Set<GenericAccessibleObject<?>>> copy = new LinkedHashMap<>();
+		for (Map.Entry<GenericClass, Set<GenericAccessibleObject<?>>> entry : calls.entrySet()) {
+			copy.put(entry.getKey(), new LinkedHashSet<>(entry.getValue()));
+		}
+		return copy;
+	}
+
 	/**
 	 * Instance accessor
 	 *
-	 * @return
+	 * @return the view set for the current thread, if any, or the singleton
 	 */
-	public static synchronized TestCluster getInstance() {
+	public static TestCluster getInstance() {
+		TestCluster view = threadView.get();
+		if (view != null) {
+			return view;
+		}
+		return getSharedInstance();
+	}
+
+	private static synchronized TestCluster getSharedInstance() {
 		if (instance == null) {
 			instance = new TestCluster();
 		}
@@ -110,16 +169,45 @@ public class TestCluster {
 	}
 
 	public static void reset() {
-		analyzedClasses.clear();
-		testMethods.clear();
-		generators.clear();
-		generatorCache.clear();
-		modifiers.clear();
+		if (instance != null) {
+			instance.analyzedClasses.clear();
+			instance.testMethods.clear();
+			instance.candidateTestCallsValid = false;
+			instance.generators.clear();
+			instance.generatorCache.clear();
+			instance.modifiers.clear();
+		}
 		CastClassManager.getInstance().clear();
+		GenericTypeCache.getInstance().clear();
 
 		instance = null;
 	}
 
+	/**
+	 * A copy of the cluster, e.g. for a thread to build tests with while the
+	 * shared cluster is left as it is. It must be taken before the threads
+	 * using it are started.
+	 *
+	 * @return
+	 */
+	public TestCluster createView() {
+		return new TestCluster(this);
+	}
+
+	/**
+	 * Make {@link #getInstance()} return the given view on the current thread,
+	 * until {@link #clearThreadView()} is called
+	 *
+	 * @param view
+	 */
+	public static void setThreadView(TestCluster view) {
+		threadView.set(view);
+	}
+
+	public static void clearThreadView() {
+		threadView.remove();
+	}
+
 	/**
 	 * A generator for X might be a non-static method M of Y, but what if Y itself has no generator?
 	 * In that case, M should not be a generator for X, as it is impossible to instantiate Y
@@ -365,10 +453,12 @@ public class TestCluster {
 	public void addTestCall(GenericAccessibleObject<?> call) throws IllegalArgumentException{
 		Inputs.checkNull(call);
 		testMethods.add(call);
+		candidateTestCallsValid = false;
 	}
 
 	public void removeTestCall(GenericAccessibleObject<?> call) {
 		testMethods.remove(call);
+		candidateTestCallsValid = false;
 	}
 
 
@@ -1221,17 +1311,7 @@ public class TestCluster {
 		return test.hasObject(Properties.getInitializedTargetClass(), test.size());
 	}
 
-	/**
-	 * Remove all calls that are constructors
-	 *
-	 * @param testMethods
-	 * @return
-	 */
-	private List<GenericAccessibleObject<?>> filterConstructors(List<GenericAccessibleObject<?>> testMethods) {
-		return testMethods.stream().filter(call -> !call.isConstructor()).collect(Collectors.toList());
-	}
-
-	private String getKey(GenericAccessibleObject<?> call) {
+	private static String getKey(GenericAccessibleObject<?> call) {
 		String name = call.getDeclaringClass().getCanonicalName();
 		if(call.isMethod()) {
 			GenericMethod method = (GenericMethod)call;
@@ -1246,34 +1326,64 @@ public class TestCluster {
 	}
 
 	/**
-	 * Sort by remaining uncovered goals to bias search towards most rewarding methods
-	 *
-	 * @param testMethods
-	 * @return
+	 * Rebuild the candidate test calls if the test calls, or the remaining goals in
+	 * the archive when sorting calls, have changed since they were last computed
 	 */
-	private List<GenericAccessibleObject<?>> sortCalls(List<GenericAccessibleObject<?>> testMethods) {
-
-		// TODO: This can be done more efficiently, but we're just trying to see if this makes a difference at all
-		Map<GenericAccessibleObject<?>, String> mapCallToName  = new LinkedHashMap<>();
-		for(GenericAccessibleObject<?> call : testMethods) {
-			String name = call.getDeclaringClass().getCanonicalName();
-			if(call.isMethod()) {
-				GenericMethod method = (GenericMethod)call;
-				name += method.getNameWithDescriptor();
-			} else if(call.isConstructor()) {
-				GenericConstructor constructor = (GenericConstructor)call;
-				name += constructor.getNameWithDescriptor();
-			} else {
-				throw new RuntimeException("Coverage goals must be methods or constructors");
+	private void updateCandidateTestCalls() {
+		boolean sort = Properties.SORT_CALLS;
+		Archive<?, ?> archive = sort ? Archive.getArchiveInstance() : null;
+
+		if(candidateTestCallsValid && candidateTestCallsSorted == sort) {
+			if(!sort || (archive == candidateTestCallsArchive
+					&& archive.getNonCoveredTargetsVersion() == candidateTestCallsArchiveVersion)) {
+				return;
+			}
+		}
+
+		candidateTestCalls.clear();
+		candidateTestCalls.addAll(testMethods);
+
+		if(sort) {
+			sortCalls(candidateTestCalls, archive);
+			candidateTestCallsArchive = archive;
+			candidateTestCallsArchiveVersion = archive.getNonCoveredTargetsVersion();
+		} else {
+			candidateTestCallsArchive = null;
+		}
+
+		candidateNonConstructorTestCalls.clear();
+		for(GenericAccessibleObject<?> call : candidateTestCalls) {
+			if(!call.isConstructor()) {
+				candidateNonConstructorTestCalls.add(call);
 			}
-			mapCallToName.put(call, name);
 		}
-		Map<String, Integer> mapMethodToGoals = new LinkedHashMap<>();
-		for(String methodName : mapCallToName.values()) {
+
+		candidateTestCallsSorted = sort;
+		candidateTestCallsValid = true;
+	}
+
+	/**
+	 * @return the calls {@link #getRandomTestCall(TestCase)} currently chooses from, in order
+	 */
+	List<GenericAccessibleObject<?>> getCandidateTestCalls() {
+		updateCandidateTestCalls();
+		return Collections.unmodifiableList(candidateTestCalls);
+	}
+
+	/**
+	 * Sort by remaining uncovered goals to bias search towards most rewarding methods.
+	 * The sort is stable, so calls with the same number of goals keep their order
+	 *
+	 * @param calls
+	 * @param archive
+	 */
+	private static void sortCalls(List<GenericAccessibleObject<?>> calls, Archive<?, ?> archive) {
+		Map<GenericAccessibleObject<?>, Integer> mapCallToGoals = new LinkedHashMap<>();
+		for(GenericAccessibleObject<?> call : calls) {
 			// MethodKey is class+method+desc
-			mapMethodToGoals.put(methodName, Archive.getArchiveInstance().getNumOfRemainingTargets(methodName));
+			mapCallToGoals.put(call, archive.getNumOfRemainingTargets(getKey(call)));
 		}
-		return testMethods.stream().sorted(Comparator.comparingInt(item -> mapMethodToGoals.get(mapCallToName.get(item))).reversed()).collect(Collectors.toList());
+		calls.sort(Comparator.comparingInt((GenericAccessibleObject<?> call) -> mapCallToGoals.get(call)).reversed());
 	}
 
 	/**
@@ -1284,7 +1394,8 @@ public class TestCluster {
 	 */
 	public GenericAccessibleObject<?> getRandomTestCall(TestCase test)
 	        throws ConstructionFailedException {
-		List<GenericAccessibleObject<?>> candidateTestMethods = new ArrayList<>(testMethods);
+		updateCandidateTestCalls();
+		List<GenericAccessibleObject<?>> candidateTestMethods = candidateTestCalls;
 
 		if(candidateTestMethods.isEmpty()) {
 			logger.debug("No more calls");
@@ -1294,15 +1405,9 @@ public class TestCluster {
 
 		// If test already has a SUT call, remove all constructors
 		if(doesTestHaveSUTInstance(test)) {
-			candidateTestMethods = filterConstructors(candidateTestMethods);
 			// It may happen that all remaining test calls are constructors. In this case it's ok.
-			if(candidateTestMethods.isEmpty())
-				candidateTestMethods = new ArrayList<>(testMethods);
-		}
-
-
-		if(Properties.SORT_CALLS) {
-			candidateTestMethods = sortCalls(candidateTestMethods);
+			if(!candidateNonConstructorTestCalls.isEmpty())
+				candidateTestMethods = candidateNonConstructorTestCalls;
 		}
 
 		GenericAccessibleObject<?> choice = Properties.SORT_CALLS ? ListUtil.selectRankBiased(candidateTestMethods) : Randomness.choice(candidateTestMethods);
@@ -36,6 +36,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Set of pure static methods
@@ -51,8 +52,9 @@ public class TestClusterUtils {
 	private static final List<String> classExceptions = Collections.unmodifiableList(Arrays.asList(new String[] {
 	        "com.apple.", "apple.", "sun.", "com.sun.", "com.oracle.", "sun.awt."
 	}));
-	private final static Map<Class<?>, Set<Field>> accessibleFieldCache = new LinkedHashMap<>();
-	private final static Map<Class<?>, Set<Method>> methodCache = new LinkedHashMap<>();
+	// concurrent, as tests can be built on several threads; a value might be computed twice
+	private final static Map<Class<?>, Set<Field>> accessibleFieldCache = new ConcurrentHashMap<>();
+	private final static Map<Class<?>, Set<Method>> methodCache = new ConcurrentHashMap<>();
 
 
 	/**
@@ -248,8 +250,9 @@ public class TestClusterUtils {
 	 * @return
 	 */
 	public static Set<Field> getAccessibleFields(Class<?> clazz) {
-		if(accessibleFieldCache.containsKey(clazz)) {
-			return accessibleFieldCache.get(clazz);
+		Set<Field> cached = accessibleFieldCache.get(clazz);
+		if(cached != null) {
+			return cached;
 		}
 
 		Set<Field> fields = new LinkedHashSet<>();
@@ -274,8 +277,9 @@ public class TestClusterUtils {
 		// As this is expensive, doing some caching here
 		// Note that with the change of a class loader the cached values could
 		// be thrown away
-		if(methodCache.containsKey(clazz)) {
-			return methodCache.get(clazz);
+		Set<Method> cached = methodCache.get(clazz);
+		if(cached != null) {
+			return cached;
 		}
 		Map<String, Method> helper = new TreeMap<String, Method>();
 
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testsuite.TestSuiteChromosome;
+
+/**
+ * Compact snapshot of the values of a test suite that the master needs to
+ * update its output variables and timelines. Sending this instead of the
+ * whole chromosome avoids serialising all the statements of the suite
+ * every time the best individual improves.
+ * 
+ * <p>
+ * Per-criterion values are keyed by the class of the fitness function, so
+ * that lookups behave like {@link org.evosuite.ga.Chromosome#getFitnessInstanceOf(Class)}.
+ */
+public class ChromosomeSummary implements Serializable {
+
+	private static final long serialVersionUID = -2563480519563717462L;
+
+	private final double fitness;
+
+	private final double coverage;
+
+	private final int size;
+
+	private final int length;
+
+	private final int numOfNotCoveredGoals;
+
+	private final Map<Class<?>, Double> fitnessValues = new LinkedHashMap<Class<?>, Double>();
+
+	private final Map<Class<?>, Double> coverageValues = new LinkedHashMap<Class<?>, Double>();
+
+	public ChromosomeSummary(TestSuiteChromosome individual) {
+		this.fitness = individual.getFitness();
+		this.coverage = individual.getCoverage();
+		this.size = individual.size();
+		this.length = individual.totalLengthOfTestCases();
+		this.numOfNotCoveredGoals = individual.getNumOfNotCoveredGoals();
+		for (Map.Entry<FitnessFunction<?>, Double> entry : individual.getFitnessValues().entrySet()) {
+			fitnessValues.putIfAbsent(entry.getKey().getClass(), entry.getValue());
+		}
+		for (Map.Entry<FitnessFunction<?>, Double> entry : individual.getCoverageValues().entrySet()) {
+			coverageValues.putIfAbsent(entry.getKey().getClass(), entry.getValue());
+		}
+	}
+
+	public double getFitness() {
+		return fitness;
+	}
+
+	public double getCoverage() {
+		return coverage;
+	}
+
+	/**
+	 * @return the number of tests in the suite
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the total number of statements in the suite
+	 */
+	public int totalLengthOfTestCases() {
+		return length;
+	}
+
+	public int getNumOfNotCoveredGoals() {
+		return numOfNotCoveredGoals;
+	}
+
+	public double getFitnessInstanceOf(Class<?> clazz) {
+		return getInstanceOf(fitnessValues, clazz);
+	}
+
+	public double getCoverageInstanceOf(Class<?> clazz) {
+		return getInstanceOf(coverageValues, clazz);
+	}
+
+	private static double getInstanceOf(Map<Class<?>, Double> values, Class<?> clazz) {
+		for (Map.Entry<Class<?>, Double> entry : values.entrySet()) {
+			if (clazz.isAssignableFrom(entry.getKey()))
+				return entry.getValue();
+		}
+		return 0.0;
+	}
+
+	@Override
+	public String toString() {
+		return "fitness=" + fitness + ", coverage=" + coverage + ", size=" + size + ", length=" + length;
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.archive.Archive;
+import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
+import org.evosuite.ga.metaheuristics.SearchListener;
+import org.evosuite.rmi.ClientServices;
+import org.evosuite.runtime.sandbox.Sandbox;
+
+/**
+ * Client-side listener that keeps the search gauges of {@link SearchMetrics}
+ * up to date, and periodically sends all the metrics to the master
+ */
+public class MetricsListener implements SearchListener {
+
+	private volatile Thread sender;
+
+	private volatile long lastUpdate = 0;
+
+	@Override
+	public void searchStarted(GeneticAlgorithm<?> algorithm) {
+		sender = new Thread() {
+			@Override
+			public void run() {
+				while (!this.isInterrupted()) {
+					try {
+						Thread.sleep(Properties.METRICS_INTERVAL);
+					} catch (InterruptedException e) {
+						break;
+					}
+					send();
+				}
+			}
+		};
+		sender.setName("Metrics sender in client process");
+		sender.setDaemon(true);
+		Sandbox.addPrivilegedThread(sender);
+		sender.start();
+	}
+
+	@Override
+	public void iteration(GeneticAlgorithm<?> algorithm) {
+		long now = System.currentTimeMillis();
+		if (now - lastUpdate < Properties.METRICS_INTERVAL) {
+			return;
+		}
+		lastUpdate = now;
+
+		SearchMetrics metrics = SearchMetrics.getInstance();
+		metrics.setGauge("generation", algorithm.getAge());
+
+		List<? extends Chromosome> population = algorithm.getPopulation();
+		metrics.setGauge("population_size", population.size());
+
+		if (Properties.TEST_ARCHIVE) {
+			Archive<?, ?> archive = Archive.getArchiveInstance();
+			metrics.setGauge("goals", archive.getNumberOfTargets());
+			metrics.setGauge("goals_covered", archive.getNumberOfCoveredTargets());
+			metrics.setGauge("archive_size", archive.getNumberOfSolutions());
+		}
+
+		updateIndicators(metrics, population);
+	}
+
+	/**
+	 * Distribution (min, mean, max) of each performance indicator over the population
+	 */
+	private void updateIndicators(SearchMetrics metrics, List<? extends Chromosome> population) {
+		Map<String, double[]> stats = new LinkedHashMap<>(); // [min, sum, max, count]
+		for (Chromosome c : population) {
+			for (Map.Entry<String, Double> e : c.getIndicatorValues().entrySet()) {
+				if (e.getValue() == null) {
+					continue;
+				}
+				double value = e.getValue();
+				double[] s = stats.computeIfAbsent(e.getKey(),
+						k -> new double[] { Double.MAX_VALUE, 0, -Double.MAX_VALUE, 0 });
+				s[0] = Math.min(s[0], value);
+				s[1] += value;
+				s[2] = Math.max(s[2], value);
+				s[3]++;
+			}
+		}
+		for (Map.Entry<String, double[]> e : stats.entrySet()) {
+			double[] s = e.getValue();
+			metrics.setGauge("indicator_" + e.getKey() + "_min", s[0]);
+			metrics.setGauge("indicator_" + e.getKey() + "_mean", s[1] / s[3]);
+			metrics.setGauge("indicator_" + e.getKey() + "_max", s[2]);
+		}
+	}
+
+	@Override
+	public void searchFinished(GeneticAlgorithm<?> algorithm) {
+		Thread t = sender;
+		if (t != null) {
+			t.interrupt();
+			try {
+				t.join(1000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			sender = null;
+		}
+		send();
+	}
+
+	@Override
+	public void fitnessEvaluation(Chromosome individual) {
+		SearchMetrics.getInstance().fitnessEvaluated();
+	}
+
+	@Override
+	public void modification(Chromosome individual) {
+	}
+
+	private void send() {
+		ClientServices.getInstance().getClientNode().updateMetrics(SearchMetrics.getInstance().snapshot());
+	}
+}
@@ -89,6 +89,12 @@ public enum RuntimeVariable {
 	Statements_Executed,
 	/** The total number of tests executed during the search */
 	Tests_Executed, 
+	/** Number of constants observed in comparisons at runtime and added to the dynamic pool */
+	Dynamic_Constants,
+	/** Number of constants observed at runtime that the dynamic pool does not keep */
+	Dynamic_Constants_Rejected,
+	/** Fraction of the constants kept by the dynamic pool that were already in it */
+	Dynamic_Pool_Hit_Rate,
 	/** The total number of fitness evaluations during the search */
 	Fitness_Evaluations,
 	/** Number of generations the search algorithm has been evolving */
@@ -377,6 +383,14 @@ public enum RuntimeVariable {
 	NumberOfUsefulNewTests,
 	/** How many SAT queries led to Unuseful (i.e. no better fitness) new tests*/ 
 	NumberOfUnusefulNewTests,
+	/** Goals covered by the evolutionary search when the hybrid DSE scheduler is enabled */
+	HybridGACoveredGoals,
+	/** Time (ms) spent in the evolutionary search when the hybrid DSE scheduler is enabled */
+	HybridGATime,
+	/** Goals covered by DSE applications of the hybrid scheduler */
+	HybridDSECoveredGoals,
+	/** Time (ms) spent in DSE applications of the hybrid scheduler */
+	HybridDSETime,
 	
 	/* -------------------------------------------------------------------- */
 	/** Search budget needed to reach the maximum coverage */ 
@@ -390,6 +404,7 @@ public enum RuntimeVariable {
 	StatementCounter,
 	StatementCovered,
 	LoopCounter,
+	LoopIterations,
 	TestExecutionTime
 	;
 	/* ----------------------------performance indicators variables---------------------------------------------- */
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.evosuite.Properties;
+
+/**
+ * Registry of the live metrics of the search running in this client, like
+ * tests executed or time spent in the constraint solver. Unlike the output
+ * variables, these are meant to be looked at while the search is still
+ * running: {@link MetricsListener} periodically sends a {@link #snapshot()}
+ * to the master, which exposes them on {@link Properties#METRICS_PORT}.
+ * 
+ * <p>
+ * Counters are cumulative since the client started, gauges hold the
+ * latest value that was set.
+ */
+public class SearchMetrics {
+
+	private static final SearchMetrics instance = new SearchMetrics();
+
+	private final LongAdder testsExecuted = new LongAdder();
+
+	private final LongAdder testExecutionNanos = new LongAdder();
+
+	private final LongAdder fitnessEvaluations = new LongAdder();
+
+	private final LongAdder solverCalls = new LongAdder();
+
+	private final LongAdder solverNanos = new LongAdder();
+
+	private final Map<String, Double> gauges = new ConcurrentHashMap<>();
+
+	private SearchMetrics() {
+	}
+
+	public static SearchMetrics getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @return whether metrics should be collected at all
+	 */
+	public static boolean isEnabled() {
+		return Properties.METRICS_PORT != null;
+	}
+
+	public void testExecuted(long nanos) {
+		testsExecuted.increment();
+		testExecutionNanos.add(nanos);
+	}
+
+	public void fitnessEvaluated() {
+		fitnessEvaluations.increment();
+	}
+
+	public void solverCalled(long nanos) {
+		solverCalls.increment();
+		solverNanos.add(nanos);
+	}
+
+	/**
+	 * @param name must not end with <code>_total</code>, as the master reports
+	 *            such metrics as counters
+	 */
+	public void setGauge(String name, double value) {
+		if (name.endsWith("_total")) {
+			throw new IllegalArgumentException("Gauge name ends with _total, which is reserved for counters: " + name);
+		}
+		gauges.put(name, value);
+	}
+
+	/**
+	 * Current value of all metrics, indexed by name. Names follow the
+	 * Prometheus conventions, ie counters end with <code>_total</code>
+	 * and times are in seconds.
+	 * 
+	 * @return a new, serializable, map
+	 */
+	public LinkedHashMap<String, Double> snapshot() {
+		LinkedHashMap<String, Double> metrics = new LinkedHashMap<>();
+
+		long tests = testsExecuted.sum();
+		double testSeconds = toSeconds(testExecutionNanos.sum());
+		metrics.put("tests_executed_total", (double) tests);
+		metrics.put("test_execution_seconds_total", testSeconds);
+		metrics.put("test_execution_seconds_avg", tests == 0 ? 0.0 : testSeconds / tests);
+		metrics.put("fitness_evaluations_total", (double) fitnessEvaluations.sum());
+		metrics.put("solver_calls_total", (double) solverCalls.sum());
+		metrics.put("solver_seconds_total", toSeconds(solverNanos.sum()));
+
+		long collections = 0;
+		long gcMillis = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			collections += Math.max(0, gc.getCollectionCount());
+			gcMillis += Math.max(0, gc.getCollectionTime());
+		}
+		metrics.put("gc_collections_total", (double) collections);
+		metrics.put("gc_seconds_total", gcMillis / 1000.0);
+		metrics.put("heap_used_bytes", (double) ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+
+		metrics.putAll(new TreeMap<>(gauges));
+		return metrics;
+	}
+
+	private static double toSeconds(long nanos) {
+		return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+	}
+}
@@ -21,14 +21,13 @@ package org.evosuite.statistics;
 
 import org.evosuite.Properties;
 import org.evosuite.TimeController;
-import org.evosuite.testsuite.TestSuiteChromosome;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Creates an output variable that represents a sequence of values extracted from
- * a test suite
+ * the summaries of a test suite
  * 
  * @author gordon
  *
@@ -51,11 +50,29 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
 		this.startTime = time;
 	}
 	
-	protected abstract T getValue(TestSuiteChromosome individual);
+	protected abstract T getValue(ChromosomeSummary individual);
 	
-	public void update(TestSuiteChromosome individual) {
-		timeStamps.add(System.currentTimeMillis() - startTime);
-		values.add(getValue(individual));
+	public void update(ChromosomeSummary individual) {
+		long stamp = System.currentTimeMillis() - startTime;
+		T value = getValue(individual);
+
+		/*
+		 * The timeline only looks at the last sample before each interval and at
+		 * the first one after it. So, of all the samples within an interval, we only
+		 * need to keep the first and the last one, otherwise memory would grow with
+		 * the number of generations
+		 */
+		int n = timeStamps.size();
+		long interval = Properties.TIMELINE_INTERVAL;
+		if (n >= 2 && interval > 0
+				&& timeStamps.get(n - 1) / interval == stamp / interval
+				&& timeStamps.get(n - 2) / interval == stamp / interval) {
+			timeStamps.set(n - 1, stamp);
+			values.set(n - 1, value);
+		} else {
+			timeStamps.add(stamp);
+			values.add(value);
+		}
 	}
 	
 	public List<String> getVariableNames() {
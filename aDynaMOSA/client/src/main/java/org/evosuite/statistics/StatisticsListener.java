@@ -68,7 +68,7 @@ public class StatisticsListener implements SearchListener {
 					Chromosome individual;
 					try {
 						individual = individuals.take();
-						StatisticsSender.sendIndividualToMaster(individual);
+						StatisticsSender.sendSummaryToMaster(individual);
 					} catch (InterruptedException e) {
 						done = true;
 					}
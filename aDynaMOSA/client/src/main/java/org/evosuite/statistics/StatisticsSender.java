@@ -31,6 +31,7 @@ import org.evosuite.ga.FitnessFunction;
 import org.evosuite.performance.AbstractIndicator;
 import org.evosuite.performance.indicator.*;
 import org.evosuite.rmi.ClientServices;
+import org.evosuite.seeding.ConstantPoolManager;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.ExecutionTrace;
@@ -68,6 +69,29 @@ public class StatisticsSender {
 
 	}
 
+	/**
+	 * Send only the summary of the given individual to the master. This is
+	 * meant for the intermediate individuals of the search, which are only
+	 * used for timelines: the full test suite is sent at the end with
+	 * {@link #sendIndividualToMaster(Chromosome)}
+	 * 
+	 * @param individual
+	 */
+	public static void sendSummaryToMaster(Chromosome individual) throws IllegalArgumentException{
+		if(individual == null){
+			throw new IllegalArgumentException("No defined individual to send");
+		}
+		if(!Properties.NEW_STATISTICS)
+			return;
+
+		if(individual instanceof TestSuiteChromosome) {
+			ClientServices.getInstance().getClientNode().updateStatistics(
+					new ChromosomeSummary((TestSuiteChromosome) individual));
+		} else {
+			ClientServices.getInstance().getClientNode().updateStatistics(individual);
+		}
+	}
+
 
 	/**
 	 * First execute (if needed) the test cases to be sure to have latest correct data,
@@ -94,6 +118,7 @@ public class StatisticsSender {
 
 		sendCoveredInfo(testSuite);
 		sendExceptionInfo(testSuite);
+		sendDynamicPoolInfo();
 		sendIndividualToMaster(testSuite);
 		/* ----------------------------call to performance indicators---------------------------------------------- */
 
@@ -137,6 +162,16 @@ public class StatisticsSender {
 		 */
 	}
 
+	private static void sendDynamicPoolInfo() {
+		ConstantPoolManager pools = ConstantPoolManager.getInstance();
+		ClientServices.getInstance().getClientNode().trackOutputVariable(
+				RuntimeVariable.Dynamic_Constants, pools.getNumberOfDynamicConstants());
+		ClientServices.getInstance().getClientNode().trackOutputVariable(
+				RuntimeVariable.Dynamic_Constants_Rejected, pools.getNumberOfRejectedDynamicConstants());
+		ClientServices.getInstance().getClientNode().trackOutputVariable(
+				RuntimeVariable.Dynamic_Pool_Hit_Rate, pools.getDynamicPoolHitRate());
+	}
+
 	/**
 	 * Utility method that re-execute the tests n times to have more realistic estimation of the execution time
 	 * @param testSuite the test suite
@@ -203,6 +238,9 @@ public class StatisticsSender {
 			if (indicator.getIndicatorId().equals(LoopCounter.class.getName()))
 				ClientServices.getInstance().getClientNode().trackOutputVariable(
 						RuntimeVariable.LoopCounter, value);
+			if (indicator.getIndicatorId().equals(LoopIterationsCounter.class.getName()))
+				ClientServices.getInstance().getClientNode().trackOutputVariable(
+						RuntimeVariable.LoopIterations, value);
 		}
 	}
 	
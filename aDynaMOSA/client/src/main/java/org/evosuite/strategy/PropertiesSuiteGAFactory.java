@@ -56,6 +56,7 @@ import org.evosuite.ga.operators.selection.RandomKSelection;
 import org.evosuite.ga.operators.selection.SelectionFunction;
 import org.evosuite.ga.operators.selection.TournamentSelection;
 import org.evosuite.ga.operators.selection.TournamentSelectionRankAndCrowdingDistanceComparator;
+import org.evosuite.ga.stoppingconditions.CoveragePlateauStoppingCondition;
 import org.evosuite.ga.stoppingconditions.GlobalTimeStoppingCondition;
 import org.evosuite.ga.stoppingconditions.MaxTimeStoppingCondition;
 import org.evosuite.ga.stoppingconditions.RMIStoppingCondition;
@@ -63,6 +64,8 @@ import org.evosuite.ga.stoppingconditions.SocketStoppingCondition;
 import org.evosuite.ga.stoppingconditions.StoppingCondition;
 import org.evosuite.ga.stoppingconditions.ZeroFitnessStoppingCondition;
 import org.evosuite.regression.RegressionTestSuiteChromosomeFactory;
+import org.evosuite.statistics.MetricsListener;
+import org.evosuite.statistics.SearchMetrics;
 import org.evosuite.statistics.StatisticsListener;
 import org.evosuite.testcase.factories.AllMethodsTestChromosomeFactory;
 import org.evosuite.testcase.factories.JUnitTestCarvedChromosomeFactory;
@@ -299,6 +302,9 @@ public class PropertiesSuiteGAFactory extends PropertiesSearchAlgorithmFactory<T
 		if (Properties.NEW_STATISTICS)
 			ga.addListener(new StatisticsListener());
 
+		if (SearchMetrics.isEnabled())
+			ga.addListener(new MetricsListener());
+
 		// How to select candidates for reproduction
 		SelectionFunction<TestSuiteChromosome> selectionFunction = getSelectionFunction();
 		selectionFunction.setMaximize(false);
@@ -319,6 +325,10 @@ public class PropertiesSuiteGAFactory extends PropertiesSearchAlgorithmFactory<T
 			ga.addStoppingCondition(new GlobalTimeStoppingCondition());
 		}
 
+		if (Properties.PLATEAU_TIMEOUT > 0) {
+			ga.addStoppingCondition(new CoveragePlateauStoppingCondition());
+		}
+
 		if (ArrayUtil.contains(Properties.CRITERION, Criterion.MUTATION)
 		        || ArrayUtil.contains(Properties.CRITERION, Criterion.STRONGMUTATION)) {
 			if (Properties.STRATEGY == Strategy.ONEBRANCH)
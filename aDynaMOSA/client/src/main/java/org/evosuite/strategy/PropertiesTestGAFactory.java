@@ -47,11 +47,14 @@ import org.evosuite.ga.operators.selection.RankSelection;
 import org.evosuite.ga.operators.selection.SelectionFunction;
 import org.evosuite.ga.operators.selection.TournamentSelection;
 import org.evosuite.ga.operators.selection.TournamentSelectionRankAndCrowdingDistanceComparator;
+import org.evosuite.ga.stoppingconditions.CoveragePlateauStoppingCondition;
 import org.evosuite.ga.stoppingconditions.GlobalTimeStoppingCondition;
 import org.evosuite.ga.stoppingconditions.MaxTimeStoppingCondition;
 import org.evosuite.ga.stoppingconditions.StoppingCondition;
 import org.evosuite.ga.stoppingconditions.ZeroFitnessStoppingCondition;
 import org.evosuite.seeding.TestCaseRecycler;
+import org.evosuite.statistics.MetricsListener;
+import org.evosuite.statistics.SearchMetrics;
 import org.evosuite.testcase.TestCaseReplacementFunction;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.factories.AllMethodsTestChromosomeFactory;
@@ -218,6 +221,9 @@ public class PropertiesTestGAFactory extends PropertiesSearchAlgorithmFactory<Te
 		if (Properties.NEW_STATISTICS)
 			ga.addListener(new org.evosuite.statistics.StatisticsListener());
 
+		if (SearchMetrics.isEnabled())
+			ga.addListener(new MetricsListener());
+
 		// How to select candidates for reproduction
 		SelectionFunction<TestChromosome> selection_function = getSelectionFunction();
 		selection_function.setMaximize(false);
@@ -238,6 +244,10 @@ public class PropertiesTestGAFactory extends PropertiesSearchAlgorithmFactory<Te
 			ga.addStoppingCondition(new GlobalTimeStoppingCondition());
 		}
 
+		if (Properties.PLATEAU_TIMEOUT > 0) {
+			ga.addStoppingCondition(new CoveragePlateauStoppingCondition());
+		}
+
 		if (ArrayUtil.contains(Properties.CRITERION, Criterion.MUTATION)
 		        || ArrayUtil.contains(Properties.CRITERION, Criterion.STRONGMUTATION)) {
 			ga.addStoppingCondition(new MutationTimeoutStoppingCondition());
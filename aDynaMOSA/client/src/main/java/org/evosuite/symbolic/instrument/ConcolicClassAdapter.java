@@ -39,10 +39,13 @@ import org.objectweb.asm.commons.JSRInlinerAdapter;
 final class ConcolicClassAdapter extends ClassVisitor {
 
   private final String className;
+
+  private final ConcolicTaintAnalysis taintAnalysis;
   
   ConcolicClassAdapter(ClassVisitor cv, String className) {
     super(Opcodes.ASM4, cv);
     this.className = className;
+    this.taintAnalysis = ConcolicTaintAnalysis.getInstance();
   }
   
   @Override
@@ -57,7 +60,8 @@ final class ConcolicClassAdapter extends ClassVisitor {
     mv = cv.visitMethod(access, methName, methDesc, methSignGeneric, exceptions);
     // Added to handle Java 7
     mv = new JSRInlinerAdapter(mv, access, methName, methDesc, methSignGeneric, exceptions);
-    if (mv != null) {
+    // Methods that never see symbolic values run natively
+    if (mv != null && taintAnalysis.isInstrumentationRequired(className, methName, methDesc)) {
       mv = new ConcolicMethodAdapter(mv, access, className, methName, methDesc);
     }
     return mv;
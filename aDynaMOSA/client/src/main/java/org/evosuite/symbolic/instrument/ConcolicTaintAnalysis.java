@@ -0,0 +1,384 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.instrument;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.Properties;
+import org.evosuite.dse.MainConfig;
+import org.evosuite.setup.DependencyAnalysis;
+import org.evosuite.setup.callgraph.CallGraph;
+import org.evosuite.setup.callgraph.CallGraphEntry;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Static pre-analysis that determines which methods of the SUT can operate on
+ * values derived from the inputs of a test. Only those methods need to be
+ * instrumented by {@link ConcolicMethodAdapter}; all the others are proven to
+ * compute on concrete values only, and are treated by
+ * {@link org.evosuite.symbolic.vm.CallVM} like any other uninstrumented code
+ * (e.g., the JDK), so that they run at native speed.
+ *
+ * <p>
+ * The analysis is a conservative fixpoint over the methods in the call graph
+ * of the class under test. A method is <i>tainted</i> if
+ * <ul>
+ * <li>it can be called directly by a test with some parameters, or it is a
+ * private method with parameters called by a tainted method;</li>
+ * <li>it reads a tainted field, i.e. a field that is not private, that is
+ * written by some tainted method, or that is inherited from a class outside
+ * the analysis. If tests can set private fields through reflection, all the
+ * fields are tainted;</li>
+ * <li>it reads array elements, as we do not track array aliasing;</li>
+ * <li>it uses the return value of a tainted method, or of a method the
+ * analysis does not know.</li>
+ * </ul>
+ * Synthetic methods and methods using <code>invokedynamic</code> are always
+ * considered tainted, whereas constructors and class initialisers are always
+ * instrumented.
+ *
+ * <p>
+ * The granularity is the method, not the single bytecode instruction: the
+ * symbolic VM mirrors the whole operand stack of a frame, so a method is
+ * either instrumented completely or not at all.
+ */
+public final class ConcolicTaintAnalysis {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConcolicTaintAnalysis.class);
+
+	private static ConcolicTaintAnalysis instance = null;
+
+	/**
+	 * Methods (as className.methodName+methodDesc) that are proven to never
+	 * see symbolic values, and thus can be left uninstrumented
+	 */
+	private final Set<String> concreteMethods = new LinkedHashSet<String>();
+
+	/**
+	 * Candidate methods of the analysis, ie those in the call graph for which
+	 * we have the bytecode
+	 */
+	private final Map<CallGraphEntry, MethodNode> methods = new LinkedHashMap<CallGraphEntry, MethodNode>();
+
+	/**
+	 * Class nodes of all classes owning a candidate method, indexed by
+	 * internal name
+	 */
+	private final Map<String, ClassNode> classes = new LinkedHashMap<String, ClassNode>();
+
+	private final Set<CallGraphEntry> tainted = new LinkedHashSet<CallGraphEntry>();
+
+	private final Set<String> taintedFields = new LinkedHashSet<String>();
+
+	/**
+	 * Builds an analysis where every method is instrumented
+	 */
+	private ConcolicTaintAnalysis() {
+	}
+
+	/**
+	 * Analyses all the methods in the given call graph, using the given class
+	 * nodes for their bytecode
+	 *
+	 * @param callGraph
+	 * @param classNodes
+	 *            the analysed classes, indexed by fully qualified name
+	 */
+	ConcolicTaintAnalysis(CallGraph callGraph, Map<String, ClassNode> classNodes) {
+		collectMethods(callGraph, classNodes);
+		computeFixpoint(callGraph);
+
+		for (Map.Entry<CallGraphEntry, MethodNode> entry : methods.entrySet()) {
+			if (!tainted.contains(entry.getKey()) && !isAlwaysInstrumented(entry.getValue())) {
+				concreteMethods.add(getKey(entry.getKey().getClassName(), entry.getKey().getMethodName()));
+			}
+		}
+		logger.info("Concolic taint analysis: {} out of {} methods do not need instrumentation",
+				concreteMethods.size(), methods.size());
+	}
+
+	/**
+	 * The analysis is computed lazily on the call graph of the class under
+	 * test, and then kept for the entire search, as it has to be consistent
+	 * with the classes already loaded by the concolic class loader.
+	 *
+	 * @return
+	 */
+	public static synchronized ConcolicTaintAnalysis getInstance() {
+		if (instance == null) {
+			CallGraph callGraph = DependencyAnalysis.getCallGraph();
+			if (!Properties.DSE_SELECTIVE_INSTRUMENTATION || callGraph == null) {
+				// do not cache: the call graph might not be computed yet
+				return new ConcolicTaintAnalysis();
+			}
+			instance = new ConcolicTaintAnalysis(callGraph, loadClassNodes(callGraph));
+		}
+		return instance;
+	}
+
+	public static synchronized void reset() {
+		instance = null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the method may handle symbolic values and
+	 * therefore needs to be instrumented
+	 *
+	 * @param className
+	 *            either as p/q/MyClass or as p.q.MyClass
+	 * @param methName
+	 * @param methDesc
+	 * @return
+	 */
+	public boolean isInstrumentationRequired(String className, String methName, String methDesc) {
+		if (concreteMethods.isEmpty())
+			return true;
+		return !concreteMethods.contains(getKey(className, methName + methDesc));
+	}
+
+	/**
+	 * @return an unmodifiable view of the methods that are not instrumented
+	 */
+	public Set<String> getConcreteMethods() {
+		return Collections.unmodifiableSet(concreteMethods);
+	}
+
+	private static String getKey(String className, String methodNameAndDesc) {
+		return className.replace('/', '.') + "." + methodNameAndDesc;
+	}
+
+	private static Map<String, ClassNode> loadClassNodes(CallGraph callGraph) {
+		Map<String, ClassNode> classNodes = new LinkedHashMap<String, ClassNode>();
+		for (String className : callGraph.getClasses()) {
+			ClassNode cn = DependencyAnalysis.getClassNode(className);
+			if (cn != null)
+				classNodes.put(className.replace('/', '.'), cn);
+		}
+		ClassNode cut = DependencyAnalysis.getClassNode(callGraph.getClassName());
+		if (cut != null)
+			classNodes.put(callGraph.getClassName().replace('/', '.'), cut);
+		return classNodes;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void collectMethods(CallGraph callGraph, Map<String, ClassNode> classNodes) {
+		Set<CallGraphEntry> vertices = callGraph.getViewOfCurrentMethods();
+		for (ClassNode cn : classNodes.values()) {
+			classes.put(cn.name, cn);
+		}
+		for (CallGraphEntry entry : vertices) {
+			ClassNode cn = classNodes.get(entry.getClassName());
+			if (cn == null)
+				continue;
+			for (MethodNode mn : (List<MethodNode>) cn.methods) {
+				if ((mn.name + mn.desc).equals(entry.getMethodName()) && mn.instructions.size() > 0) {
+					methods.put(entry, mn);
+					break;
+				}
+			}
+		}
+	}
+
+	private void computeFixpoint(CallGraph callGraph) {
+		for (Map.Entry<CallGraphEntry, MethodNode> entry : methods.entrySet()) {
+			if (isAlwaysTainted(entry.getValue()))
+				tainted.add(entry.getKey());
+		}
+
+		boolean changed = true;
+		while (changed) {
+			changed = updateTaintedFields();
+			for (Map.Entry<CallGraphEntry, MethodNode> entry : methods.entrySet()) {
+				CallGraphEntry method = entry.getKey();
+				if (tainted.contains(method))
+					continue;
+				if (hasTaintedCaller(callGraph, method, entry.getValue())
+						|| usesTaintedValue(callGraph, method, entry.getValue())) {
+					tainted.add(method);
+					changed = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Constructors and class initialisers are handled with dedicated frames
+	 * by the symbolic VM, so they are instrumented even if the values they
+	 * compute are concrete
+	 */
+	private static boolean isAlwaysInstrumented(MethodNode mn) {
+		return mn.name.equals("<init>") || mn.name.equals("<clinit>");
+	}
+
+	private static boolean isAlwaysTainted(MethodNode mn) {
+		if ((mn.access & (Opcodes.ACC_SYNTHETIC | Opcodes.ACC_BRIDGE)) != 0)
+			return true;
+		boolean isPrivate = (mn.access & Opcodes.ACC_PRIVATE) != 0;
+		if (!isPrivate && Type.getArgumentTypes(mn.desc).length > 0)
+			return true; // can receive test inputs directly
+
+		for (AbstractInsnNode insn : mn.instructions.toArray()) {
+			if (insn.getOpcode() == Opcodes.INVOKEDYNAMIC)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Non-private fields can be assigned by a test (or by code we do not
+	 * know), private fields are tainted when written by a method that is not
+	 * proven to be concrete, or by the test itself through reflection.
+	 *
+	 * @return <code>true</code> if new fields were tainted
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean updateTaintedFields() {
+		boolean changed = false;
+		boolean reflectionOnPrivate = Properties.P_REFLECTION_ON_PRIVATE > 0;
+		for (ClassNode cn : classes.values()) {
+			for (FieldNode fn : (List<FieldNode>) cn.fields) {
+				if (reflectionOnPrivate || (fn.access & Opcodes.ACC_PRIVATE) == 0) {
+					changed |= taintedFields.add(cn.name + "." + fn.name);
+				}
+			}
+			for (MethodNode mn : (List<MethodNode>) cn.methods) {
+				CallGraphEntry entry = new CallGraphEntry(cn.name, mn.name + mn.desc);
+				if (methods.containsKey(entry) && !tainted.contains(entry))
+					continue;
+				for (AbstractInsnNode insn : mn.instructions.toArray()) {
+					int opcode = insn.getOpcode();
+					if (opcode == Opcodes.PUTFIELD || opcode == Opcodes.PUTSTATIC) {
+						FieldInsnNode fieldInsn = (FieldInsnNode) insn;
+						String owner = getDeclaringClass(fieldInsn.owner, fieldInsn.name);
+						changed |= taintedFields.add(owner + "." + fieldInsn.name);
+					}
+				}
+			}
+		}
+		return changed;
+	}
+
+	private boolean hasTaintedCaller(CallGraph callGraph, CallGraphEntry method, MethodNode mn) {
+		if (Type.getArgumentTypes(mn.desc).length == 0)
+			return false;
+		// The call graph is stored in reverse, ie edges go from callee to caller
+		for (CallGraphEntry caller : callGraph.getGraph().getNeighbors(method)) {
+			if (!methods.containsKey(caller) || tainted.contains(caller))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean usesTaintedValue(CallGraph callGraph, CallGraphEntry method, MethodNode mn) {
+		for (CallGraphEntry callee : callGraph.getGraph().getReverseNeighbors(method)) {
+			if (returnsTaintedValue(callee.getClassName(), callee.getMethodName()))
+				return true;
+		}
+
+		for (AbstractInsnNode insn : mn.instructions.toArray()) {
+			switch (insn.getOpcode()) {
+			case Opcodes.GETFIELD:
+			case Opcodes.GETSTATIC: {
+				FieldInsnNode fieldInsn = (FieldInsnNode) insn;
+				if (isTaintedField(fieldInsn.owner, fieldInsn.name))
+					return true;
+				break;
+			}
+			case Opcodes.IALOAD:
+			case Opcodes.LALOAD:
+			case Opcodes.FALOAD:
+			case Opcodes.DALOAD:
+			case Opcodes.AALOAD:
+			case Opcodes.BALOAD:
+			case Opcodes.CALOAD:
+			case Opcodes.SALOAD:
+				return true;
+			case Opcodes.INVOKEVIRTUAL:
+			case Opcodes.INVOKESPECIAL:
+			case Opcodes.INVOKESTATIC:
+			case Opcodes.INVOKEINTERFACE: {
+				MethodInsnNode methodInsn = (MethodInsnNode) insn;
+				if (returnsTaintedValue(methodInsn.owner, methodInsn.name + methodInsn.desc))
+					return true;
+				break;
+			}
+			default:
+				break;
+			}
+		}
+		return false;
+	}
+
+	private boolean isTaintedField(String owner, String fieldName) {
+		owner = getDeclaringClass(owner, fieldName);
+		if (!classes.containsKey(owner)) {
+			// Fields of uninstrumented classes only hold concrete values
+			return !MainConfig.setInstance().isIgnored(owner);
+		}
+		return taintedFields.contains(owner + "." + fieldName);
+	}
+
+	/**
+	 * The owner of a field instruction is the static type of the receiver,
+	 * which for inherited fields is not the class declaring them. Follow the
+	 * superclasses until the declaring class is found, or until a class not
+	 * in the analysis is reached (whose fields we do not know).
+	 *
+	 * @return the internal name of the declaring class, or of the first
+	 *         superclass outside the analysis
+	 */
+	@SuppressWarnings("unchecked")
+	private String getDeclaringClass(String owner, String fieldName) {
+		String current = owner;
+		while (current != null && classes.containsKey(current)) {
+			ClassNode cn = classes.get(current);
+			for (FieldNode fn : (List<FieldNode>) cn.fields) {
+				if (fn.name.equals(fieldName))
+					return current;
+			}
+			current = cn.superName;
+		}
+		return current == null ? owner : current;
+	}
+
+	private boolean returnsTaintedValue(String owner, String methodNameAndDesc) {
+		int descStart = methodNameAndDesc.indexOf('(');
+		if (Type.getReturnType(methodNameAndDesc.substring(descStart)).equals(Type.VOID_TYPE))
+			return false;
+		if (MainConfig.setInstance().isIgnored(owner))
+			return false;
+		CallGraphEntry callee = new CallGraphEntry(owner, methodNameAndDesc);
+		return !methods.containsKey(callee) || tainted.contains(callee);
+	}
+}
@@ -60,48 +60,64 @@ public abstract class DistanceEstimator {
 		double result = 0;
 
 		DistanceCalculator distanceCalculator = new DistanceCalculator();
+		for (Constraint<?> c : constraints) {
+			double d = getDistance(c, distanceCalculator);
+			if (d == Double.MAX_VALUE) {
+				return Double.MAX_VALUE;
+			}
+			result += d;
+		}
+		log.debug("Resulting distance: " + result);
+		return Math.abs(result);
+	}
+
+	/**
+	 * Computes the normalized distance of a single constraint.
+	 * 
+	 * @param c
+	 *            the constraint
+	 * @param distanceCalculator
+	 *            the calculator to use
+	 * @return normalized distance in [0,1], or Double.MAX_VALUE if the
+	 *         distance of the constraint could not be computed
+	 */
+	public static double getDistance(Constraint<?> c, DistanceCalculator distanceCalculator) {
 		try {
-			for (Constraint<?> c : constraints) {
-
-				if (c instanceof StringConstraint) {
-					StringConstraint string_constraint = (StringConstraint) c;
-
-					try {
-						double strD = (double) string_constraint.accept(
-								distanceCalculator, null);
-						result += normalize(strD);
-						log.debug("S: " + string_constraint + " strDist "
-								+ strD);
-					} catch (Throwable t) {
-						log.debug("S: " + string_constraint + " strDist " + t);
-						result += 1.0;
-					}
-
-				} else if (c instanceof IntegerConstraint) {
-
-					IntegerConstraint integer_constraint = (IntegerConstraint) c;
-					long intD = (long) integer_constraint.accept(
-							distanceCalculator, null);
-					result += normalize(intD);
-					log.debug("C: " + integer_constraint + " intDist " + intD);
+			if (c instanceof StringConstraint) {
+				StringConstraint string_constraint = (StringConstraint) c;
 
-				} else if (c instanceof RealConstraint) {
-					RealConstraint real_constraint = (RealConstraint) c;
-					double realD = (double) real_constraint.accept(
+				try {
+					double strD = (double) string_constraint.accept(
 							distanceCalculator, null);
-					
-					result += normalize(realD);
-					log.debug("C: " + real_constraint + " realDist " + realD);
-
-				} else {
-					throw new IllegalArgumentException(
-							"DistanceCalculator: got an unknown constraint: "
-									+ c);
+					log.debug("S: " + string_constraint + " strDist "
+							+ strD);
+					return normalize(strD);
+				} catch (Throwable t) {
+					log.debug("S: " + string_constraint + " strDist " + t);
+					return 1.0;
 				}
-			}
-			log.debug("Resulting distance: " + result);
-			return Math.abs(result);
 
+			} else if (c instanceof IntegerConstraint) {
+
+				IntegerConstraint integer_constraint = (IntegerConstraint) c;
+				long intD = (long) integer_constraint.accept(
+						distanceCalculator, null);
+				log.debug("C: " + integer_constraint + " intDist " + intD);
+				return normalize(intD);
+
+			} else if (c instanceof RealConstraint) {
+				RealConstraint real_constraint = (RealConstraint) c;
+				double realD = (double) real_constraint.accept(
+						distanceCalculator, null);
+
+				log.debug("C: " + real_constraint + " realDist " + realD);
+				return normalize(realD);
+
+			} else {
+				throw new IllegalArgumentException(
+						"DistanceCalculator: got an unknown constraint: "
+								+ c);
+			}
 		} catch (Exception e) {
 			return Double.MAX_VALUE;
 		}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 
+import org.evosuite.statistics.SearchMetrics;
 import org.evosuite.symbolic.expr.Constraint;
 
 public final class SolverCache {
@@ -40,6 +41,7 @@ public final class SolverCache {
 		}
 
 		SolverResult solverResult;
+		long start = System.nanoTime();
 		try {
 			solverResult = solver.solve(constraints);
 			if (solverResult.isUNSAT()) {
@@ -50,6 +52,10 @@ public final class SolverCache {
 		} catch (SolverTimeoutException | IOException | SolverParseException | SolverEmptyQueryException
 				| SolverErrorException e) {
 			solverResult = null;
+		} finally {
+			if (SearchMetrics.isEnabled()) {
+				SearchMetrics.getInstance().solverCalled(System.nanoTime() - start);
+			}
 		}
 
 		return solverResult;
@@ -19,10 +19,26 @@
  */
 package org.evosuite.symbolic.solver.avm;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.evosuite.Properties;
 import org.evosuite.symbolic.expr.Constraint;
@@ -35,6 +51,7 @@ import org.evosuite.symbolic.solver.SolverEmptyQueryException;
 import org.evosuite.symbolic.solver.DistanceEstimator;
 import org.evosuite.symbolic.solver.Solver;
 import org.evosuite.symbolic.solver.SolverResult;
+import org.evosuite.utils.MersenneTwister;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +59,13 @@ import org.slf4j.LoggerFactory;
 /**
  * Solves a collection of constraints using the Alternating Variable method.
  * 
+ * <p>
+ * The distance of the constraint system is evaluated incrementally: while the
+ * AVM works on a variable, only the constraints depending on that variable are
+ * evaluated again. If <code>dse_solver_parallel_restarts</code> is greater
+ * than one, several randomised restarts are run in parallel on copies of the
+ * constraint system, and the first satisfying model is returned.
+ * 
  * @author galeotti
  * 
  */
@@ -49,6 +73,11 @@ public final class EvoSuiteSolver extends Solver {
 
 	static Logger log = LoggerFactory.getLogger(EvoSuiteSolver.class);
 
+	/**
+	 * Shared pool for the parallel restarts, created on demand
+	 */
+	private static ForkJoinPool restartPool = null;
+
 	@Override
 	public SolverResult solve(Collection<Constraint<?>> constraints)
 			throws SolverTimeoutException, SolverEmptyQueryException {
@@ -67,33 +96,91 @@ public final class EvoSuiteSolver extends Solver {
 			return satResult;
 		}
 
+		Map<String, Object> new_model = null;
+		boolean searched = false;
+		if (Properties.DSE_SOLVER_PARALLEL_RESTARTS > 1) {
+			byte[] serializedConstraints = serialize(constraints);
+			if (serializedConstraints != null) {
+				new_model = solveInParallel(serializedConstraints, startTimeMillis, timeout);
+				searched = true;
+			} else {
+				log.debug("Constraints cannot be copied, falling back to sequential search");
+			}
+		}
+
+		if (!searched) {
+			try {
+				// the sequential search keeps drawing from the global random stream
+				distance = search(constraints, variables, startTimeMillis, timeout, new AtomicBoolean(false),
+						null);
+				if (distance <= 0) {
+					new_model = getConcreteValues(variables);
+				}
+			} finally {
+				setConcreteValues(variables, initialValues);
+			}
+		}
+
+		if (new_model != null) {
+			log.debug("Distance is 0, found solution");
+			SolverResult satResult = SolverResult.newSAT(new_model);
+			return satResult;
+		} else {
+			log.debug("Returning unknown, search was not successful");
+			SolverResult unknownResult = SolverResult.newUnknown();
+			return unknownResult;
+		}
+
+	}
+
+	/**
+	 * Alternating variable search with restarts on the given constraint
+	 * system. The variables keep the values found by the search.
+	 * 
+	 * @param random
+	 *            the source of randomness of this search, or <code>null</code>
+	 *            to use {@link Randomness}. Searches running in parallel must
+	 *            each have their own
+	 * 
+	 * @return the final distance of the constraint system
+	 */
+	private static double search(Collection<Constraint<?>> constraints, Set<Variable<?>> variables,
+			long startTimeMillis, long timeout, AtomicBoolean stopped, Random random)
+			throws SolverTimeoutException {
+
+		IncrementalDistanceEstimator distanceEstimator = new IncrementalDistanceEstimator(constraints);
+		double distance = distanceEstimator.getDistance();
+		Set<Object> constants = getConstants(constraints);
+
 		for (int attempt = 0; attempt <= Properties.DSE_VARIABLE_RESETS; attempt++) {
 			for (Variable<?> v : variables) {
 				long currentTimeMillis = System.currentTimeMillis();
 
 				long elapsed_solving_time = currentTimeMillis - startTimeMillis;
-				if (elapsed_solving_time > timeout) {
+				if (elapsed_solving_time > timeout || stopped.get()) {
 					throw new SolverTimeoutException();
 				}
 
 				log.debug("Variable: " + v + ", " + variables);
 
+				VariableAVM avm;
 				if (v instanceof IntegerVariable) {
 					IntegerVariable integerVariable = (IntegerVariable) v;
-					IntegerAVM avm = new IntegerAVM(integerVariable, constraints, startTimeMillis, timeout);
-					avm.applyAVM();
+					avm = new IntegerAVM(integerVariable, constraints, distanceEstimator, startTimeMillis, timeout,
+							stopped);
 				} else if (v instanceof RealVariable) {
 					RealVariable realVariable = (RealVariable) v;
-					RealAVM avm = new RealAVM(realVariable, constraints, startTimeMillis, timeout);
-					avm.applyAVM();
+					avm = new RealAVM(realVariable, constraints, distanceEstimator, startTimeMillis, timeout,
+							stopped);
 				} else if (v instanceof StringVariable) {
 					StringVariable strVariable = (StringVariable) v;
-					StringAVM avm = new StringAVM(strVariable, constraints, startTimeMillis, timeout);
-					avm.applyAVM();
+					avm = new StringAVM(strVariable, constraints, distanceEstimator, startTimeMillis, timeout,
+							stopped, random);
 				} else {
 					throw new RuntimeException("Unknown variable type " + v.getClass().getName());
 				}
-				distance = DistanceEstimator.getDistance(constraints);
+				avm.applyAVM();
+				distance = distanceEstimator.getDistance(v);
 				if (distance <= 0.0) {
 					log.info("Distance is 0, ending search");
 					break;
@@ -104,27 +191,127 @@ public final class EvoSuiteSolver extends Solver {
 				break;
 			} else {
 				log.info("Randomizing variables");
-				randomizeValues(variables, getConstants(constraints));
+				randomizeValues(variables, constants, random);
+				distance = distanceEstimator.getDistance();
 			}
 		}
+		return distance;
+	}
 
-		// distance = DistanceEstimator.getDistance(constraints);
-		if (distance <= 0) {
-			log.debug("Distance is " + distance + ", found solution");
-			Map<String, Object> new_model = getConcreteValues(variables);
-			setConcreteValues(variables, initialValues);
-			SolverResult satResult = SolverResult.newSAT(new_model);
-			return satResult;
-		} else {
-			setConcreteValues(variables, initialValues);
-			log.debug("Returning unknown, search was not successful");
-			SolverResult unknownResult = SolverResult.newUnknown();
-			return unknownResult;
+	/**
+	 * Runs <code>dse_solver_parallel_restarts</code> searches on independent
+	 * copies of the constraint system. The first search keeps the current
+	 * concrete values as starting point, the others start from random values.
+	 * 
+	 * @return the first satisfying model, or null if none was found
+	 */
+	private static Map<String, Object> solveInParallel(byte[] serializedConstraints, final long startTimeMillis,
+			final long timeout) throws SolverTimeoutException {
+
+		final int restarts = Properties.DSE_SOLVER_PARALLEL_RESTARTS;
+		final AtomicBoolean stopped = new AtomicBoolean(false);
+		CompletionService<Map<String, Object>> completionService = new ExecutorCompletionService<Map<String, Object>>(
+				getRestartPool(restarts));
+		List<Future<Map<String, Object>>> futures = new ArrayList<Future<Map<String, Object>>>();
+
+		for (int i = 0; i < restarts; i++) {
+			// seeds are drawn here to keep each restart reproducible
+			final long seed = Randomness.nextLong();
+			final boolean randomStart = i > 0;
+			final byte[] bytes = serializedConstraints;
+			futures.add(completionService.submit(new Callable<Map<String, Object>>() {
+				@Override
+				public Map<String, Object> call() throws Exception {
+					Collection<Constraint<?>> copy = deserialize(bytes);
+					Set<Variable<?>> variables = getVariables(copy);
+					Random random = new MersenneTwister(seed);
+					if (randomStart) {
+						randomizeValues(variables, getConstants(copy), random);
+					}
+					try {
+						double distance = search(copy, variables, startTimeMillis, timeout, stopped, random);
+						if (distance <= 0.0)
+							return getConcreteValues(variables);
+					} catch (SolverTimeoutException e) {
+						log.debug("Restart stopped before finding a solution");
+					}
+					return null;
+				}
+			}));
+		}
+
+		try {
+			for (int i = 0; i < restarts; i++) {
+				long remaining = timeout - (System.currentTimeMillis() - startTimeMillis);
+				Future<Map<String, Object>> future = completionService.poll(Math.max(remaining, 0),
+						TimeUnit.MILLISECONDS);
+				if (future == null) {
+					throw new SolverTimeoutException();
+				}
+				Map<String, Object> model = future.get();
+				if (model != null) {
+					return model;
+				}
+			}
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SolverTimeoutException();
+		} catch (ExecutionException e) {
+			log.warn("Parallel restart of the solver failed: " + e.getCause());
+			return null;
+		} finally {
+			stopped.set(true);
+			for (Future<Map<String, Object>> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	private static synchronized ForkJoinPool getRestartPool(int parallelism) {
+		if (restartPool == null || restartPool.getParallelism() != parallelism) {
+			if (restartPool != null)
+				restartPool.shutdown();
+			restartPool = new ForkJoinPool(parallelism);
 		}
+		return restartPool;
+	}
 
+	/**
+	 * Constraints are copied through serialization, so that variables shared
+	 * among constraints are still shared in the copy.
+	 * 
+	 * @return the serialized constraints, or null if they cannot be serialized
+	 */
+	private static byte[] serialize(Collection<Constraint<?>> constraints) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(new ArrayList<Constraint<?>>(constraints));
+			out.close();
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			log.debug("Could not serialize constraints: " + e);
+			return null;
+		}
 	}
 
-	private static void randomizeValues(Set<Variable<?>> variables, Set<Object> constants) {
+	@SuppressWarnings("unchecked")
+	private static Collection<Constraint<?>> deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+		try {
+			return (Collection<Constraint<?>>) in.readObject();
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * @param random
+	 *            the source of randomness, or <code>null</code> to use
+	 *            {@link Randomness}
+	 */
+	private static void randomizeValues(Set<Variable<?>> variables, Set<Object> constants, Random random) {
 		Set<String> stringConstants = new HashSet<String>();
 		Set<Long> longConstants = new HashSet<Long>();
 		Set<Double> realConstants = new HashSet<Double>();
@@ -142,29 +329,58 @@ public final class EvoSuiteSolver extends Solver {
 		for (Variable<?> v : variables) {
 			if (v instanceof StringVariable) {
 				StringVariable sv = (StringVariable) v;
-				if (!stringConstants.isEmpty() && Randomness.nextDouble() < Properties.DSE_CONSTANT_PROBABILITY) {
-					sv.setConcreteValue(Randomness.choice(stringConstants));
+				if (!stringConstants.isEmpty() && nextDouble(random) < Properties.DSE_CONSTANT_PROBABILITY) {
+					sv.setConcreteValue(choice(random, stringConstants));
 				} else {
-					sv.setConcreteValue(Randomness.nextString(Properties.STRING_LENGTH));
+					sv.setConcreteValue(nextString(random, Properties.STRING_LENGTH));
 				}
 			} else if (v instanceof IntegerVariable) {
 				IntegerVariable iv = (IntegerVariable) v;
-				if (!longConstants.isEmpty() && Randomness.nextDouble() < Properties.DSE_CONSTANT_PROBABILITY) {
-					iv.setConcreteValue(Randomness.choice(longConstants));
+				if (!longConstants.isEmpty() && nextDouble(random) < Properties.DSE_CONSTANT_PROBABILITY) {
+					iv.setConcreteValue(choice(random, longConstants));
 				} else {
-					iv.setConcreteValue((long) Randomness.nextInt(Properties.MAX_INT * 2) - Properties.MAX_INT);
+					iv.setConcreteValue((long) nextInt(random, Properties.MAX_INT * 2) - Properties.MAX_INT);
 				}
 			} else if (v instanceof RealVariable) {
 				RealVariable rv = (RealVariable) v;
-				if (!realConstants.isEmpty() && Randomness.nextDouble() < Properties.DSE_CONSTANT_PROBABILITY) {
-					rv.setConcreteValue(Randomness.choice(realConstants));
+				if (!realConstants.isEmpty() && nextDouble(random) < Properties.DSE_CONSTANT_PROBABILITY) {
+					rv.setConcreteValue(choice(random, realConstants));
 				} else {
-					rv.setConcreteValue((long) Randomness.nextInt(Properties.MAX_INT * 2) - Properties.MAX_INT);
+					rv.setConcreteValue((long) nextInt(random, Properties.MAX_INT * 2) - Properties.MAX_INT);
 				}
 			}
 		}
 	}
 
+	/*
+	 * The helpers below draw from the given random, or from Randomness if it
+	 * is null, in the same way as the corresponding Randomness methods
+	 */
+
+	private static double nextDouble(Random random) {
+		return random == null ? Randomness.nextDouble() : random.nextDouble();
+	}
+
+	private static int nextInt(Random random, int max) {
+		return random == null ? Randomness.nextInt(max) : random.nextInt(max);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T choice(Random random, Set<T> set) {
+		if (random == null)
+			return Randomness.choice(set);
+		return (T) set.toArray()[random.nextInt(set.size())];
+	}
+
+	private static String nextString(Random random, int length) {
+		if (random == null)
+			return Randomness.nextString(length);
+		char[] characters = new char[length];
+		for (int i = 0; i < length; i++)
+			characters[i] = (char) (random.nextInt(128 - 32) + 32);
+		return new String(characters);
+	}
+
 	private static Set<Object> getConstants(Collection<Constraint<?>> constraints) {
 		Set<Object> constants = new HashSet<Object>();
 		for (Constraint<?> c : constraints) {
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver.avm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.DistanceCalculator;
+import org.evosuite.symbolic.expr.Variable;
+import org.evosuite.symbolic.solver.DistanceEstimator;
+
+/**
+ * Computes the same distance as {@link DistanceEstimator}, but caches the
+ * distance of each single constraint. When only one variable changes (as it
+ * is the case during the AVM on that variable), only the constraints that
+ * depend on that variable are evaluated again.
+ * 
+ * <p>
+ * Instances are not thread-safe, each search has to use its own.
+ */
+final class IncrementalDistanceEstimator {
+
+	private final Constraint<?>[] constraints;
+
+	/**
+	 * Cached normalized distance of each constraint
+	 */
+	private final double[] distances;
+
+	/**
+	 * For each variable, the indexes of the constraints it appears in
+	 */
+	private final Map<Variable<?>, int[]> dependencies = new HashMap<Variable<?>, int[]>();
+
+	private final DistanceCalculator distanceCalculator = new DistanceCalculator();
+
+	private long evaluations = 0;
+
+	public IncrementalDistanceEstimator(Collection<Constraint<?>> cnstr) {
+		this.constraints = cnstr.toArray(new Constraint<?>[cnstr.size()]);
+		this.distances = new double[constraints.length];
+
+		Map<Variable<?>, List<Integer>> indexes = new HashMap<Variable<?>, List<Integer>>();
+		for (int i = 0; i < constraints.length; i++) {
+			Set<Variable<?>> variables = constraints[i].getVariables();
+			for (Variable<?> v : variables) {
+				List<Integer> list = indexes.get(v);
+				if (list == null) {
+					list = new ArrayList<Integer>();
+					indexes.put(v, list);
+				}
+				list.add(i);
+			}
+		}
+		for (Map.Entry<Variable<?>, List<Integer>> entry : indexes.entrySet()) {
+			List<Integer> list = entry.getValue();
+			int[] array = new int[list.size()];
+			for (int i = 0; i < array.length; i++)
+				array[i] = list.get(i);
+			dependencies.put(entry.getKey(), array);
+		}
+		getDistance();
+	}
+
+	/**
+	 * Evaluates all the constraints again, to be used when more than one
+	 * variable has changed.
+	 * 
+	 * @return normalized distance of the constraint system
+	 */
+	public double getDistance() {
+		for (int i = 0; i < constraints.length; i++)
+			evaluate(i);
+		return sum();
+	}
+
+	/**
+	 * Evaluates again only the constraints that depend on the given variable.
+	 * All the other variables must not have changed since the last call.
+	 * 
+	 * @param changed
+	 *            the only variable whose value has changed
+	 * @return normalized distance of the constraint system
+	 */
+	public double getDistance(Variable<?> changed) {
+		int[] indexes = dependencies.get(changed);
+		if (indexes != null) {
+			for (int i : indexes)
+				evaluate(i);
+		}
+		return sum();
+	}
+
+	/**
+	 * @return number of single constraint evaluations done so far
+	 */
+	public long getNumberOfEvaluations() {
+		return evaluations;
+	}
+
+	private void evaluate(int index) {
+		distances[index] = DistanceEstimator.getDistance(constraints[index], distanceCalculator);
+		evaluations++;
+	}
+
+	private double sum() {
+		double result = 0;
+		for (double d : distances) {
+			if (d == Double.MAX_VALUE)
+				return Double.MAX_VALUE;
+			result += d;
+		}
+		return Math.abs(result);
+	}
+}
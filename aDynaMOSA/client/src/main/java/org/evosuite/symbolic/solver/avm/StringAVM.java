@@ -21,7 +21,9 @@ package org.evosuite.symbolic.solver.avm;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.expr.ExpressionEvaluator;
@@ -29,7 +31,6 @@ import org.evosuite.symbolic.expr.StringConstraint;
 import org.evosuite.symbolic.expr.str.StringValue;
 import org.evosuite.symbolic.expr.str.StringVariable;
 import org.evosuite.symbolic.expr.token.HasMoreTokensExpr;
-import org.evosuite.symbolic.solver.DistanceEstimator;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
@@ -38,8 +39,21 @@ import org.slf4j.LoggerFactory;
 final class StringAVM extends VariableAVM {
 
 	public StringAVM(StringVariable strVar, Collection<Constraint<?>> cnstr, long start_time, long timeout) {
-		super(cnstr, start_time, timeout);
+		super(strVar, cnstr, start_time, timeout);
 		this.strVar = strVar;
+		this.random = null;
+	}
+
+	/**
+	 * @param random
+	 *            source of the characters added to the string, or
+	 *            <code>null</code> to draw them from {@link Randomness}
+	 */
+	public StringAVM(StringVariable strVar, Collection<Constraint<?>> cnstr, IncrementalDistanceEstimator distanceEstimator,
+			long start_time, long timeout, AtomicBoolean stopped, Random random) {
+		super(strVar, cnstr, distanceEstimator, start_time, timeout, stopped);
+		this.strVar = strVar;
+		this.random = random;
 	}
 
 	static Logger log = LoggerFactory.getLogger(StringAVM.class);
@@ -50,6 +64,17 @@ final class StringAVM extends VariableAVM {
 
 	private final StringVariable strVar;
 
+	private final Random random;
+
+	/**
+	 * Same distribution of {@link Randomness#nextChar()}
+	 */
+	private char nextChar() {
+		if (random == null)
+			return Randomness.nextChar();
+		return (char) (random.nextInt(128 - 32) + 32);
+	}
+
 	/**
 	 * <p>
 	 * strLocalSearch
@@ -64,7 +89,7 @@ final class StringAVM extends VariableAVM {
 		log.debug("Trying to remove characters");
 		boolean improvement = false;
 
-		checkpointVar(DistanceEstimator.getDistance(cnstr));
+		checkpointVar(getDistance());
 
 		// First chop characters from the back until distance doesn't improve
 		String oldString = strVar.getConcreteValue();
@@ -80,7 +105,7 @@ final class StringAVM extends VariableAVM {
 			log.debug("Current attempt: " + newStr);
 			improved = false;
 
-			double newDist = DistanceEstimator.getDistance(cnstr);
+			double newDist = getDistance();
 
 			// if (distImpr(newDist)) {
 			if (newDist <= checkpointDistance) {
@@ -113,7 +138,7 @@ final class StringAVM extends VariableAVM {
 		// try to add at the end
 		log.debug("Trying to add characters");
 
-		checkpointVar(DistanceEstimator.getDistance(cnstr));
+		checkpointVar(getDistance());
 
 		// Finally add new characters at the end of the string
 		improved = true;
@@ -124,10 +149,10 @@ final class StringAVM extends VariableAVM {
 			}
 
 			improved = false;
-			char charToInsert = Randomness.nextChar();
+			char charToInsert = nextChar();
 			String newStr = oldString + charToInsert;
 			strVar.setConcreteValue(newStr);
-			double newDist = DistanceEstimator.getDistance(cnstr);
+			double newDist = getDistance();
 			log.debug("Adding: " + newStr + ": " + newDist);
 			if (distImpr(newDist)) {
 				improvement = true;
@@ -162,10 +187,10 @@ final class StringAVM extends VariableAVM {
 				}
 
 				improved = false;
-				char charToInsert = Randomness.nextChar();
+				char charToInsert = nextChar();
 				String newStr = oldString + delimiterStr + charToInsert;
 				strVar.setConcreteValue(newStr);
-				double newDist = DistanceEstimator.getDistance(cnstr);
+				double newDist = getDistance();
 				log.debug("Adding: " + newStr + ": " + newDist);
 				if (distImpr(newDist)) {
 					improvement = true;
@@ -210,7 +235,7 @@ final class StringAVM extends VariableAVM {
 	 * @return
 	 */
 	private boolean doCharacterAVM(int position) throws SolverTimeoutException {
-		checkpointVar(DistanceEstimator.getDistance(cnstr));
+		checkpointVar(getDistance());
 		boolean done = false;
 		boolean hasImproved = false;
 
@@ -232,7 +257,7 @@ final class StringAVM extends VariableAVM {
 			characters[position] = replacement;
 			String newString = new String(characters);
 			strVar.setConcreteValue(newString);
-			double newDist = DistanceEstimator.getDistance(cnstr);
+			double newDist = getDistance();
 			log.debug("Probing increment " + position + ": " + newString + ": " + newDist + " replacement = "
 					+ (int) replacement);
 			if (distImpr(newDist)) {
@@ -248,7 +273,7 @@ final class StringAVM extends VariableAVM {
 				characters[position] = replacement;
 				newString = new String(characters);
 				strVar.setConcreteValue(newString);
-				newDist = DistanceEstimator.getDistance(cnstr);
+				newDist = getDistance();
 				log.debug("Probing decrement " + position + ": " + newString + ": " + newDist + " replacement = "
 						+ (int) replacement);
 				if (distImpr(newDist)) {
@@ -267,7 +292,7 @@ final class StringAVM extends VariableAVM {
 					characters[position] = replacement;
 					newString = new String(characters);
 					strVar.setConcreteValue(newString);
-					newDist = DistanceEstimator.getDistance(cnstr);
+					newDist = getDistance();
 					log.debug("Probing increment [32] " + position + ": " + newString + ": " + newDist
 							+ " replacement = " + (int) replacement);
 					if (distImpr(newDist)) {
@@ -283,7 +308,7 @@ final class StringAVM extends VariableAVM {
 						characters[position] = replacement;
 						newString = new String(characters);
 						strVar.setConcreteValue(newString);
-						newDist = DistanceEstimator.getDistance(cnstr);
+						newDist = getDistance();
 						log.debug("Probing increment [32] " + position + ": " + newString + ": " + newDist
 								+ " replacement = " + (int) replacement);
 						if (distImpr(newDist)) {
@@ -347,7 +372,7 @@ final class StringAVM extends VariableAVM {
 		characters[position] = replacement;
 		String newString = new String(characters);
 		strVar.setConcreteValue(newString);
-		double newDist = DistanceEstimator.getDistance(cnstr);
+		double newDist = getDistance();
 
 		while (distImpr(newDist)) {
 			if (isFinished()) {
@@ -369,7 +394,7 @@ final class StringAVM extends VariableAVM {
 			log.info(" " + position + " " + oldString + "/" + oldString.length() + " -> " + newString + "/"
 					+ newString.length());
 			strVar.setConcreteValue(newString);
-			newDist = DistanceEstimator.getDistance(cnstr);
+			newDist = getDistance();
 		}
 		log.debug("No improvement on " + oldString);
 		restoreVar();
@@ -20,8 +20,10 @@
 package org.evosuite.symbolic.solver.avm;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 
 abstract class VariableAVM {
@@ -29,17 +31,47 @@ abstract class VariableAVM {
 	protected final Collection<Constraint<?>> cnstr;
 	private final long start_time;
 	private final long timeout;
+	private final Variable<?> variable;
+	private final IncrementalDistanceEstimator distanceEstimator;
 
-	public VariableAVM(Collection<Constraint<?>> cnstr, long startTimeMillis, long timeout) {
+	/**
+	 * Set when the search on this constraint system should be abandoned (e.g.,
+	 * because a parallel restart already found a solution)
+	 */
+	private final AtomicBoolean stopped;
+
+	public VariableAVM(Variable<?> variable, Collection<Constraint<?>> cnstr, long startTimeMillis, long timeout) {
+		this(variable, cnstr, new IncrementalDistanceEstimator(cnstr), startTimeMillis, timeout,
+				new AtomicBoolean(false));
+	}
+
+	public VariableAVM(Variable<?> variable, Collection<Constraint<?>> cnstr,
+			IncrementalDistanceEstimator distanceEstimator, long startTimeMillis, long timeout,
+			AtomicBoolean stopped) {
+		this.variable = variable;
 		this.cnstr = cnstr;
+		this.distanceEstimator = distanceEstimator;
 		this.start_time = startTimeMillis;
 		this.timeout = timeout;
+		this.stopped = stopped;
 	}
 
 	protected boolean isFinished() {
+		if (stopped.get())
+			return true;
 		long current_time = System.currentTimeMillis();
 		return (current_time - start_time) > timeout;
 	}
+
+	/**
+	 * Distance of the constraint system, assuming that only the variable of
+	 * this AVM has changed since the last evaluation
+	 * 
+	 * @return normalized distance
+	 */
+	protected double getDistance() {
+		return distanceEstimator.getDistance(variable);
+	}
 	
 	public abstract boolean applyAVM() throws SolverTimeoutException;
 }
@@ -34,6 +34,7 @@ import org.evosuite.symbolic.expr.ref.ReferenceConstant;
 import org.evosuite.symbolic.expr.ref.ReferenceExpression;
 import org.evosuite.symbolic.instrument.ConcolicInstrumentingClassLoader;
 import org.evosuite.symbolic.instrument.ConcolicMethodAdapter;
+import org.evosuite.symbolic.instrument.ConcolicTaintAnalysis;
 import org.objectweb.asm.Type;
 import org.evosuite.dse.AbstractVM;
 
@@ -164,6 +165,11 @@ public final class CallVM extends AbstractVM {
 	private final HashMap<Member, MemberInfo> memberInfos = new HashMap<Member, MemberInfo>();
 	private final ConcolicInstrumentingClassLoader classLoader;
 
+	/**
+	 * Methods proven to never see symbolic values are not instrumented
+	 */
+	private final ConcolicTaintAnalysis taintAnalysis = ConcolicTaintAnalysis.getInstance();
+
 	/**
 	 * Cache max values for this method, except for static initializers.
 	 */
@@ -519,7 +525,8 @@ public final class CallVM extends AbstractVM {
 	private Method methodCall(String className, String methName, String methDesc) {
 		final Method method = resolveMethodOverloading(className, methName, methDesc);
 		/* private method may be native */
-		boolean instrumented = isIgnored(method);
+		boolean instrumented = isIgnored(method) && taintAnalysis.isInstrumentationRequired(
+				method.getDeclaringClass().getName(), methName, methDesc);
 		env.topFrame().invokeInstrumentedCode(instrumented);
 		return method;
 	}
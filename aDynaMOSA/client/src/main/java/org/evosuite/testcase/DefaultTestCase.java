@@ -28,12 +28,14 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.evosuite.assertion.Assertion;
@@ -89,6 +91,14 @@ public class DefaultTestCase implements TestCase, Serializable {
 
 	private int id;
 
+	/**
+	 * Which variable types and which fields can be reused for a requested type.
+	 * This only depends on the types, not on the statements, so it is shared with
+	 * the clones of this test and does not change when statements are inserted,
+	 * removed or replaced
+	 */
+	private transient ReuseCache reuseCache;
+
 	/**
 	 * Constructor
 	 */
@@ -172,15 +182,8 @@ public class DefaultTestCase implements TestCase, Serializable {
 		if (!var.isPrimitive() && !(var instanceof NullReference)) {
 			// add fields of this object to list
 			for (Field field : TestClusterUtils.getAccessibleFields(var.getVariableClass())) {
-				Type fieldType = field.getType();
-				try {
-					fieldType = field.getGenericType();
-				} catch (java.lang.reflect.GenericSignatureFormatError e) {
-					// Ignore
-					fieldType = field.getType();
-				}
 				FieldReference f = new FieldReference(this, new GenericField(field,
-				        var.getGenericClass()), fieldType, var);
+				        var.getGenericClass()), getFieldType(field), var);
 				if (f.getDepth() <= 2) {
 					if (type != null) {
 						if (f.isAssignableTo(type) && !variables.contains(f)) {
@@ -194,6 +197,52 @@ public class DefaultTestCase implements TestCase, Serializable {
 		}
 	}
 
+	/**
+	 * Same as {@link #addFields(List, VariableReference, Type)} with a non-null type,
+	 * but the accessible fields of each class that are assignable to the type are
+	 * only looked for once, and stored in {@code assignableFields}
+	 */
+	private void addFields(List<VariableReference> variables, VariableReference var,
+	        Type type, Map<Class<?>, List<Field>> assignableFields) {
+
+		if (var.isPrimitive() || var instanceof NullReference) {
+			return;
+		}
+
+		Class<?> variableClass = var.getVariableClass();
+		List<Field> fields = assignableFields.get(variableClass);
+		if (fields == null) {
+			fields = new ArrayList<>();
+			for (Field field : TestClusterUtils.getAccessibleFields(variableClass)) {
+				// the type of the field reference does not depend on its source
+				if (GenericClass.isAssignable(type, new GenericClass(getFieldType(field)).getType())) {
+					fields.add(field);
+				}
+			}
+			List<Field> previous = assignableFields.putIfAbsent(variableClass, fields);
+			if (previous != null) {
+				fields = previous;
+			}
+		}
+
+		for (Field field : fields) {
+			FieldReference f = new FieldReference(this, new GenericField(field,
+			        var.getGenericClass()), getFieldType(field), var);
+			if (f.getDepth() <= 2 && !variables.contains(f)) {
+				variables.add(f);
+			}
+		}
+	}
+
+	private static Type getFieldType(Field field) {
+		try {
+			return field.getGenericType();
+		} catch (java.lang.reflect.GenericSignatureFormatError e) {
+			// Ignore
+			return field.getType();
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void addListener(Listener<Void> listener) {
@@ -264,6 +313,8 @@ public class DefaultTestCase implements TestCase, Serializable {
 	 */
 	public void changeClassLoader(ClassLoader loader) {
 		changedClassLoader  = loader;
+		// the types of the variables are replaced
+		reuseCache = null;
 		for (Statement s : statements) {
 			s.changeClassLoader(loader);
 		}
@@ -370,6 +421,7 @@ public class DefaultTestCase implements TestCase, Serializable {
 		t.coveredGoals.addAll(coveredGoals);
 		t.accessedEnvironment.copyFrom(accessedEnvironment);
 		t.isFailing = isFailing;
+		t.reuseCache = getReuseCache();
 		t.id = idGenerator.getAndIncrement(); //always create new ID when making a clone
 		//t.exception_statement = exception_statement;
 		//t.exceptionThrown = exceptionThrown;
@@ -584,10 +636,32 @@ public class DefaultTestCase implements TestCase, Serializable {
 	/** {@inheritDoc} */
 	@Override
 	public List<VariableReference> getObjects(Type type, int position) {
+		/*
+		 * Most statements share few types, so whether a type can be used, and which
+		 * fields of a class can be used, are looked up by type. The types of the
+		 * variables can change in place (eg, when executed), so the positions of
+		 * the variables are not kept
+		 */
+		ReuseCache cache = getReuseCache();
+		return getObjects(type, position, cache.getUsableTypes(type), cache.getAssignableFields(type));
+	}
+
+	/**
+	 * Same as {@link #getObjects(Type, int)}, but checks every variable and field
+	 * again instead of using what was found on previous calls
+	 */
+	List<VariableReference> getObjectsWithoutCache(Type type, int position) {
+		return getObjects(type, position, new HashMap<Type, Boolean>(),
+		                  new HashMap<Class<?>, List<Field>>());
+	}
+
+	private List<VariableReference> getObjects(Type type, int position,
+	        Map<Type, Boolean> usableTypes, Map<Class<?>, List<Field>> assignableFields) {
 		List<VariableReference> variables = new LinkedList<VariableReference>();
 
 		GenericClass genericClass = new GenericClass(type);
 		Class<?> rawClass = genericClass.getRawClass();
+
 		for (int i = 0; i < position && i < size(); i++) {
 			Statement statement = statements.get(i);
 			if(statement instanceof MethodStatement) {
@@ -630,17 +704,71 @@ public class DefaultTestCase implements TestCase, Serializable {
 				}
 			} else if (value instanceof ArrayIndex) {
 				// Don't need to add this because array indices are created for array statement
-			} else if (value.isAssignableTo(type) && value.isPrimitive() == rawClass.isPrimitive() &&
-					value.isArray() == rawClass.isArray()) {
+			} else if (isUsable(value, type, rawClass, usableTypes)) {
 				variables.add(value);
 			} else {
-				addFields(variables, value, type);
+				addFields(variables, value, type, assignableFields);
 			}			
 		}
 
 		return variables;
 	}
 
+	private static boolean isUsable(VariableReference value, Type type, Class<?> rawClass,
+	        Map<Type, Boolean> usableTypes) {
+		Type valueType = value.getType();
+		Boolean usable = usableTypes.get(valueType);
+		if (usable == null) {
+			usable = value.isAssignableTo(type) && value.isPrimitive() == rawClass.isPrimitive()
+			        && value.isArray() == rawClass.isArray();
+			usableTypes.put(valueType, usable);
+		}
+		return usable;
+	}
+
+	private ReuseCache getReuseCache() {
+		if (reuseCache == null) {
+			reuseCache = new ReuseCache();
+		}
+		return reuseCache;
+	}
+
+	/**
+	 * For each requested type, whether variables of a given type can be used for
+	 * it, and which accessible fields of a given class can. The values are only
+	 * added and depend on the types alone, so clones on other threads may share it
+	 */
+	private static final class ReuseCache {
+
+		private final Map<Type, Map<Type, Boolean>> usableTypes = new ConcurrentHashMap<>();
+
+		private final Map<Type, Map<Class<?>, List<Field>>> assignableFields = new ConcurrentHashMap<>();
+
+		Map<Type, Boolean> getUsableTypes(Type type) {
+			Map<Type, Boolean> usable = usableTypes.get(type);
+			if (usable == null) {
+				usable = new ConcurrentHashMap<>();
+				Map<Type, Boolean> previous = usableTypes.putIfAbsent(type, usable);
+				if (previous != null) {
+					usable = previous;
+				}
+			}
+			return usable;
+		}
+
+		Map<Class<?>, List<Field>> getAssignableFields(Type type) {
+			Map<Class<?>, List<Field>> fields = assignableFields.get(type);
+			if (fields == null) {
+				fields = new ConcurrentHashMap<>();
+				Map<Class<?>, List<Field>> previous = assignableFields.putIfAbsent(type, fields);
+				if (previous != null) {
+					fields = previous;
+				}
+			}
+			return fields;
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.evosuite.testcase.TestCase#getRandomObject(java.lang.reflect.Type, int)
 	 */
@@ -78,14 +78,20 @@ public class TestFactory {
 	private static final Logger logger = LoggerFactory.getLogger(TestFactory.class);
 
 	/**
-	 * Keep track of objects we are already trying to generate to avoid cycles
+	 * Keep track of objects we are already trying to generate to avoid cycles.
+	 * Tests can be generated on several threads at once (e.g., the initial
+	 * population), each of them needs its own set
 	 */
-	private transient Set<GenericAccessibleObject<?>> currentRecursion = new LinkedHashSet<GenericAccessibleObject<?>>();
+	private final ThreadLocal<Set<GenericAccessibleObject<?>>> currentRecursion = ThreadLocal.withInitial(LinkedHashSet::new);
 
 	/** Singleton instance */
 	private static TestFactory instance = null;
 
-    private ReflectionFactory reflectionFactory;
+    /**
+     * Created lazily for the target class. Each thread building tests creates
+     * its own, so that they need not coordinate
+     */
+    private final ThreadLocal<ReflectionFactory> threadReflectionFactory = new ThreadLocal<>();
 
     private TestFactory(){
         reset();
@@ -95,8 +101,8 @@ public class TestFactory {
 	 * We keep track of calls already attempted to avoid infinite recursion
 	 */
 	public void reset() {
-		currentRecursion.clear();
-        reflectionFactory = null;
+		currentRecursion.get().clear();
+        threadReflectionFactory.remove();
 	}
 
 	public static TestFactory getInstance() {
@@ -118,7 +124,7 @@ public class TestFactory {
 		logger.trace("addCallFor {}", callee.getName());
 
 		int previousLength = test.size();
-		currentRecursion.clear();
+		currentRecursion.get().clear();
 
 		try {
 			if (call.isMethod()) {
@@ -484,7 +490,7 @@ public class TestFactory {
 		if(position <= callee.getStPosition())
 			throw new ConstructionFailedException("Cannot insert call on object before the object is defined");
 
-		currentRecursion.clear();
+		currentRecursion.get().clear();
 
 		FieldReference fieldVar = new FieldReference(test, field, callee);
 		int length = test.size();
@@ -588,7 +594,7 @@ public class TestFactory {
 			throw new ConstructionFailedException("Cannot insert call on object before the object is defined");
 		}
 
-		currentRecursion.clear();
+		currentRecursion.get().clear();
 		int length = test.size();
 
 		boolean allowNull = true;
@@ -640,7 +646,7 @@ public class TestFactory {
 	 */
 	public void appendStatement(TestCase test, Statement statement)
 	        throws ConstructionFailedException {
-		currentRecursion.clear();
+		currentRecursion.get().clear();
 
 		if (statement instanceof ConstructorStatement) {
 			addConstructor(test, ((ConstructorStatement) statement).getConstructor(),
@@ -873,7 +879,7 @@ public class TestFactory {
 		}
 
 		GenericAccessibleObject<?> o = TestCluster.getInstance().getRandomGenerator(choice);
-		currentRecursion.add(o);
+		currentRecursion.get().add(o);
 
 		if (o == null) {
 
@@ -1118,11 +1124,11 @@ public class TestFactory {
 
 		objects.remove(statement.getReturnValue());
 		logger.debug("Found assignable objects: " + objects.size());
-		Set<GenericAccessibleObject<?>> currentArrayRecursion = new LinkedHashSet<>(currentRecursion);
+		Set<GenericAccessibleObject<?>> currentArrayRecursion = new LinkedHashSet<>(currentRecursion.get());
 
 		for (int i = 0; i < statement.size(); i++) {
-			currentRecursion.clear();
-			currentRecursion.addAll(currentArrayRecursion);
+			currentRecursion.get().clear();
+			currentRecursion.get().addAll(currentArrayRecursion);
 			logger.debug("Assigning array index " + i);
 			int oldLength = test.size();
 			assignArray(test, reference, i, position, objects);
@@ -1230,8 +1236,8 @@ public class TestFactory {
 			//regular creation
 
 			GenericAccessibleObject<?> o = TestCluster.getInstance().getRandomGenerator(
-					clazz, currentRecursion, test, position, generatorRefToExclude, recursionDepth);
-			currentRecursion.add(o);
+					clazz, currentRecursion.get(), test, position, generatorRefToExclude, recursionDepth);
+			currentRecursion.get().add(o);
 
 			if (o == null) {
 				if(canReuseVariables){
@@ -1973,6 +1979,16 @@ public class TestFactory {
 	}
 
 
+    private ReflectionFactory getReflectionFactory() {
+        ReflectionFactory factory = threadReflectionFactory.get();
+        if(factory==null){
+            final Class<?> targetClass = Properties.getTargetClassAndDontInitialise();
+            factory = new ReflectionFactory(targetClass);
+            threadReflectionFactory.set(factory);
+        }
+        return factory;
+    }
+
     private boolean insertRandomReflectionCall(TestCase test, int position, int recursionDepth)
         throws ConstructionFailedException {
 
@@ -1982,6 +1998,7 @@ public class TestFactory {
             throw new ConstructionFailedException("Max recursion depth reached");
         }
 
+        ReflectionFactory reflectionFactory = getReflectionFactory();
         int length = test.size();
         List<VariableReference> parameters = null;
         Statement st = null;
@@ -2031,6 +2048,7 @@ public class TestFactory {
 			throw new ConstructionFailedException("Max recursion depth reached");
 		}
 
+        ReflectionFactory reflectionFactory = getReflectionFactory();
         if(!reflectionFactory.getReflectedClass().isAssignableFrom(callee.getVariableClass())) {
             logger.debug("Reflection not performed on class {}", callee.getVariableClass());
             return false;
@@ -2091,7 +2109,7 @@ public class TestFactory {
 	public int insertRandomCallOnEnvironment(TestCase test, int lastValidPosition){
 
 		int previousLength = test.size();
-		currentRecursion.clear();
+		currentRecursion.get().clear();
 
 		List<GenericAccessibleObject<?>> shuffledOptions = TestCluster.getInstance().getRandomizedCallsToEnvironment();
 		if(shuffledOptions==null || shuffledOptions.isEmpty()){
@@ -2160,15 +2178,10 @@ public class TestFactory {
 	public boolean insertRandomCall(TestCase test, int position) {
 		int previousLength = test.size();
 		String name = "";
-		currentRecursion.clear();
+		currentRecursion.get().clear();
 		logger.debug("Inserting random call at position {}", position);
 		try {
-            if(reflectionFactory==null){
-    			final Class<?> targetClass = Properties.getTargetClassAndDontInitialise();
-                reflectionFactory = new ReflectionFactory(targetClass);
-            }
-
-            if(reflectionFactory.hasPrivateFieldsOrMethods() &&
+            if(getReflectionFactory().hasPrivateFieldsOrMethods() &&
                     TimeController.getInstance().getPhasePercentage() >= Properties.REFLECTION_START_PERCENT &&
                     (Randomness.nextDouble() < Properties.P_REFLECTION_ON_PRIVATE || TestCluster.getInstance().getNumTestCalls() == 0)){
                 logger.debug("Going to insert random reflection call");
@@ -2285,12 +2298,7 @@ public class TestFactory {
 		} else {
 			logger.debug("Getting calls for object {}", var.toString());
 			try {
-                if(reflectionFactory==null){
-        			final Class<?> targetClass = Properties.getTargetClassAndDontInitialise();
-                    reflectionFactory = new ReflectionFactory(targetClass);
-                }
-
-                if(reflectionFactory.hasPrivateFieldsOrMethods() &&
+                if(getReflectionFactory().hasPrivateFieldsOrMethods() &&
                         TimeController.getInstance().getPhasePercentage() >= Properties.REFLECTION_START_PERCENT &&
                         Randomness.nextDouble() < Properties.P_REFLECTION_ON_PRIVATE){
                     return insertRandomReflectionCallOnObject(test, var, position, 0);
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index over the method calls of an execution trace, used to compute control flow distances.
+ * The calls are grouped by method in a single pass over the trace, and the branch distances of
+ * the calls to a method are summarised the first time that method is queried, so that the
+ * distances of all the goals of a method are computed from the same summaries instead of
+ * scanning the whole trace once per goal.
+ */
+public final class BranchDistanceIndex {
+
+	/** Calls in the trace, by class name and method name (name + descriptor) */
+	private final Map<String, Map<String, List<MethodCall>>> callsByMethod = new HashMap<>();
+
+	/** Summaries of the calls of the methods queried so far, by class name and method name */
+	private final Map<String, Map<String, List<CallDistances>>> distancesByMethod = new HashMap<>();
+
+	public BranchDistanceIndex(ExecutionTrace trace) {
+		for (MethodCall call : trace.getMethodCalls()) {
+			callsByMethod.computeIfAbsent(call.className, k -> new HashMap<>())
+					.computeIfAbsent(call.methodName, k -> new ArrayList<>()).add(call);
+		}
+	}
+
+	/**
+	 * Returns the branch distances of each call to the given method, in trace order.
+	 *
+	 * @param className the name of the class declaring the method
+	 * @param methodName method name and descriptor
+	 * @return an empty list if the method was not called
+	 */
+	public synchronized List<CallDistances> getCalls(String className, String methodName) {
+		Map<String, List<MethodCall>> methods = callsByMethod.get(className);
+		if (methods == null || !methods.containsKey(methodName))
+			return Collections.emptyList();
+
+		Map<String, List<CallDistances>> summaries = distancesByMethod.computeIfAbsent(className,
+				k -> new HashMap<>());
+		List<CallDistances> distances = summaries.get(methodName);
+		if (distances == null) {
+			List<MethodCall> calls = methods.get(methodName);
+			List<CallDistances> summary = new ArrayList<>(calls.size());
+			for (MethodCall call : calls)
+				summary.add(new CallDistances(call));
+			distances = Collections.unmodifiableList(summary);
+			summaries.put(methodName, distances);
+		}
+		return distances;
+	}
+
+	/**
+	 * Minimal true and false distances of the branches evaluated during a single method call
+	 */
+	public static final class CallDistances {
+
+		/** branch id -> {minimal true distance, minimal false distance} */
+		private final Map<Integer, double[]> distances;
+
+		private CallDistances(MethodCall call) {
+			distances = new HashMap<>(call.branchTrace.size() * 2);
+			for (int pos = 0; pos < call.branchTrace.size(); pos++) {
+				double trueDistance = call.trueDistanceTrace.get(pos);
+				double falseDistance = call.falseDistanceTrace.get(pos);
+				double[] d = distances.get(call.branchTrace.get(pos));
+				if (d == null) {
+					distances.put(call.branchTrace.get(pos), new double[] { trueDistance, falseDistance });
+				} else {
+					d[0] = Math.min(d[0], trueDistance);
+					d[1] = Math.min(d[1], falseDistance);
+				}
+			}
+		}
+
+		/**
+		 * Returns true if the branch was evaluated at least once during the call
+		 */
+		public boolean isTraced(int branchId) {
+			return distances.containsKey(branchId);
+		}
+
+		/**
+		 * Returns the minimal distance to evaluate the branch to the given value, over all
+		 * its evaluations during the call
+		 *
+		 * @throws IllegalArgumentException if the branch was not evaluated during the call
+		 */
+		public double getDistance(int branchId, boolean value) throws IllegalArgumentException {
+			double[] d = distances.get(branchId);
+			if (d == null)
+				throw new IllegalArgumentException("Branch " + branchId + " was not evaluated during the call");
+			return value ? d[0] : d[1];
+		}
+	}
+}
@@ -0,0 +1,341 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of the definitions and uses passed during an execution.
+ * 
+ * Every event is stored as a (duCounter, kind, defUseId, objectId) tuple in
+ * parallel primitive arrays, together with the variable it refers to and the
+ * value that was defined or used. The nested per-variable maps expected by
+ * {@link ExecutionTrace#getPassedDefinitions(String)} and friends are only
+ * built when first asked for, in a single pass over the log.
+ * 
+ * Events are appended in increasing duCounter order, so clients that need to
+ * look at all definitions and uses in execution order (e.g. to determine
+ * which definition was active at a use) can simply iterate from 0 to
+ * {@link #size()}.
+ * 
+ * As the log is never changed in place, a {@link #copy()} shares the arrays
+ * of the original, and either of them only copies them on its next append.
+ */
+public class DefUseTrace {
+
+	public static final byte DEFINITION = 0;
+
+	public static final byte USE = 1;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int size = 0;
+
+	private int[] duCounters = new int[INITIAL_CAPACITY];
+
+	private byte[] kinds = new byte[INITIAL_CAPACITY];
+
+	private int[] defUseIds = new int[INITIAL_CAPACITY];
+
+	private int[] objectIds = new int[INITIAL_CAPACITY];
+
+	private int[] variables = new int[INITIAL_CAPACITY];
+
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	private List<String> variableNames;
+
+	private Map<String, Integer> variableIndex;
+
+	/** Whether the arrays and variables might be used by another log */
+	private boolean shared = false;
+
+	// lazily built views, valid as long as indexedSize == size
+	private int indexedSize = -1;
+
+	private Map<String, HashMap<Integer, HashMap<Integer, Integer>>> definitionIndex;
+
+	private Map<String, HashMap<Integer, HashMap<Integer, Integer>>> useIndex;
+
+	private Map<String, HashMap<Integer, HashMap<Integer, Object>>> definitionObjectIndex;
+
+	private Map<String, HashMap<Integer, HashMap<Integer, Object>>> useObjectIndex;
+
+	// ids of the definitions and uses passed, valid as long as passedSize == size
+	private int passedSize = -1;
+
+	private BitSet passedDefinitions;
+
+	private BitSet passedUses;
+
+	public DefUseTrace() {
+		variableNames = new ArrayList<String>();
+		variableIndex = new HashMap<String, Integer>();
+	}
+
+	private DefUseTrace(DefUseTrace other) {
+		size = other.size;
+		duCounters = other.duCounters;
+		kinds = other.kinds;
+		defUseIds = other.defUseIds;
+		objectIds = other.objectIds;
+		variables = other.variables;
+		values = other.values;
+		variableNames = other.variableNames;
+		variableIndex = other.variableIndex;
+		indexedSize = other.indexedSize;
+		definitionIndex = other.definitionIndex;
+		useIndex = other.useIndex;
+		definitionObjectIndex = other.definitionObjectIndex;
+		useObjectIndex = other.useObjectIndex;
+		passedSize = other.passedSize;
+		passedDefinitions = other.passedDefinitions;
+		passedUses = other.passedUses;
+		shared = true;
+		other.shared = true;
+	}
+
+	/**
+	 * Record that the definition with the given id was passed
+	 */
+	public void addDefinition(int duCounter, String variableName, int objectId, int defId, Object value) {
+		add(duCounter, DEFINITION, variableName, objectId, defId, value);
+	}
+
+	/**
+	 * Record that the use with the given id was passed
+	 */
+	public void addUse(int duCounter, String variableName, int objectId, int useId, Object value) {
+		add(duCounter, USE, variableName, objectId, useId, value);
+	}
+
+	private void add(int duCounter, byte kind, String variableName, int objectId, int defUseId, Object value) {
+		if (shared) {
+			unshare();
+		} else if (size == duCounters.length) {
+			grow();
+		}
+		Integer variable = variableIndex.get(variableName);
+		if (variable == null) {
+			variable = variableNames.size();
+			variableNames.add(variableName);
+			variableIndex.put(variableName, variable);
+		}
+		duCounters[size] = duCounter;
+		kinds[size] = kind;
+		defUseIds[size] = defUseId;
+		objectIds[size] = objectId;
+		variables[size] = variable;
+		values[size] = value;
+		size++;
+	}
+
+	private void unshare() {
+		resize(Math.max(size * 2, INITIAL_CAPACITY));
+		variableNames = new ArrayList<String>(variableNames);
+		variableIndex = new HashMap<String, Integer>(variableIndex);
+		shared = false;
+	}
+
+	private void grow() {
+		resize(duCounters.length * 2);
+	}
+
+	private void resize(int capacity) {
+		duCounters = Arrays.copyOf(duCounters, capacity);
+		kinds = Arrays.copyOf(kinds, capacity);
+		defUseIds = Arrays.copyOf(defUseIds, capacity);
+		objectIds = Arrays.copyOf(objectIds, capacity);
+		variables = Arrays.copyOf(variables, capacity);
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	/**
+	 * @return a copy of this log that can be appended to independently.
+	 *         No event is copied until one of the two logs is appended to
+	 */
+	public DefUseTrace copy() {
+		return new DefUseTrace(this);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int getDUCounter(int event) {
+		return duCounters[event];
+	}
+
+	public boolean isDefinition(int event) {
+		return kinds[event] == DEFINITION;
+	}
+
+	public boolean isUse(int event) {
+		return kinds[event] == USE;
+	}
+
+	public int getDefUseId(int event) {
+		return defUseIds[event];
+	}
+
+	public int getObjectId(int event) {
+		return objectIds[event];
+	}
+
+	/**
+	 * Variables are numbered in the order they are first seen in this log;
+	 * the number can be mapped back with {@link #getVariableName(int)}
+	 */
+	public int getVariable(int event) {
+		return variables[event];
+	}
+
+	public String getVariableName(int variable) {
+		return variableNames.get(variable);
+	}
+
+	public int getNumberOfVariables() {
+		return variableNames.size();
+	}
+
+	public Object getValue(int event) {
+		return values[event];
+	}
+
+	/**
+	 * Cheaper than looking for the id in {@link #getDefinitionData()}, as no map
+	 * needs to be built
+	 * 
+	 * @return whether the definition with the given id was passed
+	 */
+	public boolean hasDefinition(int defId) {
+		buildPassed();
+		return defId >= 0 && passedDefinitions.get(defId);
+	}
+
+	/**
+	 * @return whether the use with the given id was passed
+	 */
+	public boolean hasUse(int useId) {
+		buildPassed();
+		return useId >= 0 && passedUses.get(useId);
+	}
+
+	private void buildPassed() {
+		if (passedSize == size) {
+			return;
+		}
+		passedDefinitions = new BitSet();
+		passedUses = new BitSet();
+		for (int i = 0; i < size; i++) {
+			if (defUseIds[i] < 0) {
+				continue;
+			}
+			if (kinds[i] == DEFINITION) {
+				passedDefinitions.set(defUseIds[i]);
+			} else {
+				passedUses.set(defUseIds[i]);
+			}
+		}
+		passedSize = size;
+	}
+
+	/**
+	 * @return variableName -&gt; objectId -&gt; (duCounter -&gt; defId)
+	 */
+	public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> getDefinitionData() {
+		buildIndex();
+		return definitionIndex;
+	}
+
+	/**
+	 * @return variableName -&gt; objectId -&gt; (duCounter -&gt; useId)
+	 */
+	public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> getUseData() {
+		buildIndex();
+		return useIndex;
+	}
+
+	/**
+	 * @return variableName -&gt; objectId -&gt; (duCounter -&gt; defined value)
+	 */
+	public Map<String, HashMap<Integer, HashMap<Integer, Object>>> getDefinitionDataObjects() {
+		buildIndex();
+		return definitionObjectIndex;
+	}
+
+	/**
+	 * @return variableName -&gt; objectId -&gt; (duCounter -&gt; used value)
+	 */
+	public Map<String, HashMap<Integer, HashMap<Integer, Object>>> getUseDataObjects() {
+		buildIndex();
+		return useObjectIndex;
+	}
+
+	private void buildIndex() {
+		if (indexedSize == size) {
+			return;
+		}
+		definitionIndex = new HashMap<String, HashMap<Integer, HashMap<Integer, Integer>>>();
+		useIndex = new HashMap<String, HashMap<Integer, HashMap<Integer, Integer>>>();
+		definitionObjectIndex = new HashMap<String, HashMap<Integer, HashMap<Integer, Object>>>();
+		useObjectIndex = new HashMap<String, HashMap<Integer, HashMap<Integer, Object>>>();
+		for (int i = 0; i < size; i++) {
+			String variableName = variableNames.get(variables[i]);
+			if (kinds[i] == DEFINITION) {
+				put(definitionIndex, definitionObjectIndex, variableName, i);
+			} else {
+				put(useIndex, useObjectIndex, variableName, i);
+			}
+		}
+		indexedSize = size;
+	}
+
+	private void put(Map<String, HashMap<Integer, HashMap<Integer, Integer>>> ids,
+			Map<String, HashMap<Integer, HashMap<Integer, Object>>> objects, String variableName, int event) {
+		HashMap<Integer, HashMap<Integer, Integer>> idsPerObject = ids.get(variableName);
+		HashMap<Integer, HashMap<Integer, Object>> objectsPerObject = objects.get(variableName);
+		if (idsPerObject == null) {
+			idsPerObject = new HashMap<Integer, HashMap<Integer, Integer>>();
+			objectsPerObject = new HashMap<Integer, HashMap<Integer, Object>>();
+			ids.put(variableName, idsPerObject);
+			objects.put(variableName, objectsPerObject);
+		}
+		HashMap<Integer, Integer> positions = idsPerObject.get(objectIds[event]);
+		HashMap<Integer, Object> positionObjects = objectsPerObject.get(objectIds[event]);
+		if (positions == null) {
+			positions = new HashMap<Integer, Integer>();
+			positionObjects = new HashMap<Integer, Object>();
+			idsPerObject.put(objectIds[event], positions);
+			objectsPerObject.put(objectIds[event], positionObjects);
+		}
+		positions.put(duCounters[event], defUseIds[event]);
+		positionObjects.put(duCounters[event], values[event]);
+	}
+}
@@ -53,6 +53,15 @@ public class ExecutionResult implements Cloneable {
 	/** Trace recorded during execution */
 	protected ExecutionTrace trace;
 
+	/** Branch distances of the trace grouped by method, built on first use */
+	private BranchDistanceIndex branchDistanceIndex = null;
+
+	/**
+	 * Summaries of the trace computed by fitness functions, by fitness function.
+	 * They only depend on the trace, so they are shared with the clones of this result
+	 */
+	private Map<Object, Object> fitnessContributions = null;
+
 	/** Duration of execution */
 	protected long executionTime = 0L;
 
@@ -69,6 +78,12 @@ public class ExecutionResult implements Cloneable {
 	 * Keep track of whether any System property was written
 	 */
 	protected boolean wasAnyPropertyWritten;
+
+	/**
+	 * Number of iterations of each instrumented loop, indexed by the loop id
+	 * assigned by the runtime LoopCounter
+	 */
+	protected long[] loopIterations = new long[0];
 	
 	/*
 	 * Regression Object Distance
@@ -284,6 +299,57 @@ public class ExecutionResult implements Cloneable {
 			throw new IllegalArgumentException("Trace cannot be null");
 		}
 		this.trace = trace;
+		clearTraceSummaries();
+	}
+
+	/**
+	 * Drops the branch distance index and the summaries stored by fitness
+	 * functions, so they are computed again from the trace on the next request.
+	 * Needed when the trace was modified after they were computed
+	 */
+	public synchronized void clearTraceSummaries() {
+		this.branchDistanceIndex = null;
+		this.fitnessContributions = null;
+	}
+
+	/**
+	 * Returns the branch distances of the execution trace, grouped by method.
+	 * The index is built on the first call, i.e., once the execution is over.
+	 *
+	 * @return a {@link org.evosuite.testcase.execution.BranchDistanceIndex} object.
+	 */
+	public synchronized BranchDistanceIndex getBranchDistanceIndex() {
+		if (branchDistanceIndex == null)
+			branchDistanceIndex = new BranchDistanceIndex(trace);
+		return branchDistanceIndex;
+	}
+
+	/**
+	 * Returns the summary of the trace previously stored by the given fitness function
+	 *
+	 * @param owner the fitness function that computed the summary
+	 * @param type the type of the summary
+	 * @return null if there is no summary of that type for the owner
+	 */
+	public synchronized <T> T getFitnessContribution(Object owner, Class<T> type) {
+		if (fitnessContributions == null)
+			return null;
+		Object contribution = fitnessContributions.get(owner);
+		return type.isInstance(contribution) ? type.cast(contribution) : null;
+	}
+
+	/**
+	 * Stores a summary of the trace computed by a fitness function. The summary is
+	 * shared with the clones of this result, so it may only grow with values computed
+	 * from this execution and must not be modified otherwise
+	 *
+	 * @param owner the fitness function that computed the summary
+	 * @param contribution the summary
+	 */
+	public synchronized void setFitnessContribution(Object owner, Object contribution) {
+		if (fitnessContributions == null)
+			fitnessContributions = new IdentityHashMap<Object, Object>();
+		fitnessContributions.put(owner, contribution);
 	}
 
 	/**
@@ -429,6 +495,8 @@ public class ExecutionResult implements Cloneable {
 		ExecutionResult copy = new ExecutionResult(test, mutation);
 		copy.exceptions.putAll(exceptions);
 		copy.trace = trace.lazyClone();
+		if (fitnessContributions != null)
+			copy.fitnessContributions = new IdentityHashMap<Object, Object>(fitnessContributions);
 		copy.explicitExceptions.putAll(explicitExceptions);
 		copy.executionTime = executionTime;
 		copy.regressionObjectDistance = regressionObjectDistance;
@@ -442,6 +510,7 @@ public class ExecutionResult implements Cloneable {
 			copy.readProperties.addAll(readProperties);
 		}
 		copy.wasAnyPropertyWritten = wasAnyPropertyWritten;
+		copy.loopIterations = loopIterations;
 
 		return copy;
 	}
@@ -471,6 +540,29 @@ public class ExecutionResult implements Cloneable {
 		this.wasAnyPropertyWritten = wasAnyPropertyWritten;
 	}
 
+	/**
+	 * @return the number of iterations of each loop during this execution, indexed by loop id.
+	 *         The returned array must not be modified
+	 */
+	public long[] getLoopIterations() {
+		return loopIterations;
+	}
+
+	/**
+	 * @return the number of iterations of all loops during this execution
+	 */
+	public long getTotalLoopIterations() {
+		long total = 0L;
+		for (long iterations : loopIterations) {
+			total += iterations;
+		}
+		return total;
+	}
+
+	public void setLoopIterations(long[] loopIterations) {
+		this.loopIterations = loopIterations;
+	}
+
 	public void setTest(TestCase tc) {
 		this.test = tc;
 	}
@@ -242,6 +242,14 @@ public interface ExecutionTrace {
 	 */
 	public Map<String, HashMap<Integer, HashMap<Integer, Object>>> getUseDataObjects();
 
+	/**
+	 * Retrieve the log of all definitions and uses in the order they were
+	 * passed
+	 * 
+	 * @return a {@link org.evosuite.testcase.execution.DefUseTrace} object.
+	 */
+	public DefUseTrace getDefUseTrace();
+
 	/**
 	 * Retrieve the data definitions for a given variable
 	 * 
@@ -336,7 +344,7 @@ public interface ExecutionTrace {
 	 * Adds Definition-Use-Coverage trace information for the given definition.
 	 * 
 	 * Registers the given caller-Object Traces the occurrence of the given
-	 * definition in the passedDefs-field Sets the given definition as the
+	 * definition in the def-use log Sets the given definition as the
 	 * currently active one for the definitionVariable in the
 	 * activeDefinitions-field Adds fake trace information to the currently
 	 * active MethodCall in this.stack
@@ -502,7 +510,7 @@ public interface ExecutionTrace {
 	 * Adds Definition-Use-Coverage trace information for the given use.
 	 * 
 	 * Registers the given caller-Object Traces the occurrence of the given use
-	 * in the passedUses-field
+	 * in the def-use log
 	 * 
 	 * @param caller
 	 *            a {@link java.lang.Object} object.
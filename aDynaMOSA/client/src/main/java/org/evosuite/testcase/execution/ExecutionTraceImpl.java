@@ -242,17 +242,9 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	// for defuse-coverage it is important to keep track of all the objects that
 	// called the ExecutionTracer
 	private int objectCounter = 0;
-	// for each Variable-Name these maps hold the data for which objectID
-	// at which time (duCounter) which Definition or Use was passed
-	public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedDefinitions = Collections
-			.synchronizedMap(new HashMap<String, HashMap<Integer, HashMap<Integer, Integer>>>());
-	public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedUses = Collections
-			.synchronizedMap(new HashMap<String, HashMap<Integer, HashMap<Integer, Integer>>>());
-
-	public Map<String, HashMap<Integer, HashMap<Integer, Object>>> passedDefinitionObject = Collections
-			.synchronizedMap(new HashMap<String, HashMap<Integer, HashMap<Integer, Object>>>());
-	public Map<String, HashMap<Integer, HashMap<Integer, Object>>> passedUseObject = Collections
-			.synchronizedMap(new HashMap<String, HashMap<Integer, HashMap<Integer, Object>>>());
+	// for each passed Definition or Use this log holds the variable, the
+	// objectID and the time (duCounter) at which it was passed
+	private DefUseTrace defUseTrace = new DefUseTrace();
 
 	private int proxyCount = 1;
 	// Data information
@@ -571,10 +563,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 		coveredTrue = new HashMap<Integer, Integer>();
 		coveredFalse = new HashMap<Integer, Integer>();
 		coveredDefs = new HashMap<Integer, Integer>();
-		passedDefinitions = new HashMap<String, HashMap<Integer, HashMap<Integer, Integer>>>();
-		passedUses = new HashMap<String, HashMap<Integer, HashMap<Integer, Integer>>>();
-		passedDefinitionObject = new HashMap<String, HashMap<Integer, HashMap<Integer, Object>>>();
-		passedUseObject = new HashMap<String, HashMap<Integer, HashMap<Integer, Object>>>();
+		defUseTrace = new DefUseTrace();
 		branchesTrace = new ArrayList<BranchEval>();
 		coveredTrueContext = new HashMap<Integer, Map<CallContext, Double>>();
 		coveredFalseContext = new HashMap<Integer, Map<CallContext, Double>>();
@@ -615,10 +604,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 		copy.coveredDefs.putAll(coveredDefs);
 		copy.touchedMutants.addAll(touchedMutants);
 		copy.mutantDistances.putAll(mutantDistances);
-		copy.passedDefinitions.putAll(passedDefinitions);
-		copy.passedUses.putAll(passedUses);
-		copy.passedDefinitionObject.putAll(passedDefinitionObject);
-		copy.passedUseObject.putAll(passedUseObject);
+		copy.defUseTrace = defUseTrace.copy();
 		copy.branchesTrace.addAll(branchesTrace);
 		copy.numberOfExecutionsPerBranch.putAll(numberOfExecutionsPerBranch);
 
@@ -640,7 +626,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	 * Adds Definition-Use-Coverage trace information for the given definition.
 	 * 
 	 * Registers the given caller-Object Traces the occurrence of the given
-	 * definition in the passedDefs-field Sets the given definition as the
+	 * definition in the def-use log Sets the given definition as the
 	 * currently active one for the definitionVariable in the
 	 * activeDefinitions-field Adds fake trace information to the currently
 	 * active MethodCall in this.stack
@@ -669,20 +655,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 		// in the representation of static data
 		if (objectID != 0 && def.isStaticDefUse())
 			objectID = 0;
-		if (passedDefinitions.get(varName) == null) {
-			passedDefinitions.put(varName, new HashMap<Integer, HashMap<Integer, Integer>>());
-			passedDefinitionObject.put(varName, new HashMap<Integer, HashMap<Integer, Object>>());
-		}
-		HashMap<Integer, Integer> defs = passedDefinitions.get(varName).get(objectID);
-		HashMap<Integer, Object> defsObject = passedDefinitionObject.get(varName).get(objectID);
-		if (defs == null) {
-			defs = new HashMap<Integer, Integer>();
-			defsObject = new HashMap<Integer, Object>();
-		}
-		defs.put(duCounter, defID);
-		defsObject.put(duCounter, object);
-		passedDefinitions.get(varName).put(objectID, defs);
-		passedDefinitionObject.get(varName).put(objectID, defsObject);
+		defUseTrace.addDefinition(duCounter, varName, objectID, defID, object);
 
 		// logger.trace(duCounter+": set active definition for var
 		// "+def.getDUVariableName()+" on object "+objectID+" to Def "+defID);
@@ -981,11 +954,17 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> getDefinitionData() {
-		return passedDefinitions;
+		return defUseTrace.getDefinitionData();
 	}
 
 	public Map<String, HashMap<Integer, HashMap<Integer, Object>>> getDefinitionDataObjects() {
-		return passedDefinitionObject;
+		return defUseTrace.getDefinitionDataObjects();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public DefUseTrace getDefUseTrace() {
+		return defUseTrace;
 	}
 
 	/** {@inheritDoc} */
@@ -1069,7 +1048,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<Integer, HashMap<Integer, Integer>> getPassedDefinitions(String variableName) {
-		return passedDefinitions.get(variableName);
+		return defUseTrace.getDefinitionData().get(variableName);
 	}
 
 	/*
@@ -1080,7 +1059,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<Integer, HashMap<Integer, Integer>> getPassedUses(String variableName) {
-		return passedUses.get(variableName);
+		return defUseTrace.getUseData().get(variableName);
 	}
 
 	/*
@@ -1292,11 +1271,11 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> getUseData() {
-		return passedUses;
+		return defUseTrace.getUseData();
 	}
 
 	public Map<String, HashMap<Integer, HashMap<Integer, Object>>> getUseDataObjects() {
-		return passedUseObject;
+		return defUseTrace.getUseDataObjects();
 	}
 
 	/*
@@ -1487,6 +1466,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	 */
 	@Override
 	public String toDefUseTraceInformation() {
+		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedDefinitions = defUseTrace.getDefinitionData();
 		StringBuffer r = new StringBuffer();
 		for (String var : passedDefinitions.keySet()) {
 			r.append("  for variable: " + var + ": ");
@@ -1511,6 +1491,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	 */
 	@Override
 	public String toDefUseTraceInformation(String targetVar) {
+		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedDefinitions = defUseTrace.getDefinitionData();
 		StringBuffer r = new StringBuffer();
 		for (Integer objectId : passedDefinitions.get(targetVar).keySet()) {
 			if (passedDefinitions.get(targetVar).keySet().size() > 1) {
@@ -1533,6 +1514,8 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	 */
 	@Override
 	public String toDefUseTraceInformation(String var, int objectId) {
+		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedDefinitions = defUseTrace.getDefinitionData();
+		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedUses = defUseTrace.getUseData();
 		if (passedDefinitions.get(var) == null) {
 			return "";
 		}
@@ -1624,7 +1607,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	 * Adds Definition-Use-Coverage trace information for the given use.
 	 * 
 	 * Registers the given caller-Object Traces the occurrence of the given use
-	 * in the passedUses-field
+	 * in the def-use log
 	 */
 	@Override
 	public void usePassed(Object object, Object caller, int useID) {
@@ -1645,22 +1628,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 				objectID = 0;
 		}
 		String varName = use.getVariableName();
-		if (passedUses.get(varName) == null) {
-			passedUses.put(varName, new HashMap<Integer, HashMap<Integer, Integer>>());
-			passedUseObject.put(varName, new HashMap<Integer, HashMap<Integer, Object>>());
-		}
-
-		HashMap<Integer, Integer> uses = passedUses.get(varName).get(objectID);
-		HashMap<Integer, Object> usesObject = passedUseObject.get(varName).get(objectID);
-		if (uses == null) {
-			uses = new HashMap<Integer, Integer>();
-			usesObject = new HashMap<Integer, Object>();
-		}
-
-		uses.put(duCounter, useID);
-		usesObject.put(duCounter, object);
-		passedUses.get(varName).put(objectID, uses);
-		passedUseObject.get(varName).put(objectID, usesObject);
+		defUseTrace.addUse(duCounter, varName, objectID, useID, object);
 		duCounter++;
 	}
 
@@ -1690,7 +1658,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> getPassedUses() {
-		return passedUses;
+		return defUseTrace.getUseData();
 	}
 
 	/*
@@ -1703,10 +1671,9 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	@Override
 	public Set<Integer> getPassedDefIDs() {
 		Set<Integer> defs = new HashSet<Integer>();
-		for (HashMap<Integer, HashMap<Integer, Integer>> classDefs : passedDefinitions.values()) {
-			for (HashMap<Integer, Integer> currentDefs : classDefs.values()) {
-				defs.addAll(currentDefs.values());
-			}
+		for (int i = 0; i < defUseTrace.size(); i++) {
+			if (defUseTrace.isDefinition(i))
+				defs.add(defUseTrace.getDefUseId(i));
 		}
 		return defs;
 	}
@@ -1719,10 +1686,9 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	@Override
 	public Set<Integer> getPassedUseIDs() {
 		Set<Integer> uses = new HashSet<Integer>();
-		for (HashMap<Integer, HashMap<Integer, Integer>> classUses : passedUses.values()) {
-			for (HashMap<Integer, Integer> currentUses : classUses.values()) {
-				uses.addAll(currentUses.values());
-			}
+		for (int i = 0; i < defUseTrace.size(); i++) {
+			if (defUseTrace.isUse(i))
+				uses.add(defUseTrace.getDefUseId(i));
 		}
 		return uses;
 	}
@@ -272,6 +272,12 @@ public class ExecutionTraceProxy implements ExecutionTrace, Cloneable {
 		return trace.getDefinitionDataObjects();
 	}
 
+	/** {@inheritDoc} */
+	@Override
+	public DefUseTrace getDefUseTrace() {
+		return trace.getDefUseTrace();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -43,6 +43,7 @@ import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.runtime.util.JOptionPaneInputs;
 import org.evosuite.runtime.util.SystemInUtil;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.SearchMetrics;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
 import org.slf4j.Logger;
@@ -274,7 +275,11 @@ public class TestCaseExecutor implements ThreadFactory {
 	 */
 	public ExecutionResult execute(TestCase tc, int timeout) {
 		Scope scope = new Scope();
+		long start = System.nanoTime();
 		ExecutionResult result = execute(tc, scope, timeout);
+		if (SearchMetrics.isEnabled()) {
+			SearchMetrics.getInstance().testExecuted(System.nanoTime() - start);
+		}
 
 		if (Properties.RESET_STATIC_FIELDS) {
 			logger.debug("Resetting classes after execution");
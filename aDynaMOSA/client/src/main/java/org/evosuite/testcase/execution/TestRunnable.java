@@ -32,6 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.evosuite.PackageInfo;
 import org.evosuite.Properties;
+import org.evosuite.runtime.LoopCounter;
 import org.evosuite.runtime.Runtime;
 import org.evosuite.runtime.System.SystemExitException;
 import org.evosuite.runtime.jvm.ShutdownHookHandler;
@@ -265,6 +266,7 @@ public class TestRunnable implements InterfaceTestRunnable {
 		result.setThrownExceptions(exceptionsThrown);
 		result.setReadProperties(org.evosuite.runtime.System.getAllPropertiesReadSoFar());
 		result.setWasAnyPropertyWritten(org.evosuite.runtime.System.wasAnyPropertyWritten());
+		result.setLoopIterations(LoopCounter.getInstance().getIterations());
 		
 		return result;
 	}
@@ -88,39 +88,44 @@ public class VariableReferenceImpl implements VariableReference {
 	 * The position of the statement, defining this VariableReference, in the
 	 * testcase.
 	 *
-	 * TODO: Notify change listener also when return value changes
+	 * As the change listener is not notified when a return value changes, the
+	 * cached position is only used if the statement at that position still
+	 * defines this reference.
 	 *
 	 */
 	@Override
 	public synchronized int getStPosition() {
-		if (stPosition == null || changeListener.hasChanged()) {
-			stPosition = null;
-			for (int i = 0; i < testCase.size(); i++) {
-				Statement stmt = testCase.getStatement(i);
-				if (stmt.getReturnValue().equals(this)) {
-					stPosition = i;
-					break;
-				}
-			}
-			if (stPosition == null) {
-				String msg = "Bloody annoying bug \n";
-				msg += "Test case has " + testCase.size() + " function calls \n";
-				for (int i = 0; i < testCase.size(); i++) {
-					msg += testCase.getStatement(i).getCode(null) + "\n";
-				}
-				msg += "failed to find type " + this.type.getTypeName() + "\n";
-
-				throw new AssertionError(
-				        msg + "A VariableReferences position is only defined if the VariableReference is defined by a statement in the testCase");
-			}
-		} else {
-			int position = stPosition; //somehow this could be null, leading to NPE. Synchronization issue?
-			stPosition = null;
-			stPosition = getStPosition();
-			assert (stPosition == position);
+		boolean changed = changeListener.hasChanged();
+		if (stPosition != null && !changed && isDefinedAt(stPosition)) {
+			return stPosition;
 		}
+		stPosition = findStPosition();
 		return stPosition;
 	}
+
+	private boolean isDefinedAt(int position) {
+		return position < testCase.size()
+		        && testCase.getStatement(position).getReturnValue() == this;
+	}
+
+	private int findStPosition() {
+		for (int i = 0; i < testCase.size(); i++) {
+			Statement stmt = testCase.getStatement(i);
+			if (stmt.getReturnValue().equals(this)) {
+				return i;
+			}
+		}
+
+		String msg = "Bloody annoying bug \n";
+		msg += "Test case has " + testCase.size() + " function calls \n";
+		for (int i = 0; i < testCase.size(); i++) {
+			msg += testCase.getStatement(i).getCode(null) + "\n";
+		}
+		msg += "failed to find type " + this.type.getTypeName() + "\n";
+
+		throw new AssertionError(
+		        msg + "A VariableReferences position is only defined if the VariableReference is defined by a statement in the testCase");
+	}
 	
 	@Override
 	public TestCase getTestCase() {
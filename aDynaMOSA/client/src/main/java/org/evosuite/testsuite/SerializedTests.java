@@ -0,0 +1,411 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testsuite;
+
+import org.evosuite.TestGenerationContext;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.utils.DebuggingObjectOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Read access to a file of tests written by {@link TestSuiteSerialization}.
+ *
+ * <p>
+ * The file starts with a magic number and a format version, followed by one
+ * record per test. Each record is the test serialized on its own, where the class
+ * descriptors are replaced by indices in a symbol table stored at the end of
+ * the file, together with the offsets of all the records:
+ *
+ * <pre>
+ * int MAGIC, int VERSION
+ * (int length, byte[length] test)*
+ * int #symbols, (UTF class name, long layout)*
+ * int #tests, (long offset)*
+ * long offset of symbol table
+ * </pre>
+ *
+ * Storing each class descriptor once keeps the records small, even though each
+ * of them is an independent object stream.
+ * Descriptors are resolved against the local classes, so a changed
+ * serialVersionUID does not invalidate old files: only the tests referring to
+ * a class whose serialized fields have changed are skipped. As records are
+ * independent, each test is only decoded when it is requested.
+ */
+public class SerializedTests implements Iterable<TestChromosome> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SerializedTests.class);
+
+    /** "EVOT" */
+    static final int MAGIC = 0x45564F54;
+
+    static final int VERSION = 1;
+
+    private final File file;
+
+    private final ByteBuffer buffer;
+
+    private final String[] names;
+
+    private final long[] layouts;
+
+    /** Lazily resolved local descriptors, one for each symbol */
+    private final ObjectStreamClass[] descriptors;
+
+    private final int[] offsets;
+
+    private SerializedTests(File file, ByteBuffer buffer, String[] names, long[] layouts, int[] offsets) {
+        this.file = file;
+        this.buffer = buffer;
+        this.names = names;
+        this.layouts = layouts;
+        this.descriptors = new ObjectStreamClass[names.length];
+        this.offsets = offsets;
+    }
+
+    /**
+     * Check whether the given file starts with the header of this format,
+     * as opposed to older files made of plain serialized objects
+     */
+    public static boolean hasFormat(File file) {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read the whole file in memory, and then its symbol table and index.
+     * No test is decoded at this point. The file is closed when this method
+     * returns, so it can be overwritten while the tests are decoded.
+     */
+    public static SerializedTests read(File file) throws IOException {
+        long size = file.length();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("File is too large to be read: " + size + " bytes");
+        }
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        if (bytes.length < 16) {
+            throw new IOException("File is truncated");
+        }
+        return parse(file, ByteBuffer.wrap(bytes));
+    }
+
+    private static SerializedTests parse(File file, ByteBuffer buffer) throws IOException {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a file of serialized tests");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+
+        try {
+            ByteBuffer index = buffer.duplicate();
+            index.position(toPosition(buffer.getLong(buffer.capacity() - 8), buffer));
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(index));
+
+            // a symbol takes at least 10 bytes, an offset 8
+            int numSymbols = checkCount(in.readInt(), index.remaining() / 10);
+            String[] names = new String[numSymbols];
+            long[] layouts = new long[numSymbols];
+            for (int i = 0; i < numSymbols; i++) {
+                names[i] = in.readUTF();
+                layouts[i] = in.readLong();
+            }
+
+            int numTests = checkCount(in.readInt(), index.remaining() / 8);
+            int[] offsets = new int[numTests];
+            for (int i = 0; i < numTests; i++) {
+                offsets[i] = toPosition(in.readLong(), buffer);
+            }
+
+            return new SerializedTests(file, buffer, names, layouts, offsets);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new StreamCorruptedException("Corrupted index: " + e);
+        }
+    }
+
+    private static int checkCount(int count, int max) throws IOException {
+        if (count < 0 || count > max) {
+            throw new StreamCorruptedException("Invalid number of entries in the index: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Offsets are written as longs, but a buffer is addressed with ints
+     */
+    private static int toPosition(long offset, ByteBuffer buffer) throws IOException {
+        if (offset < 8 || offset > buffer.capacity() - 8) {
+            throw new StreamCorruptedException("Offset " + offset + " is outside of the "
+                    + buffer.capacity() + " bytes of the file");
+        }
+        return (int) offset;
+    }
+
+    /**
+     * Write the given tests to {@code target}, replacing its content
+     */
+    static void write(Collection<TestChromosome> tests, File target) throws IOException {
+        Map<String, Integer> symbolIndex = new HashMap<>();
+        List<ObjectStreamClass> symbols = new ArrayList<>();
+        long[] offsets = new long[tests.size()];
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            long position = 8;
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            int i = 0;
+            for (TestChromosome tc : tests) {
+                bytes.reset();
+                try (ObjectOutputStream record = new SymbolOutputStream(bytes, symbolIndex, symbols)) {
+                    record.writeObject(tc);
+                }
+                offsets[i++] = position;
+                out.writeInt(bytes.size());
+                bytes.writeTo(out);
+                position += 4 + bytes.size();
+            }
+
+            out.writeInt(symbols.size());
+            for (ObjectStreamClass desc : symbols) {
+                out.writeUTF(desc.getName());
+                out.writeLong(getLayout(desc));
+            }
+            out.writeInt(offsets.length);
+            for (long offset : offsets) {
+                out.writeLong(offset);
+            }
+            out.writeLong(position);
+        }
+    }
+
+    /**
+     * @return the number of tests stored in the file, including those that
+     * might fail to be decoded
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Decode the test at the given position
+     *
+     * @return {@code null} if the test cannot be decoded with the current classes
+     */
+    public TestChromosome get(int index) {
+        ByteBuffer record = buffer.duplicate();
+        record.position(offsets[index]);
+
+        try {
+            int length = record.getInt();
+            record.limit(record.position() + length);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            logger.warn("Corrupted record of serialized test " + index + " in " + file.getAbsolutePath());
+            return null;
+        }
+
+        try (ObjectInputStream in = new SymbolInputStream(new ByteBufferInputStream(record.slice()))) {
+            Object obj = in.readObject();
+            if (!(obj instanceof TestChromosome)) {
+                logger.warn("Unexpected " + obj + " in " + file.getAbsolutePath());
+                return null;
+            }
+            TestChromosome tc = (TestChromosome) obj;
+            for (Statement st : tc.getTestCase()) {
+                st.changeClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
+            }
+            return tc;
+        } catch (Exception e) {
+            logger.warn("Problems when reading serialized test " + index + " from " + file.getAbsolutePath()
+                    + " : " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Decode all the tests, skipping those that cannot be read
+     */
+    public List<TestChromosome> getAll() {
+        List<TestChromosome> list = new ArrayList<>(size());
+        for (TestChromosome tc : this) {
+            list.add(tc);
+        }
+        return list;
+    }
+
+    /**
+     * Iterate over the tests, decoding each of them only when reached.
+     * Tests that cannot be decoded are skipped
+     */
+    @Override
+    public Iterator<TestChromosome> iterator() {
+        return new Iterator<TestChromosome>() {
+            private int index = 0;
+            private TestChromosome next = null;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && index < size()) {
+                    next = get(index++);
+                }
+                return next != null;
+            }
+
+            @Override
+            public TestChromosome next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                TestChromosome tc = next;
+                next = null;
+                return tc;
+            }
+        };
+    }
+
+    private synchronized ObjectStreamClass resolve(int symbol) throws IOException, ClassNotFoundException {
+        if (symbol < 0 || symbol >= names.length) {
+            throw new StreamCorruptedException("Invalid class symbol " + symbol);
+        }
+        if (descriptors[symbol] == null) {
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(names[symbol], false, SerializedTests.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                clazz = Class.forName(names[symbol], false, TestGenerationContext.getInstance().getClassLoaderForSUT());
+            }
+            ObjectStreamClass desc = ObjectStreamClass.lookup(clazz);
+            if (desc == null) {
+                throw new InvalidClassException(names[symbol], "class is no longer serializable");
+            }
+            if (getLayout(desc) != layouts[symbol]) {
+                throw new InvalidClassException(names[symbol], "serialized fields have changed");
+            }
+            descriptors[symbol] = desc;
+        }
+        return descriptors[symbol];
+    }
+
+    /**
+     * Fingerprint of the serialized fields of a class. Unlike the serialVersionUID,
+     * it does not change when methods are modified
+     */
+    private static long getLayout(ObjectStreamClass desc) {
+        long layout = desc.getName().hashCode();
+        for (ObjectStreamField field : desc.getFields()) {
+            layout = 31 * layout + field.getName().hashCode();
+            layout = 31 * layout + field.getTypeCode();
+            if (field.getTypeString() != null) {
+                layout = 31 * layout + field.getTypeString().hashCode();
+            }
+        }
+        return layout;
+    }
+
+    /**
+     * Writes the index of each class in the shared symbol table instead of its full descriptor
+     */
+    private static class SymbolOutputStream extends DebuggingObjectOutputStream {
+
+        private final Map<String, Integer> symbolIndex;
+
+        private final List<ObjectStreamClass> symbols;
+
+        SymbolOutputStream(OutputStream out, Map<String, Integer> symbolIndex, List<ObjectStreamClass> symbols)
+                throws IOException {
+            super(out);
+            this.symbolIndex = symbolIndex;
+            this.symbols = symbols;
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            Integer symbol = symbolIndex.get(desc.getName());
+            if (symbol == null) {
+                symbol = symbols.size();
+                symbolIndex.put(desc.getName(), symbol);
+                symbols.add(desc);
+            }
+            writeInt(symbol);
+        }
+    }
+
+    private class SymbolInputStream extends ObjectInputStream {
+
+        SymbolInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            return resolve(readInt());
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            Class<?> clazz = desc.forClass();
+            return clazz != null ? clazz : super.resolveClass(desc);
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
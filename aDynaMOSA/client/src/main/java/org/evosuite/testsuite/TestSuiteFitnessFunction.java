@@ -20,12 +20,19 @@
 package org.evosuite.testsuite;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.evosuite.Properties;
 import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.archive.Archive;
 import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.testcase.ExecutableChromosome;
 import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.ExecutionTracer;
 import org.evosuite.testcase.execution.TestCaseExecutor;
@@ -111,6 +118,51 @@ public abstract class TestSuiteFitnessFunction extends
 		return results;
 	}
 
+	/**
+	 * Fitness of a goal for the test of the given execution result. The value only
+	 * depends on the execution, so it is stored with the result and the goal is only
+	 * evaluated again for new executions. When the stored value is used, the covered
+	 * goals of the test and the archive are updated as the goal would have done
+	 * 
+	 * @param goal
+	 *            the goal to evaluate
+	 * @param test
+	 *            the test of the result
+	 * @param result
+	 *            the execution of the test
+	 * @return the fitness of the goal for the test
+	 */
+	protected double getGoalFitness(TestFitnessFunction goal, TestChromosome test, ExecutionResult result) {
+		GoalFitness goalFitness = result.getFitnessContribution(this, GoalFitness.class);
+		if (goalFitness == null) {
+			goalFitness = new GoalFitness();
+			result.setFitnessContribution(this, goalFitness);
+		}
+
+		Double fitness = goalFitness.values.get(goal);
+		if (fitness == null) {
+			fitness = goal.getFitness(test, result); // archive is updated by the TestFitnessFunction class
+			goalFitness.values.put(goal, fitness);
+		} else {
+			if (fitness == 0.0) {
+				test.getTestCase().addCoveredGoal(goal);
+			}
+			if (Properties.TEST_ARCHIVE) {
+				Archive.getArchiveInstance().updateArchive(goal, test, fitness);
+			}
+		}
+		return fitness;
+	}
+
+	/**
+	 * Fitness values of the goals already evaluated on one execution, by goal instance.
+	 * Values are only added, never changed, so it can be shared with the clones of the result
+	 */
+	private static final class GoalFitness {
+		private final Map<TestFitnessFunction, Double> values = Collections.synchronizedMap(
+		        new IdentityHashMap<TestFitnessFunction, Double>());
+	}
+
 
 
 	/* (non-Javadoc)
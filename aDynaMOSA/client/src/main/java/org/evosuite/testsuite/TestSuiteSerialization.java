@@ -22,13 +22,14 @@ package org.evosuite.testsuite;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.statements.Statement;
-import org.evosuite.utils.DebuggingObjectOutputStream;
 import org.evosuite.runtime.util.Inputs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -47,15 +48,13 @@ public class TestSuiteSerialization {
             parent.mkdirs();
         }
 
-        try(ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target));){
-            for(TestSuiteChromosome ts : list) {
-                for (TestChromosome tc : ts.getTestChromosomes()) {
-                    out.writeObject(tc);
-                }
-            }
+        List<TestChromosome> tests = new ArrayList<>();
+        for(TestSuiteChromosome ts : list) {
+            tests.addAll(ts.getTestChromosomes());
+        }
 
-            out.flush();
-            out.close();
+        try {
+            SerializedTests.write(tests, target);
         }catch (IOException e){
             logger.error("Failed to open/handle "+target.getAbsolutePath()+" for writing: "+e.getMessage());
             return false;
@@ -70,13 +69,8 @@ public class TestSuiteSerialization {
             parent.mkdirs();
         }
 
-        try(ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target));){
-        	for (TestChromosome tc : ts.getTestChromosomes()) {
-        		out.writeObject(tc);
-            }
-
-            out.flush();
-            out.close();
+        try {
+            SerializedTests.write(ts.getTestChromosomes(), target);
         }catch (IOException e){
             logger.error("Failed to open/handle "+target.getAbsolutePath()+" for writing: "+e.getMessage());
             return false;
@@ -110,6 +104,46 @@ public class TestSuiteSerialization {
     public static List<TestChromosome> loadTests(File target) throws IllegalArgumentException{
         Inputs.checkNull(target);
 
+        if(SerializedTests.hasFormat(target)) {
+            try {
+                return SerializedTests.read(target).getAll();
+            } catch (IOException e) {
+                logger.error("Failed to open/handle " + target.getAbsolutePath() + " for reading: " + e.getMessage());
+                return new ArrayList<>();
+            }
+        }
+
+        return loadPlainTests(target);
+    }
+
+    /**
+     * Iterate over the tests stored in the given file. Tests are decoded only when
+     * they are reached, apart from files written with plain object serialization,
+     * which are loaded in full.
+     */
+    public static Iterator<TestChromosome> streamTests(String target) throws IllegalArgumentException{
+        return streamTests(new File(target));
+    }
+
+    public static Iterator<TestChromosome> streamTests(File target) throws IllegalArgumentException{
+        Inputs.checkNull(target);
+
+        if(SerializedTests.hasFormat(target)) {
+            try {
+                return SerializedTests.read(target).iterator();
+            } catch (IOException e) {
+                logger.error("Failed to open/handle " + target.getAbsolutePath() + " for reading: " + e.getMessage());
+                return Collections.emptyIterator();
+            }
+        }
+
+        return loadPlainTests(target).iterator();
+    }
+
+    /**
+     * Load tests saved as a sequence of serialized objects, as done by older versions
+     */
+    private static List<TestChromosome> loadPlainTests(File target) {
         List<TestChromosome> list = new ArrayList<>();
 
         try(ObjectInputStream in = new ObjectInputStream(new FileInputStream(target)) ){
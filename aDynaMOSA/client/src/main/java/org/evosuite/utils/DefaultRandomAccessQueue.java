@@ -22,40 +22,66 @@
  */
 package org.evosuite.utils;
 
-import java.util.ArrayDeque;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Queue;
 import java.util.Set;
 
 import org.evosuite.Properties;
 
 /**
+ * Keeps the last {@link Properties#DYNAMIC_POOL_SIZE} distinct values added,
+ * so a size of 0 keeps no value at all.
+ * The values are stored in a circular array, so that adding a value and
+ * sampling a random one are constant time. Values are added by the SUT
+ * while tests are executed, hence the synchronization.
+ *
  * @author Gordon Fraser
  * 
  */
 public class DefaultRandomAccessQueue<T> implements RandomAccessQueue<T> {
 
+	private static final int INITIAL_CAPACITY = 16;
+
 	private final Set<T> valueSet = new HashSet<T>();
 
-	private final Queue<T> queue = new ArrayDeque<T>();
+	/** Values in insertion order, starting at {@code head} */
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	private int head = 0;
+
+	private int size = 0;
 
 	/* (non-Javadoc)
 	 * @see org.evosuite.primitives.RandomAccessQueue#restrictedAdd(java.lang.Object)
 	 */
 	@Override
-	public void restrictedAdd(T value) {
-		if (!valueSet.contains(value)) {
-			queue.add(value);
-			valueSet.add(value);
-			reduceSize();
+	public synchronized boolean restrictedAdd(T value) {
+		if (!valueSet.add(value)) {
+			return false;
+		}
+		if (size == values.length) {
+			grow();
 		}
+		values[(head + size) % values.length] = value;
+		size++;
+		reduceSize();
+		return true;
+	}
+
+	private void grow() {
+		Object[] grown = new Object[values.length * 2];
+		for (int i = 0; i < size; i++) {
+			grown[i] = values[(head + i) % values.length];
+		}
+		values = grown;
+		head = 0;
 	}
 
 	private void reduceSize() {
-		if (queue.size() > Properties.DYNAMIC_POOL_SIZE) {
-			T value = queue.poll();
-			valueSet.remove(value);
+		while (size > 0 && size > Properties.DYNAMIC_POOL_SIZE) {
+			valueSet.remove(values[head]);
+			values[head] = null;
+			head = (head + 1) % values.length;
+			size--;
 		}
 	}
 
@@ -63,20 +89,22 @@ public class DefaultRandomAccessQueue<T> implements RandomAccessQueue<T> {
 	 * @see org.evosuite.primitives.RandomAccessQueue#getRandomValue()
 	 */
 	@Override
-	public T getRandomValue() {
-		return Randomness.choice(valueSet);
+	@SuppressWarnings("unchecked")
+	public synchronized T getRandomValue() {
+		if (size == 0) {
+			return null;
+		}
+		return (T) values[(head + Randomness.nextInt(size)) % values.length];
 	}
 
 	@Override
-	public String toString() {
-		String res = new String("[ ");
-		Iterator<T> itr = queue.iterator();
-		while(itr.hasNext()) {
-			Object element = itr.next();
-			res += element + " ";
+	public synchronized String toString() {
+		StringBuilder res = new StringBuilder("[ ");
+		for (int i = 0; i < size; i++) {
+			res.append(values[(head + i) % values.length]).append(" ");
 		}
-		res += "]";
-		return res;
+		res.append("]");
+		return res.toString();
 	}
 
 }
@@ -28,7 +28,13 @@ package org.evosuite.utils;
  */
 public interface RandomAccessQueue<T> {
 
-	public void restrictedAdd(T value);
+	/**
+	 * Adds a value, possibly evicting older ones
+	 *
+	 * @param value the value to add
+	 * @return false if the value was already in the queue
+	 */
+	public boolean restrictedAdd(T value);
 
 	public T getRandomValue();
 }
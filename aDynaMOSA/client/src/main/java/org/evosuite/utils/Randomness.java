@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.evosuite.Properties;
 import org.slf4j.Logger;
@@ -44,6 +45,15 @@ public class Randomness implements Serializable {
 
 	private static Random random = null;
 
+	/**
+	 * Generators of the threads that draw from their own stream, see
+	 * {@link #setThreadSeed(long)}
+	 */
+	private static final ThreadLocal<Random> threadRandom = new ThreadLocal<>();
+
+	/** Number of threads with their own stream, so that others can skip the lookup */
+	private static final AtomicInteger threadRandoms = new AtomicInteger();
+
 	private static Randomness instance = new Randomness();
 
 	private Randomness() {
@@ -72,6 +82,43 @@ public class Randomness implements Serializable {
 		return instance;
 	}
 
+	private static Random getRandom() {
+		if (threadRandoms.get() > 0) {
+			Random local = threadRandom.get();
+			if (local != null) {
+				return local;
+			}
+		}
+		return random;
+	}
+
+	/**
+	 * Make the current thread draw all its random values from a stream of
+	 * its own, starting at the given seed, until {@link #clearThreadSeed()}
+	 * is called. This is used to build individuals on several threads while
+	 * keeping each of them reproducible, regardless of scheduling. The
+	 * shared stream, and thus {@link #getSeed()}, is not affected.
+	 *
+	 * @param seed
+	 *            a long.
+	 */
+	public static void setThreadSeed(long seed) {
+		if (threadRandom.get() == null) {
+			threadRandoms.incrementAndGet();
+		}
+		threadRandom.set(new MersenneTwister(seed));
+	}
+
+	/**
+	 * Make the current thread use the shared stream again
+	 */
+	public static void clearThreadSeed() {
+		if (threadRandom.get() != null) {
+			threadRandom.remove();
+			threadRandoms.decrementAndGet();
+		}
+	}
+
 	/**
 	 * <p>
 	 * nextBoolean
@@ -80,7 +127,7 @@ public class Randomness implements Serializable {
 	 * @return a boolean.
 	 */
 	public static boolean nextBoolean() {
-		return random.nextBoolean();
+		return getRandom().nextBoolean();
 	}
 
 	/**
@@ -93,11 +140,11 @@ public class Randomness implements Serializable {
 	 * @return a int.
 	 */
 	public static int nextInt(int max) {
-		return random.nextInt(max);
+		return getRandom().nextInt(max);
 	}
 
 	public static double nextGaussian() {
-		return random.nextGaussian();
+		return getRandom().nextGaussian();
 	}
 	
 	/**
@@ -112,7 +159,7 @@ public class Randomness implements Serializable {
 	 * @return a int.
 	 */
 	public static int nextInt(int min, int max) {
-		return random.nextInt(max - min) + min;
+		return getRandom().nextInt(max - min) + min;
 	}
 
 	/**
@@ -123,7 +170,7 @@ public class Randomness implements Serializable {
 	 * @return a int.
 	 */
 	public static int nextInt() {
-		return random.nextInt();
+		return getRandom().nextInt();
 	}
 
 	/**
@@ -146,7 +193,7 @@ public class Randomness implements Serializable {
 	 * @return a short.
 	 */
 	public static short nextShort() {
-		return (short) (random.nextInt(2 * 32767) - 32767);
+		return (short) (getRandom().nextInt(2 * 32767) - 32767);
 	}
 
 	/**
@@ -157,7 +204,7 @@ public class Randomness implements Serializable {
 	 * @return a long.
 	 */
 	public static long nextLong() {
-		return random.nextLong();
+		return getRandom().nextLong();
 	}
 
 	/**
@@ -168,7 +215,7 @@ public class Randomness implements Serializable {
 	 * @return a byte.
 	 */
 	public static byte nextByte() {
-		return (byte) (random.nextInt(256) - 128);
+		return (byte) (getRandom().nextInt(256) - 128);
 	}
 
 	/**
@@ -179,7 +226,7 @@ public class Randomness implements Serializable {
 	 * @return a double between 0.0 and 1.0
 	 */
 	public static double nextDouble() {
-		return random.nextDouble();
+		return getRandom().nextDouble();
 	}
 
 	/**
@@ -194,7 +241,7 @@ public class Randomness implements Serializable {
 	 * @return a double.
 	 */
 	public static double nextDouble(double min, double max) {
-		return min + (random.nextDouble() * (max - min));
+		return min + (getRandom().nextDouble() * (max - min));
 	}
 
 	/**
@@ -205,7 +252,7 @@ public class Randomness implements Serializable {
 	 * @return a float.
 	 */
 	public static float nextFloat() {
-		return random.nextFloat();
+		return getRandom().nextFloat();
 	}
 
 	/**
@@ -247,7 +294,7 @@ public class Randomness implements Serializable {
 		if (list.isEmpty())
 			return null;
 
-		int position = random.nextInt(list.size());
+		int position = getRandom().nextInt(list.size());
 		return list.get(position);
 	}
 
@@ -267,7 +314,7 @@ public class Randomness implements Serializable {
 		if (set.isEmpty())
 			return null;
 
-		int position = random.nextInt(set.size());
+		int position = getRandom().nextInt(set.size());
 		return (T) set.toArray()[position];
 	}
 
@@ -286,7 +333,7 @@ public class Randomness implements Serializable {
 		if (elements.length == 0)
 			return null;
 
-		int position = random.nextInt(elements.length);
+		int position = getRandom().nextInt(elements.length);
 		return elements[position];
 	}
 
@@ -299,7 +346,7 @@ public class Randomness implements Serializable {
 	 *            a {@link java.util.List} object.
 	 */
 	public static void shuffle(List<?> list) {
-		Collections.shuffle(list, random);
+		Collections.shuffle(list, getRandom());
 	}
 
 	/**
@@ -162,12 +162,29 @@ public class GenericClass implements Serializable {
 		if (rhsType == null || lhsType == null)
 			return false;
 
+		if (lhsType == rhsType)
+			return true;
+
+		if (lhsType instanceof Class && rhsType instanceof Class
+		        && !((Class<?>) lhsType).isPrimitive() && !((Class<?>) rhsType).isPrimitive()) {
+			// no type resolution needed, same as TypeUtils for raw classes
+			return ((Class<?>) lhsType).isAssignableFrom((Class<?>) rhsType);
+		}
+
+		GenericTypeCache cache = GenericTypeCache.getInstance();
+		Boolean cached = cache.getAssignable(lhsType, rhsType);
+		if (cached != null)
+			return cached;
+
+		boolean result;
 		try {
-			return TypeUtils.isAssignable(rhsType, lhsType);
+			result = TypeUtils.isAssignable(rhsType, lhsType);
 		} catch (Throwable e) {
-			logger.debug("Found unassignable type: " + e);
-			return false;
+			logger.debug("Found unassignable type", e);
+			result = false;
 		}
+		cache.putAssignable(lhsType, rhsType, result);
+		return result;
 	}
 
 	public static boolean isMissingTypeParameters(Type type) {
@@ -573,11 +590,10 @@ public class GenericClass implements Serializable {
 	private GenericClass getGenericInstantiation(Map<TypeVariable<?>, Type> typeMap,
 	        int recursionLevel) throws ConstructionFailedException {
 
-		logger.debug("Instantiation " + toString() + " with type map " + typeMap);
+		logger.debug("Instantiation {} with type map {}", this, typeMap);
 		// If there are no type variables, create copy
 		if (isRawClass() || !hasWildcardOrTypeVariables() || recursionLevel > Properties.MAX_GENERIC_DEPTH) {
-			logger.debug("Nothing to replace: " + toString() + ", " + isRawClass() + ", "
-			        + hasWildcardOrTypeVariables());
+			logger.debug("Nothing to replace: {}, {}, {}", this, isRawClass(), hasWildcardOrTypeVariables());
 			return new GenericClass(this);
 		}
 
@@ -1216,6 +1232,20 @@ public class GenericClass implements Serializable {
 	}
 
 	public boolean hasWildcardOrTypeVariables() {
+		if (type instanceof Class)
+			return false;
+
+		GenericTypeCache cache = GenericTypeCache.getInstance();
+		Boolean cached = cache.getWildcardOrTypeVariables(type);
+		if (cached != null)
+			return cached;
+
+		boolean result = computeWildcardOrTypeVariables();
+		cache.putWildcardOrTypeVariables(type, result);
+		return result;
+	}
+
+	private boolean computeWildcardOrTypeVariables() {
 		if (isTypeVariable() || isWildcardType())
 			return true;
 
@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils.generic;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.evosuite.TestGenerationContext;
+
+/**
+ * Memo table for the results of generic type resolution that only depend on the
+ * types involved, eg assignability. Resolving generic types is expensive, and the
+ * same few types are checked over and over during the search.
+ *
+ * <p>
+ * Types refer to classes of the SUT class loader, so the cache is cleared when that
+ * class loader changes, and in any case when the test cluster is reset.
+ */
+public class GenericTypeCache {
+
+	private static final GenericTypeCache instance = new GenericTypeCache();
+
+	/**
+	 * To bound memory, tables are simply cleared when they grow larger than this
+	 */
+	private static final int MAX_ENTRIES = 100_000;
+
+	private final Map<TypePair, Boolean> assignable = new ConcurrentHashMap<>();
+
+	private final Map<Type, Boolean> wildcardOrTypeVariables = new ConcurrentHashMap<>();
+
+	/**
+	 * Class loader of the SUT when the tables were filled
+	 */
+	private volatile ClassLoader classLoader = null;
+
+	private GenericTypeCache() {
+	}
+
+	public static GenericTypeCache getInstance() {
+		return instance;
+	}
+
+	public void clear() {
+		assignable.clear();
+		wildcardOrTypeVariables.clear();
+	}
+
+	/**
+	 * @return cached result of {@code GenericClass.isAssignable(lhsType, rhsType)},
+	 *         or {@code null} if not computed yet
+	 */
+	public Boolean getAssignable(Type lhsType, Type rhsType) {
+		checkClassLoader();
+		return assignable.get(new TypePair(lhsType, rhsType));
+	}
+
+	public void putAssignable(Type lhsType, Type rhsType, boolean result) {
+		if (assignable.size() >= MAX_ENTRIES) {
+			assignable.clear();
+		}
+		assignable.put(new TypePair(lhsType, rhsType), result);
+	}
+
+	/**
+	 * @return cached result of {@link GenericClass#hasWildcardOrTypeVariables()} for
+	 *         the given type, or {@code null} if not computed yet
+	 */
+	public Boolean getWildcardOrTypeVariables(Type type) {
+		checkClassLoader();
+		return wildcardOrTypeVariables.get(type);
+	}
+
+	public void putWildcardOrTypeVariables(Type type, boolean result) {
+		if (wildcardOrTypeVariables.size() >= MAX_ENTRIES) {
+			wildcardOrTypeVariables.clear();
+		}
+		wildcardOrTypeVariables.put(type, result);
+	}
+
+	private void checkClassLoader() {
+		ClassLoader current = TestGenerationContext.getInstance().getClassLoaderForSUT();
+		if (current != classLoader) {
+			synchronized (this) {
+				if (current != classLoader) {
+					clear();
+					classLoader = current;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Ordered pair of types, relying on the structural equality of the
+	 * {@link Type} implementations
+	 */
+	private static final class TypePair {
+
+		private final Type first;
+
+		private final Type second;
+
+		private final int hash;
+
+		TypePair(Type first, Type second) {
+			this.first = first;
+			this.second = second;
+			this.hash = 31 * first.hashCode() + second.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof TypePair))
+				return false;
+			TypePair other = (TypePair) obj;
+			return hash == other.hash && first.equals(other.first) && second.equals(other.second);
+		}
+	}
+}
@@ -0,0 +1,1196 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.examples.with.different.packagename;
+
+/**
+ * Class with more than 1,000 branches, used to measure the cost of computing branch distances
+ */
+public class ManyBranches {
+
+	public int method0(int x, int y) {
+		int r = 0;
+		if (x > 0) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 1) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 2) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 3) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 4) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method1(int x, int y) {
+		int r = 0;
+		if (x > 5) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 6) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 7) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 8) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 9) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method2(int x, int y) {
+		int r = 0;
+		if (x > 10) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 11) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 12) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 13) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 14) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method3(int x, int y) {
+		int r = 0;
+		if (x > 15) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 16) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 17) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 18) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 19) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method4(int x, int y) {
+		int r = 0;
+		if (x > 20) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 21) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 22) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 23) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 24) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method5(int x, int y) {
+		int r = 0;
+		if (x > 25) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 26) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 27) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 28) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 29) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method6(int x, int y) {
+		int r = 0;
+		if (x > 30) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 31) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 32) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 33) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 34) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method7(int x, int y) {
+		int r = 0;
+		if (x > 35) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 36) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 37) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 38) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 39) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method8(int x, int y) {
+		int r = 0;
+		if (x > 40) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 41) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 42) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 43) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 44) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method9(int x, int y) {
+		int r = 0;
+		if (x > 45) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 46) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 47) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 48) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 49) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method10(int x, int y) {
+		int r = 0;
+		if (x > 50) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 51) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 52) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 53) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 54) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method11(int x, int y) {
+		int r = 0;
+		if (x > 55) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 56) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 57) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 58) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 59) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method12(int x, int y) {
+		int r = 0;
+		if (x > 60) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 61) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 62) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 63) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 64) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method13(int x, int y) {
+		int r = 0;
+		if (x > 65) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 66) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 67) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 68) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 69) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method14(int x, int y) {
+		int r = 0;
+		if (x > 70) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 71) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 72) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 73) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 74) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method15(int x, int y) {
+		int r = 0;
+		if (x > 75) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 76) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 77) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 78) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 79) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method16(int x, int y) {
+		int r = 0;
+		if (x > 80) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 81) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 82) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 83) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 84) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+
+	public int method17(int x, int y) {
+		int r = 0;
+		if (x > 85) {
+			if (y == x + 0)
+				r += 1;
+			if (y < x + 1)
+				r += 2;
+			if (y > x + 2)
+				r += 3;
+			if (y != x + 3)
+				r += 4;
+			if (y <= x + 4)
+				r += 5;
+		}
+		if (x > 86) {
+			if (y == x + 5)
+				r += 1;
+			if (y < x + 6)
+				r += 2;
+			if (y > x + 7)
+				r += 3;
+			if (y != x + 8)
+				r += 4;
+			if (y <= x + 9)
+				r += 5;
+		}
+		if (x > 87) {
+			if (y == x + 10)
+				r += 1;
+			if (y < x + 11)
+				r += 2;
+			if (y > x + 12)
+				r += 3;
+			if (y != x + 13)
+				r += 4;
+			if (y <= x + 14)
+				r += 5;
+		}
+		if (x > 88) {
+			if (y == x + 15)
+				r += 1;
+			if (y < x + 16)
+				r += 2;
+			if (y > x + 17)
+				r += 3;
+			if (y != x + 18)
+				r += 4;
+			if (y <= x + 19)
+				r += 5;
+		}
+		if (x > 89) {
+			if (y == x + 20)
+				r += 1;
+			if (y < x + 21)
+				r += 2;
+			if (y > x + 22)
+				r += 3;
+			if (y != x + 23)
+				r += 4;
+			if (y <= x + 24)
+				r += 5;
+		}
+		return r;
+	}
+}
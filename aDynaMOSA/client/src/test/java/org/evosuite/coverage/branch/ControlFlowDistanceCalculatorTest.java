@@ -0,0 +1,183 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.coverage.branch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.coverage.ControlFlowDistance;
+import org.evosuite.ga.ConstructionFailedException;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestFactory;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.MethodCall;
+import org.evosuite.testcase.execution.TestCaseExecutor;
+import org.evosuite.testcase.execution.reset.ClassReInitializer;
+import org.evosuite.utils.Randomness;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.examples.with.different.packagename.ManyBranches;
+
+/**
+ * Checks the control flow distances computed from the index of the trace, and
+ * the distances stored with the execution result, on a class with more than
+ * 1,000 branches.
+ */
+public class ControlFlowDistanceCalculatorTest {
+
+	private static java.util.Properties currentProperties;
+
+	private List<BranchCoverageGoal> goals;
+
+	private ExecutionResult result;
+
+	@Before
+	public void setUp() throws ClassNotFoundException, ConstructionFailedException {
+		ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+		Properties.getInstance().resetToDefaults();
+		Randomness.setSeed(42);
+		TestGenerationContext.getInstance().resetContext();
+		ClassReInitializer.resetSingleton();
+		currentProperties = (java.util.Properties) System.getProperties().clone();
+
+		Properties.TARGET_CLASS = ManyBranches.class.getCanonicalName();
+		Class<?> sut = TestGenerationContext.getInstance().getClassLoaderForSUT().loadClass(Properties.TARGET_CLASS);
+		GenericClass clazz = new GenericClass(sut);
+
+		DefaultTestCase test = new DefaultTestCase();
+		TestFactory testFactory = TestFactory.getInstance();
+		testFactory.addConstructor(test, new GenericConstructor(sut.getConstructors()[0], clazz), 0, 0);
+		for (int repetition = 0; repetition < 3; repetition++) {
+			for (Method m : sut.getMethods()) {
+				if (m.getDeclaringClass().equals(sut))
+					testFactory.addMethod(test, new GenericMethod(m, sut), test.size(), 0);
+			}
+		}
+		result = TestCaseExecutor.runTest(test);
+
+		goals = new ArrayList<BranchCoverageGoal>();
+		for (BranchCoverageTestFitness fitness : new BranchCoverageFactory().getCoverageGoals())
+			goals.add(fitness.getBranchGoal());
+	}
+
+	@After
+	public void tearDown() {
+		TestGenerationContext.getInstance().resetContext();
+		System.setProperties(currentProperties);
+		Properties.getInstance().resetToDefaults();
+	}
+
+	@Test
+	public void testIndexedDistancesMatchTrace() {
+		assertTrue("expected more than 1,000 goals, found " + goals.size(), goals.size() > 1000);
+
+		for (BranchCoverageGoal goal : goals) {
+			ControlFlowDistance distance = goal.getDistance(result);
+
+			// same value with an index built for this goal only
+			result.clearTraceSummaries();
+			ControlFlowDistance fresh = goal.getDistance(result);
+			assertEquals(fresh.getApproachLevel(), distance.getApproachLevel());
+			assertEquals(fresh.getBranchDistance(), distance.getBranchDistance(), 0.0);
+
+			if (goal.getBranch() == null)
+				continue;
+			int branchId = goal.getBranch().getActualBranchId();
+			boolean covered = goal.getValue() ? result.getTrace().getCoveredTrueBranches().contains(branchId)
+					: result.getTrace().getCoveredFalseBranches().contains(branchId);
+			assertEquals(covered, distance.getResultingBranchFitness() == 0.0);
+
+			Double traced = getMinimalTracedDistance(goal);
+			if (traced != null) {
+				assertEquals(0, distance.getApproachLevel());
+				assertEquals(traced, distance.getBranchDistance(), 0.0);
+			} else {
+				assertTrue(distance.getApproachLevel() > 0);
+			}
+		}
+	}
+
+	@Test
+	public void testBatchMatchesPerGoalDistances() {
+		Map<BranchCoverageGoal, ControlFlowDistance> batch = ControlFlowDistanceCalculator.getDistances(result, goals);
+		assertEquals(new ArrayList<BranchCoverageGoal>(goals), new ArrayList<BranchCoverageGoal>(batch.keySet()));
+
+		// distances stored by the batch are the ones each goal computes on its own
+		result.clearTraceSummaries();
+		for (BranchCoverageGoal goal : goals) {
+			ControlFlowDistance distance = ControlFlowDistanceCalculator.getDistance(result, goal.getBranch(),
+					goal.getValue(), goal.getClassName(), goal.getMethodName());
+			assertEquals(distance.getApproachLevel(), batch.get(goal).getApproachLevel());
+			assertEquals(distance.getBranchDistance(), batch.get(goal).getBranchDistance(), 0.0);
+		}
+	}
+
+	@Test
+	public void testStoredDistancesAreNotShared() {
+		BranchCoverageGoal uncovered = null;
+		for (BranchCoverageGoal goal : goals) {
+			if (goal.getDistance(result).getApproachLevel() > 0) {
+				uncovered = goal;
+				break;
+			}
+		}
+		assertNotNull(uncovered);
+
+		ControlFlowDistance distance = uncovered.getDistance(result);
+		int approachLevel = distance.getApproachLevel();
+		distance.increaseApproachLevel();
+		assertEquals(approachLevel, uncovered.getDistance(result).getApproachLevel());
+		assertEquals(approachLevel, ControlFlowDistanceCalculator.getDistances(result, goals).get(uncovered)
+				.getApproachLevel());
+
+		// clones of the result share the stored distances
+		assertEquals(approachLevel, uncovered.getDistance(result.clone()).getApproachLevel());
+	}
+
+	private Double getMinimalTracedDistance(BranchCoverageGoal goal) {
+		Double min = null;
+		for (MethodCall call : result.getTrace().getMethodCalls()) {
+			if (!call.className.equals(goal.getClassName()) || !call.methodName.equals(goal.getMethodName()))
+				continue;
+			for (int pos = 0; pos < call.branchTrace.size(); pos++) {
+				if (call.branchTrace.get(pos) != goal.getBranch().getActualBranchId())
+					continue;
+				double d = goal.getValue() ? call.trueDistanceTrace.get(pos) : call.falseDistanceTrace.get(pos);
+				if (min == null || d < min)
+					min = d;
+			}
+		}
+		return min;
+	}
+}
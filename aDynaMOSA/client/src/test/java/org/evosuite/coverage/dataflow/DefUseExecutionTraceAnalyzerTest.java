@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.coverage.dataflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.testcase.execution.DefUseTrace;
+import org.evosuite.utils.Randomness;
+import org.junit.Test;
+
+public class DefUseExecutionTraceAnalyzerTest {
+
+	@Test
+	public void testRedefinitionOnOtherObject() {
+		DefUseTrace trace = new DefUseTrace();
+		trace.addDefinition(0, "x", 1, 10, null);
+		trace.addDefinition(1, "x", 2, 11, null);
+		trace.addUse(2, "x", 1, 20, null);
+		trace.addDefinition(3, "x", 1, 12, null);
+		trace.addUse(4, "x", 1, 21, null);
+		trace.addUse(5, "x", 2, 21, null);
+		// no active definition
+		trace.addUse(6, "y", 1, 22, null);
+
+		Map<Integer, Set<Integer>> pairs = DefUseExecutionTraceAnalyzer.getCoveredPairs(trace);
+		assertEquals(Collections.singleton(20), pairs.get(10));
+		assertEquals(Collections.singleton(21), pairs.get(11));
+		assertEquals(Collections.singleton(21), pairs.get(12));
+		assertEquals(3, pairs.size());
+		assertEquals(pairs, mergeAndSort(trace));
+	}
+
+	@Test
+	public void testSamePairsAsMergeAndSort() {
+		String[] variables = { "x", "y", "z" };
+		for (int run = 0; run < 20; run++) {
+			DefUseTrace trace = new DefUseTrace();
+			for (int duCounter = 0; duCounter < 500; duCounter++) {
+				String variable = variables[Randomness.nextInt(variables.length)];
+				int objectId = Randomness.nextInt(4);
+				if (Randomness.nextBoolean())
+					trace.addDefinition(duCounter, variable, objectId, Randomness.nextInt(20), null);
+				else
+					trace.addUse(duCounter, variable, objectId, 100 + Randomness.nextInt(20), null);
+			}
+			Map<Integer, Set<Integer>> pairs = DefUseExecutionTraceAnalyzer.getCoveredPairs(trace);
+			assertFalse(pairs.isEmpty());
+			assertEquals(mergeAndSort(trace), pairs);
+		}
+	}
+
+	/**
+	 * The pairs as they were computed before the single pass: for each variable
+	 * and object, merge the duCounters of its definitions and uses, sort them
+	 * and track the active definition
+	 */
+	private static Map<Integer, Set<Integer>> mergeAndSort(DefUseTrace trace) {
+		Map<Integer, Set<Integer>> r = new HashMap<Integer, Set<Integer>>();
+		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> defData = trace.getDefinitionData();
+		Map<String, HashMap<Integer, HashMap<Integer, Integer>>> useData = trace.getUseData();
+		for (String variable : defData.keySet()) {
+			if (!useData.containsKey(variable))
+				continue;
+			for (Integer objectId : defData.get(variable).keySet()) {
+				Map<Integer, Integer> defs = defData.get(variable).get(objectId);
+				Map<Integer, Integer> uses = useData.get(variable).get(objectId);
+				if (uses == null)
+					continue;
+				List<Integer> duCounters = new ArrayList<Integer>(defs.keySet());
+				duCounters.addAll(uses.keySet());
+				Collections.sort(duCounters);
+				int activeDef = -1;
+				for (Integer duCounter : duCounters) {
+					if (defs.containsKey(duCounter)) {
+						activeDef = defs.get(duCounter);
+					} else if (activeDef != -1) {
+						Set<Integer> pairUses = r.get(activeDef);
+						if (pairUses == null) {
+							pairUses = new HashSet<Integer>();
+							r.put(activeDef, pairUses);
+						}
+						pairUses.add(uses.get(duCounter));
+					}
+				}
+			}
+		}
+		return r;
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.coverage.method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.ga.ConstructionFailedException;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFactory;
+import org.evosuite.testcase.TestFitnessFunction;
+import org.evosuite.testcase.execution.reset.ClassReInitializer;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.evosuite.utils.Randomness;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.examples.with.different.packagename.ManyBranches;
+
+/**
+ * Checks that the goal fitness values cached with the execution results lead
+ * to the same suite fitness and covered goals as evaluating the goals again.
+ */
+public class MethodCoverageSuiteFitnessTest {
+
+	private static java.util.Properties currentProperties;
+
+	private TestSuiteChromosome suite;
+
+	@Before
+	public void setUp() throws ClassNotFoundException, ConstructionFailedException {
+		ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+		Properties.getInstance().resetToDefaults();
+		Randomness.setSeed(42);
+		TestGenerationContext.getInstance().resetContext();
+		ClassReInitializer.resetSingleton();
+		currentProperties = (java.util.Properties) System.getProperties().clone();
+
+		Properties.TEST_ARCHIVE = false;
+		Properties.TARGET_CLASS = ManyBranches.class.getCanonicalName();
+		Class<?> sut = TestGenerationContext.getInstance().getClassLoaderForSUT().loadClass(Properties.TARGET_CLASS);
+		GenericClass clazz = new GenericClass(sut);
+
+		TestFactory testFactory = TestFactory.getInstance();
+		suite = new TestSuiteChromosome();
+		for (Method m : sut.getMethods()) {
+			if (!m.getDeclaringClass().equals(sut))
+				continue;
+			DefaultTestCase test = new DefaultTestCase();
+			testFactory.addConstructor(test, new GenericConstructor(sut.getConstructors()[0], clazz), 0, 0);
+			testFactory.addMethod(test, new GenericMethod(m, sut), test.size(), 0);
+			suite.addTest(test);
+		}
+	}
+
+	@After
+	public void tearDown() {
+		TestGenerationContext.getInstance().resetContext();
+		System.setProperties(currentProperties);
+		Properties.getInstance().resetToDefaults();
+	}
+
+	@Test
+	public void testCachedGoalFitnessGivesSameFitness() {
+		MethodCoverageSuiteFitness ff = new MethodCoverageSuiteFitness();
+		double fitness = ff.getFitness(suite);
+		double coverage = suite.getCoverage(ff);
+		assertTrue(coverage > 0.0);
+
+		// unchanged tests reuse the fitness of the goals
+		assertEquals(fitness, ff.getFitness(suite), 0.0);
+		assertEquals(coverage, suite.getCoverage(ff), 0.0);
+
+		// as do their clones
+		TestSuiteChromosome clone = suite.clone();
+		assertEquals(fitness, ff.getFitness(clone), 0.0);
+		assertEquals(coverage, clone.getCoverage(ff), 0.0);
+
+		// evaluating all the goals again
+		for (TestChromosome test : clone.getTestChromosomes())
+			test.getLastExecutionResult().setTrace(test.getLastExecutionResult().getTrace());
+		assertEquals(fitness, ff.getFitness(clone), 0.0);
+		assertEquals(coverage, clone.getCoverage(ff), 0.0);
+	}
+
+	@Test
+	public void testCachedGoalFitnessUpdatesCoveredGoals() {
+		MethodCoverageSuiteFitness ff = new MethodCoverageSuiteFitness();
+		ff.getFitness(suite);
+
+		TestChromosome test = suite.getTestChromosome(0);
+		assertFalse(test.getTestCase().getCoveredGoals().isEmpty());
+		TestFitnessFunction goal = test.getTestCase().getCoveredGoals().iterator().next();
+
+		test.getTestCase().clearCoveredGoals();
+		ff.getFitness(suite);
+		assertTrue(test.getTestCase().isGoalCovered(goal));
+	}
+}
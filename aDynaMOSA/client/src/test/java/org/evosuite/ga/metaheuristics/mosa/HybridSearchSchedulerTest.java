@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testcase.TestChromosome;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HybridSearchSchedulerTest {
+
+	private static final int DEFAULT_STAGNATION_THRESHOLD = Properties.DSE_STAGNATION_THRESHOLD;
+	private static final int DEFAULT_SCHEDULER_MAX_GOALS = Properties.DSE_SCHEDULER_MAX_GOALS;
+
+	private final FitnessFunction<TestChromosome> solverFriendlyGoal = new DummyGoal();
+	private final FitnessFunction<TestChromosome> otherGoal = new DummyGoal();
+
+	private HybridSearchScheduler<TestChromosome> scheduler;
+
+	@Before
+	public void setUp() {
+		Properties.DSE_STAGNATION_THRESHOLD = 2;
+		Properties.DSE_SCHEDULER_MAX_GOALS = 3;
+		scheduler = new HybridSearchScheduler<TestChromosome>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean isSolverFriendly(FitnessFunction<TestChromosome> goal) {
+				return goal == solverFriendlyGoal;
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		Properties.DSE_STAGNATION_THRESHOLD = DEFAULT_STAGNATION_THRESHOLD;
+		Properties.DSE_SCHEDULER_MAX_GOALS = DEFAULT_SCHEDULER_MAX_GOALS;
+	}
+
+	private List<TestChromosome> population(double fitness) {
+		TestChromosome test = new TestChromosome();
+		test.setFitness(solverFriendlyGoal, fitness);
+		test.setFitness(otherGoal, fitness);
+		return Collections.singletonList(test);
+	}
+
+	@Test
+	public void testOnlyStagnatingSolverFriendlyGoalsAreRouted() {
+		List<FitnessFunction<TestChromosome>> goals = Arrays.asList(solverFriendlyGoal, otherGoal);
+
+		scheduler.updateStagnation(goals, population(5.0));
+		assertTrue(scheduler.selectGoalsForDSE().isEmpty());
+
+		scheduler.updateStagnation(goals, population(5.0));
+		scheduler.updateStagnation(goals, population(6.0));
+		assertEquals(2, scheduler.getStagnation(otherGoal));
+		assertEquals(Collections.singletonList(solverFriendlyGoal), scheduler.selectGoalsForDSE());
+	}
+
+	@Test
+	public void testImprovementResetsStagnation() {
+		List<FitnessFunction<TestChromosome>> goals = Collections.singletonList(solverFriendlyGoal);
+
+		scheduler.updateStagnation(goals, population(5.0));
+		scheduler.updateStagnation(goals, population(5.0));
+		assertEquals(1, scheduler.getStagnation(solverFriendlyGoal));
+
+		scheduler.updateStagnation(goals, population(4.0));
+		assertEquals(0, scheduler.getStagnation(solverFriendlyGoal));
+	}
+
+	@Test
+	public void testFailedDSEDoublesThreshold() {
+		List<FitnessFunction<TestChromosome>> goals = Collections.singletonList(solverFriendlyGoal);
+		for (int i = 0; i < 3; i++)
+			scheduler.updateStagnation(goals, population(5.0));
+		assertEquals(goals, scheduler.selectGoalsForDSE());
+
+		scheduler.reportDSE(solverFriendlyGoal, false, 10, 0);
+		// the evolutionary search keeps covering goals, DSE did not
+		scheduler.reportEvolution(10, 1);
+		for (int i = 0; i < 3; i++)
+			scheduler.updateStagnation(goals, population(5.0));
+		assertTrue(scheduler.selectGoalsForDSE().isEmpty());
+
+		// the evolutionary search stagnates as well, and the goal waited twice as long
+		scheduler.reportEvolution(10, 0);
+		scheduler.reportEvolution(10, 0);
+		scheduler.updateStagnation(goals, population(5.0));
+		assertEquals(goals, scheduler.selectGoalsForDSE());
+	}
+
+	@Test
+	public void testCoveredGoalsAreDropped() {
+		scheduler.updateStagnation(Arrays.asList(solverFriendlyGoal, otherGoal), population(5.0));
+		scheduler.updateStagnation(Collections.singletonList(otherGoal), population(5.0));
+		assertEquals(0, scheduler.getStagnation(solverFriendlyGoal));
+	}
+
+	@Test
+	public void testCoverageRates() {
+		scheduler.reportEvolution(2000, 4);
+		scheduler.reportDSE(solverFriendlyGoal, true, 500, 1);
+		assertEquals(2.0, scheduler.getEvolutionCoverageRate(), 0.0);
+		assertEquals(2.0, scheduler.getDSECoverageRate(), 0.0);
+	}
+
+	@Test
+	public void testClosestIndividual() {
+		TestChromosome far = new TestChromosome();
+		far.setFitness(solverFriendlyGoal, 3.0);
+		TestChromosome close = new TestChromosome();
+		close.setFitness(solverFriendlyGoal, 1.0);
+		assertSame(close, scheduler.getClosestIndividual(solverFriendlyGoal, Arrays.asList(far, close, new TestChromosome())));
+	}
+
+	private static class DummyGoal extends FitnessFunction<TestChromosome> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public double getFitness(TestChromosome individual) {
+			return 0;
+		}
+
+		@Override
+		public boolean isMaximizationFunction() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.evosuite.Properties;
+import org.evosuite.Properties.Criterion;
+import org.evosuite.TestGenerationContext;
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.seeding.CastClassManager;
+import org.evosuite.setup.DependencyAnalysis;
+import org.evosuite.setup.TestCluster;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.factories.RandomLengthTestFactory;
+import org.evosuite.utils.Randomness;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.examples.with.different.packagename.FlagExample1;
+
+public class InitialPopulationTest {
+
+	@Before
+	public void setUp() throws ClassNotFoundException {
+		Properties.getInstance().resetToDefaults();
+		TestGenerationContext.getInstance().resetContext();
+		Properties.TARGET_CLASS = FlagExample1.class.getCanonicalName();
+		Properties.CRITERION = new Criterion[] { Criterion.BRANCH };
+		Properties.POPULATION = 20;
+
+		ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+		String cp = ClassPathHandler.getInstance().getTargetProjectClasspath();
+		DependencyAnalysis.analyzeClass(Properties.TARGET_CLASS, Arrays.asList(cp.split(File.pathSeparator)));
+	}
+
+	@After
+	public void tearDown() {
+		TestGenerationContext.getInstance().resetContext();
+		Properties.getInstance().resetToDefaults();
+	}
+
+	private static List<String> generatePopulation(int threads) {
+		Properties.INITIAL_POPULATION_THREADS = threads;
+		Randomness.setSeed(42);
+		MOSA<TestChromosome> mosa = new MOSA<TestChromosome>(new RandomLengthTestFactory());
+		mosa.generateRandomPopulation(Properties.POPULATION);
+
+		List<String> tests = new ArrayList<String>();
+		for (TestChromosome tc : mosa.getPopulation()) {
+			tests.add(tc.getTestCase().toCode());
+		}
+		return tests;
+	}
+
+	@Test
+	public void testParallelPopulationIsComplete() {
+		List<String> tests = generatePopulation(4);
+		assertEquals(Properties.POPULATION, tests.size());
+	}
+
+	@Test
+	public void testParallelPopulationDoesNotDependOnThreads() {
+		List<String> twoThreads = generatePopulation(2);
+		List<String> fourThreads = generatePopulation(4);
+		assertEquals(twoThreads, fourThreads);
+	}
+
+	@Test
+	public void testSingleThreadUsesSharedStream() {
+		List<String> oneThread = generatePopulation(1);
+
+		Randomness.setSeed(42);
+		RandomLengthTestFactory factory = new RandomLengthTestFactory();
+		List<String> sequential = new ArrayList<String>();
+		for (int i = 0; i < Properties.POPULATION; i++) {
+			sequential.add(factory.getChromosome().getTestCase().toCode());
+		}
+		assertEquals(sequential, oneThread);
+	}
+
+	@Test
+	public void testParallelPopulationUsesViewsOfTheCluster() {
+		TestCluster cluster = TestCluster.getInstance();
+		Set<GenericClass> castClasses = new LinkedHashSet<GenericClass>(CastClassManager.getInstance().getCastClasses());
+
+		generatePopulation(4);
+
+		assertSame(cluster, TestCluster.getInstance());
+		assertEquals(castClasses, CastClassManager.getInstance().getCastClasses());
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa.structural;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.evosuite.Properties;
+import org.evosuite.Properties.Criterion;
+import org.evosuite.TestGenerationContext;
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.coverage.branch.BranchCoverageFactory;
+import org.evosuite.coverage.branch.BranchCoverageTestFitness;
+import org.evosuite.ga.ConstructionFailedException;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFactory;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.reset.ClassReInitializer;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.examples.with.different.packagename.FlagExample1;
+
+public class MultiCriteriatManagerTest {
+
+	private TestChromosome test;
+
+	private MultiCriteriatManager<TestChromosome> manager;
+
+	@Before
+	public void setUp() throws ClassNotFoundException, ConstructionFailedException {
+		ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+		Properties.getInstance().resetToDefaults();
+		TestGenerationContext.getInstance().resetContext();
+		ClassReInitializer.resetSingleton();
+
+		Properties.TARGET_CLASS = FlagExample1.class.getCanonicalName();
+		Properties.CRITERION = new Criterion[] { Criterion.BRANCH };
+		Class<?> sut = TestGenerationContext.getInstance().getClassLoaderForSUT().loadClass(Properties.TARGET_CLASS);
+		GenericClass clazz = new GenericClass(sut);
+
+		DefaultTestCase testCase = new DefaultTestCase();
+		TestFactory testFactory = TestFactory.getInstance();
+		testFactory.addConstructor(testCase, new GenericConstructor(sut.getConstructors()[0], clazz), 0, 0);
+		for (Method m : sut.getMethods()) {
+			if (m.getDeclaringClass().equals(sut))
+				testFactory.addMethod(testCase, new GenericMethod(m, sut), testCase.size(), 0);
+		}
+		test = new TestChromosome();
+		test.setTestCase(testCase);
+
+		List<FitnessFunction<TestChromosome>> goals = new ArrayList<FitnessFunction<TestChromosome>>();
+		for (BranchCoverageTestFitness goal : new BranchCoverageFactory().getCoverageGoals())
+			goals.add(goal);
+		manager = new MultiCriteriatManager<TestChromosome>(goals);
+	}
+
+	@After
+	public void tearDown() {
+		TestGenerationContext.getInstance().resetContext();
+		Properties.getInstance().resetToDefaults();
+	}
+
+	@Test
+	public void testUnchangedTestIsNotExecutedAgain() {
+		manager.calculateFitness(test);
+		ExecutionResult result = test.getLastExecutionResult();
+		assertNotNull(result);
+
+		manager.calculateFitness(test);
+		assertSame(result, test.getLastExecutionResult());
+	}
+
+	@Test
+	public void testChangedTestIsExecutedAgain() {
+		manager.calculateFitness(test);
+		ExecutionResult result = test.getLastExecutionResult();
+
+		test.setChanged(true);
+		assertNull(test.getLastExecutionResult());
+
+		manager.calculateFitness(test);
+		assertNotNull(test.getLastExecutionResult());
+		assertNotSame(result, test.getLastExecutionResult());
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.stoppingconditions;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CoveragePlateauStoppingConditionTest {
+
+	private static final int DEFAULT_PLATEAU_TIMEOUT = Properties.PLATEAU_TIMEOUT;
+	private static final boolean DEFAULT_TEST_ARCHIVE = Properties.TEST_ARCHIVE;
+
+	private GeneticAlgorithm<Chromosome> algorithm;
+
+	private Chromosome best;
+
+	private CoveragePlateauStoppingCondition condition;
+
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setUp() {
+		Properties.PLATEAU_TIMEOUT = 5;
+		Properties.TEST_ARCHIVE = false;
+		algorithm = mock(GeneticAlgorithm.class);
+		best = mock(Chromosome.class);
+		when(algorithm.getBestIndividual()).thenReturn(best);
+		when(algorithm.getFitnessFunctions()).thenReturn(Collections.<FitnessFunction<Chromosome>> emptyList());
+		condition = new CoveragePlateauStoppingCondition();
+		condition.searchStarted(algorithm);
+	}
+
+	@After
+	public void tearDown() {
+		Properties.PLATEAU_TIMEOUT = DEFAULT_PLATEAU_TIMEOUT;
+		Properties.TEST_ARCHIVE = DEFAULT_TEST_ARCHIVE;
+	}
+
+	private void iterate(double fitness) {
+		when(best.getFitness()).thenReturn(fitness);
+		condition.iteration(algorithm);
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		Properties.PLATEAU_TIMEOUT = 0;
+		iterate(1.0);
+		condition.forceCurrentValue(1000);
+		assertFalse(condition.isFinished());
+	}
+
+	@Test
+	public void testFinishesWithoutProgress() {
+		iterate(10.0);
+		assertFalse(condition.isFinished());
+
+		condition.forceCurrentValue(4);
+		iterate(10.0);
+		assertFalse(condition.isFinished());
+
+		condition.forceCurrentValue(5);
+		iterate(10.0);
+		assertTrue(condition.isFinished());
+	}
+
+	@Test
+	public void testProgressRestartsTheClock() {
+		iterate(10.0);
+		condition.forceCurrentValue(5);
+		assertTrue(condition.isFinished());
+
+		iterate(9.0);
+		assertFalse(condition.isFinished());
+
+		// a worse fitness on minimization is no progress
+		condition.forceCurrentValue(5);
+		iterate(11.0);
+		assertTrue(condition.isFinished());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testProgressOnMaximization() {
+		FitnessFunction<Chromosome> function = mock(FitnessFunction.class);
+		when(function.isMaximizationFunction()).thenReturn(true);
+		List<FitnessFunction<Chromosome>> functions = Collections.singletonList(function);
+		when(algorithm.getFitnessFunctions()).thenReturn(functions);
+		when(algorithm.getFitnessFunction()).thenReturn(function);
+
+		iterate(1.0);
+		condition.forceCurrentValue(5);
+		iterate(0.5);
+		assertTrue(condition.isFinished());
+
+		iterate(2.0);
+		assertFalse(condition.isFinished());
+	}
+
+	@Test
+	public void testResetRestartsTheClock() {
+		iterate(10.0);
+		condition.forceCurrentValue(5);
+		assertTrue(condition.isFinished());
+
+		condition.reset();
+		assertFalse(condition.isFinished());
+	}
+}
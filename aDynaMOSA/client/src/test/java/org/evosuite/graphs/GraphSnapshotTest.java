@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.graphs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks the precomputed views of a frozen {@link EvoSuiteGraph}.
+ */
+public class GraphSnapshotTest {
+
+	private static class TestGraph extends EvoSuiteGraph<String, DefaultEdge> {
+		TestGraph() {
+			super(DefaultEdge.class);
+		}
+
+		void edge(String src, String target) {
+			addVertex(src);
+			addVertex(target);
+			addEdge(src, target);
+		}
+	}
+
+	private TestGraph graph;
+
+	/**
+	 * entry -> a -> head -> body -> head -> exit, plus a self loop on "self"
+	 */
+	@Before
+	public void setUp() {
+		graph = new TestGraph();
+		graph.edge("entry", "a");
+		graph.edge("a", "head");
+		graph.edge("head", "body");
+		graph.edge("body", "head");
+		graph.edge("head", "exit");
+		graph.edge("a", "self");
+		graph.edge("self", "self");
+		graph.edge("self", "exit");
+	}
+
+	@Test
+	public void testAdjacencyMatchesGraph() {
+		GraphSnapshot<String> snapshot = graph.freeze();
+		assertEquals(graph.vertexCount(), snapshot.vertexCount());
+		assertEquals(graph.edgeCount(), snapshot.edgeCount());
+		for (String v : graph.vertexSet()) {
+			assertEquals(graph.getChildren(v), snapshot.getChildren(v));
+			assertEquals(graph.getParents(v), snapshot.getParents(v));
+			assertEquals(graph.outDegreeOf(v), snapshot.outDegreeOf(v));
+			assertEquals(graph.inDegreeOf(v), snapshot.inDegreeOf(v));
+		}
+		assertEquals(Arrays.asList("head", "self"), Arrays.asList(snapshot.getChildren("a").toArray()));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testViewsAreImmutable() {
+		graph.freeze();
+		graph.getParentsView("head").clear();
+	}
+
+	@Test
+	public void testViewsOfUnknownVertices() {
+		assertNull(graph.getChildrenView("unknown"));
+		assertNull(graph.getParentsView("unknown"));
+		assertNull(graph.getParentsView(null));
+
+		graph.freeze();
+		assertNull(graph.getChildrenView("unknown"));
+		assertNull(graph.getParentsView("unknown"));
+		assertNull(graph.getParentsView(null));
+	}
+
+	@Test
+	public void testCyclesAndDominators() {
+		GraphSnapshot<String> snapshot = graph.freeze();
+		assertTrue(snapshot.isOnCycle("head"));
+		assertTrue(snapshot.isOnCycle("body"));
+		assertTrue(snapshot.isOnCycle("self"));
+		assertFalse(snapshot.isOnCycle("a"));
+		assertFalse(snapshot.isOnCycle("exit"));
+
+		assertNull(snapshot.getImmediateDominator("entry"));
+		assertEquals("a", snapshot.getImmediateDominator("head"));
+		assertEquals("a", snapshot.getImmediateDominator("exit"));
+		assertTrue(snapshot.dominates("head", "body"));
+		assertFalse(snapshot.dominates("body", "exit"));
+
+		assertTrue(snapshot.isLoopHeader("head"));
+		assertTrue(snapshot.isLoopHeader("self"));
+		assertFalse(snapshot.isLoopHeader("body"));
+	}
+
+	@Test
+	public void testMutationInvalidatesSnapshot() {
+		GraphSnapshot<String> snapshot = graph.freeze();
+		assertSame(snapshot, graph.freeze());
+
+		graph.edge("exit", "entry");
+		assertFalse(graph.isFrozen());
+		Set<String> parents = graph.getParentsView("entry");
+		assertEquals(1, parents.size());
+		assertTrue(graph.freeze().isOnCycle("a"));
+	}
+}
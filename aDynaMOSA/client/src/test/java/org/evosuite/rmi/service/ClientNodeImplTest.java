@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.rmi.registry.Registry;
+import java.util.Map;
+
+import org.evosuite.statistics.RuntimeVariable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+public class ClientNodeImplTest {
+
+	private static final String CLIENT_ID = "ClientNode0";
+
+	private MasterNodeRemote master;
+
+	private ClientNodeImpl client;
+
+	@Before
+	public void setUp() throws Exception {
+		master = mock(MasterNodeRemote.class);
+		Registry registry = mock(Registry.class);
+		when(registry.lookup(MasterNodeRemote.RMI_SERVICE_NAME)).thenReturn(master);
+
+		client = new ClientNodeImpl(registry, CLIENT_ID);
+		assertTrue(client.init());
+	}
+
+	@After
+	public void tearDown() {
+		client.stop();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	public void testVariablesAreSentInOneBatch() throws Exception {
+		client.trackOutputVariable(RuntimeVariable.Total_Goals, 10);
+		client.trackOutputVariable(RuntimeVariable.Covered_Goals, 3);
+		client.trackOutputVariable(RuntimeVariable.Covered_Goals, 5);
+
+		ArgumentCaptor<Map> batch = ArgumentCaptor.forClass(Map.class);
+		verify(master, timeout(5000)).evosuite_collectStatistics(eq(CLIENT_ID), (Map<RuntimeVariable, Object>) batch.capture());
+		verify(master, never()).evosuite_collectStatistics(eq(CLIENT_ID), any(RuntimeVariable.class), any());
+
+		Map<RuntimeVariable, Object> variables = batch.getValue();
+		assertEquals(2, variables.size());
+		assertEquals(10, variables.get(RuntimeVariable.Total_Goals));
+		// only the latest value of a variable tracked twice is sent
+		assertEquals(5, variables.get(RuntimeVariable.Covered_Goals));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	public void testFlushSendsPendingVariablesFirst() throws Exception {
+		client.trackOutputVariable(RuntimeVariable.Total_Goals, 10);
+		client.trackOutputVariable(RuntimeVariable.Coverage, 0.5);
+		// well within the batching window of the statistics thread
+		client.flushStatisticsForClassChange();
+
+		ArgumentCaptor<Map> batch = ArgumentCaptor.forClass(Map.class);
+		InOrder order = inOrder(master);
+		order.verify(master).evosuite_collectStatistics(eq(CLIENT_ID), (Map<RuntimeVariable, Object>) batch.capture());
+		order.verify(master).evosuite_flushStatisticsForClassChange(CLIENT_ID);
+
+		Map<RuntimeVariable, Object> variables = batch.getValue();
+		assertEquals(10, variables.get(RuntimeVariable.Total_Goals));
+		assertEquals(0.5, variables.get(RuntimeVariable.Coverage));
+	}
+
+	@Test
+	public void testStopSendsPendingVariables() throws Exception {
+		client.trackOutputVariable(RuntimeVariable.Total_Goals, 10);
+		client.stop();
+
+		verify(master).evosuite_collectStatistics(eq(CLIENT_ID), anyMap());
+	}
+}
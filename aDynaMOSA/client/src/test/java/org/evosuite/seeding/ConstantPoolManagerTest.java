@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.seeding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import org.evosuite.Properties;
+import org.junit.After;
+import org.junit.Test;
+
+public class ConstantPoolManagerTest {
+
+	@After
+	public void tearDown() {
+		Properties.getInstance().resetToDefaults();
+		ConstantPoolManager.getInstance().reset();
+	}
+
+	@Test
+	public void testDynamicPoolHitRate() {
+		ConstantPoolManager manager = ConstantPoolManager.getInstance();
+		manager.reset();
+		assertEquals(0.0, manager.getDynamicPoolHitRate(), 0.0);
+
+		manager.addDynamicConstant(1234);
+		manager.addDynamicConstant(1234);
+		manager.addDynamicConstant("foo");
+		manager.addDynamicConstant("foo");
+		assertEquals(4, manager.getNumberOfDynamicConstants());
+		assertEquals(0.5, manager.getDynamicPoolHitRate(), 0.0);
+	}
+
+	@Test
+	public void testRejectedConstantsAreNotHits() {
+		Properties.RESTRICT_POOL = true;
+		Properties.MAX_INT = 2048;
+		Properties.MAX_STRING = 3;
+		ConstantPoolManager manager = ConstantPoolManager.getInstance();
+		manager.reset();
+
+		manager.addDynamicConstant(1234);
+		manager.addDynamicConstant(1234);
+		manager.addDynamicConstant(4096);
+		manager.addDynamicConstant(4096);
+		manager.addDynamicConstant("foobar");
+		manager.addDynamicConstant(null);
+		manager.addDynamicConstant(new Object());
+		assertEquals(7, manager.getNumberOfDynamicConstants());
+		assertEquals(5, manager.getNumberOfRejectedDynamicConstants());
+		assertEquals(0.5, manager.getDynamicPoolHitRate(), 0.0);
+
+		manager.reset();
+		manager.addDynamicConstant("foobar");
+		assertEquals(1, manager.getNumberOfRejectedDynamicConstants());
+		assertEquals(0.0, manager.getDynamicPoolHitRate(), 0.0);
+	}
+
+	@Test
+	public void testEmptyDynamicPoolIsNotUsed() {
+		Properties.DYNAMIC_POOL_SIZE = 0;
+		Properties.DYNAMIC_POOL = 1.0;
+		ConstantPoolManager manager = ConstantPoolManager.getInstance();
+		manager.reset();
+		manager.addDynamicConstant(1234);
+		for (int i = 0; i < 100; i++) {
+			assertNotSame(manager.getDynamicConstantPool(), manager.getConstantPool());
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.evosuite.Properties;
+import org.evosuite.Properties.Criterion;
+import org.evosuite.coverage.method.MethodCoverageTestFitness;
+import org.evosuite.ga.archive.Archive;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFitnessFunction;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the sorted candidate test calls are computed again when the
+ * goals left in the archive change, and when the test cluster is reset.
+ */
+public class TestClusterCandidateCallsTest {
+
+	public static class Foo {
+		public void first() {
+		}
+
+		public void second() {
+		}
+	}
+
+	private GenericMethod first;
+
+	private GenericMethod second;
+
+	private Archive<TestFitnessFunction, TestChromosome> archive;
+
+	@Before
+	public void setUp() throws NoSuchMethodException {
+		Properties.getInstance().resetToDefaults();
+		Properties.SORT_CALLS = true;
+		Properties.CRITERION = new Criterion[] { Criterion.METHOD };
+		archive = Archive.getArchiveInstance();
+		archive.reset();
+		TestCluster.reset();
+
+		first = new GenericMethod(Foo.class.getMethod("first"), Foo.class);
+		second = new GenericMethod(Foo.class.getMethod("second"), Foo.class);
+	}
+
+	@After
+	public void tearDown() {
+		archive.reset();
+		TestCluster.reset();
+		Properties.getInstance().resetToDefaults();
+	}
+
+	private static MethodCoverageTestFitness goalOf(GenericMethod method) {
+		return new MethodCoverageTestFitness(Foo.class.getCanonicalName(), method.getNameWithDescriptor());
+	}
+
+	@Test
+	public void testSortedCallsFollowTheArchive() {
+		TestCluster cluster = TestCluster.getInstance();
+		cluster.addTestCall(first);
+		cluster.addTestCall(second);
+		assertEquals(Arrays.asList(first, second), cluster.getCandidateTestCalls());
+
+		archive.addTarget(goalOf(second));
+		assertEquals(Arrays.asList(second, first), cluster.getCandidateTestCalls());
+
+		// same number of goals, so the order of the calls is kept
+		archive.addTarget(goalOf(first));
+		assertEquals(Arrays.asList(first, second), cluster.getCandidateTestCalls());
+
+		archive.reset();
+		archive.addTarget(goalOf(second));
+		assertEquals(Arrays.asList(second, first), cluster.getCandidateTestCalls());
+	}
+
+	@Test
+	public void testResetDropsSortedCalls() {
+		archive.addTarget(goalOf(second));
+		TestCluster cluster = TestCluster.getInstance();
+		cluster.addTestCall(first);
+		cluster.addTestCall(second);
+		assertEquals(Arrays.asList(second, first), cluster.getCandidateTestCalls());
+
+		TestCluster.reset();
+		assertTrue(TestCluster.getInstance().getCandidateTestCalls().isEmpty());
+
+		archive.reset();
+		TestCluster.getInstance().addTestCall(second);
+		TestCluster.getInstance().addTestCall(first);
+		assertEquals(Arrays.asList(second, first), TestCluster.getInstance().getCandidateTestCalls());
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.instrument;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.evosuite.Properties;
+import org.evosuite.setup.callgraph.CallGraph;
+import org.junit.After;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+
+import com.examples.with.different.packagename.concolic.TaintAnalysisExample;
+import com.examples.with.different.packagename.concolic.TaintAnalysisSubclassExample;
+
+public class ConcolicTaintAnalysisTest {
+
+	private static final String CLASS_NAME = TaintAnalysisExample.class.getName();
+
+	private static final double DEFAULT_P_REFLECTION_ON_PRIVATE = Properties.P_REFLECTION_ON_PRIVATE;
+
+	@After
+	public void restoreProperties() {
+		Properties.P_REFLECTION_ON_PRIVATE = DEFAULT_P_REFLECTION_ON_PRIVATE;
+	}
+
+	private static ConcolicTaintAnalysis analyse() throws IOException {
+		String internalName = CLASS_NAME.replace('.', '/');
+		CallGraph callGraph = new CallGraph(CLASS_NAME);
+		callGraph.addCall(internalName, "newDefault()L" + internalName + ";", internalName, "<init>()V");
+		callGraph.addCall(internalName, "setValue(I)V", internalName, "check(I)I");
+		callGraph.addCall(internalName, "isPositive()Z", internalName, "getLimit()I");
+		callGraph.addCall(internalName, "limitPlusOne()I", internalName, "increment(I)I");
+
+		ClassNode cn = new ClassNode();
+		new ClassReader(CLASS_NAME).accept(cn, ClassReader.SKIP_FRAMES);
+		Map<String, ClassNode> classNodes = new LinkedHashMap<String, ClassNode>();
+		classNodes.put(CLASS_NAME, cn);
+		return new ConcolicTaintAnalysis(callGraph, classNodes);
+	}
+
+	@Test
+	public void testMethodsWithInputsAreInstrumented() throws IOException {
+		ConcolicTaintAnalysis analysis = analyse();
+		assertTrue(analysis.isInstrumentationRequired(CLASS_NAME, "setValue", "(I)V"));
+		assertTrue(analysis.isInstrumentationRequired(CLASS_NAME, "check", "(I)I"));
+	}
+
+	@Test
+	public void testReadingTaintedFieldIsInstrumented() throws IOException {
+		ConcolicTaintAnalysis analysis = analyse();
+		assertTrue(analysis.isInstrumentationRequired(CLASS_NAME, "isPositive", "()Z"));
+	}
+
+	@Test
+	public void testConcreteMethodsAreNotInstrumented() throws IOException {
+		ConcolicTaintAnalysis analysis = analyse();
+		assertFalse(analysis.isInstrumentationRequired(CLASS_NAME, "getLimit", "()I"));
+		assertFalse(analysis.isInstrumentationRequired(CLASS_NAME, "limitPlusOne", "()I"));
+		assertFalse(analysis.isInstrumentationRequired(CLASS_NAME, "increment", "(I)I"));
+		assertFalse(analysis.isInstrumentationRequired(CLASS_NAME.replace('.', '/'), "newDefault",
+				"()L" + CLASS_NAME.replace('.', '/') + ";"));
+	}
+
+	@Test
+	public void testPrivateFieldsSetByReflectionAreTainted() throws IOException {
+		Properties.P_REFLECTION_ON_PRIVATE = 0.5;
+		ConcolicTaintAnalysis analysis = analyse();
+		assertTrue(analysis.isInstrumentationRequired(CLASS_NAME, "getLimit", "()I"));
+		assertTrue(analysis.isInstrumentationRequired(CLASS_NAME, "limitPlusOne", "()I"));
+	}
+
+	@Test
+	public void testInheritedFieldsAreTainted() throws IOException {
+		String className = TaintAnalysisSubclassExample.class.getName();
+		String internalName = className.replace('.', '/');
+		CallGraph callGraph = new CallGraph(className);
+		callGraph.addCall(internalName, "hasLevel()Z", internalName, "getLevel()I");
+
+		// the superclass declaring the field is not part of the analysis
+		ClassNode cn = new ClassNode();
+		new ClassReader(className).accept(cn, ClassReader.SKIP_FRAMES);
+		Map<String, ClassNode> classNodes = new LinkedHashMap<String, ClassNode>();
+		classNodes.put(className, cn);
+		ConcolicTaintAnalysis analysis = new ConcolicTaintAnalysis(callGraph, classNodes);
+
+		assertTrue(analysis.isInstrumentationRequired(className, "getLevel", "()I"));
+		assertTrue(analysis.isInstrumentationRequired(className, "hasLevel", "()Z"));
+	}
+
+	@Test
+	public void testConstructorsAreAlwaysInstrumented() throws IOException {
+		ConcolicTaintAnalysis analysis = analyse();
+		assertTrue(analysis.isInstrumentationRequired(CLASS_NAME, "<init>", "()V"));
+	}
+
+	@Test
+	public void testUnknownMethodsAreInstrumented() throws IOException {
+		ConcolicTaintAnalysis analysis = analyse();
+		assertTrue(analysis.isInstrumentationRequired(CLASS_NAME, "foo", "()V"));
+	}
+}
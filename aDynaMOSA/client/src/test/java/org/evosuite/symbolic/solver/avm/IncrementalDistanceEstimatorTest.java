@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver.avm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.IntegerConstraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.solver.DistanceEstimator;
+import org.junit.Test;
+
+public class IncrementalDistanceEstimatorTest {
+
+	@Test
+	public void testSameDistanceAsDistanceEstimator() {
+		IntegerVariable x = new IntegerVariable("x", 0, -1000, 1000);
+		IntegerVariable y = new IntegerVariable("y", 0, -1000, 1000);
+		List<Constraint<?>> constraints = new ArrayList<Constraint<?>>();
+		constraints.add(new IntegerConstraint(x, Comparator.EQ, new IntegerConstant(10)));
+		constraints.add(new IntegerConstraint(y, Comparator.GT, new IntegerConstant(5)));
+		constraints.add(new IntegerConstraint(x, Comparator.LT, y));
+
+		IncrementalDistanceEstimator estimator = new IncrementalDistanceEstimator(constraints);
+		assertEquals(DistanceEstimator.getDistance(constraints), estimator.getDistance(), 0.0);
+
+		x.setConcreteValue(10L);
+		assertEquals(DistanceEstimator.getDistance(constraints), estimator.getDistance(x), 0.0);
+
+		y.setConcreteValue(20L);
+		assertEquals(DistanceEstimator.getDistance(constraints), estimator.getDistance(y), 0.0);
+		assertEquals(0.0, estimator.getDistance(y), 0.0);
+	}
+
+	@Test
+	public void testOnlyDependentConstraintsAreEvaluated() {
+		IntegerVariable x = new IntegerVariable("x", 0, -1000, 1000);
+		IntegerVariable y = new IntegerVariable("y", 0, -1000, 1000);
+		List<Constraint<?>> constraints = new ArrayList<Constraint<?>>();
+		constraints.add(new IntegerConstraint(x, Comparator.EQ, new IntegerConstant(10)));
+		constraints.add(new IntegerConstraint(y, Comparator.EQ, new IntegerConstant(5)));
+		constraints.add(new IntegerConstraint(y, Comparator.NE, new IntegerConstant(7)));
+
+		IncrementalDistanceEstimator estimator = new IncrementalDistanceEstimator(constraints);
+		long evaluations = estimator.getNumberOfEvaluations();
+		assertEquals(3, evaluations);
+
+		x.setConcreteValue(3L);
+		estimator.getDistance(x);
+		assertEquals(evaluations + 1, estimator.getNumberOfEvaluations());
+
+		y.setConcreteValue(3L);
+		estimator.getDistance(y);
+		assertEquals(evaluations + 3, estimator.getNumberOfEvaluations());
+		assertTrue(estimator.getDistance() > 0);
+	}
+}
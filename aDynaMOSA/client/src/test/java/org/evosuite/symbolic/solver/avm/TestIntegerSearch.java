@@ -58,10 +58,13 @@ import org.junit.Test;
 public class TestIntegerSearch extends RandomizedTC {
 
 	private static final int DEFAULT_DSE_VARIABLE_RESETS = Properties.DSE_VARIABLE_RESETS ;
+
+	private static final int DEFAULT_DSE_SOLVER_PARALLEL_RESTARTS = Properties.DSE_SOLVER_PARALLEL_RESTARTS;
 	
 	@After 
 	public void restoreDSEVariableResets() {
 		Properties.DSE_VARIABLE_RESETS = DEFAULT_DSE_VARIABLE_RESETS;
+		Properties.DSE_SOLVER_PARALLEL_RESTARTS = DEFAULT_DSE_SOLVER_PARALLEL_RESTARTS;
 	}
 	
 	@Test
@@ -761,4 +764,28 @@ public class TestIntegerSearch extends RandomizedTC {
 			fail();
 		}
 	}
+
+	@Test
+	public void testEQConstantParallelRestarts() throws SolverEmptyQueryException {
+		Properties.DSE_SOLVER_PARALLEL_RESTARTS = 4;
+		IntegerVariable ivar1 = new IntegerVariable("test1", 0, -1000000, 1000000);
+		IntegerVariable ivar2 = new IntegerVariable("test2", 0, -1000000, 1000000);
+		List<Constraint<?>> constraints = new ArrayList<Constraint<?>>();
+		constraints.add(new IntegerConstraint(ivar1, Comparator.EQ, new IntegerConstant(235082)));
+		constraints.add(new IntegerConstraint(ivar2, Comparator.GT, ivar1));
+
+		try {
+			EvoSuiteSolver solver = new EvoSuiteSolver();
+			SolverResult solverResult = solver.solve(constraints);
+			assertTrue(solverResult.isSAT());
+			Map<String, Object> model = solverResult.getModel();
+			assertEquals(235082, ((Number) model.get("test1")).intValue());
+			assertTrue(((Number) model.get("test2")).intValue() > 235082);
+			// the original variables are left untouched
+			assertEquals(0L, (long) ivar1.getConcreteValue());
+			assertEquals(0L, (long) ivar2.getConcreteValue());
+		} catch (SolverTimeoutException e) {
+			fail();
+		}
+	}
 }
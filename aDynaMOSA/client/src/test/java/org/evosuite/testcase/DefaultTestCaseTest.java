@@ -19,9 +19,22 @@
  */
 package org.evosuite.testcase;
 
+import java.lang.reflect.Type;
+import java.util.Collections;
+
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.statements.StringPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.BooleanPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.Randomness;
+import org.evosuite.utils.generic.GenericConstructor;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.examples.with.different.packagename.ClassWithPublicField;
+
 public class DefaultTestCaseTest {
 
 	@Test
@@ -31,4 +44,133 @@ public class DefaultTestCaseTest {
 		DefaultTestCase clone = (DefaultTestCase) tc.clone();
 		Assert.assertTrue(tc.statements != clone.statements);
 	}
+
+	@Test
+	public void testPositionAfterInsertion(){
+
+		DefaultTestCase tc = new DefaultTestCase();
+		VariableReference a = tc.addStatement(new IntPrimitiveStatement(tc, 1));
+		VariableReference b = tc.addStatement(new IntPrimitiveStatement(tc, 2));
+		Assert.assertEquals(1, b.getStPosition());
+
+		tc.addStatement(new IntPrimitiveStatement(tc, 0), 0);
+		Assert.assertEquals(1, a.getStPosition());
+		Assert.assertEquals(2, b.getStPosition());
+
+		tc.remove(1);
+		Assert.assertEquals(1, b.getStPosition());
+	}
+
+	@Test
+	public void testPositionAfterRetvalChange(){
+
+		DefaultTestCase tc = new DefaultTestCase();
+		VariableReference a = tc.addStatement(new IntPrimitiveStatement(tc, 1));
+		VariableReference b = tc.addStatement(new IntPrimitiveStatement(tc, 2));
+		Assert.assertEquals(0, a.getStPosition());
+		Assert.assertEquals(1, b.getStPosition());
+
+		// not notified to the listeners of the test case
+		tc.getStatement(0).setRetval(b);
+		tc.getStatement(1).setRetval(a);
+		Assert.assertEquals(1, a.getStPosition());
+		Assert.assertEquals(0, b.getStPosition());
+	}
+
+	@Test
+	public void testCloneKeepsPositions(){
+
+		DefaultTestCase tc = new DefaultTestCase();
+		for (int i = 0; i < 10; i++) {
+			tc.addStatement(new IntPrimitiveStatement(tc, i));
+		}
+		DefaultTestCase clone = tc.clone();
+		Assert.assertEquals(tc.size(), clone.size());
+		for (int i = 0; i < clone.size(); i++) {
+			VariableReference var = clone.getStatement(i).getReturnValue();
+			Assert.assertSame(clone, var.getTestCase());
+			Assert.assertEquals(i, var.getStPosition());
+			Assert.assertEquals(i, tc.getStatement(i).getReturnValue().getStPosition());
+		}
+	}
+
+	@Test
+	public void testPositionsAfterInsertDeleteAndClone(){
+
+		Randomness.setSeed(42);
+		DefaultTestCase tc = new DefaultTestCase();
+		for (int i = 0; i < 20; i++) {
+			tc.addStatement(new IntPrimitiveStatement(tc, i));
+		}
+
+		for (int i = 0; i < 100; i++) {
+			// resolve all positions so the cached ones have to be updated
+			assertPositions(tc);
+			if (Randomness.nextBoolean()) {
+				tc.addStatement(new IntPrimitiveStatement(tc, i), Randomness.nextInt(tc.size() + 1));
+			} else {
+				tc.remove(Randomness.nextInt(tc.size()));
+			}
+			assertPositions(tc);
+
+			DefaultTestCase clone = tc.clone();
+			clone.remove(Randomness.nextInt(clone.size()));
+			assertPositions(clone);
+			assertPositions(tc);
+			tc = clone;
+			tc.addStatement(new IntPrimitiveStatement(tc, i));
+		}
+	}
+
+	@Test
+	public void testReusedObjectsMatchUncachedLookup() throws Exception {
+
+		Randomness.setSeed(42);
+		Type[] types = { int.class, Integer.class, String.class, Object.class, boolean.class,
+				ClassWithPublicField.class };
+		DefaultTestCase tc = new DefaultTestCase();
+		for (int i = 0; i < 30; i++) {
+			Statement statement = createStatement(tc, i);
+			if (tc.isEmpty() || Randomness.nextBoolean()) {
+				tc.addStatement(statement, Randomness.nextInt(tc.size() + 1));
+			} else if (Randomness.nextBoolean()) {
+				tc.remove(Randomness.nextInt(tc.size()));
+			} else {
+				tc.setStatement(statement, Randomness.nextInt(tc.size()));
+			}
+			if (i % 10 == 9) {
+				tc = tc.clone();
+			}
+
+			for (Type type : types) {
+				for (int position = 0; position <= tc.size(); position++) {
+					Assert.assertEquals(tc.getObjectsWithoutCache(type, position), tc.getObjects(type, position));
+				}
+			}
+		}
+		Assert.assertFalse(tc.getObjects(Integer.class, tc.size()).isEmpty());
+	}
+
+	private static Statement createStatement(DefaultTestCase tc, int value) throws Exception {
+		switch (value % 4) {
+		case 0:
+			return new IntPrimitiveStatement(tc, value);
+		case 1:
+			return new StringPrimitiveStatement(tc, "s" + value);
+		case 2:
+			return new BooleanPrimitiveStatement(tc, true);
+		default:
+			return new ConstructorStatement(tc, new GenericConstructor(
+					ClassWithPublicField.class.getConstructor(), ClassWithPublicField.class),
+					Collections.<VariableReference> emptyList());
+		}
+	}
+
+	private static void assertPositions(DefaultTestCase tc) {
+		for (int i = 0; i < tc.size(); i++) {
+			VariableReference var = tc.getStatement(i).getReturnValue();
+			Assert.assertSame(tc, var.getTestCase());
+			Assert.assertEquals(i, var.getStPosition());
+		}
+	}
 }
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class DefUseTraceTest {
+
+	@Test
+	public void testEventsAreKeptInOrder() {
+		DefUseTrace trace = new DefUseTrace();
+		Object value = new Object();
+		trace.addDefinition(0, "x", 1, 10, value);
+		trace.addUse(1, "y", 0, 20, null);
+		trace.addUse(2, "x", 1, 11, value);
+
+		assertEquals(3, trace.size());
+		assertTrue(trace.isDefinition(0));
+		assertTrue(trace.isUse(1));
+		assertEquals(2, trace.getDUCounter(2));
+		assertEquals(11, trace.getDefUseId(2));
+		assertEquals(1, trace.getObjectId(2));
+		assertEquals(trace.getVariable(0), trace.getVariable(2));
+		assertEquals("y", trace.getVariableName(trace.getVariable(1)));
+		assertEquals(2, trace.getNumberOfVariables());
+		assertSame(value, trace.getValue(0));
+	}
+
+	@Test
+	public void testIndexMatchesNestedMapLayout() {
+		DefUseTrace trace = new DefUseTrace();
+		for (int i = 0; i < 200; i++) {
+			if (i % 2 == 0)
+				trace.addDefinition(i, "x", i % 3, i, "d" + i);
+			else
+				trace.addUse(i, "x", i % 3, i, "u" + i);
+		}
+
+		Map<Integer, HashMap<Integer, Integer>> defs = trace.getDefinitionData().get("x");
+		assertEquals(3, defs.size());
+		assertEquals(Integer.valueOf(42), defs.get(0).get(42));
+		assertNull(defs.get(0).get(43));
+		assertEquals(Integer.valueOf(43), trace.getUseData().get("x").get(1).get(43));
+		assertEquals("d42", trace.getDefinitionDataObjects().get("x").get(0).get(42));
+		assertEquals("u43", trace.getUseDataObjects().get("x").get(1).get(43));
+		assertNull(trace.getDefinitionData().get("y"));
+	}
+
+	@Test
+	public void testIndexIsRebuiltAfterAppend() {
+		DefUseTrace trace = new DefUseTrace();
+		trace.addDefinition(0, "x", 0, 1, null);
+		assertFalse(trace.getUseData().containsKey("x"));
+
+		trace.addUse(1, "x", 0, 2, null);
+		assertEquals(Integer.valueOf(2), trace.getUseData().get("x").get(0).get(1));
+	}
+
+	@Test
+	public void testCopyIsIndependent() {
+		DefUseTrace trace = new DefUseTrace();
+		trace.addDefinition(0, "x", 0, 1, null);
+		DefUseTrace copy = trace.copy();
+		copy.addUse(1, "z", 0, 2, null);
+
+		assertEquals(1, trace.size());
+		assertEquals(1, trace.getNumberOfVariables());
+		assertEquals(2, copy.size());
+		assertEquals("z", copy.getVariableName(copy.getVariable(1)));
+	}
+
+	@Test
+	public void testSharedLogIsCopiedOnAppend() {
+		DefUseTrace trace = new DefUseTrace();
+		for (int i = 0; i < 10; i++)
+			trace.addDefinition(i, "x", 0, i, null);
+		assertTrue(trace.getDefinitionData().get("x").get(0).containsKey(9));
+
+		DefUseTrace copy = trace.copy();
+		trace.addUse(10, "y", 0, 100, null);
+		copy.addUse(10, "x", 0, 200, null);
+
+		assertEquals(11, trace.size());
+		assertEquals(11, copy.size());
+		assertEquals(100, trace.getDefUseId(10));
+		assertEquals(200, copy.getDefUseId(10));
+		assertEquals(2, trace.getNumberOfVariables());
+		assertEquals(1, copy.getNumberOfVariables());
+		assertTrue(trace.hasUse(100));
+		assertFalse(trace.hasUse(200));
+		assertTrue(copy.hasUse(200));
+		assertFalse(copy.hasUse(100));
+		assertNull(trace.getUseData().get("x"));
+		assertEquals(Integer.valueOf(200), copy.getUseData().get("x").get(0).get(10));
+	}
+
+	@Test
+	public void testPassedIds() {
+		DefUseTrace trace = new DefUseTrace();
+		trace.addDefinition(0, "x", 0, 3, null);
+		assertTrue(trace.hasDefinition(3));
+		assertFalse(trace.hasUse(3));
+
+		trace.addUse(1, "x", 0, 5, null);
+		assertTrue(trace.hasUse(5));
+		assertFalse(trace.hasDefinition(5));
+		assertFalse(trace.hasDefinition(-1));
+	}
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testsuite;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.statements.numeric.BooleanPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.Iterator;
+import java.util.List;
+
+public class SerializedTestsTest {
+
+    private static TestChromosome createTest(int... values) {
+        DefaultTestCase test = new DefaultTestCase();
+        for (int value : values) {
+            test.addStatement(new IntPrimitiveStatement(test, value));
+        }
+        TestChromosome tc = new TestChromosome();
+        tc.setTestCase(test);
+        return tc;
+    }
+
+    private static File createTempFile() throws Exception {
+        File file = File.createTempFile("tests" + System.currentTimeMillis(), ".ser");
+        file.deleteOnExit();
+        return file;
+    }
+
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        suite.addTest(createTest(1, 2));
+        suite.addTest(createTest(3));
+        File file = createTempFile();
+
+        Assert.assertTrue(TestSuiteSerialization.saveTests(suite, file));
+        Assert.assertTrue(SerializedTests.hasFormat(file));
+
+        List<TestChromosome> tests = TestSuiteSerialization.loadTests(file);
+        Assert.assertEquals(2, tests.size());
+        Assert.assertEquals(2, tests.get(0).size());
+        Assert.assertEquals(3, ((IntPrimitiveStatement) tests.get(1).getTestCase().getStatement(0)).getValue().intValue());
+    }
+
+    @Test
+    public void testLazyDecoding() throws Exception {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        for (int i = 0; i < 10; i++) {
+            suite.addTest(createTest(i));
+        }
+        File file = createTempFile();
+        TestSuiteSerialization.saveTests(suite, file);
+
+        SerializedTests tests = SerializedTests.read(file);
+        Assert.assertEquals(10, tests.size());
+        Assert.assertEquals(7, ((IntPrimitiveStatement) tests.get(7).getTestCase().getStatement(0)).getValue().intValue());
+
+        Iterator<TestChromosome> iterator = TestSuiteSerialization.streamTests(file);
+        int count = 0;
+        while (iterator.hasNext()) {
+            TestChromosome tc = iterator.next();
+            Assert.assertEquals(count, ((IntPrimitiveStatement) tc.getTestCase().getStatement(0)).getValue().intValue());
+            count++;
+        }
+        Assert.assertEquals(10, count);
+    }
+
+    @Test
+    public void testSkipTestWithChangedLayout() throws Exception {
+        DefaultTestCase test = new DefaultTestCase();
+        test.addStatement(new BooleanPrimitiveStatement(test, true));
+        TestChromosome changed = new TestChromosome();
+        changed.setTestCase(test);
+
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        suite.addTest(createTest(1));
+        suite.addTest(changed);
+        suite.addTest(createTest(3));
+        File file = createTempFile();
+        TestSuiteSerialization.saveTests(suite, file);
+
+        // pretend the fields of BooleanPrimitiveStatement changed since the file was written
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 8);
+            raf.seek(raf.readLong());
+            int numSymbols = raf.readInt();
+            boolean found = false;
+            for (int i = 0; i < numSymbols; i++) {
+                String name = raf.readUTF();
+                long layout = raf.readLong();
+                if (name.equals(BooleanPrimitiveStatement.class.getName())) {
+                    raf.seek(raf.getFilePointer() - 8);
+                    raf.writeLong(layout + 1);
+                    found = true;
+                }
+            }
+            Assert.assertTrue(found);
+        }
+
+        SerializedTests tests = SerializedTests.read(file);
+        Assert.assertEquals(3, tests.size());
+        Assert.assertNull(tests.get(1));
+
+        List<TestChromosome> loaded = TestSuiteSerialization.loadTests(file);
+        Assert.assertEquals(2, loaded.size());
+        Assert.assertEquals(1, ((IntPrimitiveStatement) loaded.get(0).getTestCase().getStatement(0)).getValue().intValue());
+        Assert.assertEquals(3, ((IntPrimitiveStatement) loaded.get(1).getTestCase().getStatement(0)).getValue().intValue());
+    }
+
+    @Test
+    public void testCorruptedIndexIsNotLoaded() throws Exception {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        suite.addTest(createTest(1));
+        suite.addTest(createTest(2));
+        File file = createTempFile();
+        TestSuiteSerialization.saveTests(suite, file);
+
+        long tableOffset;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 8);
+            tableOffset = raf.readLong();
+            // offset of the second test, beyond what an int can address
+            raf.seek(raf.length() - 16);
+            raf.writeLong(1L << 40);
+        }
+        Assert.assertEquals(0, TestSuiteSerialization.loadTests(file).size());
+        Assert.assertFalse(TestSuiteSerialization.streamTests(file).hasNext());
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            // more symbols than the file holds
+            raf.seek(tableOffset);
+            raf.writeInt(Integer.MAX_VALUE);
+        }
+        Assert.assertEquals(0, TestSuiteSerialization.loadTests(file).size());
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(tableOffset);
+            raf.writeInt(-1);
+        }
+        Assert.assertEquals(0, TestSuiteSerialization.loadTests(file).size());
+    }
+
+    @Test
+    public void testLoadedFileCanBeSavedAgain() throws Exception {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        suite.addTest(createTest(1));
+        File file = createTempFile();
+        TestSuiteSerialization.saveTests(suite, file);
+
+        List<TestChromosome> tests = TestSuiteSerialization.loadTests(file);
+        suite.addTest(createTest(2));
+        Assert.assertTrue(TestSuiteSerialization.saveTests(suite, file));
+
+        Assert.assertEquals(1, tests.size());
+        Assert.assertEquals(2, TestSuiteSerialization.loadTests(file).size());
+    }
+
+    @Test
+    public void testLoadPlainObjectStream() throws Exception {
+        File file = createTempFile();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(createTest(5));
+            out.writeObject(createTest(6));
+        }
+        Assert.assertFalse(SerializedTests.hasFormat(file));
+
+        List<TestChromosome> tests = TestSuiteSerialization.loadTests(file);
+        Assert.assertEquals(2, tests.size());
+        Assert.assertEquals(6, ((IntPrimitiveStatement) tests.get(1).getTestCase().getStatement(0)).getValue().intValue());
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.evosuite.Properties;
+import org.junit.After;
+import org.junit.Test;
+
+public class DefaultRandomAccessQueueTest {
+
+	@After
+	public void tearDown() {
+		Properties.getInstance().resetToDefaults();
+	}
+
+	@Test
+	public void testEmpty() {
+		assertNull(new DefaultRandomAccessQueue<Integer>().getRandomValue());
+	}
+
+	@Test
+	public void testKeepsLastDistinctValues() {
+		Properties.DYNAMIC_POOL_SIZE = 3;
+		DefaultRandomAccessQueue<Integer> queue = new DefaultRandomAccessQueue<Integer>();
+		for (int i = 0; i < 100; i++) {
+			queue.restrictedAdd(i);
+			// duplicates are ignored
+			queue.restrictedAdd(i);
+		}
+		assertEquals("[ 97 98 99 ]", queue.toString());
+
+		Set<Integer> sampled = new HashSet<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			sampled.add(queue.getRandomValue());
+		}
+		assertEquals(3, sampled.size());
+		assertTrue(sampled.contains(97) && sampled.contains(98) && sampled.contains(99));
+	}
+
+	@Test
+	public void testEvictedValueCanBeAddedAgain() {
+		Properties.DYNAMIC_POOL_SIZE = 2;
+		DefaultRandomAccessQueue<String> queue = new DefaultRandomAccessQueue<String>();
+		queue.restrictedAdd("a");
+		queue.restrictedAdd("b");
+		queue.restrictedAdd("c");
+		queue.restrictedAdd("a");
+		assertEquals("[ c a ]", queue.toString());
+	}
+
+	@Test
+	public void testSizeZeroKeepsNothing() {
+		Properties.DYNAMIC_POOL_SIZE = 0;
+		DefaultRandomAccessQueue<Integer> queue = new DefaultRandomAccessQueue<Integer>();
+		queue.restrictedAdd(1);
+		queue.restrictedAdd(2);
+		assertEquals("[ ]", queue.toString());
+		assertNull(queue.getRandomValue());
+	}
+
+	@Test
+	public void testRestrictedAddReportsDuplicates() {
+		Properties.DYNAMIC_POOL_SIZE = 2;
+		DefaultRandomAccessQueue<Integer> queue = new DefaultRandomAccessQueue<Integer>();
+		assertTrue(queue.restrictedAdd(1));
+		assertFalse(queue.restrictedAdd(1));
+		assertTrue(queue.restrictedAdd(2));
+		assertTrue(queue.restrictedAdd(3));
+		// 1 was evicted
+		assertTrue(queue.restrictedAdd(1));
+	}
+}
@@ -19,7 +19,12 @@
  */
 package org.evosuite.utils;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 /**
@@ -40,4 +45,39 @@ public class RandomnessTest {
 					(Double.compare(r, min) >= 0) && (Double.compare(r, max) <= 0));
 		}
 	}
+
+	private static List<Integer> drawWithThreadSeed(long seed) throws InterruptedException {
+		List<Integer> values = new ArrayList<>();
+		Thread thread = new Thread(() -> {
+			Randomness.setThreadSeed(seed);
+			try {
+				for (int i = 0; i < 10; i++)
+					values.add(Randomness.nextInt(1000));
+			} finally {
+				Randomness.clearThreadSeed();
+			}
+		});
+		thread.start();
+		thread.join();
+		return values;
+	}
+
+	@Test
+	public void testThreadSeedIsReproducible() throws InterruptedException {
+		List<Integer> first = drawWithThreadSeed(42);
+		Randomness.nextInt(1000);
+		List<Integer> second = drawWithThreadSeed(42);
+		assertEquals(10, first.size());
+		assertEquals(first, second);
+	}
+
+	@Test
+	public void testThreadSeedDoesNotConsumeSharedStream() throws InterruptedException {
+		Randomness.setSeed(1);
+		int expected = Randomness.nextInt();
+
+		Randomness.setSeed(1);
+		drawWithThreadSeed(42);
+		assertEquals(expected, Randomness.nextInt());
+	}
 }
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils.generic;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class GenericTypeCacheTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(GenericTypeCacheTest.class);
+
+	@SuppressWarnings("unused")
+	private static class Collections<T, K extends Comparable<K>> {
+		List<String> listOfString;
+		ArrayList<String> arrayListOfString;
+		LinkedList<Integer> linkedListOfInteger;
+		Collection<? extends Number> collectionOfNumbers;
+		Collection<?> collection;
+		List<T> listOfT;
+		List<? super Integer> listOfSuperInteger;
+		Map<String, List<Integer>> mapOfLists;
+		HashMap<String, List<Integer>> hashMapOfLists;
+		Map<K, Set<T>> mapOfSets;
+		List<String>[] arrayOfLists;
+		Object object;
+		int primitive;
+		Integer wrapper;
+		T variable;
+		K comparable;
+	}
+
+	private List<Type> types;
+
+	@Before
+	public void init() {
+		GenericTypeCache.getInstance().clear();
+		types = new ArrayList<>();
+		for (Field field : Collections.class.getDeclaredFields()) {
+			if (!field.isSynthetic())
+				types.add(field.getGenericType());
+		}
+	}
+
+	@After
+	public void tearDown() {
+		GenericTypeCache.getInstance().clear();
+	}
+
+	private static boolean uncachedIsAssignable(Type lhsType, Type rhsType) {
+		try {
+			return TypeUtils.isAssignable(rhsType, lhsType);
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+
+	@Test
+	public void testAssignabilityIsNotChangedByCache() {
+		for (int round = 0; round < 2; round++) {
+			for (Type lhs : types) {
+				for (Type rhs : types) {
+					Assert.assertEquals(lhs + " <- " + rhs, uncachedIsAssignable(lhs, rhs),
+					        GenericClass.isAssignable(lhs, rhs));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testWildcardOrTypeVariablesIsNotChangedByCache() {
+		for (Type type : types) {
+			GenericClass clazz = new GenericClass(type);
+			boolean first = clazz.hasWildcardOrTypeVariables();
+			Assert.assertEquals(first, new GenericClass(type).hasWildcardOrTypeVariables());
+		}
+		Assert.assertTrue(new GenericClass(getFieldType("collectionOfNumbers")).hasWildcardOrTypeVariables());
+		Assert.assertFalse(new GenericClass(getFieldType("listOfString")).hasWildcardOrTypeVariables());
+	}
+
+	private static Type getFieldType(String name) {
+		try {
+			return Collections.class.getDeclaredField(name).getGenericType();
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Test
+	public void testAssignabilityThroughput() {
+		final int rounds = 200;
+
+		long start = System.nanoTime();
+		int uncached = 0;
+		for (int round = 0; round < rounds; round++) {
+			for (Type lhs : types) {
+				for (Type rhs : types) {
+					if (uncachedIsAssignable(lhs, rhs))
+						uncached++;
+				}
+			}
+		}
+		long uncachedTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		int cached = 0;
+		for (int round = 0; round < rounds; round++) {
+			for (Type lhs : types) {
+				for (Type rhs : types) {
+					if (GenericClass.isAssignable(lhs, rhs))
+						cached++;
+				}
+			}
+		}
+		long cachedTime = System.nanoTime() - start;
+
+		Assert.assertEquals(uncached, cached);
+		logger.info("Assignability checks on collection types: {}ms uncached, {}ms cached",
+		        uncachedTime / 1_000_000, cachedTime / 1_000_000);
+	}
+}
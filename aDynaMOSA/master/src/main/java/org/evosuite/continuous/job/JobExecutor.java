@@ -87,6 +87,29 @@ public class JobExecutor {
 	 */
 	private Map<String,JobDefinition> finishedJobs; 
 
+	/**
+	 * When each running job was started, indexed by CUT name
+	 */
+	private Map<String,Long> startedJobs;
+
+	/**
+	 * Seconds left unused by jobs that finished before their budget
+	 * (eg, all goals covered, search stuck or crash), and not yet given
+	 * to any other job
+	 */
+	private int reclaimedSeconds;
+
+	/**
+	 * Budget (in ms) of the longest job given to a handler so far,
+	 * including any reclaimed budget added to it
+	 */
+	private volatile long longestStartedJobInMs;
+
+	/**
+	 * How many jobs have not been polled by a handler yet
+	 */
+	private int jobsToStart;
+
 	protected final CtgConfiguration configuration;
 	
 	private String projectClassPath;
@@ -161,9 +184,19 @@ public class JobExecutor {
 					 * plus one in the queue.
 					 * Note: this check is not precise
 					 */
-					if(!this.isInterrupted() && longestJob > 0){				
+					if(!this.isInterrupted() && longestJob > 0){
+						/*
+						 * the last jobs might still be waiting for a handler, and get
+						 * reclaimed budget when they start, so the time to wait is
+						 * re-evaluated while waiting
+						 */
+						long waitStart = System.currentTimeMillis();
 						try {
-							latch.await((longestJob*2) + (60000),TimeUnit.MILLISECONDS);
+							while(!latch.await(1000, TimeUnit.MILLISECONDS)){
+								if(System.currentTimeMillis() - waitStart >= getMaxWaitForRunningJobsInMs(longestJob)){
+									break;
+								}
+							}
 						} catch (InterruptedException e) {
 							this.interrupt();
 						}
@@ -200,6 +233,10 @@ public class JobExecutor {
 		 */
 		jobQueue = new ArrayBlockingQueue<>(1);
 		finishedJobs = new ConcurrentHashMap<>();
+		startedJobs = new ConcurrentHashMap<>();
+		reclaimedSeconds = 0;
+		longestStartedJobInMs = 0;
+		jobsToStart = jobs.size();
 	}
 
 	protected long execute(List<JobDefinition> jobs){
@@ -294,10 +331,67 @@ public class JobExecutor {
 	
 
 	public JobDefinition pollJob() throws InterruptedException{
-		return jobQueue.take();
+		JobDefinition job = addReclaimedBudget(jobQueue.take());
+		startedJobs.put(job.cut, System.currentTimeMillis());
+		synchronized (this) {
+			longestStartedJobInMs = Math.max(longestStartedJobInMs, job.seconds * 1000l);
+		}
+		return job;
 	}
-	
+
+	/**
+	 * Give to the job a fair share of the budget left unused by the jobs
+	 * that have already finished, so that time saved on easy CUTs is
+	 * not lost but spent on the ones that still need to run.
+	 * 
+	 * @param job
+	 * @return either the same job, or a copy of it with more budget
+	 */
+	protected synchronized JobDefinition addReclaimedBudget(JobDefinition job){
+
+		int pending = Math.max(1, jobsToStart);
+		jobsToStart--;
+
+		int share = reclaimedSeconds / pending;
+
+		//no job should go beyond the global deadline
+		int remaining = (int) (getRemainingTimeInMs() / 1000);
+		share = Math.min(share, remaining - job.seconds);
+
+		if(share <= 0){
+			return job;
+		}
+
+		reclaimedSeconds -= share;
+		logger.info("Adding "+share+" reclaimed seconds to the job for "+job.cut);
+		return job.getByAddingBudget(share);
+	}
+
+	/**
+	 * How long to wait for the running jobs once all jobs have been
+	 * submitted, before killing them
+	 * 
+	 * @param longestJob budget in ms of the longest submitted job, without reclaimed budget
+	 * @return
+	 */
+	protected long getMaxWaitForRunningJobsInMs(long longestJob){
+		return (Math.max(longestJob, longestStartedJobInMs) * 2) + 60000;
+	}
+
+	protected synchronized int getReclaimedSeconds(){
+		return reclaimedSeconds;
+	}
+
 	public void doneWithJob(JobDefinition job){
+		Long started = startedJobs.remove(job.cut);
+		if(started != null){
+			int used = (int) ((System.currentTimeMillis() - started) / 1000);
+			if(used < job.seconds){
+				synchronized (this) {
+					reclaimedSeconds += job.seconds - used;
+				}
+			}
+		}
 		finishedJobs.put(job.cut, job);
 		latch.countDown();
 		LoggingUtils.getEvoLogger().info("Completed job. Left: "+latch.getCount());
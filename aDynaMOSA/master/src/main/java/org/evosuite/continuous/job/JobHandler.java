@@ -312,6 +312,11 @@ public class JobHandler extends Thread {
 
 		commands.addAll(timeSetUp(job.seconds));
 
+		if (Properties.CTG_PLATEAU_TIMEOUT > 0) {
+			//stop early if the search gets stuck, so the executor can give the left budget to other jobs
+			commands.add("-Dplateau_timeout=" + Properties.CTG_PLATEAU_TIMEOUT);
+		}
+
 		File reports = storage.getTmpReports();
 		File tests = storage.getTmpTests();
 		File seedOut = storage.getTmpSeeds();
@@ -28,8 +28,10 @@ import org.evosuite.utils.LoggingUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -94,6 +96,7 @@ public class HistorySchedule extends OneTimeSchedule {
     int totalLeftOver = 0;
     int totalBudgetUsed = 0;
     List<JobDefinition> jobs = new LinkedList<JobDefinition>();
+    Map<String, Integer> limits = new LinkedHashMap<String, Integer>();
 
     for (ClassInfo c_info : classesInfo) {
       if (!c_info.isTestable()) {
@@ -105,8 +108,13 @@ public class HistorySchedule extends OneTimeSchedule {
         continue;
       }
 
+      // when we know which methods changed since the previous run, only their
+      // branches need extra time, as the other ones are covered by the seeded tests
+      int branches = c_info.hasChanged() && c_info.hasChangedMethods()
+          ? c_info.getNumberOfChangedBranches() : c_info.numberOfBranches;
+
       double budget = 60.0 * scheduler.getConfiguration().minMinutesPerJob
-          + (c_info.numberOfBranches * timePerBranch);
+          + (branches * timePerBranch);
 
       // classes that have been modified could get more time than 'normal' classes
       budget *= c_info.hasChanged() ? HistorySchedule.MODIFIED : HistorySchedule.NOT_MODIFIED;
@@ -120,13 +128,25 @@ public class HistorySchedule extends OneTimeSchedule {
         budget = maximumBudgetPerCore;
       }
 
+      // if the class did not change, do not give it more time than what
+      // previous generations needed before their coverage stopped increasing
+      Integer saturation = c_info.hasChanged() ? null
+          : data.getEstimatedSecondsToSaturate(c_info.getClassName());
+      if (saturation != null) {
+        int limit = Math.max(saturation, 60 * this.scheduler.getConfiguration().minMinutesPerJob);
+        limits.put(c_info.getClassName(), limit);
+        budget = Math.min(budget, limit);
+      }
+
       if ((totalBudgetUsed + budget) <= totalBudget) {
         totalBudgetUsed += budget;
 
         LoggingUtils.getEvoLogger()
             .info("+ Going to generate test cases for " + c_info.getClassName()
                 + " using a time budget of " + budget + " seconds. Status of it ["
-                + (c_info.hasChanged() ? "modified" : "not modified") + "]");
+                + (c_info.hasChanged() ? "modified" : "not modified") + "]"
+                + (c_info.hasChanged() && c_info.hasChangedMethods()
+                    ? " with " + c_info.getChangedMethods().size() + " changed methods" : ""));
 
         jobs.add(new JobDefinition((int) budget,
             this.scheduler.getConfiguration().getConstantMemoryPerJob(), c_info.getClassName(), 0,
@@ -153,7 +173,7 @@ public class HistorySchedule extends OneTimeSchedule {
      */
     if (totalLeftOver > 0 && totalLeftOver < totalBudget) {
       LoggingUtils.getEvoLogger().info("Distributing left budget (" + totalLeftOver + ")");
-      distributeExtraBudgetEvenly(jobs, totalLeftOver, maximumBudgetPerCore);
+      distributeExtraBudgetEvenly(jobs, totalLeftOver, maximumBudgetPerCore, limits);
     }
 
     return jobs;
@@ -19,7 +19,9 @@
  */
 package org.evosuite.continuous.job.schedule;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.evosuite.continuous.job.JobDefinition;
 import org.evosuite.continuous.job.JobScheduler;
@@ -65,12 +67,26 @@ public abstract class OneTimeSchedule extends ScheduleType{
 
 	protected void distributeExtraBudgetEvenly(List<JobDefinition> jobs,
 			int totalLeftOver, int maximumBudgetPerCore) {
+		distributeExtraBudgetEvenly(jobs, totalLeftOver, maximumBudgetPerCore, Collections.emptyMap());
+	}
+
+	/**
+	 * Same as {@link #distributeExtraBudgetEvenly(List, int, int)}, but jobs whose CUT
+	 * is in {@code limits} never get more than the given number of seconds
+	 * 
+	 * @param jobs
+	 * @param totalLeftOver
+	 * @param maximumBudgetPerCore
+	 * @param limits maximum budget for some of the CUTs, indexed by CUT name
+	 */
+	protected void distributeExtraBudgetEvenly(List<JobDefinition> jobs,
+			int totalLeftOver, int maximumBudgetPerCore, Map<String, Integer> limits) {
 		
 		int counter = 0;
 		for(int i=0; i<jobs.size(); i++){
 			JobDefinition job = jobs.get(i);
 			assert job.seconds <= maximumBudgetPerCore;
-			if(job.seconds < maximumBudgetPerCore){
+			if(job.seconds < getMaximumBudget(job, maximumBudgetPerCore, limits)){
 				counter++;
 			}
 		}
@@ -92,7 +108,7 @@ public abstract class OneTimeSchedule extends ScheduleType{
 		for(int i=0; i<jobs.size(); i++){
 			JobDefinition job = jobs.get(i);
 			
-			int toAdd = Math.min(extraPerJob, (maximumBudgetPerCore - job.seconds));
+			int toAdd = Math.min(extraPerJob, (getMaximumBudget(job, maximumBudgetPerCore, limits) - job.seconds));
 			
 			if(toAdd > 0){
 				totalLeftOver -= toAdd;
@@ -102,7 +118,12 @@ public abstract class OneTimeSchedule extends ScheduleType{
 
 		if(totalLeftOver > 0 && totalLeftOver >= counter){
 			//recursion
-			distributeExtraBudgetEvenly(jobs,totalLeftOver,maximumBudgetPerCore);
+			distributeExtraBudgetEvenly(jobs,totalLeftOver,maximumBudgetPerCore,limits);
 		}
 	}
+
+	private static int getMaximumBudget(JobDefinition job, int maximumBudgetPerCore, Map<String, Integer> limits){
+		Integer limit = limits.get(job.cut);
+		return limit == null ? maximumBudgetPerCore : Math.min(limit, maximumBudgetPerCore);
+	}
 }
@@ -42,7 +42,9 @@ import javax.xml.validation.SchemaFactory;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.evosuite.Properties;
+import org.evosuite.continuous.project.MethodFingerprints;
 import org.evosuite.continuous.project.ProjectStaticData;
+import org.evosuite.continuous.project.ProjectStaticData.ClassInfo;
 import org.evosuite.utils.ArrayUtil;
 import org.evosuite.utils.FileIOUtils;
 import org.evosuite.utils.LoggingUtils;
@@ -325,9 +327,47 @@ public class StorageManager {
 		}
 
 		commitDatabase(db);
+		commitMethodFingerprints(current, suites);
 		return info;
 	}
 
+	/**
+	 * Store the method fingerprints of the current CUTs, so that the next CTG run
+	 * can find which methods changed. For changed CUTs without a new test suite
+	 * (eg, the job failed or was not scheduled) the previous fingerprints are kept,
+	 * so that they are still considered as changed next time.
+	 */
+	private void commitMethodFingerprints(ProjectStaticData current, List<TestsOnDisk> suites) {
+
+		Map<String, Map<String, Long>> fingerprints = new LinkedHashMap<>();
+		for (String cut : current.getClassNames()) {
+			ClassInfo info = current.getClassInfo(cut);
+			if (info.getMethodFingerprints() == null) {
+				continue;
+			}
+			boolean tested = suites.stream().anyMatch(s -> s.cut.equals(cut));
+			if (info.hasChanged() && !tested) {
+				Map<String, Long> previous = current.getPreviousFingerprints(cut);
+				if (previous != null) {
+					fingerprints.put(cut, previous);
+				}
+			} else {
+				fingerprints.put(cut, info.getMethodFingerprints());
+			}
+		}
+
+		if (fingerprints.isEmpty()) {
+			// not computed, eg schedule is not based on history
+			return;
+		}
+
+		try {
+			MethodFingerprints.save(fingerprints, getMethodFingerprintsFile());
+		} catch (IOException e) {
+			logger.error("Failed to write method fingerprints: " + e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Not only we need the generated JUnit files, but also the statistics
 	 * on their execution.
@@ -477,6 +517,10 @@ public class StorageManager {
 		return new File(Properties.CTG_DIR + File.separator + Properties.CTG_PROJECT_INFO);
 	}
 
+	public static File getMethodFingerprintsFile(){
+		return new File(Properties.CTG_DIR + File.separator + Properties.CTG_METHOD_FINGERPRINTS);
+	}
+
 	/**
 	 * Not only modify the state of <code>db</code>, but
 	 * also copy/replace new test cases on file disk
@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.project;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.TestGenerationContext;
+import org.evosuite.classpath.ResourceList;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InnerClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashes of the bytecode of each method of a CUT, used by CTG to find out
+ * which methods changed since the previous run.
+ * 
+ * <p>
+ * Debug information (line numbers, local variable names) and stack map frames
+ * are ignored, so that changing comments or formatting in the source code
+ * does not change the hash of the methods below it. Methods of nested and
+ * anonymous classes are included, as their code is tested through the CUT.
+ * 
+ * <p>
+ * Methods are identified by class name, method name and descriptor, eg
+ * <code>org.foo.Bar.foo(Ljava/lang/String;)Z</code>
+ */
+public class MethodFingerprints {
+
+	private static Logger logger = LoggerFactory.getLogger(MethodFingerprints.class);
+
+	/**
+	 * Compute the fingerprints of the methods of the given class and of its nested classes
+	 * 
+	 * @param className fully qualifying name, eg org.foo.Bar
+	 * @return an empty map if the bytecode of the class cannot be read
+	 */
+	public static Map<String, Long> compute(String className) {
+		Map<String, Long> fingerprints = new LinkedHashMap<>();
+		ClassNode node = readClass(className);
+		if (node == null) {
+			return fingerprints;
+		}
+		addFingerprints(node, fingerprints);
+
+		String prefix = node.name + "$";
+		for (InnerClassNode inner : node.innerClasses) {
+			if (inner.name.startsWith(prefix)) {
+				ClassNode innerNode = readClass(inner.name.replace('/', '.'));
+				if (innerNode != null) {
+					addFingerprints(innerNode, fingerprints);
+				}
+			}
+		}
+		return fingerprints;
+	}
+
+	/**
+	 * Compute the fingerprints of the methods in the given bytecode, without
+	 * looking at nested classes
+	 */
+	public static Map<String, Long> compute(byte[] bytecode) {
+		ClassNode node = new ClassNode();
+		new ClassReader(bytecode).accept(node, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+		Map<String, Long> fingerprints = new LinkedHashMap<>();
+		addFingerprints(node, fingerprints);
+		return fingerprints;
+	}
+
+	/**
+	 * Methods that are new or whose bytecode is different in <code>current</code>.
+	 * Removed methods are not reported, as there is nothing to test for them
+	 */
+	public static Set<String> getChangedMethods(Map<String, Long> previous, Map<String, Long> current) {
+		Set<String> changed = new LinkedHashSet<>();
+		for (Map.Entry<String, Long> entry : current.entrySet()) {
+			if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Split a method identifier into the name of its class and the name+descriptor of the method
+	 */
+	public static String[] splitMethod(String method) {
+		int index = method.lastIndexOf('.', method.indexOf('('));
+		return new String[] { method.substring(0, index), method.substring(index + 1) };
+	}
+
+	/**
+	 * Load the fingerprints of all CUTs, as saved by {@link #save(Map, File)}
+	 * 
+	 * @return an empty map if the file does not exist
+	 */
+	public static Map<String, Map<String, Long>> load(File file) {
+		Map<String, Map<String, Long>> fingerprints = new LinkedHashMap<>();
+		if (!file.exists()) {
+			return fingerprints;
+		}
+
+		try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] split = line.split("\t");
+				if (split.length != 3) {
+					logger.warn("Ignoring malformed line in " + file.getAbsolutePath() + ": " + line);
+					continue;
+				}
+				fingerprints.computeIfAbsent(split[0], k -> new LinkedHashMap<>())
+						.put(split[1], Long.parseLong(split[2], 16));
+			}
+		} catch (IOException | NumberFormatException e) {
+			logger.error("Failed to read method fingerprints from " + file.getAbsolutePath() + ": " + e.getMessage());
+			fingerprints.clear();
+		}
+		return fingerprints;
+	}
+
+	/**
+	 * Save the fingerprints of all CUTs, one method per line
+	 */
+	public static void save(Map<String, Map<String, Long>> fingerprints, File file) throws IOException {
+		try (PrintWriter writer = new PrintWriter(file)) {
+			for (Map.Entry<String, Map<String, Long>> cut : fingerprints.entrySet()) {
+				for (Map.Entry<String, Long> method : cut.getValue().entrySet()) {
+					writer.println(cut.getKey() + "\t" + method.getKey() + "\t" + Long.toHexString(method.getValue()));
+				}
+			}
+			if (writer.checkError()) {
+				throw new IOException("Failed to write " + file.getAbsolutePath());
+			}
+		}
+	}
+
+	private static ClassNode readClass(String className) {
+		try (InputStream in = ResourceList.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT())
+				.getClassAsStream(className)) {
+			if (in == null) {
+				logger.warn("Cannot find bytecode of " + className);
+				return null;
+			}
+			ClassNode node = new ClassNode();
+			new ClassReader(in).accept(node, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+			return node;
+		} catch (IOException e) {
+			logger.warn("Cannot read bytecode of " + className + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	private static void addFingerprints(ClassNode node, Map<String, Long> fingerprints) {
+		String className = node.name.replace('/', '.');
+		for (MethodNode method : node.methods) {
+			fingerprints.put(className + "." + method.name + method.desc, hash(method));
+		}
+	}
+
+	/**
+	 * Hash of the method written alone in an empty class, so that the
+	 * result does not depend on the constant pool of the rest of the class
+	 */
+	private static long hash(MethodNode method) {
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Fingerprint", null, "java/lang/Object", null);
+		method.accept(writer);
+		writer.visitEnd();
+
+		try {
+			byte[] digest = MessageDigest.getInstance("MD5").digest(writer.toByteArray());
+			return ByteBuffer.wrap(digest).getLong();
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support MD5
+			throw new IllegalStateException(e);
+		}
+	}
+}
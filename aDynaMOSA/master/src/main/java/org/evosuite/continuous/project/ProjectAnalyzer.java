@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.evosuite.Properties;
@@ -202,6 +203,17 @@ public class ProjectAnalyzer {
 			int numberOfBranches = -1;			
 			boolean hasCode = false;
 
+			Map<String, Long> fingerprints = null;
+			Set<String> changedMethods = null;
+			int numberOfChangedBranches = 0;
+			if (Properties.CTG_SCHEDULE == AvailableSchedule.HISTORY) {
+				fingerprints = MethodFingerprints.compute(className);
+				Map<String, Long> previous = data.getPreviousFingerprints(className);
+				if (previous != null && !fingerprints.isEmpty()) {
+					changedMethods = MethodFingerprints.getChangedMethods(previous, fingerprints);
+				}
+			}
+
 			Properties.TARGET_CLASS = className;
 			InstrumentingClassLoader instrumenting = new InstrumentingClassLoader();
 
@@ -220,6 +232,13 @@ public class ProjectAnalyzer {
 				numberOfBranches = BranchPool.getInstance(instrumenting).getBranchCounter();
 				hasCode = (numberOfBranches > 0) || (BranchPool.getInstance(instrumenting).getBranchlessMethods().size() > 0);
 
+				if (changedMethods != null) {
+					for (String method : changedMethods) {
+						String[] split = MethodFingerprints.splitMethod(method);
+						numberOfChangedBranches += BranchPool.getInstance(instrumenting).getBranchCountForMethod(split[0], split[1]);
+					}
+				}
+
 				/*
 				 * just to avoid possible issues with instrumenting classloader
 				 */
@@ -244,7 +263,17 @@ public class ProjectAnalyzer {
 			data.addNewClass(ci);
 
 			if (Properties.CTG_SCHEDULE == AvailableSchedule.HISTORY) {
-				ci.setChanged(data.hasChanged(theClass.getCanonicalName() + ".java"));
+				ci.setMethodFingerprints(fingerprints);
+				if (changedMethods != null) {
+					/*
+					 * the bytecode of the previous run is known, so it is more precise than
+					 * the history of the source files: eg, changing a comment does not count
+					 */
+					ci.setChanged(!changedMethods.isEmpty());
+					ci.setChangedMethods(changedMethods, numberOfChangedBranches);
+				} else {
+					ci.setChanged(data.hasChanged(theClass.getCanonicalName() + ".java"));
+				}
 				ci.isToTest(data.isToTest(theClass.getCanonicalName(), HistorySchedule.COMMIT_IMPROVEMENT));
 			}
 		}
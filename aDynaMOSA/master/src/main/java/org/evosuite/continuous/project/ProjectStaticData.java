@@ -26,6 +26,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import java.util.stream.Collectors;
 import org.evosuite.Properties;
 import org.evosuite.continuous.persistency.StorageManager;
 import org.evosuite.xsd.CUT;
+import org.evosuite.xsd.CUTUtil;
 import org.evosuite.xsd.Generation;
 import org.evosuite.xsd.Project;
 import org.slf4j.Logger;
@@ -70,6 +72,18 @@ public class ProjectStaticData {
 
 	private static Logger logger = LoggerFactory.getLogger(ProjectStaticData.class);
 
+	/**
+	 * A generation that took less than this fraction of its time budget
+	 * is considered to have stopped because the search could not improve
+	 * any more (eg, all goals covered or search stuck)
+	 */
+	private static final double EARLY_STOP_RATIO = 0.8;
+
+	/**
+	 * Margin added on top of the time a previous generation actually needed
+	 */
+	private static final double SATURATION_MARGIN = 1.5;
+
 	/**
 	 * Map from CUT full class name (key) to ClassInfo object (value)
 	 */
@@ -80,6 +94,11 @@ public class ProjectStaticData {
      */
     private final Set<String> modifiedFiles;
 
+    /**
+     * Fingerprints of the methods of each CUT, as stored by the previous CTG run
+     */
+    private Map<String, Map<String, Long>> previousFingerprints;
+
     /**
      * 
      */
@@ -96,12 +115,15 @@ public class ProjectStaticData {
 	public ProjectStaticData() {
 		classes = new ConcurrentHashMap<String, ClassInfo>();
 		this.modifiedFiles = new LinkedHashSet<String>();
+		this.previousFingerprints = new LinkedHashMap<String, Map<String, Long>>();
 	}
 
 	/**
 	 * 
 	 */
 	public void initializeLocalHistory() {
+		this.previousFingerprints = MethodFingerprints.load(StorageManager.getMethodFingerprintsFile());
+
 		if (Properties.CTG_HISTORY_FILE == null) {
 			logger.info("ctg history file is not set");
 			return ;
@@ -184,6 +206,23 @@ public class ProjectStaticData {
          */
         private int memoryInMB = 0;
 
+        /**
+         * fingerprints of the methods of the class in the current version
+         * of the project, or <code>null</code> if not computed
+         */
+        private Map<String, Long> methodFingerprints = null;
+
+        /**
+         * methods that are new or changed since the previous CTG run, or
+         * <code>null</code> if there is no bytecode history for the class
+         */
+        private Set<String> changedMethods = null;
+
+        /**
+         * number of branches in the changed methods
+         */
+        private int numberOfChangedBranches = 0;
+
 		public ClassInfo(Class<?> theClass, int numberOfBranches, boolean hasCode) {
 			super();
 			this.theClass = theClass;
@@ -226,6 +265,27 @@ public class ProjectStaticData {
         public int getMemoryInMB() {
             return memoryInMB;
         }
+
+        public void setMethodFingerprints(Map<String, Long> methodFingerprints) {
+            this.methodFingerprints = methodFingerprints;
+        }
+        public Map<String, Long> getMethodFingerprints() {
+            return methodFingerprints;
+        }
+
+        public void setChangedMethods(Set<String> changedMethods, int numberOfChangedBranches) {
+            this.changedMethods = changedMethods;
+            this.numberOfChangedBranches = numberOfChangedBranches;
+        }
+        public boolean hasChangedMethods() {
+            return changedMethods != null;
+        }
+        public Set<String> getChangedMethods() {
+            return changedMethods == null ? null : Collections.unmodifiableSet(changedMethods);
+        }
+        public int getNumberOfChangedBranches() {
+            return numberOfChangedBranches;
+        }
 	}
 
 	/**
@@ -312,6 +372,18 @@ public class ProjectStaticData {
       return this.modifiedFiles.parallelStream().anyMatch(m -> m.endsWith(javaFileName));
     }
 
+    /**
+     * Returns the method fingerprints of the given class stored by the previous
+     * CTG run, or <code>null</code> if there are none
+     */
+    public Map<String, Long> getPreviousFingerprints(String className) {
+        return this.previousFingerprints.get(className);
+    }
+
+    protected void setPreviousFingerprints(Map<String, Map<String, Long>> previousFingerprints) {
+        this.previousFingerprints = previousFingerprints;
+    }
+
     protected void setProject(Project project) {
         this.project = project;
     }
@@ -332,9 +404,7 @@ public class ProjectStaticData {
             return true; // we don't have any previous data at all
         }
 
-        CUT cut = this.project.getCut().parallelStream()
-          .filter(p -> p.getFullNameOfTargetClass().equals(className))
-          .findFirst().orElse(null);
+        CUT cut = getCUT(className);
 
     	if (cut == null) {
     		return true; // we don't have any coverage yet
@@ -390,6 +460,49 @@ public class ProjectStaticData {
         return false;
     }
 
+    /**
+     * Estimates how many seconds a job for 'className' needs before its
+     * coverage stops increasing, based on the latest successful generation.
+     * If that generation ended well before its time budget, then giving
+     * it more time than what it actually used is unlikely to help.
+     * 
+     * @param className
+     * @return estimated seconds, or <code>null</code> if the history does
+     *         not allow any estimation (eg, the last generation used all its budget)
+     */
+    public Integer getEstimatedSecondsToSaturate(String className) {
+
+        if (this.project == null) {
+            return null;
+        }
+
+        CUT cut = getCUT(className);
+        if (cut == null) {
+            return null;
+        }
+
+        Generation generation = CUTUtil.getLatestSuccessfulGeneration(cut);
+        if (generation == null || generation.getSuite() == null) {
+            return null;
+        }
+
+        int budget = generation.getTimeBudgetInSeconds().intValue();
+        int effort = generation.getSuite().getTotalEffortInSeconds().intValue();
+        if (budget <= 0 || effort <= 0 || effort > budget * EARLY_STOP_RATIO) {
+            // the search was still running when the budget ran out,
+            // so we do not know where its coverage would have saturated
+            return null;
+        }
+
+        return (int) Math.ceil(effort * SATURATION_MARGIN);
+    }
+
+    private CUT getCUT(String className) {
+        return this.project.getCut().parallelStream()
+          .filter(p -> p.getFullNameOfTargetClass().equals(className))
+          .findFirst().orElse(null);
+    }
+
 	/**
 	 * Return a read-only view of the current project CUT graph
 	 * 
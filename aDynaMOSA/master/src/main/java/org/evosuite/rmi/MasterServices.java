@@ -19,15 +19,19 @@
  */
 package org.evosuite.rmi;
 
+import java.io.IOException;
 import java.rmi.NoSuchObjectException;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
 
+import org.evosuite.Properties;
 import org.evosuite.rmi.service.MasterNodeLocal;
 import org.evosuite.rmi.service.MasterNodeRemote;
 import org.evosuite.rmi.service.MasterNodeImpl;
+import org.evosuite.statistics.MetricsEndpoint;
+import org.evosuite.utils.LoggingUtils;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -110,6 +114,15 @@ public class MasterServices {
 		masterNode = new MasterNodeImpl(registry);
 		MasterNodeRemote stub = (MasterNodeRemote) UtilsRMI.exportObject(masterNode);
 		registry.rebind(MasterNodeRemote.RMI_SERVICE_NAME, stub);
+
+		if(Properties.METRICS_PORT != null){
+			try {
+				int port = MetricsEndpoint.getInstance().start(Properties.METRICS_PORT);
+				LoggingUtils.getEvoLogger().info("* Live metrics available at http://localhost:" + port + MetricsEndpoint.PATH);
+			} catch (IOException | IllegalStateException e) {
+				logger.warn("Failed to start live metrics endpoint: " + e.getMessage());
+			}
+		}
 	}
 	
 
@@ -119,6 +132,8 @@ public class MasterServices {
 	}
 	
 	public void stopServices(){
+		MetricsEndpoint.getInstance().stop();
+
 		if(masterNode != null){
 			try {
 				UnicastRemoteObject.unexportObject(masterNode,true);
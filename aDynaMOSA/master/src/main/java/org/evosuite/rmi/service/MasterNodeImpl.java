@@ -35,6 +35,8 @@ import org.evosuite.Properties;
 import org.evosuite.Properties.NoSuchParameterException;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.result.TestGenerationResult;
+import org.evosuite.statistics.ChromosomeSummary;
+import org.evosuite.statistics.MetricsEndpoint;
 import org.evosuite.statistics.SearchStatistics;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.utils.Listener;
@@ -169,12 +171,32 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
 		SearchStatistics.getInstance(clientRmiIdentifier).currentIndividual(individual);
 	}
 
+	@Override
+	public void evosuite_collectStatistics(String clientRmiIdentifier, ChromosomeSummary summary) {
+		SearchStatistics.getInstance(clientRmiIdentifier).currentSummary(summary);
+	}
+
 	@Override
 	public void evosuite_collectStatistics(String clientRmiIdentifier, RuntimeVariable variable, Object value)
 	        throws RemoteException {
 		SearchStatistics.getInstance(clientRmiIdentifier).setOutputVariable(variable, value);
 	}
 
+	@Override
+	public void evosuite_collectStatistics(String clientRmiIdentifier, Map<RuntimeVariable, Object> variables)
+	        throws RemoteException {
+		SearchStatistics statistics = SearchStatistics.getInstance(clientRmiIdentifier);
+		for (Map.Entry<RuntimeVariable, Object> entry : variables.entrySet()) {
+			statistics.setOutputVariable(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public void evosuite_collectMetrics(String clientRmiIdentifier, Map<String, Double> metrics)
+	        throws RemoteException {
+		MetricsEndpoint.getInstance().update(clientRmiIdentifier, metrics);
+	}
+
 	@Override
 	public void evosuite_collectTestGenerationResult(
 			String clientRmiIdentifier, List<TestGenerationResult> results)
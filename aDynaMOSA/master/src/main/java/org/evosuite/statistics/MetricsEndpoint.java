@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Collects the live metrics sent by the clients (see <code>SearchMetrics</code>)
+ * and serves them on a local HTTP endpoint, in the Prometheus text format.
+ * Each metric is prefixed with <code>evosuite_</code> and labeled with the
+ * RMI identifier of the client that sent it. Metrics whose name ends with
+ * <code>_total</code> are counters, all others are gauges: the clients only
+ * use that suffix for counters.
+ */
+public class MetricsEndpoint {
+
+	private static final Logger logger = LoggerFactory.getLogger(MetricsEndpoint.class);
+
+	private static final MetricsEndpoint instance = new MetricsEndpoint();
+
+	public static final String PATH = "/metrics";
+
+	private static final String PREFIX = "evosuite_";
+
+	/**
+	 * Latest metrics of each client, indexed by client identifier
+	 */
+	private final Map<String, Map<String, Double>> metrics = new ConcurrentHashMap<>();
+
+	private HttpServer server;
+
+	protected MetricsEndpoint() {
+	}
+
+	public static MetricsEndpoint getInstance() {
+		return instance;
+	}
+
+	public void update(String clientRmiIdentifier, Map<String, Double> values) {
+		metrics.put(clientRmiIdentifier, new LinkedHashMap<>(values));
+	}
+
+	/**
+	 * Start serving the metrics on the loopback interface
+	 * 
+	 * @param port 0 to use any free port
+	 * @return the port the endpoint is listening on
+	 * @throws IOException if the port cannot be bound
+	 * @throws IllegalStateException if the endpoint is already running
+	 */
+	public synchronized int start(int port) throws IOException, IllegalStateException {
+		if (server != null) {
+			throw new IllegalStateException("Metrics endpoint is already running");
+		}
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext(PATH, this::handle);
+		server.start();
+		int actualPort = server.getAddress().getPort();
+		logger.info("Serving live metrics on port " + actualPort);
+		return actualPort;
+	}
+
+	public synchronized void stop() {
+		if (server != null) {
+			server.stop(0);
+			server = null;
+		}
+		metrics.clear();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		byte[] body = toPrometheusText().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	/**
+	 * @return all current metrics, grouped by name, in the Prometheus text exposition format
+	 */
+	public String toPrometheusText() {
+		// metric name -> client -> value
+		Map<String, Map<String, Double>> byName = new TreeMap<>();
+		for (Map.Entry<String, Map<String, Double>> client : metrics.entrySet()) {
+			for (Map.Entry<String, Double> e : client.getValue().entrySet()) {
+				byName.computeIfAbsent(PREFIX + sanitize(e.getKey()), k -> new TreeMap<>())
+						.put(client.getKey(), e.getValue());
+			}
+		}
+
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Map<String, Double>> metric : byName.entrySet()) {
+			String name = metric.getKey();
+			sb.append("# TYPE ").append(name).append(name.endsWith("_total") ? " counter" : " gauge").append('\n');
+			for (Map.Entry<String, Double> e : metric.getValue().entrySet()) {
+				sb.append(name).append("{client=\"").append(escape(e.getKey())).append("\"} ")
+						.append(format(e.getValue())).append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String sanitize(String name) {
+		return name.replaceAll("[^a-zA-Z0-9_:]", "_");
+	}
+
+	private static String escape(String label) {
+		return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	private static String format(Double value) {
+		if (value == null || value.isNaN()) {
+			return "NaN";
+		}
+		if (value.isInfinite()) {
+			return value > 0 ? "+Inf" : "-Inf";
+		}
+		return Double.toString(value);
+	}
+}
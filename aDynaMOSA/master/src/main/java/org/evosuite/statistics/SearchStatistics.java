@@ -70,6 +70,9 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 	/** Map of client id to best individual received from that client so far */
 	private TestSuiteChromosome bestIndividual = null;
 
+	/** Summary of the most recent individual received, either directly or as a full chromosome */
+	private ChromosomeSummary bestSummary = null;
+
 	/** Backend used to output the data */
 	private StatisticsBackend backend = null;
 
@@ -107,6 +110,9 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		case DEBUG:
 			backend = new DebugStatisticsBackend();
 			break;
+		case COLUMNAR:
+			backend = new ColumnarStatisticsBackend();
+			break;
 		case NONE:
 		default:
 			// If no backend is specified, there is no output
@@ -190,11 +196,27 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 
 		logger.debug("Received individual");
 		bestIndividual = (TestSuiteChromosome) individual;
+		currentSummary(new ChromosomeSummary(bestIndividual));
+	}
+
+	/**
+	 * This method is called when the summary of the best individual of the
+	 * current generation is sent from a client. Clients only ship the full
+	 * test suite once at the end of the search.
+	 * 
+	 * @param summary values of the best individual of current generation
+	 */
+	public void currentSummary(ChromosomeSummary summary) {
+		if(backend == null)
+			return;
+
+		logger.debug("Received summary: {}", summary);
+		bestSummary = summary;
         for(ChromosomeOutputVariableFactory<?> v : variableFactories.values()) {
-            setOutputVariable(v.getVariable((TestSuiteChromosome) individual));
+            setOutputVariable(v.getVariable(summary));
         }
 		for(SequenceOutputVariableFactory<?> v : sequenceOutputVariableFactories.values()) {
-			v.update((TestSuiteChromosome) individual);
+			v.update(summary);
 		}
 	}
 
@@ -286,7 +308,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 	/**
 	 * Shorthand for getOutputVariables(individual, false)
 	 */
-	private Map<String, OutputVariable<?>> getOutputVariables(TestSuiteChromosome individual) {
+	private Map<String, OutputVariable<?>> getOutputVariables(ChromosomeSummary individual) {
 		return getOutputVariables(individual, false);
 	}
 
@@ -298,7 +320,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 	 * @param skip_missing whether or not to skip missing output variables
 	 * @return <code>null</code> if some data is missing
 	 */
-	private Map<String, OutputVariable<?>> getOutputVariables(TestSuiteChromosome individual, boolean skip_missing) {
+	private Map<String, OutputVariable<?>> getOutputVariables(ChromosomeSummary individual, boolean skip_missing) {
 		Map<String, OutputVariable<?>> variables = new LinkedHashMap<String, OutputVariable<?>>();
 		
 		for(String variableName : getOutputVariableNames()) {
@@ -343,14 +365,33 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 
 		outputVariables.put(RuntimeVariable.Total_Time.name(), new OutputVariable<Object>(RuntimeVariable.Total_Time.name(), System.currentTimeMillis() - startTime));
 
-		if(bestIndividual == null) {
+		if(bestSummary == null) {
 			logger.error("No statistics has been saved because EvoSuite failed to generate any test case");
 			return false;
 		}	
 
+		/*
+		 * clients only send summaries during the search, the full test suite
+		 * is sent once at the end and might still be on its way
+		 */
+		for(int counter = 0; bestIndividual == null && counter < 5 && isAnyClientDone(); counter++) {
+			try {
+				Thread.sleep(1000);
+			} catch (InterruptedException e) {
+			}
+		}
+
 		TestSuiteChromosome individual = bestIndividual;
+		if(individual == null) {
+			if(!Properties.IGNORE_MISSING_STATISTICS) {
+				logger.error("Not going to write down statistics data, as the final test suite was not received");
+				return false;
+			}
+			logger.error("Final test suite was not received, writing statistics without its tests");
+			individual = new TestSuiteChromosome();
+		}
 
-		Map<String,OutputVariable<?>> map = getOutputVariables(individual);
+		Map<String,OutputVariable<?>> map = getOutputVariables(bestSummary);
 		if(map==null){
 
 			try {
@@ -358,8 +399,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 			} catch (InterruptedException e) {
 			}
 
-			boolean couldBeFine = MasterServices.getInstance().getMasterNode().getCurrentState().stream()
-					.anyMatch(s -> s.equals(ClientState.DONE) || s.equals(ClientState.FINISHED));
+			boolean couldBeFine = isAnyClientDone();
 
 
 			if(couldBeFine){
@@ -374,13 +414,13 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 					}
 
 					//retry
-					map = getOutputVariables(individual);
+					map = getOutputVariables(bestSummary);
 					counter++;
 				}
 			}
 			
 			if(map == null && Properties.IGNORE_MISSING_STATISTICS){
-				map = getOutputVariables(individual, true);
+				map = getOutputVariables(bestSummary, true);
 			}
 
 			if(map == null) {
@@ -399,6 +439,13 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 	}
 	
+	private boolean isAnyClientDone() {
+		if(MasterServices.getInstance().getMasterNode() == null)
+			return false;
+		return MasterServices.getInstance().getMasterNode().getCurrentState().stream()
+				.anyMatch(s -> s.equals(ClientState.DONE) || s.equals(ClientState.FINISHED));
+	}
+
 	/**
 	 * Write result to disk using selected backend
 	 * 
@@ -414,7 +461,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		outputVariables.put(RuntimeVariable.Total_Time.name(), new OutputVariable<Object>(RuntimeVariable.Total_Time.name(), System.currentTimeMillis() - startTime));
 
 		TestSuiteChromosome individual = new TestSuiteChromosome();
-		Map<String,OutputVariable<?>> map = getOutputVariables(individual);
+		Map<String,OutputVariable<?>> map = getOutputVariables(new ChromosomeSummary(individual));
 		if(map==null){
 			logger.error("Not going to write down statistics data, as some are missing");
 			return false;
@@ -470,7 +517,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Integer getData(TestSuiteChromosome individual) {
+		protected Integer getData(ChromosomeSummary individual) {
 			return individual.totalLengthOfTestCases();
 		}
 	}
@@ -484,7 +531,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Integer getData(TestSuiteChromosome individual) {
+		protected Integer getData(ChromosomeSummary individual) {
 			return individual.size();
 		}
 	}
@@ -498,7 +545,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Double getData(TestSuiteChromosome individual) {
+		protected Double getData(ChromosomeSummary individual) {
 			return individual.getFitness();
 		}
 	}
@@ -512,7 +559,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Double getData(TestSuiteChromosome individual) {
+		protected Double getData(ChromosomeSummary individual) {
 			return individual.getCoverage();
 		}
 	}
@@ -527,7 +574,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Double getValue(TestSuiteChromosome individual) {
+		protected Double getValue(ChromosomeSummary individual) {
 			return individual.getFitness();
 		}
 	}
@@ -542,7 +589,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Double getValue(TestSuiteChromosome individual) {
+		public Double getValue(ChromosomeSummary individual) {
 			return individual.getCoverage();
 		}
 	}
@@ -557,7 +604,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Integer getValue(TestSuiteChromosome individual) {
+		public Integer getValue(ChromosomeSummary individual) {
 			return individual.size();
 		}
 	}
@@ -572,7 +619,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Integer getValue(TestSuiteChromosome individual) {
+		public Integer getValue(ChromosomeSummary individual) {
 			return individual.totalLengthOfTestCases();
 		}
 	}
@@ -587,7 +634,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(ChromosomeSummary individual) {
             return (Integer) this.value;
         }
 
@@ -607,7 +654,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Double getValue(TestSuiteChromosome individual) {
+		public Double getValue(ChromosomeSummary individual) {
 			return (Double) this.value;
 		}
 
@@ -627,7 +674,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(ChromosomeSummary individual) {
             return individual.getNumOfNotCoveredGoals();
         }
     }
@@ -639,7 +686,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(BranchCoverageSuiteFitness.class);
         }
     }
@@ -651,7 +698,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -663,7 +710,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -675,7 +722,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -687,7 +734,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -699,7 +746,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -711,7 +758,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -723,7 +770,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -735,7 +782,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -747,7 +794,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -759,7 +806,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -771,7 +818,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             Double d = individual.getFitnessInstanceOf(RhoCoverageSuiteFitness.class);
             return d > 1.0 ? 0.0 : d;
         }
@@ -784,7 +831,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(AmbiguityCoverageSuiteFitness.class);
         }
     }
@@ -796,7 +843,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -808,7 +855,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -820,7 +867,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -832,7 +879,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -844,7 +891,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -856,7 +903,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -868,7 +915,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -880,7 +927,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -892,7 +939,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(WeakMutationSuiteFitness.class);
         }
     }
@@ -904,7 +951,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getFitnessInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
@@ -916,7 +963,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(ChromosomeSummary individual) {
             return individual.getCoverageInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
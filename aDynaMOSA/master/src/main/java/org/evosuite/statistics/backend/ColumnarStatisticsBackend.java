@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.statistics.OutputVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This statistics backend appends the output variables of each CUT as a
+ * compressed row group at the end of a single file, so that nothing needs
+ * to be kept in memory between CUTs and the file never needs to be rewritten.
+ * 
+ * <p>
+ * Each row group is an independent GZIP member, and the file as a whole
+ * is a valid GZIP stream. Inside a row group, scalar variables come first,
+ * followed by timeline variables (ie, the <code>*Timeline_T1..Tn</code>
+ * ones), each stored as a column with one value per sampling interval.
+ * Use {@link ColumnarStatisticsReader} to read it back.
+ */
+public class ColumnarStatisticsBackend implements StatisticsBackend {
+
+	private static Logger logger = LoggerFactory.getLogger(ColumnarStatisticsBackend.class);
+
+	public static final String FILE_NAME = "statistics.evst";
+
+	static final int MAGIC = 0x45565354;
+
+	static final int VERSION = 1;
+
+	static final byte TYPE_NULL = 0;
+	static final byte TYPE_LONG = 1;
+	static final byte TYPE_DOUBLE = 2;
+	static final byte TYPE_BOOLEAN = 3;
+	static final byte TYPE_STRING = 4;
+
+	private static final Pattern TIMELINE = Pattern.compile("(.+Timeline)_T(\\d+)");
+
+	/**
+	 * Different clients might write at the same time
+	 */
+	private static final Object lock = new Object();
+
+	@Override
+	public void writeData(Chromosome result, Map<String, OutputVariable<?>> data) {
+		File f = new File(CSVStatisticsBackend.getReportDir(), FILE_NAME);
+		try {
+			synchronized (lock) {
+				append(f, data);
+			}
+		} catch (IOException e) {
+			logger.warn("Error while writing statistics: " + e.getMessage());
+		}
+	}
+
+	static void append(File f, Map<String, OutputVariable<?>> data) throws IOException {
+
+		Map<String, Object> scalars = new LinkedHashMap<>();
+		Map<String, List<Object>> timelines = new LinkedHashMap<>();
+		int intervals = 0;
+
+		for (Entry<String, OutputVariable<?>> e : data.entrySet()) {
+			Object value = e.getValue().getValue();
+			Matcher m = TIMELINE.matcher(e.getKey());
+			if (m.matches() && (value == null || value instanceof Number)) {
+				int index = Integer.parseInt(m.group(2));
+				List<Object> column = timelines.computeIfAbsent(m.group(1), k -> new ArrayList<>());
+				while (column.size() < index) {
+					column.add(null);
+				}
+				column.set(index - 1, value);
+				intervals = Math.max(intervals, index);
+			} else {
+				scalars.put(e.getKey(), value);
+			}
+		}
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new GZIPOutputStream(new FileOutputStream(f, true))))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+
+			out.writeInt(scalars.size());
+			for (Entry<String, Object> e : scalars.entrySet()) {
+				out.writeUTF(e.getKey());
+				writeValue(out, e.getValue());
+			}
+
+			out.writeInt(timelines.size());
+			out.writeInt(intervals);
+			for (Entry<String, List<Object>> e : timelines.entrySet()) {
+				out.writeUTF(e.getKey());
+				List<Object> column = e.getValue();
+				for (int i = 0; i < intervals; i++) {
+					Object value = i < column.size() ? column.get(i) : null;
+					out.writeDouble(value == null ? Double.NaN : ((Number) value).doubleValue());
+				}
+			}
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(TYPE_NULL);
+		} else if (value instanceof Long || value instanceof Integer
+				|| value instanceof Short || value instanceof Byte) {
+			out.writeByte(TYPE_LONG);
+			out.writeLong(((Number) value).longValue());
+		} else if (value instanceof Number) {
+			out.writeByte(TYPE_DOUBLE);
+			out.writeDouble(((Number) value).doubleValue());
+		} else if (value instanceof Boolean) {
+			out.writeByte(TYPE_BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else {
+			out.writeByte(TYPE_STRING);
+			writeString(out, value.toString());
+		}
+	}
+
+	/**
+	 * Values like coverage bit strings can be longer than what
+	 * {@link DataOutputStream#writeUTF(String)} supports
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
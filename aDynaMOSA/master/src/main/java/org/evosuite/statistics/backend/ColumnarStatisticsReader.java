@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads back, and aggregates, the files written by {@link ColumnarStatisticsBackend}.
+ * Row groups are decoded one at a time, so files with thousands of CUTs can be
+ * processed without loading them in memory.
+ */
+public class ColumnarStatisticsReader {
+
+	/**
+	 * Data written for a single CUT
+	 */
+	public static class RowGroup {
+
+		private final Map<String, Object> values;
+
+		private final Map<String, double[]> timelines;
+
+		private RowGroup(Map<String, Object> values, Map<String, double[]> timelines) {
+			this.values = Collections.unmodifiableMap(values);
+			this.timelines = Collections.unmodifiableMap(timelines);
+		}
+
+		/**
+		 * @return all scalar variables, with their original order
+		 */
+		public Map<String, Object> getValues() {
+			return values;
+		}
+
+		public Object getValue(String name) {
+			return values.get(name);
+		}
+
+		/**
+		 * @return the timeline variables, indexed by name without the <code>_T</code>
+		 *         suffix. Position <code>i</code> in the array is the value at interval <code>i+1</code>
+		 */
+		public Map<String, double[]> getTimelines() {
+			return timelines;
+		}
+	}
+
+	private ColumnarStatisticsReader() {
+	}
+
+	/**
+	 * Decode all the row groups in the given file, in the order they were written
+	 * 
+	 * @param file
+	 * @param consumer
+	 * @throws IOException if the file cannot be read, or is not in the expected format
+	 */
+	public static void forEach(File file, Consumer<RowGroup> consumer) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new GZIPInputStream(new FileInputStream(file))))) {
+			while (true) {
+				int magic;
+				try {
+					magic = in.readInt();
+				} catch (EOFException e) {
+					return;
+				}
+				if (magic != ColumnarStatisticsBackend.MAGIC) {
+					throw new IOException("Not a statistics file: " + file);
+				}
+				int version = in.readInt();
+				if (version != ColumnarStatisticsBackend.VERSION) {
+					throw new IOException("Unsupported statistics file version " + version + ": " + file);
+				}
+				consumer.accept(readRowGroup(in));
+			}
+		}
+	}
+
+	public static List<RowGroup> readAll(File file) throws IOException {
+		List<RowGroup> groups = new ArrayList<>();
+		forEach(file, groups::add);
+		return groups;
+	}
+
+	/**
+	 * Average of each numeric scalar variable over all the row groups in which it is present
+	 * 
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static Map<String, Double> averageValues(File file) throws IOException {
+		Map<String, double[]> sums = new LinkedHashMap<>(); // [sum, count]
+		forEach(file, group -> {
+			for (Entry<String, Object> e : group.getValues().entrySet()) {
+				if (e.getValue() instanceof Number) {
+					double[] sum = sums.computeIfAbsent(e.getKey(), k -> new double[2]);
+					sum[0] += ((Number) e.getValue()).doubleValue();
+					sum[1]++;
+				}
+			}
+		});
+
+		Map<String, Double> averages = new LinkedHashMap<>();
+		for (Entry<String, double[]> e : sums.entrySet()) {
+			averages.put(e.getKey(), e.getValue()[0] / e.getValue()[1]);
+		}
+		return averages;
+	}
+
+	/**
+	 * Average, for each sampling interval, of each timeline variable over all
+	 * the row groups that have a value for that interval
+	 * 
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static Map<String, double[]> averageTimelines(File file) throws IOException {
+		Map<String, double[]> sums = new LinkedHashMap<>();
+		Map<String, int[]> counts = new LinkedHashMap<>();
+		forEach(file, group -> {
+			for (Entry<String, double[]> e : group.getTimelines().entrySet()) {
+				double[] column = e.getValue();
+				double[] sum = sums.get(e.getKey());
+				int[] count = counts.get(e.getKey());
+				if (sum == null || sum.length < column.length) {
+					sum = sum == null ? new double[column.length] : Arrays.copyOf(sum, column.length);
+					count = count == null ? new int[column.length] : Arrays.copyOf(count, column.length);
+					sums.put(e.getKey(), sum);
+					counts.put(e.getKey(), count);
+				}
+				for (int i = 0; i < column.length; i++) {
+					if (!Double.isNaN(column[i])) {
+						sum[i] += column[i];
+						count[i]++;
+					}
+				}
+			}
+		});
+
+		Map<String, double[]> averages = new LinkedHashMap<>();
+		for (Entry<String, double[]> e : sums.entrySet()) {
+			double[] sum = e.getValue();
+			int[] count = counts.get(e.getKey());
+			double[] avg = new double[sum.length];
+			for (int i = 0; i < sum.length; i++) {
+				avg[i] = count[i] == 0 ? Double.NaN : sum[i] / count[i];
+			}
+			averages.put(e.getKey(), avg);
+		}
+		return averages;
+	}
+
+	private static RowGroup readRowGroup(DataInputStream in) throws IOException {
+		Map<String, Object> values = new LinkedHashMap<>();
+		int scalars = in.readInt();
+		for (int i = 0; i < scalars; i++) {
+			String name = in.readUTF();
+			values.put(name, readValue(in));
+		}
+
+		Map<String, double[]> timelines = new LinkedHashMap<>();
+		int columns = in.readInt();
+		int intervals = in.readInt();
+		for (int i = 0; i < columns; i++) {
+			String name = in.readUTF();
+			double[] column = new double[intervals];
+			for (int j = 0; j < intervals; j++) {
+				column[j] = in.readDouble();
+			}
+			timelines.put(name, column);
+		}
+
+		return new RowGroup(values, timelines);
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		switch (type) {
+		case ColumnarStatisticsBackend.TYPE_NULL:
+			return null;
+		case ColumnarStatisticsBackend.TYPE_LONG:
+			return in.readLong();
+		case ColumnarStatisticsBackend.TYPE_DOUBLE:
+			return in.readDouble();
+		case ColumnarStatisticsBackend.TYPE_BOOLEAN:
+			return in.readBoolean();
+		case ColumnarStatisticsBackend.TYPE_STRING:
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		default:
+			throw new IOException("Unknown value type: " + type);
+		}
+	}
+}
@@ -208,4 +208,65 @@ public class JobExecutorIntTest {
 
 		storage.clean();
 	}
+
+	@Test
+	public void testBudgetOfEarlyFinishedJobsIsReclaimed() throws InterruptedException{
+
+		boolean storageOK = storage.isStorageOk();
+		assertTrue(storageOK);
+		storageOK = storage.createNewTmpFolders();
+		assertTrue(storageOK);
+
+		String classpath = System.getProperty("java.class.path");
+
+		int cores = 1;
+		int memory = 1000;
+		int minutes = 10000;
+
+		CtgConfiguration conf = new CtgConfiguration(memory, cores, minutes, 1, false, AvailableSchedule.SIMPLE);
+		final JobExecutor exe = new JobExecutor(storage, classpath, conf);
+
+		JobDefinition simple = new JobDefinition(60, memory, Simple.class.getName(), 0, null, null);
+		JobDefinition trivial = new JobDefinition(60, memory, Trivial.class.getName(), 0, null, null);
+		JobDefinition ust = new JobDefinition(60, memory, UsingSimpleAndTrivial.class.getName(), 0, null, null);
+
+		final List<JobDefinition> jobs = Arrays.asList(simple,trivial,ust);
+
+		exe.initExecution(jobs);
+
+		Thread t = new Thread(){
+			@Override
+			public void run(){
+				exe.execute(jobs);
+			}
+		};
+		try{
+			t.start();
+
+			JobDefinition first = exe.pollJob();
+			Assert.assertEquals(60, first.seconds);
+			//finishing straight away leaves (almost) all of its budget unused
+			exe.doneWithJob(first);
+			int reclaimed = exe.getReclaimedSeconds();
+			assertTrue(reclaimed > 55);
+
+			//which is shared among the two jobs still to start
+			JobDefinition second = exe.pollJob();
+			Assert.assertEquals(60 + reclaimed / 2, second.seconds);
+			JobDefinition third = exe.pollJob();
+			Assert.assertEquals(60 + (reclaimed - reclaimed / 2), third.seconds);
+			Assert.assertEquals(0, exe.getReclaimedSeconds());
+
+			//running jobs are not killed before their extended budget is over
+			assertTrue(exe.getMaxWaitForRunningJobsInMs(60 * 1000) >= third.seconds * 1000l * 2);
+
+			exe.doneWithJob(second);
+			exe.doneWithJob(third);
+		}
+		finally{
+			t.interrupt();
+		}
+
+		storage.clean();
+	}
 }
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.project;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+public class MethodFingerprintsTest {
+
+	private static void addMethod(ClassWriter cw, String name, int value, int line) {
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, name, "()I", null, null);
+		mv.visitCode();
+		Label start = new Label();
+		mv.visitLabel(start);
+		mv.visitLineNumber(line, start);
+		mv.visitIntInsn(Opcodes.BIPUSH, value);
+		mv.visitInsn(Opcodes.IRETURN);
+		mv.visitMaxs(1, 1);
+		mv.visitEnd();
+	}
+
+	private static byte[] createClass(int fooLine, int barValue, boolean withBaz) {
+		ClassWriter cw = new ClassWriter(0);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "org/foo/Bar", null, "java/lang/Object", null);
+		addMethod(cw, "foo", 1, fooLine);
+		addMethod(cw, "bar", barValue, 20);
+		if (withBaz) {
+			addMethod(cw, "baz", 3, 30);
+		}
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	@Test
+	public void testDebugInfoIsIgnored() {
+		Map<String, Long> previous = MethodFingerprints.compute(createClass(10, 2, false));
+		Map<String, Long> current = MethodFingerprints.compute(createClass(15, 2, false));
+
+		Assert.assertEquals(2, current.size());
+		Assert.assertTrue(current.containsKey("org.foo.Bar.foo()I"));
+		Assert.assertTrue(MethodFingerprints.getChangedMethods(previous, current).isEmpty());
+	}
+
+	@Test
+	public void testChangedAndNewMethods() {
+		Map<String, Long> previous = MethodFingerprints.compute(createClass(10, 2, false));
+		Map<String, Long> current = MethodFingerprints.compute(createClass(10, 5, true));
+
+		Set<String> changed = MethodFingerprints.getChangedMethods(previous, current);
+		Assert.assertEquals(2, changed.size());
+		Assert.assertTrue(changed.contains("org.foo.Bar.bar()I"));
+		Assert.assertTrue(changed.contains("org.foo.Bar.baz()I"));
+
+		// removed methods are not reported
+		Assert.assertTrue(MethodFingerprints.getChangedMethods(current, previous).contains("org.foo.Bar.bar()I"));
+		Assert.assertFalse(MethodFingerprints.getChangedMethods(current, previous).contains("org.foo.Bar.baz()I"));
+	}
+
+	@Test
+	public void testSplitMethod() {
+		String[] split = MethodFingerprints.splitMethod("org.foo.Bar$Inner.foo(Ljava/lang/String;)Z");
+		Assert.assertEquals("org.foo.Bar$Inner", split[0]);
+		Assert.assertEquals("foo(Ljava/lang/String;)Z", split[1]);
+	}
+
+	@Test
+	public void testSaveAndLoad() throws Exception {
+		File file = File.createTempFile("fingerprints", ".txt");
+		file.deleteOnExit();
+
+		Map<String, Long> fingerprints = MethodFingerprints.compute(createClass(10, 2, true));
+		MethodFingerprints.save(Collections.singletonMap("org.foo.Bar", fingerprints), file);
+
+		Map<String, Map<String, Long>> loaded = MethodFingerprints.load(file);
+		Assert.assertEquals(1, loaded.size());
+		Assert.assertEquals(fingerprints, loaded.get("org.foo.Bar"));
+	}
+}
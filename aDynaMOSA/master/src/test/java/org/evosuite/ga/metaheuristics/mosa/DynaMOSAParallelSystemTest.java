@@ -0,0 +1,65 @@
+package org.evosuite.ga.metaheuristics.mosa;
+
+import com.examples.with.different.packagename.XMLElement2;
+import org.evosuite.EvoSuite;
+import org.evosuite.Properties;
+import org.evosuite.SystemTestBase;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.result.TestGenerationResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Runs DynaMOSA on several local clients, which exchange individuals and solutions,
+ * and checks that individuals were exchanged and that the suite merged by the first
+ * client is complete.
+ */
+public class DynaMOSAParallelSystemTest extends SystemTestBase {
+
+    @Test
+    public void testDynaMOSAWithParallelClients() {
+        Properties.CRITERION = new Properties.Criterion[1];
+        Properties.CRITERION[0] = Properties.Criterion.BRANCH;
+        Properties.ALGORITHM = Properties.Algorithm.DYNAMOSA;
+        Properties.STRATEGY = Properties.Strategy.MOSUITE;
+        Properties.ARCHIVE_TYPE = Properties.ArchiveType.COVERAGE;
+        Properties.POPULATION = 20;
+        Properties.NUM_PARALLEL_CLIENTS = 2;
+        Properties.MIGRANTS_ITERATION_FREQUENCY = 1;
+        Properties.STOPPING_CONDITION = Properties.StoppingCondition.MAXTIME;
+        Properties.SEARCH_BUDGET = 20;
+
+        EvoSuite evosuite = new EvoSuite();
+
+        String targetClass = XMLElement2.class.getCanonicalName();
+        Properties.TARGET_CLASS = targetClass;
+
+        String[] command = new String[] {"-generateMOSuite", "-class", targetClass};
+
+        Object result = evosuite.parseCommandLine(command);
+        Assert.assertNotNull(result);
+
+        TestGenerationResult generationResult = getResult(result);
+        Assert.assertTrue(generationResult.getGeneticAlgorithm() instanceof DynaMOSA);
+
+        DynaMOSA<?> dynaMOSA = (DynaMOSA<?>) generationResult.getGeneticAlgorithm();
+        Assert.assertTrue(dynaMOSA.getNumberOfEmigrants() > 0);
+        Assert.assertTrue(dynaMOSA.getNumberOfImmigrants() > 0);
+        // the archive of the other client was merged into the one of Client-0
+        Assert.assertTrue(dynaMOSA.getNumberOfCollectedSolutions() > 0);
+
+        List<? extends Chromosome> best = dynaMOSA.getBestIndividuals();
+        for (Chromosome suite : best) {
+            Assert.assertEquals(1.0, suite.getCoverage(), 0.000001);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected TestGenerationResult getResult(Object result) {
+        assert(result instanceof List);
+        List<List<TestGenerationResult>> results = (List<List<TestGenerationResult>>)result;
+        return results.get(0).get(0);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MetricsEndpointTest {
+
+	private final MetricsEndpoint endpoint = new MetricsEndpoint();
+
+	@After
+	public void tearDown() {
+		endpoint.stop();
+	}
+
+	private static Map<String, Double> createMetrics(double tests, double covered) {
+		Map<String, Double> metrics = new LinkedHashMap<>();
+		metrics.put("tests_executed_total", tests);
+		metrics.put("goals_covered", covered);
+		metrics.put("indicator_Some.Indicator_mean", 0.5);
+		return metrics;
+	}
+
+	@Test
+	public void testPrometheusFormat() {
+		endpoint.update("ClientNode0", createMetrics(10, 3));
+		endpoint.update("ClientNode1", createMetrics(20, Double.NaN));
+		// a newer update replaces the old values
+		endpoint.update("ClientNode0", createMetrics(15, 4));
+
+		String text = endpoint.toPrometheusText();
+		Assert.assertTrue(text, text.contains("# TYPE evosuite_tests_executed_total counter\n"));
+		Assert.assertTrue(text, text.contains("# TYPE evosuite_goals_covered gauge\n"));
+		Assert.assertTrue(text, text.contains("evosuite_tests_executed_total{client=\"ClientNode0\"} 15.0\n"));
+		Assert.assertTrue(text, text.contains("evosuite_tests_executed_total{client=\"ClientNode1\"} 20.0\n"));
+		Assert.assertTrue(text, text.contains("evosuite_goals_covered{client=\"ClientNode1\"} NaN\n"));
+		Assert.assertTrue(text, text.contains("evosuite_indicator_Some_Indicator_mean{client=\"ClientNode0\"} 0.5\n"));
+		Assert.assertFalse(text, text.contains("10.0"));
+	}
+
+	@Test
+	public void testHttpEndpoint() throws IOException {
+		int port = endpoint.start(0);
+		endpoint.update("ClientNode0", createMetrics(10, 3));
+
+		URL url = new URL("http://localhost:" + port + MetricsEndpoint.PATH);
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		Assert.assertEquals(200, connection.getResponseCode());
+		try (InputStream in = connection.getInputStream()) {
+			String text = IOUtils.toString(in, StandardCharsets.UTF_8);
+			Assert.assertEquals(endpoint.toPrometheusText(), text);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.evosuite.statistics.OutputVariable;
+import org.evosuite.statistics.RuntimeVariable;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ColumnarStatisticsBackendTest {
+
+	private static Map<String, OutputVariable<?>> createData(String cut, double coverage, int intervals) {
+		Map<String, OutputVariable<?>> data = new LinkedHashMap<>();
+		data.put("TARGET_CLASS", new OutputVariable<>("TARGET_CLASS", cut));
+		data.put(RuntimeVariable.Coverage.name(), new OutputVariable<>(RuntimeVariable.Coverage.name(), coverage));
+		data.put(RuntimeVariable.Size.name(), new OutputVariable<>(RuntimeVariable.Size.name(), 3));
+		for (int i = 1; i <= intervals; i++) {
+			String name = RuntimeVariable.CoverageTimeline.name() + "_T" + i;
+			data.put(name, new OutputVariable<>(name, coverage * i / intervals));
+		}
+		return data;
+	}
+
+	private static void assertValues(double[] expected, double[] actual, double delta) {
+		Assert.assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			Assert.assertEquals(expected[i], actual[i], delta);
+		}
+	}
+
+	@Test
+	public void testAppendAndRead() throws IOException {
+		File file = File.createTempFile("statistics", ".evst");
+		file.deleteOnExit();
+		file.delete();
+
+		ColumnarStatisticsBackend.append(file, createData("Foo", 0.5, 2));
+		ColumnarStatisticsBackend.append(file, createData("Bar", 1.0, 4));
+
+		List<ColumnarStatisticsReader.RowGroup> groups = ColumnarStatisticsReader.readAll(file);
+		Assert.assertEquals(2, groups.size());
+
+		ColumnarStatisticsReader.RowGroup foo = groups.get(0);
+		Assert.assertEquals("Foo", foo.getValue("TARGET_CLASS"));
+		Assert.assertEquals(0.5, (Double) foo.getValue(RuntimeVariable.Coverage.name()), 0.0);
+		Assert.assertEquals(3L, foo.getValue(RuntimeVariable.Size.name()));
+		Assert.assertFalse(foo.getValues().containsKey(RuntimeVariable.CoverageTimeline.name() + "_T1"));
+		assertValues(new double[] { 0.25, 0.5 },
+				foo.getTimelines().get(RuntimeVariable.CoverageTimeline.name()), 0.0);
+
+		Assert.assertEquals(4, groups.get(1).getTimelines().get(RuntimeVariable.CoverageTimeline.name()).length);
+	}
+
+	@Test
+	public void testAggregation() throws IOException {
+		File file = File.createTempFile("statistics", ".evst");
+		file.deleteOnExit();
+		file.delete();
+
+		ColumnarStatisticsBackend.append(file, createData("Foo", 0.5, 2));
+		ColumnarStatisticsBackend.append(file, createData("Bar", 1.0, 4));
+
+		Map<String, Double> values = ColumnarStatisticsReader.averageValues(file);
+		Assert.assertEquals(0.75, values.get(RuntimeVariable.Coverage.name()), 0.0001);
+		Assert.assertEquals(3.0, values.get(RuntimeVariable.Size.name()), 0.0001);
+		Assert.assertFalse(values.containsKey("TARGET_CLASS"));
+
+		double[] timeline = ColumnarStatisticsReader.averageTimelines(file).get(RuntimeVariable.CoverageTimeline.name());
+		// intervals 3 and 4 are only there for Bar
+		assertValues(new double[] { (0.25 + 0.25) / 2, (0.5 + 0.5) / 2, 0.75, 1.0 }, timeline, 0.0001);
+	}
+}
@@ -19,8 +19,7 @@
  */
 package org.evosuite.runtime;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * In some cases, we can end up with infinite loops: eg due to a bug, a seeded mutation,
@@ -31,30 +30,73 @@ import java.util.List;
  * Therefore, for each loop in the instrumented CUTs, we can have a limit, and throw an exception
  * if too many iterations have occurred
  *
+ * <p>
+ * Besides the limit check, the counter keeps the total number of iterations of each loop
+ * since the last {@link #reset()}, so that the cost of the loops executed by a test
+ * can be read with {@link #getIterations()}.
+ *
  * Created by Andrea Arcuri on 29/03/15.
  */
 public class LoopCounter {
 
     private static final LoopCounter singleton = new LoopCounter();
 
-    private boolean activated = true;
-    
     /**
-     * Number of iterations so far
+     * The counters are stored in blocks of this size, which are never replaced
+     * once allocated: the instrumentation can register new loops while
+     * instrumented code is running on other threads, and growing the storage
+     * must not lose the increments those threads are doing
+     */
+    private static final int BLOCK_BITS = 6;
+
+    private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /**
+     * Number of static initializers being executed by each thread, maintained by
+     * the instrumentation, see {@link #enterStaticInit()}
+     */
+    private static final ThreadLocal<int[]> staticInitDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+    private volatile boolean activated = true;
+
+    /**
+     * Number of indices handed out to the instrumentation so far.
+     * This is not affected by {@link #reset()}, as the indices are baked into the bytecode
      */
-    private List<Long> counters;
+    private int numberOfLoops = 0;
+
+    /**
+     * Number of iterations so far, used for the limit check; the entry of a loop
+     * is cleared when the limit is reached
+     */
+    private volatile long[][] counters;
+
+    /**
+     * Total number of iterations of each loop since the last reset
+     */
+    private volatile long[][] iterations;
+
+    /**
+     * Highest index (exclusive) seen by {@link #checkLoop(int)} since the last reset
+     */
+    private volatile int used = 0;
 
 
     private LoopCounter(){
-        counters = new ArrayList<>();
+        counters = new long[][]{new long[BLOCK_SIZE]};
+        iterations = new long[][]{new long[BLOCK_SIZE]};
     }
 
     public static LoopCounter getInstance(){
         return singleton;
     }
 
-    public void reset(){
-        counters.clear();
+    public synchronized void reset(){
+        clear(counters, used);
+        clear(iterations, used);
+        used = 0;
     }
     
     public void setActive(boolean active) {
@@ -65,18 +107,69 @@ public class LoopCounter {
         return activated;
     }
 
+    /**
+     * Called by the instrumentation when a static initializer starts.
+     * Loops executed until the matching {@link #exitStaticInit()} are never stopped
+     */
+    public static void enterStaticInit() {
+        staticInitDepth.get()[0]++;
+    }
+
+    /**
+     * Called by the instrumentation when a static initializer returns or throws
+     */
+    public static void exitStaticInit() {
+        int[] depth = staticInitDepth.get();
+        if (depth[0] > 0) {
+            depth[0]--;
+        }
+    }
+
     /**
      * This is called during bytecode instrumentation to determine which index
      * to assign to a new parsed loop
      *
      * @return the next valid index for a new loop
      */
-    public int getNewIndex(){
-        int index = counters.size();
-        counters.add(0l);
+    public synchronized int getNewIndex(){
+        int index = numberOfLoops++;
+        ensureCapacity(index);
         return index;
     }
 
+    /**
+     * @return the number of loops that were instrumented so far
+     */
+    public synchronized int getNumberOfLoops() {
+        return numberOfLoops;
+    }
+
+    /**
+     * A copy of the number of iterations of each loop since the last {@link #reset()},
+     * indexed by the loop index assigned during instrumentation.
+     * Loops that were not executed are either 0 or beyond the end of the array
+     *
+     * @return a new array, never null
+     */
+    public synchronized long[] getIterations() {
+        long[] copy = new long[used];
+        for (int i = 0; i < used; i++) {
+            copy[i] = iterations[i >>> BLOCK_BITS][i & BLOCK_MASK];
+        }
+        return copy;
+    }
+
+    /**
+     * @return the total number of loop iterations since the last {@link #reset()}
+     */
+    public synchronized long getTotalIterations() {
+        long total = 0L;
+        for (int i = 0; i < used; i++) {
+            total += iterations[i >>> BLOCK_BITS][i & BLOCK_MASK];
+        }
+        return total;
+    }
+
 
     /**
      * This is added directly in the instrumented CUT after each loop statement
@@ -93,26 +186,33 @@ public class LoopCounter {
         if(!activated)
         	return;
 
-        if(RuntimeSettings.maxNumberOfIterationsPerLoop < 0){
-            return; //do nothing, no check
-        }
-        
         //first check initialization
-        int size = counters.size();
-        if(index >= size){
-            for(int i=0; i < 1 + (index - size); i++){
-                counters.add(0l);
-            }
+        if (index >= used) {
+            grow(index);
         }
-        assert index < counters.size();
 
-        //do increment
+        int block = index >>> BLOCK_BITS;
+        int offset = index & BLOCK_MASK;
+
         try {
-            long value = counters.get(index) + 1l;
-            counters.set(index, value);
+            //iterations are counted even if they are not limited
+            iterations[block][offset]++;
+
+            final long max = RuntimeSettings.maxNumberOfIterationsPerLoop;
+            if(max < 0){
+                return; //do nothing, no check
+            }
+
+            //do increment
+            long[] counter = counters[block];
+            if (++counter[offset] < max) {
+                return;
+            }
 
-            if(value >= RuntimeSettings.maxNumberOfIterationsPerLoop && !isInStaticInit()) {
-                this.reset();
+            // loops in static initializers are never stopped: the counter just starts again from 0
+            counter[offset] = 0L;
+            if(!isInStaticInit()) {
+                this.resetCounters();
                 throw new TooManyResourcesException("Loop has been executed more times than the allowed " +
                         RuntimeSettings.maxNumberOfIterationsPerLoop);
             }
@@ -123,12 +223,49 @@ public class LoopCounter {
         }
     }
 
+    private synchronized void grow(int index) {
+        ensureCapacity(index);
+        if (index >= used) {
+            used = index + 1;
+        }
+    }
 
-    private boolean isInStaticInit() {
-        for (StackTraceElement elem : new Throwable().getStackTrace()) {
-            if (elem.getMethodName().startsWith("<clinit>"))
-                return true;
+    /**
+     * Clear the counters used for the limit check, but keep the number of
+     * iterations done so far
+     */
+    private synchronized void resetCounters() {
+        clear(counters, used);
+    }
+
+    private static void clear(long[][] blocks, int size) {
+        for (int i = 0; i < blocks.length && i * BLOCK_SIZE < size; i++) {
+            Arrays.fill(blocks[i], 0L);
         }
-        return false;
+    }
+
+    /**
+     * Add blocks until the given index can be stored. The existing blocks are kept,
+     * so a thread still using the previous arrays updates the same counters
+     */
+    private void ensureCapacity(int index) {
+        assert Thread.holdsLock(this);
+        int block = index >>> BLOCK_BITS;
+        if (block < counters.length) {
+            return;
+        }
+        int capacity = Math.max(block + 1, counters.length * 2);
+        long[][] newCounters = Arrays.copyOf(counters, capacity);
+        long[][] newIterations = Arrays.copyOf(iterations, capacity);
+        for (int i = counters.length; i < capacity; i++) {
+            newCounters[i] = new long[BLOCK_SIZE];
+            newIterations[i] = new long[BLOCK_SIZE];
+        }
+        counters = newCounters;
+        iterations = newIterations;
+    }
+
+    private boolean isInStaticInit() {
+        return staticInitDepth.get()[0] > 0;
     }
 }
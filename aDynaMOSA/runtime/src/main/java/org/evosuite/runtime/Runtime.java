@@ -71,6 +71,11 @@ public class Runtime {
 
 		MockFramework.enable();
 
+		/*
+		 * Mocked subsystems are only rebuilt if the previous test case could have changed them,
+		 * as most test cases do not use any of them, and resetting them is not free
+		 */
+
 		/*
 		 * TODO: If the setting of mockJVMNonDeterminism changes
 		 *       at runtime, then the MethodCallReplacementCache
@@ -81,18 +86,26 @@ public class Runtime {
 			System.resetRuntime();
             MockThread.reset();
             ThreadCounter.getInstance().resetSingleton();
-            MockTimeZone.reset();
-            MockLocale.reset();
-			MockPreferences.resetPreferences();
-			JComponent.setDefaultLocale(Locale.getDefault());
+            if(MockTimeZone.wasChanged()) {
+                MockTimeZone.reset();
+            }
+            if(MockLocale.wasChanged()) {
+                MockLocale.reset();
+            }
+            if(MockPreferences.wasAccessed()) {
+                MockPreferences.resetPreferences();
+            }
+            if(JComponent.getDefaultLocale() != Locale.getDefault()) {
+                JComponent.setDefaultLocale(Locale.getDefault());
+            }
 		}
 
-		if (RuntimeSettings.useVFS) {
+		if (RuntimeSettings.useVFS && VirtualFileSystem.getInstance().wasAccessed()) {
 			VirtualFileSystem.getInstance().resetSingleton();
 			VirtualFileSystem.getInstance().init();
 		}
 
-        if(RuntimeSettings.useVNET){
+        if(RuntimeSettings.useVNET && VirtualNetwork.getInstance().wasAccessed()){
             VirtualNetwork.getInstance().reset();
             VirtualNetwork.getInstance().init();
         }
@@ -45,8 +45,8 @@ public class LoopCounterClassAdapter extends ClassVisitor {
         }
 
         if (name.equals("<clinit>")){
-            //should not stop a static initializer
-            return mv;
+            //should not stop a static initializer, nor the methods it calls
+            return new LoopCounterStaticInitAdapter(mv);
         }
 
 
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.instrumentation;
+
+import org.evosuite.runtime.LoopCounter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Let the {@link LoopCounter} know when a static initializer starts and ends,
+ * whether it returns or throws, as the loops it executes must not be stopped.
+ */
+public class LoopCounterStaticInitAdapter extends MethodVisitor {
+
+    private static final String LOOP_COUNTER = Type.getInternalName(LoopCounter.class);
+
+    private final Label start = new Label();
+
+    private final Label handler = new Label();
+
+    public LoopCounterStaticInitAdapter(MethodVisitor mv) {
+        super(Opcodes.ASM5, mv);
+    }
+
+    @Override
+    public void visitCode() {
+        super.visitCode();
+        addCall("enterStaticInit");
+        mv.visitLabel(start);
+    }
+
+    @Override
+    public void visitInsn(int opcode) {
+        if (opcode == Opcodes.RETURN) {
+            addCall("exitStaticInit");
+        }
+        super.visitInsn(opcode);
+    }
+
+    @Override
+    public void visitMaxs(int maxStack, int maxLocals) {
+        // visited last, so that the handlers of the initializer take precedence
+        mv.visitLabel(handler);
+        mv.visitTryCatchBlock(start, handler, handler, null);
+        addCall("exitStaticInit");
+        mv.visitInsn(Opcodes.ATHROW);
+        super.visitMaxs(Math.max(maxStack, 1), maxLocals);
+    }
+
+    private void addCall(String method) {
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, LOOP_COUNTER, method, "()V", false);
+    }
+}
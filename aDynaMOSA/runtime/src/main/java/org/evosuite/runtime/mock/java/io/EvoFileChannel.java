@@ -136,12 +136,13 @@ public class EvoFileChannel extends FileChannel{  //FIXME mock FileChannel
 			for(int j=offset; j<length; j++){
 				ByteBuffer dst = dsts[j];
 				int r = dst.remaining();
-				for(int i=0; i<r; i++){
-					int b = NativeMockedIO.read(path, posToUpdate);
-					if(b < 0){ //end of stream
-						return -1;
-					}
+				if(r == 0){
+					continue;
+				}
+				byte[] buffer = new byte[r];
+				int read = NativeMockedIO.readBytes(path, posToUpdate, buffer, 0, r);
 
+				if(read > 0){
 					if(closed){
 						throw new AsynchronousCloseException();
 					}
@@ -151,8 +152,12 @@ public class EvoFileChannel extends FileChannel{  //FIXME mock FileChannel
 						throw new ClosedByInterruptException();
 					}
 
-					dst.put((byte)b);
-					counter++;
+					dst.put(buffer, 0, read);
+					counter += read;
+				}
+
+				if(read < r){ //end of stream
+					return -1;
 				}
 			}
 		}
@@ -203,26 +208,25 @@ public class EvoFileChannel extends FileChannel{  //FIXME mock FileChannel
 
 		int counter = 0;
 
-		byte[] buffer = new byte[1];
-
 		synchronized(readWriteMonitor){
 			for(int j=offset; j<length; j++){
 				ByteBuffer src = srcs[j];
 				int r = src.remaining();
-				for(int i=0; i<r; i++){
-					byte b = src.get();
-					buffer[0] = b;
-					NativeMockedIO.writeBytes(path, posToUpdate, buffer, 0, 1);
-					counter++;
+				if(r == 0){
+					continue;
+				}
+				byte[] buffer = new byte[r];
+				src.get(buffer);
+				NativeMockedIO.writeBytes(path, posToUpdate, buffer, 0, r);
+				counter += r;
 
-					if(closed){
-						throw new AsynchronousCloseException();
-					}
+				if(closed){
+					throw new AsynchronousCloseException();
+				}
 
-					if(Thread.currentThread().isInterrupted()){
-						close();
-						throw new ClosedByInterruptException();
-					}
+				if(Thread.currentThread().isInterrupted()){
+					close();
+					throw new ClosedByInterruptException();
 				}
 			}
 		}
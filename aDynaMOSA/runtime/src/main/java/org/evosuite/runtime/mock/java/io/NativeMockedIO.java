@@ -61,6 +61,30 @@ public class NativeMockedIO {
 	}
 
 	
+	/**
+	 * Bulk version of {@link #read(String, AtomicInteger)}: it reads up to {@code len} bytes
+	 * with a single look-up of the file.
+	 * As for a sequence of single-byte reads, reaching the end of the file consumes one position
+	 *
+	 * @return the number of bytes read, or -1 if already at the end of the file
+	 */
+	public static int readBytes(String path, AtomicInteger position, byte b[], int off, int len) throws IOException{
+		VFile vf = NativeMockedIO.getFileForReading(path);
+		if(vf==null){
+			throw new MockIOException();
+		}
+
+		VirtualFileSystem.getInstance().throwSimuledIOExceptionIfNeeded(path);
+
+		int read = vf.read(position.get(), b, off, len);
+		if(read < 0){
+			position.incrementAndGet();
+			return -1;
+		}
+		position.addAndGet(read < len ? read + 1 : read);
+		return read;
+	}
+
 	public static VFile getFileForWriting(String path){
 		FSObject target = VirtualFileSystem.getInstance().findFSObject(path);
 		if(target==null || target.isDeleted() || target.isFolder() || !target.isWritePermission()){
@@ -34,6 +34,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.evosuite.runtime.mock.StaticReplacementMock;
 import org.evosuite.runtime.mock.java.io.MockIOException;
+import org.evosuite.runtime.vnet.VirtualNetwork;
 
 
 public class MockURL implements StaticReplacementMock{
@@ -346,6 +347,8 @@ public class MockURL implements StaticReplacementMock{
 			handlers.clear();
 			factory = fac;
 		}
+		//the factory is cleared when the network is reset
+		VirtualNetwork.getInstance().setAccessed();
 	}
 
 	protected static URLStreamHandler getMockedURLStreamHandler(String protocol) throws MalformedURLException {
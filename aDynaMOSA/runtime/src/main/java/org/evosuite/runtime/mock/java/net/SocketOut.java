@@ -70,7 +70,21 @@ public class SocketOut extends OutputStream{
 
 	@Override
 	public void write(byte b[], int off, int len) throws IOException {
-		super.write(b, off, len);
+		if (b == null) {
+			throw new NullPointerException();
+		} else if ((off < 0) || (off > b.length) || (len < 0) ||
+				((off + len) > b.length) || ((off + len) < 0)) {
+			throw new IndexOutOfBoundsException();
+		} else if (len == 0) {
+			return;
+		}
+
+		checkClosed();
+		if(isLocal){
+			tcp.writeToRemote(b, off, len);
+		} else {
+			tcp.writeToSUT(b, off, len);
+		}
 	}
 
 
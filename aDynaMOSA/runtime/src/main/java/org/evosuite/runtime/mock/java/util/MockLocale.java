@@ -32,4 +32,13 @@ public class MockLocale { // extends Locale {
     public static void reset() {
         Locale.setDefault(Locale.ENGLISH);
     }
+
+    /**
+     * @return {@code true} if any of the default locales is not the one set by {@link #reset()}
+     */
+    public static boolean wasChanged() {
+        return Locale.getDefault() != Locale.ENGLISH
+                || Locale.getDefault(Locale.Category.DISPLAY) != Locale.ENGLISH
+                || Locale.getDefault(Locale.Category.FORMAT) != Locale.ENGLISH;
+    }
 }
\ No newline at end of file
@@ -34,4 +34,12 @@ public abstract class MockTimeZone extends TimeZone{
     public static void reset(){
         TimeZone.setDefault((TimeZone) cloneGMT.clone());
     }
+
+    /**
+     * @return {@code true} if the default time zone is not the one set by {@link #reset()}
+     */
+    public static boolean wasChanged(){
+        TimeZone current = TimeZone.getDefault();
+        return !cloneGMT.getID().equals(current.getID()) || !cloneGMT.hasSameRules(current);
+    }
 }
@@ -37,6 +37,11 @@ public class MockPreferences implements StaticReplacementMock {
 
     private static PreferencesImpl systemRoot = new PreferencesImpl(null, "");
 
+    /**
+     * Whether the preferences were accessed since the last reset
+     */
+    private static volatile boolean wasAccessed = false;
+
     public static void resetPreferences() {
         try {
             userRoot.removeNodeSpi();
@@ -44,13 +49,20 @@ public class MockPreferences implements StaticReplacementMock {
         } catch (BackingStoreException e) {
             // Can't actually happen
         }
+        wasAccessed = false;
+    }
+
+    public static boolean wasAccessed() {
+        return wasAccessed;
     }
 
     public static Preferences userRoot() {
+        wasAccessed = true;
         return userRoot;
     }
 
     public static Preferences systemRoot() {
+        wasAccessed = true;
         return systemRoot;
     }
 
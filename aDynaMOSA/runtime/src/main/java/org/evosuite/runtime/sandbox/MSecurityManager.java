@@ -41,7 +41,9 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.PropertyPermission;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.FileHandler;
 import java.util.logging.LoggingPermission;
 
@@ -145,8 +147,19 @@ public class MSecurityManager extends SecurityManager {
 		 * is accessed during the security checks
 		 */		
 		boolean forceLoading = RuntimeSettings.mockJVMNonDeterminism;
+		/*
+		 * same for the classes used to cache the decisions
+		 */
+		new PermissionKey(new RuntimePermission("getStackTrace")).hashCode();
+		new ThreadInfo(null, 0).hashCode();
 	}
 
+	/**
+	 * Upper bound for the number of cached decisions, as the SUT could ask for
+	 * an unbounded number of distinct permissions (eg "getenv.{name}")
+	 */
+	private static final int MAX_CACHED_DECISIONS = 4096;
+
 	private final PermissionStatistics statistics = PermissionStatistics.getInstance();
 
 	private final SecurityManager defaultManager;
@@ -185,6 +198,22 @@ public class MSecurityManager extends SecurityManager {
 	 */
 	private final Set<Permission>  unrecognizedPermissions;
 
+	/**
+	 * Decisions for non-privileged threads of the permissions that depend neither on
+	 * the callers nor on the state of the test execution, keyed by permission type, name and actions
+	 */
+	private final ConcurrentHashMap<PermissionKey, Boolean> decisionCache;
+
+	/**
+	 * Incremented each time a thread becomes privileged, to invalidate the {@link ThreadInfo}s
+	 */
+	private final AtomicInteger privilegedVersion;
+
+	/**
+	 * Classification of the current thread, so that we do not need to look it up at each check
+	 */
+	private final ThreadLocal<ThreadInfo> threadInfo;
+
 	/**
 	 * Create a custom security manager for the SUT. The thread that create this
 	 * instance is automatically added as "privileged"
@@ -198,6 +227,10 @@ public class MSecurityManager extends SecurityManager {
 		unrecognizedPermissions = new CopyOnWriteArraySet<>();
 
 		filesToDelete = new CopyOnWriteArraySet<>();
+
+		decisionCache = new ConcurrentHashMap<>();
+		privilegedVersion = new AtomicInteger(0);
+		threadInfo = new ThreadLocal<>();
 	}
 
     /**
@@ -386,6 +419,7 @@ public class MSecurityManager extends SecurityManager {
 		if (privilegedThreads.contains(Thread.currentThread())) {
 			logger.debug("Adding privileged thread: \"" + t.getName()+"\"" );
 			privilegedThreads.add(t);
+			privilegedVersion.incrementAndGet();
 		} else {
             String current = Thread.currentThread().getName();
             String msg = "Unprivileged thread \""+current+"\" cannot add a privileged thread: failed to add \""+t.getName()+"\"";
@@ -430,15 +464,15 @@ public class MSecurityManager extends SecurityManager {
 	public void checkPermission(Permission perm) throws SecurityException {
 		// check access
 		if (!allowPermission(perm)) {
-			String stack = "\n";
+			//FIXME use ObjectFields.class, but without adding Maven dependency (which would create a cycle)
+			final String objectFields = PackageInfo.getEvoSuitePackage()+".regression.ObjectFields";
+			StringBuilder stack = new StringBuilder("\n");
 			for (StackTraceElement e : Thread.currentThread().getStackTrace()) {
-				if (e.toString().contains(
-						//FIXME use ObjectFields.class, but without adding Maven dependency (which would create a cycle)
-						PackageInfo.getEvoSuitePackage()+".regression.ObjectFields")) {
+				if (e.getClassName().startsWith(objectFields)) {
 					statistics.permissionAllowed(perm);
 					return;
 				}
-				stack += e + "\n";
+				stack.append(e).append("\n");
 			}
 			if (executingTestCase) {
 				/*
@@ -502,16 +536,19 @@ public class MSecurityManager extends SecurityManager {
 			return true;
 		}
 		
-		if(checkIfEvoSuiteRMI(perm) || checkIfRMIDuringTests(perm)) {
+		final Thread current = Thread.currentThread();
+		final ThreadInfo info = getThreadInfo(current);
+
+		if(checkIfEvoSuiteRMI(perm, info) || checkIfRMIDuringTests(info)) {
 			return true;
 		}
 
 		// first check if calling thread belongs to EvoSuite rather than the SUT
-		if (privilegedThreads.contains(Thread.currentThread())) {
+		if (info.privileged) {
 
 			//it is an EvoSuite thread but, in special occasions, we might want to ignore its privileged status 
 
-			if(privilegedThreadToIgnore == null || !Thread.currentThread().equals(privilegedThreadToIgnore)) {
+			if(privilegedThreadToIgnore == null || !current.equals(privilegedThreadToIgnore)) {
 
 				if (defaultManager == null) {
 					return true; // no security manager, so allow it
@@ -571,6 +608,59 @@ public class MSecurityManager extends SecurityManager {
 		 * following are not checked if sandbox is in IO mode, in which only FilePermissions are checked
 		 */
 
+		if (perm instanceof PropertyPermission) {
+			// not cached, as it depends on the test execution and keeps track of the read properties
+			return checkPropertyPermission((PropertyPermission) perm);
+		}
+
+		if (!isCacheable(perm)) {
+			return checkPermissionByType(perm);
+		}
+
+		PermissionKey key = new PermissionKey(perm);
+		Boolean cached = decisionCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		boolean allowed = checkPermissionByType(perm);
+		if (decisionCache.size() < MAX_CACHED_DECISIONS) {
+			decisionCache.put(key, allowed);
+		}
+		return allowed;
+	}
+
+	/**
+	 * Classification of the current thread, computed once per thread and recomputed
+	 * only when the set of privileged threads changes
+	 */
+	private ThreadInfo getThreadInfo(Thread current) {
+		int version = privilegedVersion.get();
+		ThreadInfo info = threadInfo.get();
+		if (info == null || info.version != version) {
+			info = new ThreadInfo(current, version);
+			info.privileged = privilegedThreads.contains(current);
+			threadInfo.set(info);
+		}
+		return info;
+	}
+
+	/**
+	 * A decision can be cached only if it does not depend on the callers on the stack
+	 * nor on the current settings. File and property permissions are handled before
+	 */
+	private boolean isCacheable(Permission perm) {
+		if (perm instanceof RuntimePermission) {
+			// depends on the AWT threads and on mockJVMNonDeterminism
+			return !"shutdownHooks".equals(perm.getName().trim());
+		}
+		return true;
+	}
+
+	/**
+	 * Decision based only on the type of the permission, for non-privileged threads
+	 */
+	private boolean checkPermissionByType(Permission perm) {
+
 		if (perm instanceof AllPermission) {
 			return checkAllPermission((AllPermission) perm);
 		}
@@ -587,10 +677,6 @@ public class MSecurityManager extends SecurityManager {
 			return checkReflectPermission((ReflectPermission) perm);
 		}
 
-		if (perm instanceof PropertyPermission) {
-			return checkPropertyPermission((PropertyPermission) perm);
-		}
-
 		if (perm instanceof RuntimePermission) {
 			return checkRuntimePermission((RuntimePermission) perm);
 		}
@@ -709,7 +795,7 @@ public class MSecurityManager extends SecurityManager {
 	 * @param perm
 	 * @return
 	 */
-	private boolean checkIfEvoSuiteRMI(Permission perm) {
+	private boolean checkIfEvoSuiteRMI(Permission perm, ThreadInfo info) {
 
 		/*
 			FIXME: this does not check if it is the SUT that calls RMI.
@@ -717,7 +803,7 @@ public class MSecurityManager extends SecurityManager {
 			This would be a reason more to actually mock RMI in VNET
 		 */
 
-		if(!Thread.currentThread().getName().startsWith("RMI ") && !Thread.currentThread().getName().equals("Statistics sender in client process")) {
+		if(!info.rmiCandidate) {
 			return false;
 		}
 
@@ -725,8 +811,9 @@ public class MSecurityManager extends SecurityManager {
 		boolean foundRMI = false;
 
 		//first check if there is any reference to RMI in the stack trace
-		for(StackTraceElement element : Thread.currentThread().getStackTrace()) {
-			if(element.toString().startsWith(pattern)) {
+		StackTraceElement[] trace = Thread.currentThread().getStackTrace();
+		for(StackTraceElement element : trace) {
+			if(element.getClassName().startsWith(pattern)) {
 				foundRMI = true;
 				break;
 			}
@@ -739,7 +826,7 @@ public class MSecurityManager extends SecurityManager {
 
 		boolean foundMasterNode = false;
 
-		traceLoop: for(StackTraceElement element : Thread.currentThread().getStackTrace()) {
+		traceLoop: for(StackTraceElement element : trace) {
 			for(String masterNodeMethod : masterNodeRemoteMethodNames) {
 				if(element.toString().contains(masterNodeMethod)) {
 					foundMasterNode = true;
@@ -763,13 +850,17 @@ public class MSecurityManager extends SecurityManager {
 	}
 
 	public boolean checkIfRMIDuringTests(Permission perm) {
+		return checkIfRMIDuringTests(getThreadInfo(Thread.currentThread()));
+	}
+
+	private boolean checkIfRMIDuringTests(ThreadInfo info) {
 		
 		/*
 		 * if we are running test cases to debug EvoSuite, we always want to allow RMI.
 		 * this is particularly true as we do have RMI in the Master as well, which usually
 		 * would run without a sandbox
 		 */
-		if(runningClientOnThread && Thread.currentThread().getName().startsWith("RMI TCP")) {
+		if(runningClientOnThread && info.rmiTcp) {
 			return true;
 		}
 		
@@ -1028,13 +1119,10 @@ public class MSecurityManager extends SecurityManager {
 
 		// AWT needs to be treated specially
 		//FIXME handling of awt read permission
-		if ("true".equals(AWT_HEADLESS) && isAWTThread()) {
-			if (name.equals("shutdownHooks"))
-				return true;
-			if (name.equals("modifyThreadGroup"))
-				return true;
-			if (name.equals("modifyThread"))
-				return true;
+		// Note: "modifyThreadGroup" and "modifyThread" are granted below anyway,
+		// so the stack only needs to be inspected for the shutdown hooks
+		if ("true".equals(AWT_HEADLESS) && name.equals("shutdownHooks") && isAWTThread()) {
+			return true;
 		}
 
 		/*
@@ -1361,4 +1449,62 @@ public class MSecurityManager extends SecurityManager {
 
 		return false;
 	}
+
+	/**
+	 * Key of a cached permission decision
+	 */
+	private static final class PermissionKey {
+
+		private final Class<?> type;
+		private final String name;
+		private final String actions;
+		private final int hash;
+
+		PermissionKey(Permission perm) {
+			this.type = perm.getClass();
+			this.name = perm.getName();
+			this.actions = perm.getActions();
+			int h = type.hashCode();
+			h = 31 * h + (name == null ? 0 : name.hashCode());
+			h = 31 * h + (actions == null ? 0 : actions.hashCode());
+			this.hash = h;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof PermissionKey))
+				return false;
+			PermissionKey other = (PermissionKey) obj;
+			return type == other.type && hash == other.hash
+					&& (name == null ? other.name == null : name.equals(other.name))
+					&& (actions == null ? other.actions == null : actions.equals(other.actions));
+		}
+	}
+
+	/**
+	 * What the security manager needs to know about a thread.
+	 * The name is read only once: a thread renamed afterwards keeps its RMI
+	 * classification, which is anyway followed by a check of the stack
+	 */
+	private static final class ThreadInfo {
+
+		private final int version;
+		private final boolean rmiCandidate;
+		private final boolean rmiTcp;
+		private boolean privileged;
+
+		ThreadInfo(Thread thread, int version) {
+			this.version = version;
+			String name = thread == null ? "" : thread.getName();
+			this.rmiCandidate = name.startsWith("RMI ") || name.equals("Statistics sender in client process");
+			this.rmiTcp = name.startsWith("RMI TCP");
+		}
+	}
 }
@@ -72,7 +72,24 @@ public abstract class FSObject {
 		}
 	}
 
+	/**
+	 * Copy of {@code other} under the given {@code parent}, used when restoring a snapshot of the VFS
+	 */
+	protected FSObject(FSObject other, VFolder parent, long lastModified){
+		this.readPermission = other.readPermission;
+		this.writePermission = other.writePermission;
+		this.executePermission = other.executePermission;
+		this.parent = parent;
+		this.deleted = false;
+		this.lastModified = lastModified;
+		this.path = other.path;
+	}
+
 	protected long getCurrentTimeMillis(){
+		return currentTimeMillis();
+	}
+
+	static long currentTimeMillis(){
 		if(RuntimeSettings.mockJVMNonDeterminism){
 			return org.evosuite.runtime.System.getCurrentTimeMillisForVFS();
 		} else {
@@ -19,8 +19,7 @@
  */
 package org.evosuite.runtime.vfs;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Representation of a virtual file
@@ -31,45 +30,81 @@ import java.util.List;
 public class VFile extends FSObject{
 
 	/**
-	 * the actual data contained in file as a list of bytes
+	 * Size of each chunk of data, as power of 2
 	 */
-	private final List<Byte> data;
+	private static final int CHUNK_BITS = 12;
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	/**
+	 * the actual data contained in file, split in chunks of {@code CHUNK_SIZE} bytes
+	 * allocated on demand. Bytes beyond {@code size} are always 0
+	 */
+	private byte[][] chunks;
+
+	/**
+	 * number of bytes in the file
+	 */
+	private int size;
 
 	public VFile(String path, VFolder parent) {
 		super(path, parent);
+		chunks = new byte[0][];
+		size = 0;
+	}
 
-		//TODO might need a better type of data structure supporting multi-threading
-		data = new ArrayList<Byte>(1024);
+	/**
+	 * Copy of {@code other}, used when restoring a snapshot of the VFS
+	 */
+	protected VFile(VFile other, VFolder parent, long lastModified) {
+		super(other, parent, lastModified);
+		synchronized (other) {
+			chunks = new byte[other.chunks.length][];
+			for (int i = 0; i < chunks.length; i++) {
+				if (other.chunks[i] != null) {
+					chunks[i] = other.chunks[i].clone();
+				}
+			}
+			size = other.size;
+		}
 	}
 
-	public void eraseData(){
-		data.clear();
+	public synchronized void eraseData(){
+		chunks = new byte[0][];
+		size = 0;
 	}
 
 	public synchronized int getDataSize(){
-		return data.size();
+		return size;
 	}
 
 
 	public synchronized void setLength(int newLength){
 
-		/*
-		 * Note: this implementation is not particularly efficient...
-		 * but setLength is rarely called
-		 */
-
-		while(newLength > data.size()){
-			data.add((byte)0);
-		}
-
 		if(newLength==0){
-			data.clear();
+			eraseData();
 			return;
 		}
-		
-		while(data.size() > newLength){
-			data.remove(data.size()-1);
+
+		if(newLength > size){
+			//the bytes after the current size are already 0
+			ensureCapacity(newLength);
+		} else if(newLength < size){
+			int lastChunk = (newLength - 1) >> CHUNK_BITS;
+			byte[] chunk = chunks[lastChunk];
+			if(chunk != null){
+				int from = newLength & CHUNK_MASK;
+				if(from > 0){
+					Arrays.fill(chunk, from, CHUNK_SIZE, (byte) 0);
+				}
+			}
+			for(int i=lastChunk+1; i<chunks.length; i++){
+				chunks[i] = null;
+			}
 		}
+		size = newLength;
 	}
 
     /**
@@ -82,15 +117,46 @@ public class VFile extends FSObject{
 			throw new IllegalArgumentException("Position in the file cannot be negative");
 		}
 
-		if(position >= data.size()){
+		if(position >= size){
 			return -1; //this represent the end of the stream
 		}
 
-		return data.get(position) & 0xFF;
+		byte[] chunk = chunks[position >> CHUNK_BITS];
+		return chunk == null ? 0 : chunk[position & CHUNK_MASK] & 0xFF;
+	}
+
+	/**
+	 * Copy up to {@code len} bytes starting from {@code position} into {@code b}
+	 *
+	 * @return the number of bytes copied, or -1 if {@code position} is at or after the end of the file
+	 */
+	public synchronized int read(int position, byte b[], int off, int len) throws IllegalArgumentException{
+		if(position<0){
+			throw new IllegalArgumentException("Position in the file cannot be negative");
+		}
+
+		if(position >= size){
+			return -1; //this represent the end of the stream
+		}
+
+		int toRead = Math.min(len, size - position);
+		int done = 0;
+		while(done < toRead){
+			int inChunk = (position + done) & CHUNK_MASK;
+			int n = Math.min(toRead - done, CHUNK_SIZE - inChunk);
+			byte[] chunk = chunks[(position + done) >> CHUNK_BITS];
+			if(chunk == null){
+				Arrays.fill(b, off + done, off + done + n, (byte) 0);
+			} else {
+				System.arraycopy(chunk, inChunk, b, off + done, n);
+			}
+			done += n;
+		}
+		return toRead;
 	}
 
 	public synchronized int writeBytes(byte b[], int off, int len){
-		return writeBytes(data.size(),b,off,len);
+		return writeBytes(size,b,off,len);
 	}
 
 	
@@ -104,26 +170,45 @@ public class VFile extends FSObject{
 			return 0;
 		}
 
-		if(position >= data.size()){
+		if(position >= size){
 			setLength(position);
 		}
 
-		int written = 0;
-		for(int i=off; i<b.length & (i-off)<len; i++){
-			if(position < data.size()){
-				data.set(position,(b[i]));
-			} else {
-				data.add(b[i]);
+		int toWrite = Math.max(0, Math.min(len, b.length - off));
+		if(toWrite > 0){
+			ensureCapacity(position + toWrite);
+		}
+
+		int done = 0;
+		while(done < toWrite){
+			int inChunk = (position + done) & CHUNK_MASK;
+			int n = Math.min(toWrite - done, CHUNK_SIZE - inChunk);
+			int index = (position + done) >> CHUNK_BITS;
+			if(chunks[index] == null){
+				chunks[index] = new byte[CHUNK_SIZE];
 			}
-			position++;
-			written++;
+			System.arraycopy(b, off + done, chunks[index], inChunk, n);
+			done += n;
+		}
+		if(position + toWrite > size){
+			size = position + toWrite;
 		}
 
 		setLastModified(getCurrentTimeMillis());
 
-		return written;
+		return toWrite;
 	}
 
+	/**
+	 * Make sure there are enough chunk slots for {@code length} bytes.
+	 * The chunks themselves are only allocated when written
+	 */
+	private void ensureCapacity(int length){
+		int needed = ((length - 1) >> CHUNK_BITS) + 1;
+		if(needed > chunks.length){
+			chunks = Arrays.copyOf(chunks, Math.max(needed, chunks.length * 2));
+		}
+	}
 
 	@Override
 	public synchronized boolean delete(){
@@ -40,6 +40,27 @@ public class VFolder extends FSObject{
 		children = new CopyOnWriteArrayList<FSObject>();
 	}
 	
+	/**
+	 * Deep copy of {@code other} under the given {@code parent}, used when restoring a snapshot of the VFS.
+	 * Deleted children are not copied
+	 */
+	protected VFolder(VFolder other, VFolder parent, long lastModified) {
+		super(other, parent, lastModified);
+
+		List<FSObject> copies = new ArrayList<FSObject>(other.children.size());
+		for(FSObject child : other.children){
+			if(child.isDeleted()){
+				continue;
+			}
+			if(child.isFolder()){
+				copies.add(new VFolder((VFolder) child, this, lastModified));
+			} else {
+				copies.add(new VFile((VFile) child, this, lastModified));
+			}
+		}
+		children = new CopyOnWriteArrayList<FSObject>(copies);
+	}
+
 	@Override
 	public boolean delete(){
 		if(children.size()>0){
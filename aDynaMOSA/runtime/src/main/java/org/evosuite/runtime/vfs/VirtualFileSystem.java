@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -65,7 +66,29 @@ public final class VirtualFileSystem {
 	 * <p>
 	 * TODO: we might need to simulate more than one root on same FS
 	 */
-	private VFolder root;
+	private volatile VFolder root;
+
+	/**
+	 * Snapshot of the VFS right after {@link #init()}. It is never modified: after a reset,
+	 * {@code root} is copied from it only once the VFS is actually accessed
+	 */
+	private VFolder initialRoot;
+
+	/**
+	 * Working and tmp folders {@code initialRoot} was built for
+	 */
+	private String initialWorkingDir;
+	private String initialTmpDir;
+
+	/**
+	 * Time of the last {@link #init()}, used as modification time of the restored folders
+	 */
+	private volatile long initTime;
+
+	/**
+	 * Whether {@code root} still needs to be restored from {@code initialRoot}
+	 */
+	private volatile boolean restorePending;
 
 	/**
 	 * An atomic counter for generating unique names for tmp files
@@ -127,6 +150,7 @@ public final class VirtualFileSystem {
 	 */
 	public void resetSingleton() {
 		root = null;
+		restorePending = false;
 		tmpFileCounter.set(0);
 		accessedFiles.clear();
 		shouldAllThrowIOException = false;
@@ -207,16 +231,73 @@ public final class VirtualFileSystem {
 	 */
 	public void init() {
 
-		root = new VFolder(null, null);
-
 		String workingDir = getWorkingDirPath();
-		createFolder(workingDir);
-		createFolder(getTmpFolderPath());
+		String tmpDir = getTmpFolderPath();
+
+		synchronized (this) {
+			if (initialRoot == null || !Objects.equals(workingDir, initialWorkingDir)
+					|| !Objects.equals(tmpDir, initialTmpDir)) {
+				root = new VFolder(null, null);
+				createFolder(workingDir);
+				createFolder(tmpDir);
+
+				initialRoot = root;
+				initialWorkingDir = workingDir;
+				initialTmpDir = tmpDir;
+			}
+			/*
+			 * the actual tree is only copied from the snapshot when needed,
+			 * as most test cases do not access the VFS at all
+			 */
+			root = null;
+			initTime = FSObject.currentTimeMillis();
+			restorePending = true;
+		}
 
 		//important to clear, as above code would modify this field
 		accessedFiles.clear();
 	}
 
+	/**
+	 * Check whether the VFS might have been used since the last {@link #init()},
+	 * ie whether it needs to be reset before running a new test case
+	 *
+	 * @return {@code false} only if the VFS is still in the state left by {@link #init()}
+	 */
+	public boolean wasAccessed() {
+		if (!restorePending || root != null) {
+			return true;
+		}
+		if (tmpFileCounter.get() != 0 || !accessedFiles.isEmpty() || shouldAllThrowIOException
+				|| !classesThatShouldThrowIOException.isEmpty() || !leakingResources.isEmpty()) {
+			return true;
+		}
+
+		String workingDir = getWorkingDirPath();
+		String tmpDir = getTmpFolderPath();
+		synchronized (this) {
+			return !Objects.equals(workingDir, initialWorkingDir) || !Objects.equals(tmpDir, initialTmpDir);
+		}
+	}
+
+	/**
+	 * @return the root of the VFS, restoring it from the snapshot taken in {@link #init()}
+	 *         if this is the first access since then
+	 */
+	private VFolder getRoot() {
+		VFolder current = root;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (root == null && restorePending) {
+				root = new VFolder(initialRoot, null, initTime);
+				restorePending = false;
+			}
+			return root;
+		}
+	}
+
 	public static String getWorkingDirPath(){
 		//this should be set in the scaffolding file
 		return java.lang.System.getProperty("user.dir");
@@ -303,7 +384,7 @@ public final class VirtualFileSystem {
 
 		markAccessedFile(path);
 
-		VFolder parent = root;
+		VFolder parent = getRoot();
 		for (int i = 0; i < tokens.length; i++) {
 			String name = tokens[i];
 			FSObject child = parent.getChild(name);
@@ -387,7 +468,7 @@ public final class VirtualFileSystem {
 	public boolean createFolder(String rawPath) {
 		String[] tokens = tokenize(new File(rawPath).getAbsolutePath());
 
-		VFolder parent = root;
+		VFolder parent = getRoot();
 		for (String name : tokens) {
 
 			if (!parent.isReadPermission() || !parent.isWritePermission()
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.vnet;
+
+/**
+ * FIFO queue of bytes stored in a circular primitive array, which grows when full.
+ *
+ * <p>
+ * This class is not thread-safe: callers need to synchronize on their own
+ */
+final class ByteRingBuffer {
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	/**
+	 * Buffers larger than this are released when cleared
+	 */
+	private static final int RETAINED_CAPACITY = 64 * 1024;
+
+	private byte[] data;
+
+	/**
+	 * Index of the next byte to read
+	 */
+	private int head;
+
+	/**
+	 * Number of bytes in the buffer
+	 */
+	private int size;
+
+	ByteRingBuffer() {
+		data = new byte[INITIAL_CAPACITY];
+		head = 0;
+		size = 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	void add(byte b) {
+		ensureCapacity(size + 1);
+		data[(head + size) % data.length] = b;
+		size++;
+	}
+
+	void add(byte[] b, int off, int len) {
+		ensureCapacity(size + len);
+		int tail = (head + size) % data.length;
+		int first = Math.min(len, data.length - tail);
+		System.arraycopy(b, off, data, tail, first);
+		System.arraycopy(b, off + first, data, 0, len - first);
+		size += len;
+	}
+
+	/**
+	 * @return the next byte, as unsigned int in [0,255], or -1 if empty
+	 */
+	int poll() {
+		if (size == 0) {
+			return -1;
+		}
+		int b = data[head] & 0xFF;
+		head = (head + 1) % data.length;
+		size--;
+		return b;
+	}
+
+	/**
+	 * Move up to {@code len} bytes into {@code b}
+	 *
+	 * @return number of moved bytes
+	 */
+	int poll(byte[] b, int off, int len) {
+		int n = Math.min(len, size);
+		int first = Math.min(n, data.length - head);
+		System.arraycopy(data, head, b, off, first);
+		System.arraycopy(data, 0, b, off + first, n - first);
+		head = (head + n) % data.length;
+		size -= n;
+		return n;
+	}
+
+	void clear() {
+		if (data.length > RETAINED_CAPACITY) {
+			data = new byte[INITIAL_CAPACITY];
+		}
+		head = 0;
+		size = 0;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= data.length) {
+			return;
+		}
+		int newLength = data.length;
+		while (newLength < capacity) {
+			newLength *= 2;
+		}
+		byte[] copy = new byte[newLength];
+		int count = size;
+		poll(copy, 0, count);
+		data = copy;
+		head = 0;
+		size = count;
+	}
+}
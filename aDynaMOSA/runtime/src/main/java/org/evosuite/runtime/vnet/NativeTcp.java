@@ -19,9 +19,6 @@
  */
 package org.evosuite.runtime.vnet;
 
-import java.util.ArrayDeque;
-import java.util.Queue;
-
 /**
  * Class used to simulate a bi-directional TCP socket connection between two hosts.
  * This class only handle the exchange of data between SUT and EvoSuite tests, and not
@@ -43,12 +40,12 @@ public class NativeTcp {
 	/**
 	 * The TCP buffer used locally by the SUT
 	 */
-	private final Queue<Byte> localBuffer;
+	private final ByteRingBuffer localBuffer;
 	
 	/**
 	 * The TCP buffer used by the EvoSuite tests to simulate a remote connection
 	 */
-	private final Queue<Byte> remoteBuffer;
+	private final ByteRingBuffer remoteBuffer;
 	
 	/**
 	 * Info on local (SUT) address/port
@@ -68,8 +65,8 @@ public class NativeTcp {
 		
 		this.localEndPoint = localEndPoint; //this can be null
 		this.remoteEndPoint = remoteEndPoint;
-		localBuffer = new ArrayDeque<>();
-		remoteBuffer = new ArrayDeque<>();
+		localBuffer = new ByteRingBuffer();
+		remoteBuffer = new ByteRingBuffer();
 	}
 	
 	public boolean isBound(){
@@ -100,14 +97,26 @@ public class NativeTcp {
      *   int representation
 	 */
 	public synchronized int readInSUTfromRemote(){
-		if(localBuffer.isEmpty()){
-			/*
-			 * Note: in  TCP, a read operation on a empty buffer would be blocking 
-			 */
-			return -1;  
-		}
-		
-		return localBuffer.poll() & 0xFF;
+		/*
+		 * Note: in  TCP, a read operation on a empty buffer would be blocking 
+		 */
+		return localBuffer.poll();
+	}
+
+	/**
+	 *  Used by SUT to simulate sending of {@code len} bytes of {@code b} to remote host
+	 */
+	public synchronized void writeToRemote(byte[] b, int off, int len){
+		remoteBuffer.add(b, off, len);
+	}
+
+	/**
+	 * Bulk version of {@link #readInSUTfromRemote()}
+	 *
+	 * @return the number of bytes read, or -1 if the buffer is empty and {@code len} is positive
+	 */
+	public synchronized int readInSUTfromRemote(byte[] b, int off, int len){
+		return read(localBuffer, b, off, len);
 	}
 	
 	/**
@@ -126,10 +135,41 @@ public class NativeTcp {
 	 * @return
 	 */
 	public synchronized int readInTestFromSUT(){
-		if(remoteBuffer.isEmpty()){
+		return remoteBuffer.poll();
+	}
+
+	/**
+	 * Used by tests to simulate sending of {@code len} bytes of {@code b} to the SUT
+	 */
+	public synchronized void writeToSUT(byte[] b, int off, int len){
+		localBuffer.add(b, off, len);
+	}
+
+	/**
+	 * Bulk version of {@link #readInTestFromSUT()}
+	 *
+	 * @return the number of bytes read, or -1 if the buffer is empty and {@code len} is positive
+	 */
+	public synchronized int readInTestFromSUT(byte[] b, int off, int len){
+		return read(remoteBuffer, b, off, len);
+	}
+
+	/**
+	 * Discard all the data not read yet in both directions, releasing large buffers
+	 */
+	public synchronized void clearBuffers(){
+		localBuffer.clear();
+		remoteBuffer.clear();
+	}
+
+	private static int read(ByteRingBuffer buffer, byte[] b, int off, int len){
+		if(len == 0){
+			return 0;
+		}
+		if(buffer.isEmpty()){
 			return -1;
 		}
-		return remoteBuffer.poll() & 0xFF;
+		return buffer.poll(b, off, len);
 	}
 
 	/**
@@ -154,6 +154,11 @@ public class VirtualNetwork {
 
 	private DNS dns;
 
+	/**
+	 * Whether the network was used since the last {@link #init()}, and so needs to be reset
+	 */
+	private volatile boolean wasAccessed;
+
 	/**
 	 * private, singleton constructor
 	 */
@@ -171,6 +176,7 @@ public class VirtualNetwork {
         udpPacketsToSUT = new ConcurrentHashMap<>();
 
 		dns = new DNS();
+		wasAccessed = true;
 	}
 
 	public static VirtualNetwork getInstance() {
@@ -185,6 +191,8 @@ public class VirtualNetwork {
 
         initNetworkInterfaces();
         MockURL.initStaticState();
+
+        wasAccessed = false;
     }
 
 	public void reset() {
@@ -198,11 +206,31 @@ public class VirtualNetwork {
         udpPacketsToSUT.clear();
         sentUdpPackets.clear();
         localListeningPorts.clear();
+		for(NativeTcp connection : openedTcpConnections){
+			//SUT threads might still hold a reference to it
+			connection.clearBuffers();
+		}
 		openedTcpConnections.clear();
 		remoteContactedPorts.clear();
         remoteAccessedFiles.clear();
 	}
 
+    /**
+     * @return {@code false} if the network is still in the state left by {@link #init()}
+     */
+    public boolean wasAccessed() {
+        return wasAccessed;
+    }
+
+    /**
+     * Mark the network as used, so that it will be reset before next test case
+     */
+    public void setAccessed() {
+        if(!wasAccessed) {
+            wasAccessed = true;
+        }
+    }
+
     // -------  observers ----------------------
 
     public Set<String> getViewOfRemoteAccessedFiles() {
@@ -233,6 +261,7 @@ public class VirtualNetwork {
      * @return
      */
     public List<NetworkInterfaceState> getAllNetworkInterfaceStates() {
+        setAccessed();
         return new ArrayList<>(networkInterfaces);
     }
 
@@ -249,6 +278,7 @@ public class VirtualNetwork {
      * if the file was already created
      */
     public boolean addRemoteTextFile(String url, String content) {
+        setAccessed();
 
         URL mockURL;
         try {
@@ -280,6 +310,7 @@ public class VirtualNetwork {
      * @param packet
      */
     public void sentPacketBySUT(DatagramPacket packet) {
+        setAccessed();
         InetAddress addr = packet.getAddress();
         int port = packet.getPort();
         EndPointInfo info = new EndPointInfo(addr.getHostAddress(),port,ConnectionType.UDP);
@@ -302,6 +333,7 @@ public class VirtualNetwork {
      * @return {@code null} if there is no buffered incoming packet for the given SUT address
      */
     public DatagramPacket pullUdpPacket(String sutAddress, int sutPort) {
+        setAccessed();
         EndPointInfo sut = new EndPointInfo(sutAddress,sutPort,ConnectionType.UDP);
         Queue<DatagramPacket> queue = udpPacketsToSUT.get(sut);
         if(queue == null || queue.isEmpty()) {
@@ -313,6 +345,7 @@ public class VirtualNetwork {
     }
 
     public void sendPacketToSUT(byte[] data, InetAddress remoteAddress, int remotePort,  String sutAddress, int sutPort) {
+        setAccessed();
         DatagramPacket packet = new DatagramPacket(data.clone(),data.length,remoteAddress, remotePort);
         EndPointInfo sut = new EndPointInfo(sutAddress,sutPort,ConnectionType.UDP);
 
@@ -333,6 +366,7 @@ public class VirtualNetwork {
      * @return {@code null} if there is no such file
      */
     public RemoteFile getFile(URL url) {
+        setAccessed();
         String s = url.toString();
         if(!remoteAccessedFiles.contains(s)) {
             remoteAccessedFiles.add(s);
@@ -346,6 +380,7 @@ public class VirtualNetwork {
 	 * @return a integer representing a port number on remote host
 	 */
 	public int getNewRemoteEphemeralPort() {
+		setAccessed();
 		return remotePortIndex.getAndIncrement();
 	}
 
@@ -355,6 +390,7 @@ public class VirtualNetwork {
      * @return a integer representing a port number on local host
      */
     public int getNewLocalEphemeralPort() {
+        setAccessed();
         return remotePortIndex.getAndIncrement(); //Note: could use a new variable, but doesn't really matter
     }
 
@@ -364,6 +400,7 @@ public class VirtualNetwork {
 	 * @return {@code null} if the interface does not exist
 	 */
 	public NetworkInterfaceState getNetworkInterfaceState(String name) {
+		setAccessed();
 		for(NetworkInterfaceState ni : networkInterfaces) {
 			if(ni.getNetworkInterface().getName().equals(name)) {
 				return ni;
@@ -378,6 +415,7 @@ public class VirtualNetwork {
 	 * @return 
 	 */
 	public String dnsResolve(String host) {
+		setAccessed();
 		return dns.resolve(host);
 	}
 
@@ -393,6 +431,7 @@ public class VirtualNetwork {
 	public synchronized NativeTcp registerIncomingTcpConnection(
 			String originAddr, int originPort,
 			String destAddr, int destPort) {
+		setAccessed();
 
 		EndPointInfo origin = new EndPointInfo(originAddr,originPort,ConnectionType.TCP);
 		EndPointInfo dest = new EndPointInfo(destAddr,destPort,ConnectionType.TCP);
@@ -416,6 +455,7 @@ public class VirtualNetwork {
 	 * @return  {@code null} if the test case has not set up it an incoming TCP connection
 	 */
 	public synchronized NativeTcp pullTcpConnection(String localAddress, int localPort) {
+        setAccessed();
 
         EndPointInfo local = new EndPointInfo(localAddress,localPort,ConnectionType.TCP);
 		Queue<NativeTcp> queue = incomingConnections.get(local);
@@ -450,6 +490,7 @@ public class VirtualNetwork {
 
 
     private boolean openServer(String addr, int port, ConnectionType type) throws IllegalArgumentException{
+        setAccessed();
 
         if(port == 0) {
             throw new IllegalArgumentException("Cannot try to bind to wildcard port 0");
@@ -480,6 +521,7 @@ public class VirtualNetwork {
 	 *  Register a remote server that can reply to SUT's connection requests
 	 */
 	public synchronized void addRemoteTcpServer(RemoteTcpServer server) {
+		setAccessed();
 
 		Queue<RemoteTcpServer> queue = remoteCurrentServers.get(server.getAddress());
 		if(queue==null) {
@@ -502,6 +544,7 @@ public class VirtualNetwork {
      */
 	public synchronized NativeTcp connectToRemoteAddress(EndPointInfo localOrigin, EndPointInfo remoteTarget)
 			throws IllegalArgumentException, IOException{
+		setAccessed();
 
 		if(localOrigin==null || remoteTarget==null) {
 			throw new IllegalArgumentException("Null input");
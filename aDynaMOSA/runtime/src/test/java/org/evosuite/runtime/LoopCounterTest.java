@@ -69,4 +69,80 @@ public class LoopCounterTest {
 		LoopCounter.getInstance().checkLoop(5);
 		LoopCounter.getInstance().checkLoop(6);
     }
+
+    @Test
+    public void testIterationsAreKeptAfterLimit() {
+        int index = LoopCounter.getInstance().getNewIndex();
+        long max = RuntimeSettings.maxNumberOfIterationsPerLoop;
+        try {
+            for (long i = 0; i < max; i++) {
+                LoopCounter.getInstance().checkLoop(index);
+            }
+            Assert.fail();
+        } catch (TooManyResourcesException e) {
+            //expected
+        }
+        LoopCounter.getInstance().checkLoop(index);
+
+        long[] iterations = LoopCounter.getInstance().getIterations();
+        Assert.assertEquals(max + 1, iterations[index]);
+        Assert.assertEquals(max + 1, LoopCounter.getInstance().getTotalIterations());
+
+        LoopCounter.getInstance().reset();
+        Assert.assertEquals(0, LoopCounter.getInstance().getTotalIterations());
+        Assert.assertEquals(index + 1, LoopCounter.getInstance().getNewIndex());
+    }
+
+    @Test
+    public void testIterationsAreCountedWithoutLimit() {
+        long max = RuntimeSettings.maxNumberOfIterationsPerLoop;
+        RuntimeSettings.maxNumberOfIterationsPerLoop = -1;
+        try {
+            int index = LoopCounter.getInstance().getNewIndex();
+            for (int i = 0; i < 5; i++) {
+                LoopCounter.getInstance().checkLoop(index);
+            }
+            Assert.assertEquals(5, LoopCounter.getInstance().getIterations()[index]);
+            Assert.assertEquals(5, LoopCounter.getInstance().getTotalIterations());
+        } finally {
+            RuntimeSettings.maxNumberOfIterationsPerLoop = max;
+        }
+    }
+
+    @Test
+    public void testLoopsInStaticInitAreNotStopped() {
+        int index = LoopCounter.getInstance().getNewIndex();
+        long max = RuntimeSettings.maxNumberOfIterationsPerLoop;
+
+        LoopCounter.enterStaticInit();
+        try {
+            for (long i = 0; i < 2 * max; i++) {
+                LoopCounter.getInstance().checkLoop(index);
+            }
+        } finally {
+            LoopCounter.exitStaticInit();
+        }
+        Assert.assertEquals(2 * max, LoopCounter.getInstance().getIterations()[index]);
+
+        try {
+            for (long i = 0; i < max; i++) {
+                LoopCounter.getInstance().checkLoop(index);
+            }
+            Assert.fail();
+        } catch (TooManyResourcesException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testIterationsAreKeptWhenLoopsAreAdded() {
+        int index = LoopCounter.getInstance().getNewIndex();
+        for (int i = 0; i < 1000; i++) {
+            LoopCounter.getInstance().checkLoop(index);
+            // as done by the instrumentation of classes loaded in the meantime
+            LoopCounter.getInstance().getNewIndex();
+        }
+        Assert.assertEquals(1000, LoopCounter.getInstance().getIterations()[index]);
+        Assert.assertEquals(1000, LoopCounter.getInstance().getTotalIterations());
+    }
 }
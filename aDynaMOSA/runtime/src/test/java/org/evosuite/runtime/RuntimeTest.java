@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime;
+
+import java.util.Locale;
+
+import org.evosuite.runtime.mock.java.io.MockFile;
+import org.evosuite.runtime.mock.java.util.MockLocale;
+import org.evosuite.runtime.testdata.EvoSuiteFile;
+import org.evosuite.runtime.testdata.FileSystemHandling;
+import org.evosuite.runtime.vfs.VirtualFileSystem;
+import org.evosuite.runtime.vnet.VirtualNetwork;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RuntimeTest {
+
+	private static final boolean VFS = RuntimeSettings.useVFS;
+	private static final boolean VNET = RuntimeSettings.useVNET;
+	private static final boolean JVM = RuntimeSettings.mockJVMNonDeterminism;
+
+	@After
+	public void restoreProperties(){
+		RuntimeSettings.useVFS = VFS;
+		RuntimeSettings.useVNET = VNET;
+		RuntimeSettings.mockJVMNonDeterminism = JVM;
+	}
+
+	@Test
+	public void testUnusedSubsystemsAreNotDirty(){
+		RuntimeSettings.useVFS = true;
+		RuntimeSettings.useVNET = true;
+		Runtime.getInstance().resetRuntime();
+
+		Assert.assertFalse(VirtualFileSystem.getInstance().wasAccessed());
+		Assert.assertFalse(VirtualNetwork.getInstance().wasAccessed());
+	}
+
+	@Test
+	public void testDirtyVFSIsReset(){
+		RuntimeSettings.useVFS = true;
+		Runtime.getInstance().resetRuntime();
+
+		EvoSuiteFile file = new EvoSuiteFile("foo");
+		FileSystemHandling.appendStringToFile(file, "bar");
+		Assert.assertTrue(new MockFile(file.getPath()).exists());
+		Assert.assertTrue(VirtualFileSystem.getInstance().wasAccessed());
+
+		Runtime.getInstance().resetRuntime();
+
+		Assert.assertFalse(new MockFile(file.getPath()).exists());
+	}
+
+	@Test
+	public void testDirtyVNETIsReset(){
+		RuntimeSettings.useVNET = true;
+		Runtime.getInstance().resetRuntime();
+
+		String first = VirtualNetwork.getInstance().dnsResolve("www.evosuite.org");
+		Assert.assertTrue(VirtualNetwork.getInstance().wasAccessed());
+		Assert.assertNotEquals(first, VirtualNetwork.getInstance().dnsResolve("www.google.com"));
+
+		Runtime.getInstance().resetRuntime();
+
+		Assert.assertFalse(VirtualNetwork.getInstance().wasAccessed());
+		Assert.assertEquals(first, VirtualNetwork.getInstance().dnsResolve("www.google.com"));
+	}
+
+	@Test
+	public void testChangedLocaleIsReset(){
+		RuntimeSettings.mockJVMNonDeterminism = true;
+		Runtime.getInstance().resetRuntime();
+		Assert.assertFalse(MockLocale.wasChanged());
+
+		Locale.setDefault(Locale.ITALIAN);
+		Assert.assertTrue(MockLocale.wasChanged());
+
+		Runtime.getInstance().resetRuntime();
+		Assert.assertEquals(Locale.ENGLISH, Locale.getDefault());
+		Assert.assertFalse(MockLocale.wasChanged());
+	}
+}
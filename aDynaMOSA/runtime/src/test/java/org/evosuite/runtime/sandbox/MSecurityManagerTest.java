@@ -37,6 +37,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.lang.reflect.ReflectPermission;
 import java.util.logging.LogManager;
 
 import org.evosuite.runtime.RuntimeSettings;
@@ -44,8 +45,13 @@ import  org.junit.*;
 
 import javax.swing.*;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class MSecurityManagerTest {
 
+	private static final Logger logger = LoggerFactory.getLogger(MSecurityManagerTest.class);
+
 	private static ExecutorService executor;
 	private static  MSecurityManager securityManager; 
 	
@@ -352,4 +358,34 @@ public class MSecurityManagerTest {
 	}
 	
 	
+
+	@Test
+	public void testCachedDecisionsOverhead() throws Exception {
+		final int checks = 200_000;
+		Future<Long> future = executor.submit(() -> {
+			ReflectPermission reflect = new ReflectPermission("suppressAccessChecks");
+			RuntimePermission members = new RuntimePermission("accessDeclaredMembers");
+			RuntimePermission forbidden = new RuntimePermission("setSecurityManager");
+
+			long start = System.nanoTime();
+			for (int i = 0; i < checks; i++) {
+				securityManager.checkPermission(reflect);
+				securityManager.checkPermission(members);
+			}
+			long elapsed = System.nanoTime() - start;
+
+			// denials are cached as well, but still have to throw
+			for (int i = 0; i < 2; i++) {
+				try {
+					securityManager.checkPermission(forbidden);
+					Assert.fail();
+				} catch (SecurityException e) {
+					Assert.assertTrue(e.getMessage().contains("Security manager blocks"));
+				}
+			}
+			return elapsed;
+		});
+		long elapsed = future.get(30, TimeUnit.SECONDS);
+		logger.info("Sandbox overhead per allowed check: {} ns", elapsed / (2 * checks));
+	}
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.vfs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VFileTest {
+
+	private static VFile createFile() {
+		VFolder folder = new VFolder(null, null);
+		return new VFile("foo.txt", folder);
+	}
+
+	@Test
+	public void testWriteAndReadAcrossChunks() {
+		VFile file = createFile();
+		byte[] data = new byte[10_000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) i;
+		}
+		Assert.assertEquals(data.length, file.writeBytes(data, 0, data.length));
+		Assert.assertEquals(data.length, file.getDataSize());
+
+		byte[] copy = new byte[data.length + 10];
+		Assert.assertEquals(data.length - 3, file.read(3, copy, 0, copy.length));
+		for (int i = 3; i < data.length; i++) {
+			Assert.assertEquals(data[i], copy[i - 3]);
+			Assert.assertEquals(data[i] & 0xFF, file.read(i));
+		}
+		Assert.assertEquals(-1, file.read(data.length));
+		Assert.assertEquals(-1, file.read(data.length, copy, 0, 1));
+	}
+
+	@Test
+	public void testSetLengthAndHoles() {
+		VFile file = createFile();
+		byte[] data = new byte[]{1, 2, 3};
+		file.writeBytes(5000, data, 0, data.length);
+		Assert.assertEquals(5003, file.getDataSize());
+		Assert.assertEquals(0, file.read(10));
+		Assert.assertEquals(3, file.read(5002));
+
+		file.setLength(5001);
+		Assert.assertEquals(5001, file.getDataSize());
+		Assert.assertEquals(-1, file.read(5001));
+
+		// truncated bytes must not come back when the file grows again
+		file.setLength(5003);
+		Assert.assertEquals(0, file.read(5001));
+		Assert.assertEquals(0, file.read(5002));
+
+		file.setLength(0);
+		Assert.assertEquals(0, file.getDataSize());
+	}
+}
@@ -70,6 +70,21 @@ public class VirtualFileSystemTest {
 		}
 	}
 	
+	@Test
+	public void testResetRestoresInitialState() throws IOException{
+		String workingDir = VirtualFileSystem.getWorkingDirPath();
+		File file = new MockFile(workingDir, "foo.txt");
+		Assert.assertTrue(file.createNewFile());
+		Assert.assertTrue(VirtualFileSystem.getInstance().exists(file.getAbsolutePath()));
+
+		VirtualFileSystem.getInstance().resetSingleton();
+		VirtualFileSystem.getInstance().init();
+
+		Assert.assertFalse(VirtualFileSystem.getInstance().exists(file.getAbsolutePath()));
+		Assert.assertTrue(VirtualFileSystem.getInstance().exists(workingDir));
+		Assert.assertTrue(file.createNewFile());
+	}
+	
 	@Test
 	public void testNoAccessByDefault(){
 		Assert.assertEquals(0, VirtualFileSystem.getInstance().getAccessedFiles().size());
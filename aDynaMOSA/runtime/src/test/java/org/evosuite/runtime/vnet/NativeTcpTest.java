@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.vnet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.evosuite.runtime.mock.java.net.SocketIn;
+import org.evosuite.runtime.mock.java.net.SocketOut;
+import org.evosuite.runtime.vnet.VirtualNetwork.ConnectionType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class NativeTcpTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(NativeTcpTest.class);
+
+	private static NativeTcp createConnection(){
+		EndPointInfo local = new EndPointInfo("127.0.0.1", 42, ConnectionType.TCP);
+		EndPointInfo remote = new EndPointInfo("127.0.0.2", 666, ConnectionType.TCP);
+		return new NativeTcp(local, remote);
+	}
+
+	@Test
+	public void testRingBufferWrapAround(){
+		ByteRingBuffer buffer = new ByteRingBuffer();
+		byte[] data = new byte[100];
+		for(int i=0; i<data.length; i++){
+			data[i] = (byte) i;
+		}
+
+		int expected = 0;
+		byte[] read = new byte[70];
+		for(int round=0; round<50; round++){
+			buffer.add(data, 0, data.length);
+			int n = buffer.poll(read, 0, read.length);
+			Assert.assertEquals(read.length, n);
+			for(int i=0; i<n; i++){
+				Assert.assertEquals((byte) (expected % data.length), read[i]);
+				expected++;
+			}
+		}
+		Assert.assertEquals(50 * (data.length - read.length), buffer.size());
+
+		while(!buffer.isEmpty()){
+			Assert.assertEquals(expected % data.length, buffer.poll());
+			expected++;
+		}
+		Assert.assertEquals(-1, buffer.poll());
+	}
+
+	@Test
+	public void testSingleAndBulkAreConsistent(){
+		NativeTcp tcp = createConnection();
+
+		tcp.writeToSUT((byte) -1);
+		tcp.writeToSUT(new byte[]{1, 2, 3}, 0, 3);
+
+		Assert.assertEquals(4, tcp.getAmountOfDataInLocalBuffer());
+		Assert.assertEquals(255, tcp.readInSUTfromRemote());
+
+		byte[] b = new byte[10];
+		Assert.assertEquals(0, tcp.readInSUTfromRemote(b, 0, 0));
+		Assert.assertEquals(3, tcp.readInSUTfromRemote(b, 5, 5));
+		Assert.assertEquals(1, b[5]);
+		Assert.assertEquals(3, b[7]);
+		Assert.assertEquals(-1, tcp.readInSUTfromRemote(b, 0, b.length));
+		Assert.assertEquals(-1, tcp.readInSUTfromRemote());
+	}
+
+	@Test
+	public void testClearBuffers(){
+		NativeTcp tcp = createConnection();
+		tcp.writeToSUT(new byte[1024 * 1024], 0, 1024 * 1024);
+		tcp.writeToRemote((byte) 1);
+
+		tcp.clearBuffers();
+
+		Assert.assertEquals(0, tcp.getAmountOfDataInLocalBuffer());
+		Assert.assertEquals(0, tcp.getAmountOfDataInRemoteBuffer());
+		Assert.assertEquals(-1, tcp.readInTestFromSUT());
+	}
+
+	@Test
+	public void testStreamThroughput() throws IOException{
+		NativeTcp tcp = createConnection();
+		OutputStream out = new SocketOut(tcp, true);
+		InputStream in = new SocketIn(tcp, false);
+
+		byte[] chunk = new byte[8 * 1024];
+		for(int i=0; i<chunk.length; i++){
+			chunk[i] = (byte) (i * 31);
+		}
+		byte[] read = new byte[chunk.length];
+
+		final int rounds = 4096;
+		long start = System.nanoTime();
+		for(int r=0; r<rounds; r++){
+			out.write(chunk);
+			int n = 0;
+			while(n < read.length){
+				n += in.read(read, n, read.length - n);
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		Assert.assertArrayEquals(chunk, read);
+		Assert.assertEquals(-1, in.read());
+
+		double mb = (double) rounds * chunk.length / (1024 * 1024);
+		logger.info("Virtual TCP throughput: {} MB/s", (long) (mb / (elapsed / 1_000_000_000d)));
+	}
+}